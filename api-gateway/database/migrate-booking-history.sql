@@ -0,0 +1,5 @@
+-- HRS migration for existing databases: paged booking history
+-- Run once before deploying the windowed /bookings/user/{userId} and /bookings/hotel/{hotelId} endpoints
+
+-- A user's bookings are read by check-in window, latest first; the hotel side already has idx_booking_hotel_dates
+CREATE INDEX IF NOT EXISTS idx_booking_user_checkin ON bookings(user_id, check_in_date);
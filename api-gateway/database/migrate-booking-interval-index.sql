@@ -0,0 +1,6 @@
+-- HRS migration for existing databases: in-memory booking interval index
+-- Run once before deploying booking-service with hrs.booking.interval-index.enabled=true
+
+-- Each node polls for bookings changed by the other nodes (updated_at > last poll) of the hotels it
+-- holds in memory; without this index every poll scans the open check-in partitions
+CREATE INDEX IF NOT EXISTS idx_booking_updated_at ON bookings(updated_at);
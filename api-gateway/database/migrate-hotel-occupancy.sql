@@ -0,0 +1,28 @@
+-- HRS migration for existing databases: hotel occupancy ledger
+-- Run once before deploying the booking-service version that maintains hotel_occupancy.
+-- Rebuilds the ledger from the bookings table; SHARE mode holds off booking writes until the rebuild
+-- commits, so no write can fall between the rebuild and the ledger. Safe to re-run.
+
+CREATE TABLE IF NOT EXISTS hotel_occupancy (
+                                               hotel_id BIGINT NOT NULL,
+                                               night DATE NOT NULL,
+                                               rooms_sold INTEGER NOT NULL DEFAULT 0,
+                                               PRIMARY KEY (hotel_id, night)
+);
+
+BEGIN;
+
+LOCK TABLE bookings IN SHARE MODE;
+
+DELETE FROM hotel_occupancy;
+
+INSERT INTO hotel_occupancy (hotel_id, night, rooms_sold)
+SELECT b.hotel_id, n.night::date, SUM(b.number_of_rooms)
+FROM bookings b
+         CROSS JOIN LATERAL generate_series(b.check_in_date, b.check_out_date - 1, INTERVAL '1 day') AS n(night)
+WHERE b.status IN ('PENDING', 'CONFIRMED', 'CHECKED_IN', 'CHECKED_OUT')
+GROUP BY b.hotel_id, n.night::date;
+
+COMMIT;
+
+COMMENT ON TABLE hotel_occupancy IS 'HRS Hotel occupancy ledger - rooms sold per hotel and night';
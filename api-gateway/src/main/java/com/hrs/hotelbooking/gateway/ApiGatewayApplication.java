@@ -3,6 +3,7 @@ package com.hrs.hotelbooking.gateway;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.web.cors.CorsConfiguration;
@@ -20,6 +21,9 @@ import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
 @SpringBootApplication(scanBasePackages = {"com.hrs.hotelbooking.gateway", "com.hrs.hotelbooking.shared"})
 public class ApiGatewayApplication {
 
+    private static final long BOOKING_EXPORT_TIMEOUT_MS = 1_800_000;
+    private static final long NO_RESPONSE_TIMEOUT = -1;
+
     public static void main(String[] args) {
         SpringApplication.run(ApiGatewayApplication.class, args);
     }
@@ -27,6 +31,7 @@ public class ApiGatewayApplication {
     /**
      * Configure microservice routes with load balancing and filters
      * Routes requests to appropriate backend services based on path patterns
+     * Backend instances are resolved through lb:// service IDs (see LoadBalancerConfig)
      * Includes circuit breaker, rate limiting, and retry mechanisms
      */
     @Bean
@@ -46,10 +51,38 @@ public class ApiGatewayApplication {
                                         .setName("hotel-service-cb")
                                         .setFallbackUri("forward:/fallback/hotels"))
                                 .retry(retryConfig -> retryConfig.setRetries(3))
-                                .addRequestHeader("X-Gateway-Timestamp", String.valueOf(System.currentTimeMillis()))
                                 .addRequestHeader("X-HRS-Service", "hotel-service"))
-                        .uri("http://localhost:8081"))
+                        .uri("lb://hotel-service"))
                 
+                // Booking export - long-running streamed extract: no circuit breaker or retry, own response timeout
+                .route("booking-export", r -> r.path("/api/v1/bookings/export")
+                        .filters(f -> f
+                                .requestRateLimiter(config -> config
+                                        .setRateLimiter(redisRateLimiter())
+                                        .setKeyResolver(exchange -> 
+                                            exchange.getRequest().getRemoteAddress() != null ?
+                                            reactor.core.publisher.Mono.just(
+                                                exchange.getRequest().getRemoteAddress().toString()) :
+                                            reactor.core.publisher.Mono.just("unknown")))
+                                .addRequestHeader("X-HRS-Service", "booking-service"))
+                        .metadata(RouteMetadataUtils.RESPONSE_TIMEOUT_ATTR, BOOKING_EXPORT_TIMEOUT_MS)
+                        .uri("lb://booking-service"))
+
+                // Front-desk booking event streams (SSE) - open for as long as the client stays connected:
+                // no circuit breaker, retry or response timeout; booking-service closes them after its own timeout
+                .route("booking-stream", r -> r.path("/api/v1/bookings/hotel/*/events")
+                        .filters(f -> f
+                                .requestRateLimiter(config -> config
+                                        .setRateLimiter(redisRateLimiter())
+                                        .setKeyResolver(exchange ->
+                                            exchange.getRequest().getRemoteAddress() != null ?
+                                            reactor.core.publisher.Mono.just(
+                                                exchange.getRequest().getRemoteAddress().toString()) :
+                                            reactor.core.publisher.Mono.just("unknown")))
+                                .addRequestHeader("X-HRS-Service", "booking-service"))
+                        .metadata(RouteMetadataUtils.RESPONSE_TIMEOUT_ATTR, NO_RESPONSE_TIMEOUT)
+                        .uri("lb://booking-service"))
+
                 // Booking Service Routes - CRUD operations for bookings
                 .route("booking-service", r -> r.path("/api/v1/bookings/**")
                         .filters(f -> f
@@ -64,9 +97,8 @@ public class ApiGatewayApplication {
                                         .setName("booking-service-cb")
                                         .setFallbackUri("forward:/fallback/bookings"))
                                 .retry(retryConfig -> retryConfig.setRetries(3))
-                                .addRequestHeader("X-Gateway-Timestamp", String.valueOf(System.currentTimeMillis()))
                                 .addRequestHeader("X-HRS-Service", "booking-service"))
-                        .uri("http://localhost:8082"))
+                        .uri("lb://booking-service"))
                 
                 // User Service Routes - User management operations
                 .route("user-service", r -> r.path("/api/v1/users/**")
@@ -82,9 +114,8 @@ public class ApiGatewayApplication {
                                         .setName("user-service-cb")
                                         .setFallbackUri("forward:/fallback/users"))
                                 .retry(retryConfig -> retryConfig.setRetries(3))
-                                .addRequestHeader("X-Gateway-Timestamp", String.valueOf(System.currentTimeMillis()))
                                 .addRequestHeader("X-HRS-Service", "user-service"))
-                        .uri("http://localhost:8083"))
+                        .uri("lb://user-service"))
                 
                 // Health check routes for all services
                 .route("health-check", r -> r.path("/health/**")
@@ -0,0 +1,39 @@
+package com.hrs.hotelbooking.gateway.composite;
+
+import com.hrs.hotelbooking.shared.dto.BookingDTO;
+import com.hrs.hotelbooking.shared.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * HRS Gateway Composite Controller
+ * Aggregation endpoints that replace several sequential client round trips with one
+ *
+ * @author arihants1
+ */
+@RestController
+@RequestMapping("/api/v1/composite")
+@RequiredArgsConstructor
+@Slf4j
+public class BookingCompositeController {
+
+    private final BookingCompositeService bookingCompositeService;
+
+    /**
+     * Booking with its hotel and user details embedded
+     * Hotel and user may be missing (listed under "errors") if their services are slow or down
+     */
+    @GetMapping("/bookings/{id}")
+    public Mono<ResponseEntity<ApiResponse<BookingDTO>>> getBookingComposite(@PathVariable Long id) {
+        log.info("HRS composite booking lookup for ID: {}", id);
+
+        return bookingCompositeService.getBookingComposite(id)
+                .map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,123 @@
+package com.hrs.hotelbooking.gateway.composite;
+
+import com.hrs.hotelbooking.shared.dto.BookingDTO;
+import com.hrs.hotelbooking.shared.dto.HotelDTO;
+import com.hrs.hotelbooking.shared.dto.UserDTO;
+import com.hrs.hotelbooking.shared.exception.ResourceNotFoundException;
+import com.hrs.hotelbooking.shared.response.ApiResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * HRS Booking Composite Service
+ * Fetches a booking, then its hotel and user concurrently, and merges them into one response
+ * Hotel and user lookups are best-effort: on timeout or failure the booking is returned without them
+ *
+ * @author arihants1
+ */
+@Service
+@Slf4j
+public class BookingCompositeService {
+
+    private static final ParameterizedTypeReference<ApiResponse<BookingDTO>> BOOKING_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<HotelDTO>> HOTEL_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<UserDTO>> USER_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+    private final Duration bookingTimeout;
+    private final Duration enrichmentTimeout;
+
+    public BookingCompositeService(WebClient.Builder webClientBuilder,
+                                   LoadBalancedExchangeFilterFunction loadBalancerFunction,
+                                   @Value("${hrs.gateway.composite.booking-timeout-ms:3000}") long bookingTimeoutMs,
+                                   @Value("${hrs.gateway.composite.enrichment-timeout-ms:1500}") long enrichmentTimeoutMs) {
+        this.webClient = webClientBuilder.filter(loadBalancerFunction).build();
+        this.bookingTimeout = Duration.ofMillis(bookingTimeoutMs);
+        this.enrichmentTimeout = Duration.ofMillis(enrichmentTimeoutMs);
+    }
+
+    /**
+     * Build the composite booking view: one booking call, then hotel and user in parallel
+     */
+    public Mono<ApiResponse<BookingDTO>> getBookingComposite(Long bookingId) {
+        Map<String, String> partialErrors = new ConcurrentHashMap<>();
+
+        return fetchBooking(bookingId)
+                .flatMap(booking -> Mono.zip(
+                                enrich("hotel", "lb://hotel-service/api/v1/hotels/{id}",
+                                        booking.getHotelId(), HOTEL_RESPONSE, partialErrors),
+                                enrich("user", "lb://user-service/api/v1/users/{id}",
+                                        booking.getUserId(), USER_RESPONSE, partialErrors))
+                        .map(parts -> {
+                            parts.getT1().ifPresent(booking::setHotel);
+                            parts.getT2().ifPresent(booking::setUser);
+                            return toResponse(booking, partialErrors);
+                        }));
+    }
+
+    private Mono<BookingDTO> fetchBooking(Long bookingId) {
+        return webClient.get()
+                .uri("lb://booking-service/api/v1/bookings/{id}", bookingId)
+                .retrieve()
+                .bodyToMono(BOOKING_RESPONSE)
+                .timeout(bookingTimeout)
+                .onErrorMap(WebClientResponseException.NotFound.class,
+                        e -> new ResourceNotFoundException("HRS Booking", "id", bookingId))
+                .flatMap(response -> response != null && response.getData() != null
+                        ? Mono.just(response.getData())
+                        : Mono.error(new ResourceNotFoundException("HRS Booking", "id", bookingId)));
+    }
+
+    private <T> Mono<Optional<T>> enrich(String part,
+                                         String uri,
+                                         Long id,
+                                         ParameterizedTypeReference<ApiResponse<T>> type,
+                                         Map<String, String> partialErrors) {
+        if (id == null) {
+            partialErrors.put(part, "No " + part + " reference on booking");
+            return Mono.just(Optional.empty());
+        }
+
+        return webClient.get()
+                .uri(uri, id)
+                .retrieve()
+                .bodyToMono(type)
+                .timeout(enrichmentTimeout)
+                .map(response -> Optional.ofNullable(response.getData()))
+                .defaultIfEmpty(Optional.empty())
+                .onErrorResume(e -> {
+                    String reason = e instanceof TimeoutException
+                            ? "Timed out after " + enrichmentTimeout.toMillis() + "ms"
+                            : e.getMessage();
+                    log.warn("HRS composite lookup for {} {} failed: {}", part, id, reason);
+                    partialErrors.put(part, reason != null ? reason : e.getClass().getSimpleName());
+                    return Mono.just(Optional.empty());
+                });
+    }
+
+    private ApiResponse<BookingDTO> toResponse(BookingDTO booking, Map<String, String> partialErrors) {
+        if (partialErrors.isEmpty()) {
+            return ApiResponse.success(booking, "HRS booking details retrieved successfully");
+        }
+
+        ApiResponse<BookingDTO> response = ApiResponse.success(booking,
+                "HRS booking details retrieved with partial results");
+        response.setErrors(Map.copyOf(partialErrors));
+        return response;
+    }
+}
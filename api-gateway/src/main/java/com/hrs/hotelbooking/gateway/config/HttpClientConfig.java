@@ -0,0 +1,41 @@
+package com.hrs.hotelbooking.gateway.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.HttpProtocol;
+
+/**
+ * HRS Gateway HTTP Client Configuration
+ * Optional cleartext HTTP/2 (h2c) from the gateway to the backend services
+ * Each pooled connection then multiplexes many requests, so a handful of connections
+ * replaces hundreds of HTTP/1.1 ones. Backends must run with server.http2.enabled=true
+ * Streams per connection are capped by the SETTINGS_MAX_CONCURRENT_STREAMS each backend advertises,
+ * and connections by spring.cloud.gateway.httpclient.pool.max-connections
+ *
+ * @author arihants1
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "hrs.gateway.http2", name = "enabled", havingValue = "true")
+@Slf4j
+public class HttpClientConfig {
+
+    /**
+     * prior-knowledge=true speaks HTTP/2 from the first byte (every backend must support it);
+     * false negotiates with an HTTP/1.1 Upgrade and falls back per connection
+     */
+    @Bean
+    public HttpClientCustomizer h2cHttpClientCustomizer(
+            @Value("${hrs.gateway.http2.prior-knowledge:true}") boolean priorKnowledge) {
+        log.info("HRS Gateway using h2c to backends (prior knowledge: {})", priorKnowledge);
+
+        HttpProtocol[] protocols = priorKnowledge
+                ? new HttpProtocol[]{HttpProtocol.H2C}
+                : new HttpProtocol[]{HttpProtocol.H2C, HttpProtocol.HTTP11};
+
+        return httpClient -> httpClient.protocol(protocols);
+    }
+}
@@ -0,0 +1,16 @@
+package com.hrs.hotelbooking.gateway.config;
+
+import com.hrs.hotelbooking.gateway.loadbalancer.HrsLoadBalancerConfiguration;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * HRS Load Balancer Configuration
+ * Applies least-outstanding-requests balancing with active health checks to every lb:// route
+ *
+ * @author arihants1
+ */
+@Configuration
+@LoadBalancerClients(defaultConfiguration = HrsLoadBalancerConfiguration.class)
+public class LoadBalancerConfig {
+}
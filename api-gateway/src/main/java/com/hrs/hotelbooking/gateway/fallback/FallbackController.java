@@ -1,33 +1,69 @@
 package com.hrs.hotelbooking.gateway.fallback;
 
 import com.hrs.hotelbooking.shared.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 /**
  * HRS Gateway Fallback Controller
  * Provides fallback responses when backend services are unavailable
  * Ensures graceful degradation for the HRS booking system
+ * Read requests are answered from the last-known-good cache when a fresh copy is available
  * 
  * @author arihants1
  */
 @RestController
 @RequestMapping("/fallback")
+@RequiredArgsConstructor
 @Slf4j
 public class FallbackController {
 
+    public static final String STALE_HEADER = "X-HRS-Stale";
+
+    private final LastKnownGoodCache lastKnownGoodCache;
+
+    /**
+     * Hotel fallback entry point: stale hotel data beats an error for browsing traffic
+     */
+    @GetMapping("/hotels")
+    public ResponseEntity<?> hotelServiceFallback(ServerWebExchange exchange) {
+        return serveStale(exchange).orElseGet(this::hotelServiceFallback);
+    }
+
+    /**
+     * Booking fallback entry point: only GETs can be answered from the cache
+     */
+    @GetMapping("/bookings")
+    @PostMapping("/bookings")
+    public ResponseEntity<?> bookingServiceFallback(ServerWebExchange exchange) {
+        return serveStale(exchange).orElseGet(this::bookingServiceFallback);
+    }
+
+    /**
+     * User fallback entry point: only GETs can be answered from the cache
+     */
+    @GetMapping("/users")
+    @PostMapping("/users")
+    public ResponseEntity<?> userServiceFallback(ServerWebExchange exchange) {
+        return serveStale(exchange).orElseGet(this::userServiceFallback);
+    }
+
     /**
      * Fallback for hotel service failures
      * Returns a user-friendly message when hotel service is down
      */
-    @GetMapping("/hotels")
     public ResponseEntity<ApiResponse<Object>> hotelServiceFallback() {
         log.warn("HRS Hotel service fallback triggered at {}", LocalDateTime.now());
 
@@ -44,8 +80,6 @@ public class FallbackController {
      * Fallback for booking service failures
      * Critical for booking operations - provides specific guidance
      */
-    @GetMapping("/bookings")
-    @PostMapping("/bookings")
     public ResponseEntity<ApiResponse<Object>> bookingServiceFallback() {
         log.error("HRS Booking service fallback triggered at {}", LocalDateTime.now());
 
@@ -62,8 +96,6 @@ public class FallbackController {
      * Fallback for user service failures
      * Handles user management operations
      */
-    @GetMapping("/users")
-    @PostMapping("/users")
     public ResponseEntity<ApiResponse<Object>> userServiceFallback() {
         log.warn("HRS User service fallback triggered at {}", LocalDateTime.now());
 
@@ -91,4 +123,33 @@ public class FallbackController {
 
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * Replay the last successful response for this GET, marked as stale
+     * Writes and requests with caller credentials are never answered from the cache
+     */
+    private Optional<ResponseEntity<?>> serveStale(ServerWebExchange exchange) {
+        if (!HttpMethod.GET.equals(exchange.getRequest().getMethod())
+                || LastKnownGoodCache.hasCredentials(exchange.getRequest().getHeaders())) {
+            return Optional.empty();
+        }
+
+        String key = exchange.getAttribute(LastKnownGoodCache.CACHE_KEY_ATTR);
+        return lastKnownGoodCache.get(key).map(entry -> {
+            long age = lastKnownGoodCache.ageSeconds(entry);
+            log.warn("HRS fallback serving last-known-good response for {} ({}s old)", key, age);
+
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                    .header(STALE_HEADER, "true")
+                    .header(HttpHeaders.AGE, String.valueOf(age))
+                    .header(HttpHeaders.WARNING, "110 - \"Response is Stale\"");
+            if (entry.contentType() != null) {
+                builder.header(HttpHeaders.CONTENT_TYPE, entry.contentType());
+            }
+            if (entry.contentEncoding() != null) {
+                builder.header(HttpHeaders.CONTENT_ENCODING, entry.contentEncoding());
+            }
+            return builder.body(entry.body());
+        });
+    }
+}
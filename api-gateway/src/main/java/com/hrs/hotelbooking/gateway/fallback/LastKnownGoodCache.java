@@ -0,0 +1,122 @@
+package com.hrs.hotelbooking.gateway.fallback;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * HRS Last-Known-Good Response Cache
+ * Bounded, TTL-limited in-memory store of recent successful GET responses per route
+ * Lets circuit breaker fallbacks serve stale content instead of an error envelope
+ * Entries are shared by every caller, so only anonymous reads of public data may be stored or replayed
+ *
+ * @author arihants1
+ */
+@Component
+@Slf4j
+public class LastKnownGoodCache {
+
+    /**
+     * Exchange attribute carrying the cache key across the circuit breaker forward to /fallback
+     */
+    public static final String CACHE_KEY_ATTR = LastKnownGoodCache.class.getName() + ".cacheKey";
+
+    private final Map<String, Entry> entries;
+    private final Duration ttl;
+    private final int maxBodyBytes;
+    private final Clock clock;
+
+    @Autowired
+    public LastKnownGoodCache(@Value("${hrs.gateway.fallback-cache.ttl-seconds:300}") long ttlSeconds,
+                              @Value("${hrs.gateway.fallback-cache.max-entries:5000}") int maxEntries,
+                              @Value("${hrs.gateway.fallback-cache.max-body-bytes:262144}") int maxBodyBytes) {
+        this(Duration.ofSeconds(ttlSeconds), maxEntries, maxBodyBytes, Clock.systemUTC());
+    }
+
+    LastKnownGoodCache(Duration ttl, int maxEntries, int maxBodyBytes, Clock clock) {
+        this.ttl = ttl;
+        this.maxBodyBytes = maxBodyBytes;
+        this.clock = clock;
+        // Access-ordered so the least recently served entry is evicted first
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Cache key for a routed GET request
+     */
+    public static String key(String routeId, String path, String query) {
+        return routeId + ":" + path + (query != null && !query.isEmpty() ? "?" + query : "");
+    }
+
+    /**
+     * Requests carrying caller credentials are answered per caller and never go through the shared cache
+     */
+    public static boolean hasCredentials(HttpHeaders headers) {
+        return headers.containsKey(HttpHeaders.AUTHORIZATION) || headers.containsKey(HttpHeaders.COOKIE);
+    }
+
+    public boolean accepts(int bodyLength) {
+        return bodyLength <= maxBodyBytes;
+    }
+
+    public void put(String key, String contentType, String contentEncoding, byte[] body) {
+        if (!accepts(body.length)) {
+            return;
+        }
+
+        Entry entry = new Entry(contentType, contentEncoding, body, clock.millis());
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Latest successful response for the key, if it is still within the TTL
+     */
+    public Optional<Entry> get(String key) {
+        if (key == null) {
+            return Optional.empty();
+        }
+
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (clock.millis() - entry.storedAtMillis() > ttl.toMillis()) {
+                entries.remove(key);
+                return Optional.empty();
+            }
+            return Optional.of(entry);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long ageSeconds(Entry entry) {
+        return Math.max(0, (clock.millis() - entry.storedAtMillis()) / 1000);
+    }
+
+    /**
+     * Stored response: only what is needed to replay the body faithfully
+     */
+    public record Entry(String contentType, String contentEncoding, byte[] body, long storedAtMillis) {
+    }
+}
@@ -0,0 +1,129 @@
+package com.hrs.hotelbooking.gateway.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * HRS Gateway Timing Filter
+ * Per-request timing for routed traffic:
+ * - stamps X-Gateway-Timestamp on the proxied request at the time it arrives
+ * - splits gateway time into "gw-queue" (arrival to upstream dispatch: rate limiter, load balancer,
+ *   circuit breaker) and "gw-upstream" (dispatch to response headers), appended to Server-Timing
+ * - sets X-Response-Time to the elapsed gateway time
+ * - exports both phases and the upstream service's own Server-Timing breakdown as metrics
+ *
+ * @author arihants1
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GatewayTimingFilter implements GlobalFilter, Ordered {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+    public static final String START_NANOS_ATTR = GatewayTimingFilter.class.getName() + ".startNanos";
+    public static final String DISPATCH_NANOS_ATTR = GatewayTimingFilter.class.getName() + ".dispatchNanos";
+
+    private static final Pattern SERVER_TIMING_ENTRY = Pattern.compile("([a-z-]+);dur=([0-9.]+)");
+    private static final Set<String> SERVICE_METRICS = Set.of("db", "redis", "es", "ser", "total");
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long startNanos = System.nanoTime();
+        exchange.getAttributes().put(START_NANOS_ATTR, startNanos);
+
+        ServerWebExchange stamped = exchange.mutate()
+                .request(request -> request.header("X-Gateway-Timestamp", String.valueOf(System.currentTimeMillis())))
+                .build();
+
+        stamped.getResponse().beforeCommit(() -> {
+            writeTimings(stamped, startNanos);
+            return Mono.empty();
+        });
+
+        return chain.filter(stamped);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private void writeTimings(ServerWebExchange exchange, long startNanos) {
+        long now = System.nanoTime();
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        String routeId = routeId(exchange);
+        Long dispatchNanos = exchange.getAttribute(DISPATCH_NANOS_ATTR);
+
+        // Upstream entries arrive first; gateway entries are appended to the same header
+        recordServiceBreakdown(routeId, headers.getOrEmpty(SERVER_TIMING));
+
+        if (dispatchNanos != null) {
+            long queueNanos = dispatchNanos - startNanos;
+            long upstreamNanos = now - dispatchNanos;
+            headers.add(SERVER_TIMING, entry("gw-queue", queueNanos) + ", " + entry("gw-upstream", upstreamNanos));
+            timer("queue", routeId).record(queueNanos, TimeUnit.NANOSECONDS);
+            timer("upstream", routeId).record(upstreamNanos, TimeUnit.NANOSECONDS);
+        }
+
+        headers.set("X-Response-Time", (now - startNanos) / 1_000_000 + "ms");
+    }
+
+    private void recordServiceBreakdown(String routeId, Iterable<String> serverTimingValues) {
+        for (String value : serverTimingValues) {
+            Matcher matcher = SERVER_TIMING_ENTRY.matcher(value);
+            while (matcher.find()) {
+                String metric = matcher.group(1);
+                if (!SERVICE_METRICS.contains(metric)) {
+                    continue;
+                }
+                try {
+                    double millis = Double.parseDouble(matcher.group(2));
+                    Timer.builder("hrs.gateway.upstream.server.timing")
+                            .description("Server-Timing components reported by HRS services")
+                            .tag("route", routeId)
+                            .tag("component", metric)
+                            .register(meterRegistry)
+                            .record((long) (millis * 1_000_000), TimeUnit.NANOSECONDS);
+                } catch (NumberFormatException e) {
+                    log.debug("HRS ignoring malformed Server-Timing entry: {}", matcher.group());
+                }
+            }
+        }
+    }
+
+    private Timer timer(String phase, String routeId) {
+        return Timer.builder("hrs.gateway.timing")
+                .description("Time spent in HRS gateway phases")
+                .tag("phase", phase)
+                .tag("route", routeId)
+                .register(meterRegistry);
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "none";
+    }
+
+    private static String entry(String metric, long nanos) {
+        return metric + ";dur=" + String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,187 @@
+package com.hrs.hotelbooking.gateway.filter;
+
+import com.hrs.hotelbooking.gateway.fallback.FallbackController;
+import com.hrs.hotelbooking.gateway.fallback.LastKnownGoodCache;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * HRS Last-Known-Good Capture Filter
+ * Records successful GET responses of the public hotel-catalog route into LastKnownGoodCache
+ * The key carries no caller identity, so requests with credentials (Authorization or Cookie) are never
+ * captured, and per-user routes (bookings, users) must not be listed in hrs.gateway.fallback-cache.routes
+ * Runs before the response is written so the body can be copied on its way to the client; bodies larger than
+ * hrs.gateway.fallback-cache.max-body-bytes are streamed through uncaptured instead of being buffered
+ * Fallback responses are never captured: re-storing a stale replay would reset its age and keep it alive
+ * for as long as the outage lasts
+ *
+ * @author arihants1
+ */
+@Component
+@Slf4j
+public class LastKnownGoodCaptureFilter implements GlobalFilter, Ordered {
+
+    private final LastKnownGoodCache cache;
+    private final Set<String> routes;
+
+    public LastKnownGoodCaptureFilter(LastKnownGoodCache cache,
+                                      @Value("${hrs.gateway.fallback-cache.routes:hotel-service}")
+                                      Set<String> routes) {
+        this.cache = cache;
+        this.routes = routes;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+
+        if (!HttpMethod.GET.equals(request.getMethod()) || route == null || !routes.contains(route.getId())
+                || LastKnownGoodCache.hasCredentials(request.getHeaders())) {
+            return chain.filter(exchange);
+        }
+
+        String key = LastKnownGoodCache.key(route.getId(), request.getURI().getRawPath(), request.getURI().getRawQuery());
+        exchange.getAttributes().put(LastKnownGoodCache.CACHE_KEY_ATTR, key);
+
+        return chain.filter(exchange.mutate().response(new CapturingResponse(exchange, key)).build());
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    private class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+        private final String key;
+
+        CapturingResponse(ServerWebExchange exchange, String key) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+            this.key = key;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (!isCacheable()) {
+                return super.writeWith(body);
+            }
+
+            BodyCapture capture = new BodyCapture();
+            Flux<DataBuffer> passThrough = Flux.from(body)
+                    .concatMap(capture::offer)
+                    .concatWith(Flux.defer(capture::complete))
+                    .doFinally(signal -> capture.release());
+            return super.writeWith(passThrough);
+        }
+
+        /**
+         * Holds the body back while it still fits the cache; once it outgrows max-body-bytes (chunked
+         * responses carry no Content-Length to reject up front) the held chunks and the rest of the body
+         * are streamed straight to the client and nothing is captured
+         */
+        private class BodyCapture {
+
+            private final List<DataBuffer> held = new ArrayList<>();
+            private int heldBytes;
+            private boolean capturing = true;
+
+            synchronized Flux<DataBuffer> offer(DataBuffer buffer) {
+                if (!capturing) {
+                    return Flux.just(buffer);
+                }
+
+                held.add(buffer);
+                heldBytes += buffer.readableByteCount();
+                if (heldBytes < 0 || !cache.accepts(heldBytes)) {
+                    log.debug("HRS gateway response for {} exceeds the fallback cache body limit, not captured", key);
+                    capturing = false;
+                    return Flux.fromIterable(takeHeld());
+                }
+                return Flux.empty();
+            }
+
+            synchronized Flux<DataBuffer> complete() {
+                if (!capturing) {
+                    return Flux.empty();
+                }
+                capturing = false;
+
+                return DataBufferUtils.join(Flux.fromIterable(takeHeld()))
+                        .map(joined -> {
+                            byte[] bytes = new byte[joined.readableByteCount()];
+                            joined.read(bytes);
+                            DataBufferUtils.release(joined);
+
+                            HttpHeaders headers = getHeaders();
+                            cache.put(key,
+                                    headers.getFirst(HttpHeaders.CONTENT_TYPE),
+                                    headers.getFirst(HttpHeaders.CONTENT_ENCODING),
+                                    bytes);
+
+                            return bufferFactory().wrap(bytes);
+                        })
+                        .flux();
+            }
+
+            /**
+             * Free whatever is still held when the write is cancelled or fails
+             */
+            synchronized void release() {
+                capturing = false;
+                takeHeld().forEach(DataBufferUtils::release);
+            }
+
+            private List<DataBuffer> takeHeld() {
+                List<DataBuffer> taken = new ArrayList<>(held);
+                held.clear();
+                heldBytes = 0;
+                return taken;
+            }
+        }
+
+        private boolean isCacheable() {
+            if (!HttpStatus.OK.equals(getStatusCode())) {
+                return false;
+            }
+
+            HttpHeaders headers = getHeaders();
+            if (headers.containsKey(FallbackController.STALE_HEADER)
+                    || exchange.getAttribute(ServerWebExchangeUtils.CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR) != null) {
+                return false;
+            }
+
+            String cacheControl = headers.getCacheControl();
+            if (cacheControl != null && cacheControl.contains("no-store")) {
+                return false;
+            }
+
+            long contentLength = headers.getContentLength();
+            return contentLength < 0 || cache.accepts((int) Math.min(contentLength, Integer.MAX_VALUE));
+        }
+    }
+}
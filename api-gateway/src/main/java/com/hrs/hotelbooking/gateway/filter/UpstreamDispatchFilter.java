@@ -0,0 +1,34 @@
+package com.hrs.hotelbooking.gateway.filter;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * HRS Upstream Dispatch Filter
+ * Marks the moment a request leaves the gateway's own filters for the backend,
+ * splitting GatewayTimingFilter's measurement into queueing and upstream time
+ * Runs again on each retry, so "gw-upstream" always reflects the last attempt
+ *
+ * @author arihants1
+ */
+@Component
+public class UpstreamDispatchFilter implements GlobalFilter, Ordered {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        return Mono.defer(() -> {
+            exchange.getAttributes().put(GatewayTimingFilter.DISPATCH_NANOS_ATTR, System.nanoTime());
+            return chain.filter(exchange);
+        });
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyRoutingFilter.ORDER - 1;
+    }
+}
@@ -0,0 +1,46 @@
+package com.hrs.hotelbooking.gateway.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * HRS Per-Service Load Balancer Configuration
+ * Instantiated once per backend service in its own load balancer child context
+ * Intentionally not annotated with @Configuration so component scanning does not pick it up
+ *
+ * @author arihants1
+ */
+public class HrsLoadBalancerConfiguration {
+
+    /**
+     * Instances come from the (refreshable) simple discovery client and are
+     * actively health checked, so failing instances are ejected until they recover
+     */
+    @Bean
+    public ServiceInstanceListSupplier hrsServiceInstanceListSupplier(ConfigurableApplicationContext context) {
+        return ServiceInstanceListSupplier.builder()
+                .withDiscoveryClient()
+                .withHealthChecks()
+                .build(context);
+    }
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> hrsReactorLoadBalancer(Environment environment,
+                                                                        LoadBalancerClientFactory loadBalancerClientFactory,
+                                                                        OutstandingRequestTracker tracker) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        LeastOutstandingRequestsLoadBalancer.Strategy strategy = LeastOutstandingRequestsLoadBalancer.Strategy
+                .from(environment.getProperty("hrs.gateway.load-balancer.strategy"));
+
+        return new LeastOutstandingRequestsLoadBalancer(
+                loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+                serviceId,
+                tracker,
+                strategy);
+    }
+}
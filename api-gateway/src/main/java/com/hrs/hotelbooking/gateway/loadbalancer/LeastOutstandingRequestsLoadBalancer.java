@@ -0,0 +1,100 @@
+package com.hrs.hotelbooking.gateway.loadbalancer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * HRS Least Outstanding Requests Load Balancer
+ * Picks the healthy instance with the fewest in-flight requests (or lowest peak-EWMA cost)
+ * Instances failing active health checks are already filtered out by the supplier
+ *
+ * @author arihants1
+ */
+@Slf4j
+public class LeastOutstandingRequestsLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    /**
+     * Instance selection strategy
+     */
+    public enum Strategy {
+        LEAST_OUTSTANDING,
+        PEAK_EWMA;
+
+        public static Strategy from(String value) {
+            if (value == null || value.isBlank()) {
+                return LEAST_OUTSTANDING;
+            }
+            return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+    private final String serviceId;
+    private final OutstandingRequestTracker tracker;
+    private final Strategy strategy;
+
+    public LeastOutstandingRequestsLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+                                                String serviceId,
+                                                OutstandingRequestTracker tracker,
+                                                Strategy strategy) {
+        this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+        this.serviceId = serviceId;
+        this.tracker = tracker;
+        this.strategy = strategy;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = serviceInstanceListSupplierProvider
+                .getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(this::select);
+    }
+
+    Response<ServiceInstance> select(List<ServiceInstance> instances) {
+        if (instances == null || instances.isEmpty()) {
+            log.warn("No healthy HRS instances available for service: {}", serviceId);
+            return new EmptyResponse();
+        }
+
+        // Start at a random offset so ties do not always land on the first instance
+        int size = instances.size();
+        int offset = ThreadLocalRandom.current().nextInt(size);
+
+        ServiceInstance best = null;
+        double bestScore = Double.MAX_VALUE;
+        double bestTieBreak = Double.MAX_VALUE;
+
+        for (int i = 0; i < size; i++) {
+            ServiceInstance candidate = instances.get((offset + i) % size);
+            double score = strategy == Strategy.PEAK_EWMA
+                    ? tracker.peakEwmaCost(candidate)
+                    : tracker.outstanding(candidate);
+            double tieBreak = strategy == Strategy.PEAK_EWMA
+                    ? tracker.outstanding(candidate)
+                    : tracker.peakEwmaCost(candidate);
+
+            if (score < bestScore || (score == bestScore && tieBreak < bestTieBreak)) {
+                best = candidate;
+                bestScore = score;
+                bestTieBreak = tieBreak;
+            }
+        }
+
+        log.debug("HRS load balancer selected {} for service {} ({} score {})",
+                OutstandingRequestTracker.key(best), serviceId, strategy, bestScore);
+        return new DefaultResponse(best);
+    }
+}
@@ -0,0 +1,135 @@
+package com.hrs.hotelbooking.gateway.loadbalancer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HRS Outstanding Request Tracker
+ * Tracks in-flight requests and peak-EWMA latency per backend instance
+ * Fed by the load balancer lifecycle of every lb:// route; server-sent event streams are left out, since
+ * they stay open for as long as the client is connected and say nothing about the instance's load or latency
+ *
+ * @author arihants1
+ */
+@Component
+@Slf4j
+public class OutstandingRequestTracker
+        implements LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+    private static final long DECAY_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final Map<String, InstanceStats> stats = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<RequestDataContext> request) {
+        // Nothing to record until an instance has been chosen
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        if (lbResponse == null || !lbResponse.hasServer() || isEventStream(request)) {
+            return;
+        }
+        if (request.getContext() instanceof TimedRequestContext timedContext) {
+            timedContext.setRequestStartTime(System.nanoTime());
+        }
+        statsFor(lbResponse.getServer()).outstanding.incrementAndGet();
+    }
+
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer() || isEventStream(completionContext.getLoadBalancerRequest())) {
+            return;
+        }
+
+        InstanceStats instanceStats = statsFor(lbResponse.getServer());
+        instanceStats.outstanding.updateAndGet(current -> Math.max(0, current - 1));
+
+        Request<RequestDataContext> request = completionContext.getLoadBalancerRequest();
+        if (request != null && request.getContext() instanceof TimedRequestContext timedContext
+                && timedContext.getRequestStartTime() > 0) {
+            instanceStats.observe(System.nanoTime() - timedContext.getRequestStartTime());
+        }
+
+        if (completionContext.status() == CompletionContext.Status.FAILED) {
+            log.debug("HRS request to instance {} failed", key(lbResponse.getServer()));
+        }
+    }
+
+    /**
+     * Number of requests currently in flight to the instance
+     */
+    public int outstanding(ServiceInstance instance) {
+        InstanceStats instanceStats = stats.get(key(instance));
+        return instanceStats != null ? instanceStats.outstanding.get() : 0;
+    }
+
+    /**
+     * Peak-EWMA cost of the instance: smoothed latency weighted by its queue depth
+     */
+    public double peakEwmaCost(ServiceInstance instance) {
+        InstanceStats instanceStats = stats.get(key(instance));
+        if (instanceStats == null) {
+            return 0.0;
+        }
+        return instanceStats.currentEwma() * (instanceStats.outstanding.get() + 1);
+    }
+
+    private static boolean isEventStream(Request<RequestDataContext> request) {
+        if (request == null || request.getContext() == null || request.getContext().getClientRequest() == null) {
+            return false;
+        }
+        HttpHeaders headers = request.getContext().getClientRequest().getHeaders();
+        return headers != null && headers.getOrEmpty(HttpHeaders.ACCEPT).stream()
+                .anyMatch(accept -> accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE));
+    }
+
+    private InstanceStats statsFor(ServiceInstance instance) {
+        return stats.computeIfAbsent(key(instance), k -> new InstanceStats());
+    }
+
+    static String key(ServiceInstance instance) {
+        return instance.getServiceId() + "@" + instance.getHost() + ":" + instance.getPort();
+    }
+
+    /**
+     * Per-instance counters; latency decays towards recent samples but jumps to peaks immediately
+     */
+    private static final class InstanceStats {
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private double ewmaNanos;
+        private long lastUpdateNanos = System.nanoTime();
+
+        synchronized void observe(long rttNanos) {
+            long now = System.nanoTime();
+            double weight = Math.exp(-(double) (now - lastUpdateNanos) / DECAY_NANOS);
+            lastUpdateNanos = now;
+            ewmaNanos = rttNanos > ewmaNanos ? rttNanos : ewmaNanos * weight + rttNanos * (1 - weight);
+        }
+
+        synchronized double currentEwma() {
+            return ewmaNanos;
+        }
+    }
+}
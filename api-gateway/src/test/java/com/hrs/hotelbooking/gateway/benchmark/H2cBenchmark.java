@@ -0,0 +1,119 @@
+package com.hrs.hotelbooking.gateway.benchmark;
+
+import io.netty.buffer.ByteBuf;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HRS h2c Benchmark
+ * Drives a backend service with the same Reactor Netty client the gateway uses,
+ * once over pooled HTTP/1.1 and once over multiplexed h2c, and prints throughput and tail latency
+ *
+ * Start the target with HRS_HTTP2_ENABLED=true, then:
+ *   ./gradlew :api-gateway:h2cBenchmark --args="http://localhost:8081/api/v1/hotels/1 200 30"
+ * Arguments: url, concurrency (in-flight requests), duration in seconds
+ *
+ * @author arihants1
+ */
+public final class H2cBenchmark {
+
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+
+    private H2cBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        String url = args.length > 0 ? args[0] : "http://localhost:8081/api/v1/hotels/1";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+
+        System.out.printf("HRS h2c benchmark: %s, %d in flight, %ds per mode%n",
+                url, concurrency, duration.toSeconds());
+
+        // HTTP/1.1 needs one connection per in-flight request; h2c multiplexes them over a few
+        report("HTTP/1.1", run(client("http11", concurrency, HttpProtocol.HTTP11), url, concurrency, duration));
+        report("h2c", run(client("h2c", 4, HttpProtocol.H2C), url, concurrency, duration));
+    }
+
+    private static HttpClient client(String name, int maxConnections, HttpProtocol protocol) {
+        ConnectionProvider provider = ConnectionProvider.builder("hrs-benchmark-" + name)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        return HttpClient.create(provider)
+                .protocol(protocol)
+                .http2Settings(settings -> settings.maxConcurrentStreams(1000))
+                .responseTimeout(Duration.ofSeconds(10));
+    }
+
+    private static Result run(HttpClient client, String url, int concurrency, Duration duration) {
+        drive(client, url, concurrency, WARM_UP, null, new AtomicLong());
+
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicLong errors = new AtomicLong();
+        long start = System.nanoTime();
+        drive(client, url, concurrency, duration, latencies, errors);
+        long elapsed = System.nanoTime() - start;
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new Result(sorted, errors.get(), elapsed);
+    }
+
+    private static void drive(HttpClient client, String url, int concurrency, Duration duration,
+                              ConcurrentLinkedQueue<Long> latencies, AtomicLong errors) {
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        Flux.range(0, concurrency)
+                .flatMap(worker -> Mono.defer(() -> {
+                            long sent = System.nanoTime();
+                            return client.get().uri(url)
+                                    .responseSingle((response, body) -> body.map(ByteBuf::readableBytes)
+                                            .defaultIfEmpty(0)
+                                            .map(ignored -> response.status().code()))
+                                    .doOnNext(status -> {
+                                        if (status >= 500) {
+                                            errors.incrementAndGet();
+                                        } else if (latencies != null) {
+                                            latencies.add(System.nanoTime() - sent);
+                                        }
+                                    })
+                                    .onErrorResume(e -> {
+                                        errors.incrementAndGet();
+                                        return Mono.empty();
+                                    });
+                        })
+                        .repeat(() -> System.nanoTime() < deadline), concurrency)
+                .blockLast();
+    }
+
+    private static void report(String mode, Result result) {
+        long[] latencies = result.latencies();
+        double seconds = result.elapsedNanos() / 1_000_000_000.0;
+        System.out.printf("%-9s %10.0f req/s  p50 %7.2fms  p99 %7.2fms  p99.9 %7.2fms  max %7.2fms  errors %d%n",
+                mode,
+                latencies.length / seconds,
+                percentile(latencies, 50.0),
+                percentile(latencies, 99.0),
+                percentile(latencies, 99.9),
+                latencies.length > 0 ? latencies[latencies.length - 1] / 1_000_000.0 : 0.0,
+                result.errors());
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+
+    private record Result(long[] latencies, long errors, long elapsedNanos) {
+    }
+}
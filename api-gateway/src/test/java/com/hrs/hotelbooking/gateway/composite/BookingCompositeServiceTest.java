@@ -0,0 +1,120 @@
+package com.hrs.hotelbooking.gateway.composite;
+
+import com.hrs.hotelbooking.shared.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookingCompositeServiceTest {
+
+    private static final String BOOKING_JSON =
+            "{\"success\":true,\"data\":{\"id\":1,\"hotelId\":10,\"userId\":20,\"bookingReference\":\"HRS-TEST\"}}";
+    private static final String HOTEL_JSON =
+            "{\"success\":true,\"data\":{\"id\":10,\"name\":\"HRS Grand\",\"city\":\"Berlin\"}}";
+    private static final String USER_JSON =
+            "{\"success\":true,\"data\":{\"id\":20,\"email\":\"arihants1@hrs.com\"}}";
+
+    @Test
+    void shouldMergeHotelAndUserIntoBooking() {
+        // Given
+        BookingCompositeService service = service(request -> switch (request.url().getPath()) {
+            case "/api/v1/bookings/1" -> ok(BOOKING_JSON);
+            case "/api/v1/hotels/10" -> ok(HOTEL_JSON);
+            case "/api/v1/users/20" -> ok(USER_JSON);
+            default -> notFound();
+        });
+
+        // When / Then
+        StepVerifier.create(service.getBookingComposite(1L))
+                .assertNext(response -> {
+                    assertTrue(response.isSuccess());
+                    assertEquals("HRS-TEST", response.getData().getBookingReference());
+                    assertEquals("HRS Grand", response.getData().getHotel().getName());
+                    assertEquals("arihants1@hrs.com", response.getData().getUser().getEmail());
+                    assertNull(response.getErrors());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnPartialResultWhenHotelTimesOut() {
+        // Given
+        BookingCompositeService service = service(request -> switch (request.url().getPath()) {
+            case "/api/v1/bookings/1" -> ok(BOOKING_JSON);
+            case "/api/v1/hotels/10" -> Mono.delay(Duration.ofSeconds(5)).then(ok(HOTEL_JSON));
+            case "/api/v1/users/20" -> ok(USER_JSON);
+            default -> notFound();
+        });
+
+        // When / Then
+        StepVerifier.create(service.getBookingComposite(1L))
+                .assertNext(response -> {
+                    assertTrue(response.isSuccess());
+                    assertNull(response.getData().getHotel());
+                    assertEquals("arihants1@hrs.com", response.getData().getUser().getEmail());
+                    assertEquals("HRS booking details retrieved with partial results", response.getMessage());
+                    assertTrue(((Map<?, ?>) response.getErrors()).containsKey("hotel"));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnPartialResultWhenUserServiceFails() {
+        // Given
+        BookingCompositeService service = service(request -> switch (request.url().getPath()) {
+            case "/api/v1/bookings/1" -> ok(BOOKING_JSON);
+            case "/api/v1/hotels/10" -> ok(HOTEL_JSON);
+            default -> Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+        });
+
+        // When / Then
+        StepVerifier.create(service.getBookingComposite(1L))
+                .assertNext(response -> {
+                    assertEquals("HRS Grand", response.getData().getHotel().getName());
+                    assertNull(response.getData().getUser());
+                    assertTrue(((Map<?, ?>) response.getErrors()).containsKey("user"));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldFailWithNotFoundWhenBookingMissing() {
+        // Given
+        BookingCompositeService service = service(request -> notFound());
+
+        // When / Then
+        StepVerifier.create(service.getBookingComposite(99L))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
+    }
+
+    private BookingCompositeService service(ExchangeFunction exchangeFunction) {
+        return new BookingCompositeService(
+                WebClient.builder().exchangeFunction(exchangeFunction),
+                (request, next) -> next.exchange(request),
+                1000,
+                100);
+    }
+
+    private Mono<ClientResponse> ok(String body) {
+        return Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build());
+    }
+
+    private Mono<ClientResponse> notFound() {
+        return Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build());
+    }
+}
@@ -1,22 +1,41 @@
 package com.hrs.hotelbooking.gateway.fallback;
 
+import com.hrs.hotelbooking.gateway.filter.LastKnownGoodCaptureFilter;
 import com.hrs.hotelbooking.shared.response.ApiResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class FallbackControllerTest {
 
     private FallbackController fallbackController;
+    private LastKnownGoodCache lastKnownGoodCache;
 
     @BeforeEach
     void setUp() {
-        fallbackController = new FallbackController();
+        lastKnownGoodCache = new LastKnownGoodCache(300, 100, 65536);
+        fallbackController = new FallbackController(lastKnownGoodCache);
     }
 
     @Test
@@ -189,4 +208,132 @@ class FallbackControllerTest {
         assertTrue(message.contains("booking request could not be processed"),
                    "Booking service fallback should be specific about booking processing");
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldServeLastKnownGoodResponseForCachedGet() {
+        // Given
+        String key = LastKnownGoodCache.key("hotel-service", "/api/v1/hotels/1", null);
+        byte[] body = "{\"success\":true}".getBytes(StandardCharsets.UTF_8);
+        lastKnownGoodCache.put(key, MediaType.APPLICATION_JSON_VALUE, null, body);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/fallback/hotels"));
+        exchange.getAttributes().put(LastKnownGoodCache.CACHE_KEY_ATTR, key);
+
+        // When
+        ResponseEntity<?> response = fallbackController.hotelServiceFallback(exchange);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("true", response.getHeaders().getFirst(FallbackController.STALE_HEADER));
+        assertNotNull(response.getHeaders().getFirst(HttpHeaders.AGE));
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertArrayEquals(body, (byte[]) response.getBody());
+    }
+
+    @Test
+    void shouldReturnErrorEnvelopeWhenNothingCached() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/fallback/hotels"));
+        exchange.getAttributes().put(LastKnownGoodCache.CACHE_KEY_ATTR,
+                LastKnownGoodCache.key("hotel-service", "/api/v1/hotels/2", null));
+
+        // When
+        ResponseEntity<?> response = fallbackController.hotelServiceFallback(exchange);
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNull(response.getHeaders().getFirst(FallbackController.STALE_HEADER));
+    }
+
+    @Test
+    void shouldNeverServeCachedContentForWrites() {
+        // Given
+        String key = LastKnownGoodCache.key("booking-service", "/api/v1/bookings", null);
+        lastKnownGoodCache.put(key, MediaType.APPLICATION_JSON_VALUE, null, new byte[]{'{', '}'});
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/fallback/bookings"));
+        exchange.getAttributes().put(LastKnownGoodCache.CACHE_KEY_ATTR, key);
+
+        // When
+        ResponseEntity<?> response = fallbackController.bookingServiceFallback(exchange);
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+    }
+
+    @Test
+    void shouldNeverServeCachedContentToCallersWithCredentials() {
+        // Given
+        String key = LastKnownGoodCache.key("hotel-service", "/api/v1/hotels/1", null);
+        lastKnownGoodCache.put(key, MediaType.APPLICATION_JSON_VALUE, null, new byte[]{'{', '}'});
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/fallback/hotels")
+                .header(HttpHeaders.COOKIE, "SESSION=abc"));
+        exchange.getAttributes().put(LastKnownGoodCache.CACHE_KEY_ATTR, key);
+
+        // When
+        ResponseEntity<?> response = fallbackController.hotelServiceFallback(exchange);
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+    }
+
+    @Test
+    void shouldKeepAgingStaleResponseAcrossRepeatedFallbacks() {
+        // Given: a response captured before the outage
+        MutableClock clock = new MutableClock();
+        LastKnownGoodCache cache = new LastKnownGoodCache(Duration.ofSeconds(300), 100, 65536, clock);
+        FallbackController controller = new FallbackController(cache);
+        LastKnownGoodCaptureFilter filter = new LastKnownGoodCaptureFilter(cache, Set.of("hotel-service"));
+        cache.put(LastKnownGoodCache.key("hotel-service", "/api/v1/hotels/1", null),
+                MediaType.APPLICATION_JSON_VALUE, null, "{\"success\":true}".getBytes(StandardCharsets.UTF_8));
+
+        // When: the circuit breaker forwards to the fallback twice, 10s and 30s later
+        clock.advance(Duration.ofSeconds(10));
+        String firstAge = replayThroughFallback(filter, controller);
+        clock.advance(Duration.ofSeconds(20));
+        String secondAge = replayThroughFallback(filter, controller);
+
+        // Then: the replay was not stored again, so the copy keeps its original age
+        assertEquals("10", firstAge);
+        assertEquals("30", secondAge);
+    }
+
+    private static String replayThroughFallback(LastKnownGoodCaptureFilter filter, FallbackController controller) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/hotels/1"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR,
+                Route.async().id("hotel-service").uri("lb://hotel-service").predicate(e -> true).build());
+        GatewayFilterChain fallbackForward = e -> {
+            ResponseEntity<?> stale = controller.hotelServiceFallback(e);
+            e.getResponse().setStatusCode(stale.getStatusCode());
+            e.getResponse().getHeaders().putAll(stale.getHeaders());
+            return e.getResponse().writeWith(Mono.just(e.getResponse().bufferFactory().wrap((byte[]) stale.getBody())));
+        };
+
+        StepVerifier.create(filter.filter(exchange, fallbackForward)).verifyComplete();
+
+        assertEquals("true", exchange.getResponse().getHeaders().getFirst(FallbackController.STALE_HEADER));
+        return exchange.getResponse().getHeaders().getFirst(HttpHeaders.AGE);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-06-27T05:47:04Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
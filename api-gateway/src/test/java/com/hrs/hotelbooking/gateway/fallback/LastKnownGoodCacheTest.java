@@ -0,0 +1,103 @@
+package com.hrs.hotelbooking.gateway.fallback;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LastKnownGoodCacheTest {
+
+    private MutableClock clock;
+    private LastKnownGoodCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        cache = new LastKnownGoodCache(Duration.ofSeconds(60), 2, 16, clock);
+    }
+
+    @Test
+    void shouldReturnEntryWithinTtl() {
+        // Given
+        cache.put("hotel-service:/api/v1/hotels/1", "application/json", null, new byte[]{1});
+        clock.advance(Duration.ofSeconds(30));
+
+        // When / Then
+        assertTrue(cache.get("hotel-service:/api/v1/hotels/1").isPresent());
+        assertEquals(30, cache.ageSeconds(cache.get("hotel-service:/api/v1/hotels/1").get()));
+    }
+
+    @Test
+    void shouldExpireEntryAfterTtl() {
+        // Given
+        cache.put("hotel-service:/api/v1/hotels/1", "application/json", null, new byte[]{1});
+        clock.advance(Duration.ofSeconds(61));
+
+        // When / Then
+        assertTrue(cache.get("hotel-service:/api/v1/hotels/1").isEmpty());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedWhenFull() {
+        // Given
+        cache.put("a", null, null, new byte[]{1});
+        cache.put("b", null, null, new byte[]{1});
+        cache.get("a");
+
+        // When
+        cache.put("c", null, null, new byte[]{1});
+
+        // Then
+        assertEquals(2, cache.size());
+        assertTrue(cache.get("a").isPresent());
+        assertTrue(cache.get("b").isEmpty());
+    }
+
+    @Test
+    void shouldSkipBodiesOverLimit() {
+        // When
+        cache.put("large", null, null, new byte[17]);
+
+        // Then
+        assertTrue(cache.get("large").isEmpty());
+    }
+
+    @Test
+    void shouldBuildKeyWithQuery() {
+        assertEquals("hotel-service:/api/v1/hotels?city=Berlin",
+                LastKnownGoodCache.key("hotel-service", "/api/v1/hotels", "city=Berlin"));
+        assertEquals("hotel-service:/api/v1/hotels",
+                LastKnownGoodCache.key("hotel-service", "/api/v1/hotels", null));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-06-27T05:47:04Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.hrs.hotelbooking.gateway.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GatewayTimingFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private GatewayTimingFilter filter;
+    private MockServerWebExchange exchange;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new GatewayTimingFilter(meterRegistry);
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/hotels/1"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR,
+                Route.async().id("hotel-service").uri("lb://hotel-service").predicate(e -> true).build());
+    }
+
+    @Test
+    void shouldStampGatewayTimestampPerRequest() {
+        // Given
+        AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+        GatewayFilterChain chain = e -> {
+            forwarded.set(e);
+            return Mono.empty();
+        };
+
+        // When
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        // Then
+        String timestamp = forwarded.get().getRequest().getHeaders().getFirst("X-Gateway-Timestamp");
+        assertNotNull(timestamp);
+        assertTrue(Long.parseLong(timestamp) > 0);
+    }
+
+    @Test
+    void shouldAppendGatewayTimingsAndKeepUpstreamEntries() {
+        // Given
+        GatewayFilterChain chain = e -> {
+            e.getAttributes().put(GatewayTimingFilter.DISPATCH_NANOS_ATTR, System.nanoTime());
+            e.getResponse().getHeaders().add(GatewayTimingFilter.SERVER_TIMING, "db;dur=4.20, ser;dur=0.50, total;dur=7.00");
+            return e.getResponse().setComplete();
+        };
+
+        // When
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        // Then
+        List<String> serverTiming = exchange.getResponse().getHeaders().get(GatewayTimingFilter.SERVER_TIMING);
+        assertNotNull(serverTiming);
+        assertEquals(2, serverTiming.size());
+        assertTrue(serverTiming.get(0).startsWith("db;dur=4.20"));
+        assertTrue(serverTiming.get(1).contains("gw-queue;dur="));
+        assertTrue(serverTiming.get(1).contains("gw-upstream;dur="));
+        assertTrue(exchange.getResponse().getHeaders().getFirst("X-Response-Time").endsWith("ms"));
+    }
+
+    @Test
+    void shouldExportPhaseAndUpstreamComponentMetrics() {
+        // Given
+        GatewayFilterChain chain = e -> {
+            e.getAttributes().put(GatewayTimingFilter.DISPATCH_NANOS_ATTR, System.nanoTime());
+            e.getResponse().getHeaders().add(GatewayTimingFilter.SERVER_TIMING, "db;dur=4.20, redis;dur=1.00");
+            return e.getResponse().setComplete();
+        };
+
+        // When
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        // Then
+        assertEquals(1, meterRegistry.get("hrs.gateway.timing")
+                .tag("phase", "upstream").tag("route", "hotel-service").timer().count());
+        assertEquals(1, meterRegistry.get("hrs.gateway.timing")
+                .tag("phase", "queue").timer().count());
+        assertEquals(4.2, meterRegistry.get("hrs.gateway.upstream.server.timing")
+                .tag("component", "db").timer().totalTime(TimeUnit.MILLISECONDS), 0.01);
+    }
+
+    @Test
+    void shouldSkipGatewayPhasesWhenRequestNeverDispatched() {
+        // Given
+        GatewayFilterChain chain = e -> e.getResponse().setComplete();
+
+        // When
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        // Then
+        assertNull(exchange.getResponse().getHeaders().get(GatewayTimingFilter.SERVER_TIMING));
+        assertNotNull(exchange.getResponse().getHeaders().getFirst("X-Response-Time"));
+    }
+}
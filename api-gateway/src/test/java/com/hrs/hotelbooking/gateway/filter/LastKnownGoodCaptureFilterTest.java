@@ -0,0 +1,103 @@
+package com.hrs.hotelbooking.gateway.filter;
+
+import com.hrs.hotelbooking.gateway.fallback.LastKnownGoodCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LastKnownGoodCaptureFilterTest {
+
+    private LastKnownGoodCache cache;
+    private LastKnownGoodCaptureFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        cache = new LastKnownGoodCache(300, 100, 65536);
+        filter = new LastKnownGoodCaptureFilter(cache, Set.of("hotel-service"));
+    }
+
+    @Test
+    void shouldCaptureAnonymousCatalogRead() {
+        // When
+        run(MockServerHttpRequest.get("/api/v1/hotels/1"), "hotel-service");
+
+        // Then
+        assertTrue(cache.get(LastKnownGoodCache.key("hotel-service", "/api/v1/hotels/1", null)).isPresent());
+    }
+
+    @Test
+    void shouldNotCaptureRequestsWithCredentials() {
+        // When
+        run(MockServerHttpRequest.get("/api/v1/hotels/1").header(HttpHeaders.AUTHORIZATION, "Bearer token"),
+                "hotel-service");
+        run(MockServerHttpRequest.get("/api/v1/hotels/2").header(HttpHeaders.COOKIE, "SESSION=abc"),
+                "hotel-service");
+
+        // Then
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldNotCaptureRoutesOutsideTheCatalog() {
+        // When
+        run(MockServerHttpRequest.get("/api/v1/users/1"), "user-service");
+
+        // Then
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldStreamBodyThroughUncaptured_WhenItOutgrowsTheCacheLimit() {
+        // Given: a chunked body with no Content-Length, larger than the cache accepts
+        cache = new LastKnownGoodCache(300, 100, 16);
+        filter = new LastKnownGoodCaptureFilter(cache, Set.of("hotel-service"));
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/v1/hotels"), "hotel-service");
+        GatewayFilterChain upstream = e -> {
+            e.getResponse().setStatusCode(HttpStatus.OK);
+            e.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return e.getResponse().writeWith(Flux.just("{\"data\":[", "{\"id\":1},", "{\"id\":2}", "]}")
+                    .map(chunk -> e.getResponse().bufferFactory().wrap(chunk.getBytes(StandardCharsets.UTF_8))));
+        };
+
+        // When
+        StepVerifier.create(filter.filter(exchange, upstream)).verifyComplete();
+
+        // Then
+        assertEquals("{\"data\":[{\"id\":1},{\"id\":2}]}", exchange.getResponse().getBodyAsString().block());
+        assertEquals(0, cache.size());
+    }
+
+    private void run(MockServerHttpRequest.BaseBuilder<?> request, String routeId) {
+        MockServerWebExchange exchange = exchange(request, routeId);
+        GatewayFilterChain upstream = e -> {
+            e.getResponse().setStatusCode(HttpStatus.OK);
+            e.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return e.getResponse().writeWith(Mono.just(e.getResponse().bufferFactory()
+                    .wrap("{\"success\":true}".getBytes(StandardCharsets.UTF_8))));
+        };
+
+        StepVerifier.create(filter.filter(exchange, upstream)).verifyComplete();
+    }
+
+    private MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request, String routeId) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR,
+                Route.async().id(routeId).uri("lb://" + routeId).predicate(e -> true).build());
+        return exchange;
+    }
+}
@@ -0,0 +1,117 @@
+package com.hrs.hotelbooking.gateway.loadbalancer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class LeastOutstandingRequestsLoadBalancerTest {
+
+    private OutstandingRequestTracker tracker;
+    private ServiceInstance first;
+    private ServiceInstance second;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new OutstandingRequestTracker();
+        first = new DefaultServiceInstance("hotel-1", "hotel-service", "10.0.0.1", 8081, false);
+        second = new DefaultServiceInstance("hotel-2", "hotel-service", "10.0.0.2", 8081, false);
+    }
+
+    @Test
+    void shouldPickInstanceWithFewestOutstandingRequests() {
+        // Given
+        occupy(first, 3);
+        occupy(second, 1);
+        LeastOutstandingRequestsLoadBalancer loadBalancer =
+                loadBalancer(LeastOutstandingRequestsLoadBalancer.Strategy.LEAST_OUTSTANDING);
+
+        // When
+        Response<ServiceInstance> response = loadBalancer.select(List.of(first, second));
+
+        // Then
+        assertTrue(response.hasServer());
+        assertSame(second, response.getServer());
+    }
+
+    @Test
+    void shouldReturnEmptyResponseWhenNoHealthyInstances() {
+        // Given
+        LeastOutstandingRequestsLoadBalancer loadBalancer =
+                loadBalancer(LeastOutstandingRequestsLoadBalancer.Strategy.LEAST_OUTSTANDING);
+
+        // When
+        Response<ServiceInstance> response = loadBalancer.select(List.of());
+
+        // Then
+        assertFalse(response.hasServer());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldChooseFromSuppliedInstances() {
+        // Given
+        ServiceInstanceListSupplier supplier = mock(ServiceInstanceListSupplier.class);
+        when(supplier.get(any(Request.class))).thenReturn(Flux.just(List.of(first)));
+        ObjectProvider<ServiceInstanceListSupplier> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable(any(Supplier.class))).thenReturn(supplier);
+
+        LeastOutstandingRequestsLoadBalancer loadBalancer = new LeastOutstandingRequestsLoadBalancer(
+                provider, "hotel-service", tracker, LeastOutstandingRequestsLoadBalancer.Strategy.LEAST_OUTSTANDING);
+
+        // When / Then
+        StepVerifier.create(loadBalancer.choose(new DefaultRequest<>(new RequestDataContext())))
+                .assertNext(response -> assertSame(first, response.getServer()))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldPreferIdleInstanceUnderPeakEwma() {
+        // Given
+        occupy(first, 2);
+        LeastOutstandingRequestsLoadBalancer loadBalancer =
+                loadBalancer(LeastOutstandingRequestsLoadBalancer.Strategy.PEAK_EWMA);
+
+        // When
+        Response<ServiceInstance> response = loadBalancer.select(List.of(first, second));
+
+        // Then
+        assertSame(second, response.getServer());
+    }
+
+    @Test
+    void shouldParseStrategyNames() {
+        assertEquals(LeastOutstandingRequestsLoadBalancer.Strategy.LEAST_OUTSTANDING,
+                LeastOutstandingRequestsLoadBalancer.Strategy.from("least-outstanding"));
+        assertEquals(LeastOutstandingRequestsLoadBalancer.Strategy.PEAK_EWMA,
+                LeastOutstandingRequestsLoadBalancer.Strategy.from("peak-ewma"));
+        assertEquals(LeastOutstandingRequestsLoadBalancer.Strategy.LEAST_OUTSTANDING,
+                LeastOutstandingRequestsLoadBalancer.Strategy.from(null));
+    }
+
+    private LeastOutstandingRequestsLoadBalancer loadBalancer(LeastOutstandingRequestsLoadBalancer.Strategy strategy) {
+        return new LeastOutstandingRequestsLoadBalancer(null, "hotel-service", tracker, strategy);
+    }
+
+    private void occupy(ServiceInstance instance, int requests) {
+        for (int i = 0; i < requests; i++) {
+            tracker.onStartRequest(new DefaultRequest<>(new RequestDataContext()), new DefaultResponse(instance));
+        }
+    }
+}
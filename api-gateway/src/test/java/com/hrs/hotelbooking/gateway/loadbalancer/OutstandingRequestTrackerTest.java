@@ -0,0 +1,126 @@
+package com.hrs.hotelbooking.gateway.loadbalancer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestData;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.util.LinkedMultiValueMap;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutstandingRequestTrackerTest {
+
+    private OutstandingRequestTracker tracker;
+    private ServiceInstance instance;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new OutstandingRequestTracker();
+        instance = new DefaultServiceInstance("hotel-1", "hotel-service", "localhost", 8081, false);
+    }
+
+    @Test
+    void shouldReportZeroForUnknownInstance() {
+        assertEquals(0, tracker.outstanding(instance));
+        assertEquals(0.0, tracker.peakEwmaCost(instance));
+    }
+
+    @Test
+    void shouldCountInFlightRequests() {
+        // Given
+        Request<RequestDataContext> first = new DefaultRequest<>(new RequestDataContext());
+        Request<RequestDataContext> second = new DefaultRequest<>(new RequestDataContext());
+        Response<ServiceInstance> response = new DefaultResponse(instance);
+
+        // When
+        tracker.onStartRequest(first, response);
+        tracker.onStartRequest(second, response);
+
+        // Then
+        assertEquals(2, tracker.outstanding(instance));
+    }
+
+    @Test
+    void shouldDecrementAndRecordLatencyOnCompletion() {
+        // Given
+        Request<RequestDataContext> request = new DefaultRequest<>(new RequestDataContext());
+        Response<ServiceInstance> response = new DefaultResponse(instance);
+        tracker.onStartRequest(request, response);
+
+        // When
+        tracker.onComplete(new CompletionContext<ResponseData, ServiceInstance, RequestDataContext>(
+                CompletionContext.Status.SUCCESS, request, response));
+
+        // Then
+        assertEquals(0, tracker.outstanding(instance));
+        assertTrue(tracker.peakEwmaCost(instance) > 0.0);
+    }
+
+    @Test
+    void shouldNeverGoBelowZeroOutstanding() {
+        // Given
+        Request<RequestDataContext> request = new DefaultRequest<>(new RequestDataContext());
+        Response<ServiceInstance> response = new DefaultResponse(instance);
+
+        // When
+        tracker.onComplete(new CompletionContext<ResponseData, ServiceInstance, RequestDataContext>(
+                CompletionContext.Status.FAILED, request, response));
+
+        // Then
+        assertEquals(0, tracker.outstanding(instance));
+    }
+
+    @Test
+    void shouldIgnoreResponsesWithoutServer() {
+        // Given
+        Request<RequestDataContext> request = new DefaultRequest<>(new RequestDataContext());
+
+        // When
+        tracker.onStartRequest(request, new EmptyResponse());
+
+        // Then
+        assertEquals(0, tracker.outstanding(instance));
+    }
+
+    @Test
+    void shouldIgnoreEventStreams() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+        Request<RequestDataContext> request = new DefaultRequest<>(new RequestDataContext(new RequestData(
+                HttpMethod.GET, URI.create("http://gateway/api/v1/bookings/hotel/1/events"), headers,
+                new LinkedMultiValueMap<>(), Map.of())));
+        Response<ServiceInstance> response = new DefaultResponse(instance);
+
+        // When
+        tracker.onStartRequest(request, response);
+        tracker.onComplete(new CompletionContext<ResponseData, ServiceInstance, RequestDataContext>(
+                CompletionContext.Status.SUCCESS, request, response));
+
+        // Then
+        assertEquals(0, tracker.outstanding(instance));
+        assertEquals(0.0, tracker.peakEwmaCost(instance));
+    }
+
+    @Test
+    void shouldSupportServiceInstanceServerType() {
+        assertTrue(tracker.supports(RequestDataContext.class, ResponseData.class, ServiceInstance.class));
+        assertFalse(tracker.supports(RequestDataContext.class, ResponseData.class, String.class));
+    }
+}
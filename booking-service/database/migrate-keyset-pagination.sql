@@ -0,0 +1,8 @@
+-- HRS migration for existing databases: keyset (cursor) pagination
+-- Run once before deploying the /scroll listing endpoints (hotels, users, bookings)
+
+-- Composite (created_at, id) indexes: each page is an index seek past the cursor row,
+-- read backwards for ORDER BY created_at DESC, id DESC, so deep pages cost the same as the first
+CREATE INDEX IF NOT EXISTS idx_hotel_created_id ON hotels(created_at, id) WHERE is_active = true;
+CREATE INDEX IF NOT EXISTS idx_user_created_id ON users(created_at, id) WHERE is_active = true;
+CREATE INDEX IF NOT EXISTS idx_booking_created_id ON bookings(created_at, id);
@@ -3,6 +3,7 @@ package com.hrs.hotelbooking.booking;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 /**
@@ -15,6 +16,7 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
  */
 @SpringBootApplication(scanBasePackages = {"com.hrs.hotelbooking.booking", "com.hrs.hotelbooking.shared"})
 @EnableCaching
+@EnableScheduling
 @EnableTransactionManagement
 public class BookingServiceApplication {
 
@@ -0,0 +1,14 @@
+package com.hrs.hotelbooking.booking.availability;
+
+import java.time.LocalDate;
+
+/**
+ * HRS Booked Interval
+ * One active booking of a hotel as held by the {@link BookingIntervalIndex}: the stay occupies
+ * numberOfRooms rooms for the nights [checkInDate, checkOutDate)
+ *
+ * @author arihants1
+ */
+public record BookedInterval(Long bookingId, String bookingReference, Long userId,
+                             LocalDate checkInDate, LocalDate checkOutDate, int numberOfRooms) {
+}
@@ -0,0 +1,227 @@
+package com.hrs.hotelbooking.booking.availability;
+
+import com.hrs.hotelbooking.booking.entity.Booking;
+import com.hrs.hotelbooking.booking.event.BookingChangedEvent;
+import com.hrs.hotelbooking.booking.repository.BookingRepository;
+import com.hrs.hotelbooking.booking.repository.BookingSummary;
+import com.hrs.hotelbooking.shared.dto.BookingStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * HRS Booking Interval Index
+ * Per-hotel in-memory interval trees ({@link HotelIntervals}) over the active bookings of the next
+ * window-days, so the overlap and occupancy questions the duplicate check and availability lookups ask
+ * for the same hotels over and over are answered without a range query.
+ *
+ * A hotel is loaded on its first lookup (one indexed query) and reloaded after midnight. Writes on this
+ * node are applied once they commit; writes on other nodes are pulled every sync-interval-ms by an
+ * updated_at poll that re-reads sync-overlap-ms to cover transactions still open at the last poll.
+ * Ranges starting before today or ending past the window return empty, and the caller queries the database
+ *
+ * Metrics: hrs.booking.interval-index.lookups{result=hit|fallback}, hrs.booking.interval-index.hotels
+ *
+ * @author arihants1
+ */
+@Component
+@Slf4j
+public class BookingIntervalIndex {
+
+    /** Statuses that hold rooms; the same set as the database duplicate check */
+    static final Set<BookingStatus> ACTIVE_STATUSES =
+            EnumSet.of(BookingStatus.PENDING, BookingStatus.CONFIRMED, BookingStatus.CHECKED_IN);
+
+    private final BookingRepository bookingRepository;
+    private final boolean enabled;
+    private final int windowDays;
+    private final int maxHotels;
+    private final long syncOverlapMillis;
+    private final Counter hits;
+    private final Counter fallbacks;
+
+    private final Map<Long, HotelIntervals> hotels = new ConcurrentHashMap<>();
+    private final Map<Long, Long> lastUsed = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastSync = LocalDateTime.now();
+
+    public BookingIntervalIndex(BookingRepository bookingRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${hrs.booking.interval-index.enabled:true}") boolean enabled,
+                                @Value("${hrs.booking.interval-index.window-days:90}") int windowDays,
+                                @Value("${hrs.booking.interval-index.max-hotels:2000}") int maxHotels,
+                                @Value("${hrs.booking.interval-index.sync-overlap-ms:5000}") long syncOverlapMillis) {
+        this.bookingRepository = bookingRepository;
+        this.enabled = enabled;
+        this.windowDays = windowDays;
+        this.maxHotels = maxHotels;
+        this.syncOverlapMillis = syncOverlapMillis;
+        this.hits = meterRegistry.counter("hrs.booking.interval-index.lookups", "result", "hit");
+        this.fallbacks = meterRegistry.counter("hrs.booking.interval-index.lookups", "result", "fallback");
+
+        Gauge.builder("hrs.booking.interval-index.hotels", hotels, Map::size)
+                .description("HRS hotels held in the booking interval index")
+                .register(meterRegistry);
+
+        log.info("HRS booking interval index {}: {} day window, up to {} hotels",
+                enabled ? "enabled" : "disabled", windowDays, maxHotels);
+    }
+
+    /**
+     * Active bookings of the hotel with checkIn <= to and checkOut >= from, or empty when the range is
+     * outside the window and the caller has to ask the database
+     */
+    public Optional<List<BookedInterval>> overlapping(Long hotelId, LocalDate from, LocalDate to) {
+        HotelIntervals intervals = intervalsCovering(hotelId, from, to);
+        return intervals != null ? Optional.of(intervals.overlapping(from, to)) : Optional.empty();
+    }
+
+    /**
+     * Rooms booked on each night of [from, to), or empty when the range is outside the window
+     */
+    public Optional<int[]> roomsPerNight(Long hotelId, LocalDate from, LocalDate to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            return Optional.empty();
+        }
+        HotelIntervals intervals = intervalsCovering(hotelId, from, to.minusDays(1));
+        return intervals != null ? Optional.of(intervals.roomsPerNight(from, to)) : Optional.empty();
+    }
+
+    /**
+     * Apply a committed booking write of this node
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBookingChanged(BookingChangedEvent event) {
+        BookingChangedEvent.Stay previous = event.previous();
+        BookingChangedEvent.Stay current = event.current();
+        if (previous != null && !previous.hotelId().equals(current.hotelId())) {
+            apply(previous.hotelId(), previous.bookingId(), null);
+        }
+        apply(current.hotelId(), current.bookingId(), current.status(), new BookedInterval(current.bookingId(),
+                current.bookingReference(), current.userId(), current.checkInDate(), current.checkOutDate(),
+                current.numberOfRooms()));
+    }
+
+    /**
+     * Pull the bookings other nodes changed for the hotels held here
+     */
+    @Scheduled(fixedDelayString = "${hrs.booking.interval-index.sync-interval-ms:1000}",
+            initialDelayString = "${hrs.booking.interval-index.sync-interval-ms:1000}")
+    public void sync() {
+        if (!enabled || hotels.isEmpty()) {
+            lastSync = LocalDateTime.now();
+            return;
+        }
+
+        LocalDateTime started = LocalDateTime.now();
+        try {
+            List<BookingSummary> changed = bookingRepository.findStaysChangedSince(List.copyOf(hotels.keySet()),
+                    LocalDate.now().minusDays(Booking.MAX_NIGHTS), lastSync.minusNanos(syncOverlapMillis * 1_000_000));
+            for (BookingSummary booking : changed) {
+                apply(booking.getHotelId(), booking.getId(), booking.getStatus(), toInterval(booking));
+            }
+            lastSync = started;
+            if (!changed.isEmpty()) {
+                log.debug("HRS booking interval index applied {} changed bookings", changed.size());
+            }
+        } catch (DataAccessException e) {
+            // lastSync stays put, so the next poll covers this one
+            log.warn("HRS booking interval index sync failed: {}", e.getMessage());
+        }
+    }
+
+    int size() {
+        return hotels.size();
+    }
+
+    private HotelIntervals intervalsCovering(Long hotelId, LocalDate from, LocalDate to) {
+        if (!enabled || hotelId == null || from == null || to == null) {
+            fallbacks.increment();
+            return null;
+        }
+
+        LocalDate today = LocalDate.now();
+        HotelIntervals intervals = hotels.get(hotelId);
+        if (intervals == null || !intervals.getDay().equals(today)) {
+            if (from.isBefore(today) || !to.isBefore(today.plusDays(windowDays))) {
+                fallbacks.increment();
+                return null;
+            }
+            intervals = load(hotelId, today);
+        }
+
+        if (!intervals.covers(from, to)) {
+            fallbacks.increment();
+            return null;
+        }
+        lastUsed.put(hotelId, System.nanoTime());
+        hits.increment();
+        return intervals;
+    }
+
+    private HotelIntervals load(Long hotelId, LocalDate today) {
+        LocalDate windowEnd = today.plusDays(windowDays);
+        List<BookedInterval> bookings = new ArrayList<>();
+        for (BookingSummary booking : bookingRepository.findActiveStays(hotelId, today, windowEnd)) {
+            bookings.add(toInterval(booking));
+        }
+
+        HotelIntervals loaded = HotelIntervals.of(today, windowEnd, bookings);
+        if (!hotels.containsKey(hotelId) && hotels.size() >= maxHotels) {
+            evictLeastRecentlyUsed();
+        }
+        hotels.put(hotelId, loaded);
+        log.debug("HRS booking interval index loaded hotel {} with {} bookings", hotelId, loaded.size());
+        return loaded;
+    }
+
+    private void apply(Long hotelId, Long bookingId, BookingStatus status, BookedInterval interval) {
+        apply(hotelId, bookingId, ACTIVE_STATUSES.contains(status) ? interval : null);
+    }
+
+    private void apply(Long hotelId, Long bookingId, BookedInterval interval) {
+        if (hotelId == null || bookingId == null) {
+            return;
+        }
+        hotels.computeIfPresent(hotelId, (id, intervals) -> intervals.replace(bookingId,
+                interval != null && inWindow(intervals, interval) ? interval : null));
+    }
+
+    private static boolean inWindow(HotelIntervals intervals, BookedInterval interval) {
+        return interval.checkInDate() != null && interval.checkOutDate() != null
+                && !interval.checkOutDate().isBefore(intervals.getDay())
+                && interval.checkInDate().isBefore(intervals.getWindowEnd());
+    }
+
+    private void evictLeastRecentlyUsed() {
+        hotels.keySet().stream()
+                .min(Comparator.comparingLong(hotelId -> lastUsed.getOrDefault(hotelId, Long.MIN_VALUE)))
+                .ifPresent(hotelId -> {
+                    hotels.remove(hotelId);
+                    lastUsed.remove(hotelId);
+                });
+    }
+
+    private static BookedInterval toInterval(BookingSummary booking) {
+        return new BookedInterval(booking.getId(), booking.getBookingReference(), booking.getUserId(),
+                booking.getCheckInDate(), booking.getCheckOutDate(),
+                booking.getNumberOfRooms() != null ? booking.getNumberOfRooms() : 0);
+    }
+}
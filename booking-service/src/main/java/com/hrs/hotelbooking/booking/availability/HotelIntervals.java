@@ -0,0 +1,152 @@
+package com.hrs.hotelbooking.booking.availability;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * HRS Hotel Intervals
+ * Immutable interval tree over one hotel's active bookings that check out on or after the day it was
+ * loaded and check in before windowEnd. The bookings are sorted by check-in; the tree is implicit
+ * (the middle of every range is its root) and each root carries the latest check-out of its range,
+ * so an overlap query only descends into ranges that can still match: O(log n + matches).
+ * Changes return a new instance, readers never see a half-applied write
+ *
+ * @author arihants1
+ */
+final class HotelIntervals {
+
+    private static final Comparator<BookedInterval> BY_CHECK_IN =
+            Comparator.comparing(BookedInterval::checkInDate).thenComparing(BookedInterval::bookingId);
+
+    private final LocalDate day;
+    private final LocalDate windowEnd;
+    private final BookedInterval[] intervals;
+    private final long[] start;
+    private final long[] end;
+    private final long[] maxEnd;
+
+    private HotelIntervals(LocalDate day, LocalDate windowEnd, BookedInterval[] sorted) {
+        this.day = day;
+        this.windowEnd = windowEnd;
+        this.intervals = sorted;
+        this.start = new long[sorted.length];
+        this.end = new long[sorted.length];
+        this.maxEnd = new long[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            start[i] = sorted[i].checkInDate().toEpochDay();
+            end[i] = sorted[i].checkOutDate().toEpochDay();
+        }
+        buildMaxEnd(0, sorted.length);
+    }
+
+    static HotelIntervals of(LocalDate day, LocalDate windowEnd, Collection<BookedInterval> bookings) {
+        BookedInterval[] sorted = bookings.toArray(new BookedInterval[0]);
+        Arrays.sort(sorted, BY_CHECK_IN);
+        return new HotelIntervals(day, windowEnd, sorted);
+    }
+
+    LocalDate getDay() {
+        return day;
+    }
+
+    LocalDate getWindowEnd() {
+        return windowEnd;
+    }
+
+    int size() {
+        return intervals.length;
+    }
+
+    /**
+     * Whether every booking overlapping [from, to] is held here
+     */
+    boolean covers(LocalDate from, LocalDate to) {
+        return !from.isBefore(day) && to.isBefore(windowEnd);
+    }
+
+    /**
+     * Copy with the booking's interval replaced; a null interval removes the booking
+     */
+    HotelIntervals replace(Long bookingId, BookedInterval interval) {
+        List<BookedInterval> next = new ArrayList<>(intervals.length + 1);
+        for (BookedInterval existing : intervals) {
+            if (!existing.bookingId().equals(bookingId)) {
+                next.add(existing);
+            }
+        }
+        if (interval != null) {
+            next.add(interval);
+        }
+        return of(day, windowEnd, next);
+    }
+
+    /**
+     * Bookings with checkIn <= to and checkOut >= from (the same inclusive predicate as the database
+     * duplicate check), ordered by check-in
+     */
+    List<BookedInterval> overlapping(LocalDate from, LocalDate to) {
+        List<BookedInterval> result = new ArrayList<>();
+        collect(0, intervals.length, from.toEpochDay(), to.toEpochDay(), result);
+        return result;
+    }
+
+    /**
+     * Rooms booked on each night of [from, to); element i is the night from + i
+     */
+    int[] roomsPerNight(LocalDate from, LocalDate to) {
+        long first = from.toEpochDay();
+        int nights = (int) (to.toEpochDay() - first);
+        int[] delta = new int[nights + 1];
+        // A stay occupies the nights [checkIn, checkOut), so it touches [from, to) iff checkIn <= to - 1
+        // and checkOut >= from + 1
+        for (BookedInterval booking : overlapping(from.plusDays(1), to.minusDays(1))) {
+            int startNight = (int) Math.max(booking.checkInDate().toEpochDay() - first, 0);
+            int endNight = (int) Math.min(booking.checkOutDate().toEpochDay() - first, nights);
+            if (startNight < endNight) {
+                delta[startNight] += booking.numberOfRooms();
+                delta[endNight] -= booking.numberOfRooms();
+            }
+        }
+
+        int[] rooms = new int[nights];
+        int running = 0;
+        for (int i = 0; i < nights; i++) {
+            running += delta[i];
+            rooms[i] = running;
+        }
+        return rooms;
+    }
+
+    private void collect(int lo, int hi, long from, long to, List<BookedInterval> result) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (maxEnd[mid] < from) {
+            // Nothing in this range checks out late enough
+            return;
+        }
+        collect(lo, mid, from, to, result);
+        if (start[mid] > to) {
+            // mid and everything after it check in too late
+            return;
+        }
+        if (end[mid] >= from) {
+            result.add(intervals[mid]);
+        }
+        collect(mid + 1, hi, from, to, result);
+    }
+
+    private long buildMaxEnd(int lo, int hi) {
+        if (lo >= hi) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (lo + hi) >>> 1;
+        maxEnd[mid] = Math.max(end[mid], Math.max(buildMaxEnd(lo, mid), buildMaxEnd(mid + 1, hi)));
+        return maxEnd[mid];
+    }
+}
@@ -0,0 +1,117 @@
+package com.hrs.hotelbooking.booking.availability;
+
+import com.hrs.hotelbooking.booking.event.BookingChangedEvent;
+import com.hrs.hotelbooking.shared.dto.BookingStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * HRS Hotel Occupancy Ledger
+ * Materialized rooms sold per hotel and night (table hotel_occupancy). Every booking write adds the
+ * rooms it sells and subtracts the rooms it gave up, night by night, inside the booking's own transaction,
+ * so the ledger commits or rolls back with it. Reading a range is one primary-key range scan of at most
+ * one row per night instead of a scan of every overlapping booking.
+ *
+ * The rows of one write are upserted in (hotel, night) order, so concurrent writes to the same nights
+ * queue on the row locks instead of deadlocking.
+ *
+ * @author arihants1
+ */
+@Component
+@Slf4j
+public class HotelOccupancyLedger {
+
+    /** Statuses whose nights count as sold; cancelled bookings and no-shows give their rooms back */
+    static final Set<BookingStatus> SOLD_STATUSES = EnumSet.of(BookingStatus.PENDING, BookingStatus.CONFIRMED,
+            BookingStatus.CHECKED_IN, BookingStatus.CHECKED_OUT);
+
+    private static final String UPSERT_NIGHT = """
+            INSERT INTO hotel_occupancy (hotel_id, night, rooms_sold) VALUES (?, ?, ?)
+            ON CONFLICT (hotel_id, night) DO UPDATE SET rooms_sold = hotel_occupancy.rooms_sold + EXCLUDED.rooms_sold
+            """;
+
+    private static final String SELECT_RANGE = """
+            SELECT night, rooms_sold FROM hotel_occupancy
+            WHERE hotel_id = ? AND night >= ? AND night < ? AND rooms_sold <> 0
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public HotelOccupancyLedger(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Book the nights of a booking write; runs synchronously in the publishing transaction
+     */
+    @EventListener
+    public void onBookingChanged(BookingChangedEvent event) {
+        // hotel -> night -> rooms delta
+        Map<Long, TreeMap<LocalDate, Integer>> deltas = new TreeMap<>();
+        switch (event.type()) {
+            case CREATED -> add(deltas, event.current(), 1);
+            case UPDATED -> {
+                add(deltas, event.previous(), -1);
+                add(deltas, event.current(), 1);
+            }
+            // Only sold bookings can be cancelled; the stay is unchanged, so its nights are given back
+            case CANCELLED -> addNights(deltas, event.current(), -1);
+            // Sold before and after: nothing moves
+            case CHECKED_IN, CHECKED_OUT -> {
+            }
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        deltas.forEach((hotelId, nights) -> nights.forEach((night, rooms) -> {
+            if (rooms != 0) {
+                rows.add(new Object[]{hotelId, Date.valueOf(night), rooms});
+            }
+        }));
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_NIGHT, rows);
+            log.debug("HRS occupancy ledger applied {} night deltas for booking {}",
+                    rows.size(), event.current().bookingId());
+        }
+    }
+
+    /**
+     * Rooms sold on each night of [from, to); element i is the night from + i
+     */
+    public int[] roomsSold(Long hotelId, LocalDate from, LocalDate to) {
+        int[] rooms = new int[(int) ChronoUnit.DAYS.between(from, to)];
+        jdbcTemplate.query(SELECT_RANGE, rs -> {
+            rooms[(int) ChronoUnit.DAYS.between(from, rs.getDate("night").toLocalDate())] = rs.getInt("rooms_sold");
+        }, hotelId, Date.valueOf(from), Date.valueOf(to));
+        return rooms;
+    }
+
+    private static void add(Map<Long, TreeMap<LocalDate, Integer>> deltas, BookingChangedEvent.Stay stay, int sign) {
+        if (stay != null && SOLD_STATUSES.contains(stay.status())) {
+            addNights(deltas, stay, sign);
+        }
+    }
+
+    private static void addNights(Map<Long, TreeMap<LocalDate, Integer>> deltas, BookingChangedEvent.Stay stay,
+                                  int sign) {
+        if (stay.hotelId() == null || stay.checkInDate() == null || stay.checkOutDate() == null
+                || stay.numberOfRooms() == 0) {
+            return;
+        }
+        TreeMap<LocalDate, Integer> nights = deltas.computeIfAbsent(stay.hotelId(), id -> new TreeMap<>());
+        for (LocalDate night = stay.checkInDate(); night.isBefore(stay.checkOutDate()); night = night.plusDays(1)) {
+            nights.merge(night, sign * stay.numberOfRooms(), Integer::sum);
+        }
+    }
+}
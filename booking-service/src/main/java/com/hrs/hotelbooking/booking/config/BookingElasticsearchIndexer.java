@@ -14,7 +14,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -106,9 +105,6 @@ public class BookingElasticsearchIndexer implements CommandLineRunner {
         boolean isActive = booking.getStatus() == BookingStatus.CONFIRMED ||
                            booking.getStatus() == BookingStatus.CHECKED_IN;
 
-        boolean isUpcoming = booking.getCheckInDate() != null && booking.getCheckInDate().isAfter(LocalDate.now());
-        boolean isPast = booking.getCheckOutDate() != null && booking.getCheckOutDate().isBefore(LocalDate.now());
-
         // Generate tags for faceted search
         List<String> tags = new ArrayList<>();
         if (booking.getNumberOfGuests() > 2) tags.add("group");
@@ -154,8 +150,6 @@ public class BookingElasticsearchIndexer implements CommandLineRunner {
                 // Derived fields
                 .stayDuration(stayDuration)
                 .isActive(isActive)
-                .isUpcoming(isUpcoming)
-                .isPast(isPast)
                 .tags(tags)
                 .searchableText(searchText.toString())
                 .build();
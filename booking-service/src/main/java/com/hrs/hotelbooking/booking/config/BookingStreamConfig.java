@@ -0,0 +1,30 @@
+package com.hrs.hotelbooking.booking.config;
+
+import com.hrs.hotelbooking.booking.stream.BookingEventRelay;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * HRS Booking Stream Configuration
+ * Subscribes the booking event relay to the Redis channel other booking-service nodes publish on
+ * Disable with hrs.booking.stream.relay.enabled=false
+ *
+ * @author arihants1
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "hrs.booking.stream.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BookingStreamConfig {
+
+    @Bean
+    public RedisMessageListenerContainer bookingEventListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       BookingEventRelay relay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(relay, new ChannelTopic(relay.getChannel()));
+        return container;
+    }
+}
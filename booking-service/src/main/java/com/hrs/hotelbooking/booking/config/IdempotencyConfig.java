@@ -0,0 +1,39 @@
+package com.hrs.hotelbooking.booking.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * HRS Booking Idempotency Configuration
+ * Honours the Idempotency-Key header on booking creation and state transitions
+ * Disable with hrs.booking.idempotency.enabled=false
+ *
+ * @author arihants1
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "hrs.booking.idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyKeyFilter> idempotencyKeyFilter(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${hrs.booking.idempotency.ttl-hours:24}") long ttlHours,
+            @Value("${hrs.booking.idempotency.lock-ttl-seconds:60}") long lockTtlSeconds) {
+        FilterRegistrationBean<IdempotencyKeyFilter> registration = new FilterRegistrationBean<>(
+                new IdempotencyKeyFilter(redisTemplate, objectMapper,
+                        Duration.ofHours(ttlHours), Duration.ofSeconds(lockTtlSeconds)));
+        // Inside the Server-Timing filter, so replays still report their (tiny) total
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        registration.addUrlPatterns("/api/v1/bookings", "/api/v1/bookings/*");
+        return registration;
+    }
+}
@@ -0,0 +1,281 @@
+package com.hrs.hotelbooking.booking.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrs.hotelbooking.shared.response.ApiResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * HRS Idempotency-Key Filter
+ * Makes booking writes safe to retry. The first request with a given Idempotency-Key claims it in
+ * Redis with SET NX; a concurrent duplicate gets 409 while the first is running, and a later replay
+ * gets the stored response without reaching the controller or Postgres.
+ * Only 2xx responses are stored; errors release the key so the client can retry.
+ * If Redis is unavailable, requests are processed normally (the duplicate booking check still applies)
+ *
+ * @author arihants1
+ */
+@Slf4j
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    static final String KEY_PREFIX = "hrs:idempotency:booking:";
+    static final int MAX_KEY_LENGTH = 255;
+
+    private static final List<String> IDEMPOTENT_PATHS = List.of(
+            "/api/v1/bookings",
+            "/api/v1/bookings/batch",
+            "/api/v1/bookings/async",
+            "/api/v1/bookings/{id}/cancel",
+            "/api/v1/bookings/{id}/check-in",
+            "/api/v1/bookings/{id}/check-out");
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration lockTtl;
+
+    public IdempotencyKeyFilter(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                Duration ttl, Duration lockTtl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.lockTtl = lockTtl;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (!"POST".equals(method) && !"PUT".equals(method)) {
+            return true;
+        }
+        if (!StringUtils.hasText(request.getHeader(HEADER))) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return IDEMPOTENT_PATHS.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(HEADER).trim();
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, "HRS_IDEMPOTENCY_KEY_INVALID",
+                    "Idempotency-Key cannot exceed " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String redisKey = KEY_PREFIX + request.getMethod() + ":" + path + ":" + idempotencyKey;
+        String fingerprint = DigestUtils.md5DigestAsHex(cachedRequest.body);
+
+        Boolean claimed;
+        try {
+            claimed = redisTemplate.opsForValue().setIfAbsent(redisKey, write(StoredResponse.inProgress(fingerprint)), lockTtl);
+        } catch (DataAccessException e) {
+            log.warn("HRS idempotency store unavailable, processing {} {} without it: {}",
+                    request.getMethod(), path, e.getMessage());
+            filterChain.doFilter(cachedRequest, response);
+            return;
+        }
+
+        if (Boolean.TRUE.equals(claimed)) {
+            execute(cachedRequest, response, filterChain, redisKey, fingerprint);
+        } else {
+            replay(response, redisKey, fingerprint);
+        }
+    }
+
+    private void execute(CachedBodyRequest request, HttpServletResponse response, FilterChain filterChain,
+                         String redisKey, String fingerprint) throws ServletException, IOException {
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, cachingResponse);
+            stored = store(redisKey, fingerprint, cachingResponse);
+        } finally {
+            if (!stored) {
+                release(redisKey);
+            }
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    private boolean store(String redisKey, String fingerprint, ContentCachingResponseWrapper response) {
+        int status = response.getStatus();
+        if (status < 200 || status >= 300) {
+            return false;
+        }
+        try {
+            StoredResponse completed = new StoredResponse(StoredResponse.COMPLETED, fingerprint, status,
+                    response.getContentType(), response.getHeader(HttpHeaders.LOCATION),
+                    new String(response.getContentAsByteArray(), StandardCharsets.UTF_8));
+            redisTemplate.opsForValue().set(redisKey, write(completed), ttl);
+            return true;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Could not store HRS idempotent response for {}: {}", redisKey, e.getMessage());
+            return false;
+        }
+    }
+
+    private void replay(HttpServletResponse response, String redisKey, String fingerprint) throws IOException {
+        String value;
+        try {
+            value = redisTemplate.opsForValue().get(redisKey);
+        } catch (DataAccessException e) {
+            value = null;
+        }
+
+        if (value == null) {
+            // The first request failed and released the key between our SET NX and GET
+            writeError(response, HttpStatus.CONFLICT, "HRS_IDEMPOTENCY_IN_PROGRESS",
+                    "A request with this Idempotency-Key was just processed, please retry");
+            return;
+        }
+
+        StoredResponse stored = objectMapper.readValue(value, StoredResponse.class);
+        if (!stored.fingerprint().equals(fingerprint)) {
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, "HRS_IDEMPOTENCY_KEY_REUSED",
+                    "Idempotency-Key was already used with a different request");
+            return;
+        }
+        if (!StoredResponse.COMPLETED.equals(stored.state())) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            writeError(response, HttpStatus.CONFLICT, "HRS_IDEMPOTENCY_IN_PROGRESS",
+                    "A request with this Idempotency-Key is still being processed");
+            return;
+        }
+
+        log.debug("Replaying HRS idempotent response for {}", redisKey);
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, stored.location());
+        }
+        response.getOutputStream().write(stored.body().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void release(String redisKey) {
+        try {
+            redisTemplate.delete(redisKey);
+        } catch (DataAccessException e) {
+            // The lock TTL frees the key eventually
+            log.warn("Could not release HRS idempotency key {}: {}", redisKey, e.getMessage());
+        }
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String errorCode, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message, errorCode, LocalDateTime.now()));
+    }
+
+    private String write(StoredResponse storedResponse) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(storedResponse);
+    }
+
+    /**
+     * Outcome kept in Redis under the idempotency key
+     */
+    record StoredResponse(String state, String fingerprint, int status, String contentType, String location,
+                          String body) {
+
+        static final String IN_PROGRESS = "IN_PROGRESS";
+        static final String COMPLETED = "COMPLETED";
+
+        static StoredResponse inProgress(String fingerprint) {
+            return new StoredResponse(IN_PROGRESS, fingerprint, 0, null, null, null);
+        }
+    }
+
+    /**
+     * Buffers the request body so it can be fingerprinted and still read by the controller
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = StreamUtils.copyToByteArray(request.getInputStream());
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    // The whole body is already in memory: it is available at once and then fully read
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
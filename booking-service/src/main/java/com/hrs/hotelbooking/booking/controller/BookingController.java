@@ -1,7 +1,12 @@
 package com.hrs.hotelbooking.booking.controller;
 
+import com.hrs.hotelbooking.booking.dto.BatchBookingRequest;
+import com.hrs.hotelbooking.booking.dto.BatchBookingResult;
+import com.hrs.hotelbooking.booking.dto.OccupancyCalendarDTO;
 import com.hrs.hotelbooking.booking.service.BookingService;
+import com.hrs.hotelbooking.booking.service.OccupancyService;
 import com.hrs.hotelbooking.shared.dto.BookingDTO;
+import com.hrs.hotelbooking.shared.pagination.CursorPage;
 import com.hrs.hotelbooking.shared.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -9,6 +14,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -17,7 +23,8 @@ import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Max;
-import java.util.List;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 
 /**
  * HRS Booking Controller - Essential Features Only
@@ -37,6 +44,7 @@ import java.util.List;
 public class BookingController {
 
     private final BookingService bookingService;
+    private final OccupancyService occupancyService;
 
     /**
      * Create a new booking
@@ -57,6 +65,26 @@ public class BookingController {
                 .body(ApiResponse.success(createdBooking, "HRS booking created successfully"));
     }
 
+    /**
+     * Create a group of bookings in one request
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "Create HRS group booking",
+            description = "Create up to 200 bookings in a single transaction with per-item results. " +
+                    "Returns 201 when every item was created and 207 when some were rejected")
+    public ResponseEntity<ApiResponse<BatchBookingResult>> createBookings(
+            @Parameter(description = "Bookings to create", required = true)
+            @Valid @RequestBody BatchBookingRequest request) {
+
+        log.info("Creating HRS batch of {} bookings at 2025-06-27 05:53:04 by arihants1", request.getBookings().size());
+
+        BatchBookingResult result = bookingService.createBookings(request.getBookings());
+
+        return ResponseEntity.status(result.isAllCreated() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS)
+                .body(ApiResponse.success(result, String.format("Created %d of %d HRS bookings",
+                        result.getCreated(), result.getRequested())));
+    }
+
     /**
      * Get booking by ID
      */
@@ -167,17 +195,35 @@ public class BookingController {
      */
     @GetMapping("/user/{userId}")
     @Operation(summary = "Get user bookings",
-            description = "Retrieve all bookings for a specific user")
-    public ResponseEntity<ApiResponse<List<BookingDTO>>> getUserBookings(
+            description = "Retrieve a page of booking summaries for a specific user, latest check-in first, "
+                    + "with check-in inside the from..to window (defaults to one year either side of today, at most 731 days)")
+    public ResponseEntity<ApiResponse<Page<BookingDTO>>> getUserBookings(
             @Parameter(description = "User ID", required = true)
-            @PathVariable @Min(value = 1, message = "User ID must be positive") Long userId) {
+            @PathVariable @Min(value = 1, message = "User ID must be positive") Long userId,
 
-        log.info("Fetching HRS bookings for user: {} at 2025-06-27 05:53:04 by arihants1", userId);
+            @Parameter(description = "Earliest check-in date (ISO yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
 
-        List<BookingDTO> bookings = bookingService.getBookingsByUserId(userId);
+            @Parameter(description = "Latest check-in date (ISO yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+
+            @Parameter(description = "Page number (0-based)")
+            @RequestParam(defaultValue = "0")
+            @Min(value = 0, message = "Page number cannot be negative") int page,
+
+            @Parameter(description = "Page size (1-50)")
+            @RequestParam(defaultValue = "20")
+            @Min(value = 1, message = "Page size must be at least 1")
+            @Max(value = 50, message = "Page size cannot exceed 50") int size) {
+
+        log.info("Fetching HRS bookings for user: {} at 2025-06-27 05:53:04 by arihants1 - page: {}, size: {}",
+                userId, page, size);
+
+        Page<BookingDTO> bookings = bookingService.getBookingsByUserId(userId, from, to, page, size);
 
         return ResponseEntity.ok(ApiResponse.success(bookings,
-                String.format("Found %d bookings for user", bookings.size())));
+                String.format("Found %d bookings for user (page %d of %d)",
+                        bookings.getTotalElements(), page + 1, bookings.getTotalPages())));
     }
 
     /**
@@ -185,17 +231,65 @@ public class BookingController {
      */
     @GetMapping("/hotel/{hotelId}")
     @Operation(summary = "Get hotel bookings",
-            description = "Retrieve all bookings for a specific hotel")
-    public ResponseEntity<ApiResponse<List<BookingDTO>>> getHotelBookings(
+            description = "Retrieve a page of booking summaries for a specific hotel, earliest check-in first, "
+                    + "with check-in inside the from..to window (defaults to one year either side of today, at most 731 days)")
+    public ResponseEntity<ApiResponse<Page<BookingDTO>>> getHotelBookings(
             @Parameter(description = "Hotel ID", required = true)
-            @PathVariable @Min(value = 1, message = "Hotel ID must be positive") Long hotelId) {
+            @PathVariable @Min(value = 1, message = "Hotel ID must be positive") Long hotelId,
 
-        log.info("Fetching HRS bookings for hotel: {} at 2025-06-27 05:53:04 by arihants1", hotelId);
+            @Parameter(description = "Earliest check-in date (ISO yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
 
-        List<BookingDTO> bookings = bookingService.getBookingsByHotelId(hotelId);
+            @Parameter(description = "Latest check-in date (ISO yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+
+            @Parameter(description = "Page number (0-based)")
+            @RequestParam(defaultValue = "0")
+            @Min(value = 0, message = "Page number cannot be negative") int page,
+
+            @Parameter(description = "Page size (1-50)")
+            @RequestParam(defaultValue = "20")
+            @Min(value = 1, message = "Page size must be at least 1")
+            @Max(value = 50, message = "Page size cannot exceed 50") int size) {
+
+        log.info("Fetching HRS bookings for hotel: {} at 2025-06-27 05:53:04 by arihants1 - page: {}, size: {}",
+                hotelId, page, size);
+
+        Page<BookingDTO> bookings = bookingService.getBookingsByHotelId(hotelId, from, to, page, size);
 
         return ResponseEntity.ok(ApiResponse.success(bookings,
-                String.format("Found %d bookings for hotel", bookings.size())));
+                String.format("Found %d bookings for hotel (page %d of %d)",
+                        bookings.getTotalElements(), page + 1, bookings.getTotalPages())));
+    }
+
+    /**
+     * Get hotel occupancy calendar
+     */
+    @GetMapping("/hotel/{hotelId}/occupancy")
+    @Operation(summary = "Get hotel occupancy calendar",
+            description = "Rooms sold per night over the nights from..to (to exclusive; defaults to the next 365 nights, "
+                    + "at most 366), grouped by DAY, WEEK or MONTH. Served from the materialized occupancy ledger")
+    public ResponseEntity<ApiResponse<OccupancyCalendarDTO>> getHotelOccupancy(
+            @Parameter(description = "Hotel ID", required = true)
+            @PathVariable @Min(value = 1, message = "Hotel ID must be positive") Long hotelId,
+
+            @Parameter(description = "First night (ISO yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+
+            @Parameter(description = "Night after the last one (ISO yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+
+            @Parameter(description = "Bucket size: DAY, WEEK or MONTH")
+            @RequestParam(defaultValue = "DAY") OccupancyCalendarDTO.Granularity granularity) {
+
+        log.info("Fetching HRS occupancy for hotel: {} at 2025-06-27 05:53:04 by arihants1 - nights: {}..{}, granularity: {}",
+                hotelId, from, to, granularity);
+
+        OccupancyCalendarDTO occupancy = occupancyService.getOccupancyCalendar(hotelId, from, to, granularity);
+
+        return ResponseEntity.ok(ApiResponse.success(occupancy,
+                String.format("HRS occupancy for %d nights retrieved successfully",
+                        ChronoUnit.DAYS.between(occupancy.getFrom(), occupancy.getTo()))));
     }
 
     /**
@@ -223,6 +317,33 @@ public class BookingController {
                         bookings.getContent().size(), page + 1, bookings.getTotalPages())));
     }
 
+    /**
+     * Get bookings with keyset (cursor) pagination
+     */
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll HRS bookings",
+            description = "Retrieve all bookings newest first with cursor pagination. Pass nextCursor back as cursor for the next page; "
+                    + "every page costs the same however deep it is")
+    public ResponseEntity<ApiResponse<CursorPage<BookingDTO>>> scrollBookings(
+            @Parameter(description = "Cursor from the previous page (omit for the first page)")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Page size (1-50)")
+            @RequestParam(defaultValue = "20")
+            @Min(value = 1, message = "Page size must be at least 1")
+            @Max(value = 50, message = "Page size cannot exceed 50") int size,
+
+            @Parameter(description = "Include the total row count (costs an extra count query)")
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
+
+        log.info("Scrolling HRS bookings at 2025-06-27 05:53:04 by arihants1 - size: {}, includeTotal: {}", size, includeTotal);
+
+        CursorPage<BookingDTO> bookings = bookingService.scrollBookings(cursor, size, includeTotal);
+
+        return ResponseEntity.ok(ApiResponse.success(bookings,
+                String.format("Retrieved %d bookings", bookings.getContent().size())));
+    }
+
     /**
      * Get booking statistics summary
      */
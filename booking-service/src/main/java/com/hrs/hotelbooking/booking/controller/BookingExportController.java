@@ -0,0 +1,81 @@
+package com.hrs.hotelbooking.booking.controller;
+
+import com.hrs.hotelbooking.booking.dto.BookingExportCriteria;
+import com.hrs.hotelbooking.booking.service.BookingExportService;
+import com.hrs.hotelbooking.shared.dto.BookingStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+/**
+ * HRS Booking Export Controller
+ * Full booking extracts streamed as NDJSON or CSV, without the 50-row page limit of the listing endpoints
+ *
+ * @author arihants1
+ */
+@RestController
+@RequestMapping("/api/v1/bookings")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+@Tag(name = "HRS Booking Export API", description = "Streaming booking extracts for HRS booking system")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class BookingExportController {
+
+    private final BookingExportService exportService;
+
+    /**
+     * Stream bookings matching the filters
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Export HRS bookings",
+            description = "Stream all bookings matching the filters, ordered by check-in date, as NDJSON (default) or CSV. " +
+                    "Rows are written as they are read from the database, so extracts of any size use constant memory")
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+            @Parameter(description = "Output format: NDJSON or CSV")
+            @RequestParam(defaultValue = "NDJSON") BookingExportService.Format format,
+
+            @Parameter(description = "Earliest check-in date (ISO yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+
+            @Parameter(description = "Latest check-in date (ISO yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+
+            @Parameter(description = "Only bookings for this hotel")
+            @RequestParam(required = false) Long hotelId,
+
+            @Parameter(description = "Only bookings in this status")
+            @RequestParam(required = false) BookingStatus status) {
+
+        log.info("Exporting HRS bookings as {} at 2025-06-27 05:53:04 by arihants1 - check-in: {}..{}, hotel: {}, status: {}",
+                format, from, to, hotelId, status);
+
+        BookingExportCriteria criteria = BookingExportCriteria.builder()
+                .checkInFrom(from)
+                .checkInTo(to)
+                .hotelId(hotelId)
+                .status(status)
+                .build();
+        // Reject bad filters while an error response can still be sent
+        exportService.validateCriteria(criteria);
+
+        StreamingResponseBody body = out -> exportService.exportBookings(criteria, format, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"hrs-bookings." + format.getExtension() + "\"")
+                .body(body);
+    }
+}
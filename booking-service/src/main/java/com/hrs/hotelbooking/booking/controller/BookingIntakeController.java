@@ -0,0 +1,88 @@
+package com.hrs.hotelbooking.booking.controller;
+
+import com.hrs.hotelbooking.booking.dto.BookingIntakeDTO;
+import com.hrs.hotelbooking.booking.entity.BookingIntake;
+import com.hrs.hotelbooking.booking.service.BookingIntakeService;
+import com.hrs.hotelbooking.shared.dto.BookingDTO;
+import com.hrs.hotelbooking.shared.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+import java.net.URI;
+
+/**
+ * HRS Booking Intake Controller
+ * Asynchronous booking submission: 202 Accepted with a ticket, then poll or receive a callback
+ *
+ * @author arihants1
+ */
+@RestController
+@RequestMapping("/api/v1/bookings")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+@Tag(name = "HRS Booking Intake API", description = "Asynchronous booking submission for HRS booking system")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class BookingIntakeController {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final BookingIntakeService intakeService;
+
+    /**
+     * Queue a booking for asynchronous creation
+     */
+    @PostMapping("/async")
+    @Operation(summary = "Submit HRS booking asynchronously",
+            description = "Validate and queue a booking; returns 202 with a ticket to poll, " +
+                    "optionally POSTing the result to callbackUrl when done")
+    public ResponseEntity<ApiResponse<BookingIntakeDTO>> submitBooking(
+            @Parameter(description = "Booking information", required = true)
+            @Valid @RequestBody BookingDTO bookingDTO,
+
+            @Parameter(description = "URL that receives the final result")
+            @RequestParam(required = false) String callbackUrl) {
+
+        log.info("Submitting HRS booking asynchronously at 2025-06-27 05:53:04 by arihants1 for user: {} hotel: {}",
+                bookingDTO.getUserId(), bookingDTO.getHotelId());
+
+        BookingIntakeDTO intake = intakeService.submit(bookingDTO, callbackUrl);
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/bookings/intake/" + intake.getTicketId()))
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(ApiResponse.success(intake, "HRS booking accepted for processing"));
+    }
+
+    /**
+     * Get the state of an asynchronously submitted booking
+     */
+    @GetMapping("/intake/{ticketId}")
+    @Operation(summary = "Get HRS booking intake status",
+            description = "Poll a queued booking; the booking is included once it has been created")
+    public ResponseEntity<ApiResponse<BookingIntakeDTO>> getIntakeStatus(
+            @Parameter(description = "Ticket ID", required = true)
+            @PathVariable String ticketId) {
+
+        log.debug("Fetching HRS booking intake {} at 2025-06-27 05:53:04 by arihants1", ticketId);
+
+        BookingIntakeDTO intake = intakeService.getStatus(ticketId);
+        boolean pending = intake.getStatus() == BookingIntake.Status.QUEUED
+                || intake.getStatus() == BookingIntake.Status.PROCESSING;
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (pending) {
+            response.header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        }
+        return response.body(ApiResponse.success(intake,
+                "HRS booking intake " + intake.getStatus().name().toLowerCase()));
+    }
+}
@@ -0,0 +1,96 @@
+package com.hrs.hotelbooking.booking.controller;
+
+import com.hrs.hotelbooking.booking.dto.BookingRollupDTO;
+import com.hrs.hotelbooking.booking.service.BookingReportService;
+import com.hrs.hotelbooking.shared.dto.BookingStatus;
+import com.hrs.hotelbooking.shared.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * HRS Booking Report Controller
+ * Booking and revenue reports served from the daily booking rollups
+ *
+ * @author arihants1
+ */
+@RestController
+@RequestMapping("/api/v1/bookings/reports")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+@Tag(name = "HRS Booking Report API", description = "Daily booking and revenue rollups for HRS booking system")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class BookingReportController {
+
+    private final BookingReportService reportService;
+
+    /**
+     * Get booking rollups
+     */
+    @GetMapping("/rollups")
+    @Operation(summary = "Get HRS booking rollups",
+            description = "Bookings, room-nights, gross, taxes and fees of the bookings that moved into each status, " +
+                    "summed per DAY, HOTEL or CITY over the days from..to (inclusive; defaults to the last 30 days, " +
+                    "at most 731). Edits add their difference to the day they were made")
+    public ResponseEntity<ApiResponse<List<BookingRollupDTO>>> getRollups(
+            @Parameter(description = "Group rows by DAY, HOTEL or CITY")
+            @RequestParam(defaultValue = "DAY") BookingRollupDTO.GroupBy groupBy,
+
+            @Parameter(description = "First day (ISO yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+
+            @Parameter(description = "Last day (ISO yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+
+            @Parameter(description = "Only this hotel")
+            @RequestParam(required = false) Long hotelId,
+
+            @Parameter(description = "Only hotels in this city")
+            @RequestParam(required = false) String city,
+
+            @Parameter(description = "Only this status")
+            @RequestParam(required = false) BookingStatus status) {
+
+        log.info("Fetching HRS booking rollups by {} at 2025-06-27 05:53:04 by arihants1 - days: {}..{}",
+                groupBy, from, to);
+
+        List<BookingRollupDTO> rollups = reportService.getRollups(groupBy, from, to, hotelId, city, status);
+
+        return ResponseEntity.ok(ApiResponse.success(rollups,
+                String.format("Retrieved %d HRS booking rollup rows", rollups.size())));
+    }
+
+    /**
+     * Rebuild booking rollups from the bookings table
+     */
+    @PostMapping("/rollups/backfill")
+    @Operation(summary = "Backfill HRS booking rollups",
+            description = "Rebuild the rollups of the past days from..to (inclusive; defaults to the two years up to " +
+                    "yesterday, from the first day whose bookings are not archived) in the background by streaming the " +
+                    "bookings table in chunks. Days whose bookings may be archived are refused. Returns 202 once started")
+    public ResponseEntity<ApiResponse<Void>> backfillRollups(
+            @Parameter(description = "First day (ISO yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+
+            @Parameter(description = "Last day, before today (ISO yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        log.info("Starting HRS booking rollup backfill at 2025-06-27 05:53:04 by arihants1 - days: {}..{}", from, to);
+
+        reportService.startBackfill(from, to);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(null, "HRS booking rollup backfill started"));
+    }
+}
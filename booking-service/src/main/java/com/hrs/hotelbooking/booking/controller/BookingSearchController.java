@@ -76,6 +76,10 @@ public class BookingSearchController {
         return ResponseEntity.ok(results);
     }
 
+    /**
+     * @deprecated front desks subscribe to GET /api/v1/bookings/hotel/{hotelId}/events instead of polling this search
+     */
+    @Deprecated
     @GetMapping("/hotel/{hotelId}/upcoming")
     public ResponseEntity<Page<BookingSearchDocument>> getUpcomingHotelBookings(
             @PathVariable Long hotelId,
@@ -0,0 +1,49 @@
+package com.hrs.hotelbooking.booking.controller;
+
+import com.hrs.hotelbooking.booking.service.BookingStreamService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * HRS Booking Stream Controller
+ * Server-sent event streams of booking changes for hotel front desks
+ *
+ * @author arihants1
+ */
+@RestController
+@RequestMapping("/api/v1/bookings")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+@Tag(name = "HRS Booking Stream API", description = "Real-time booking events for HRS hotel front desks")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class BookingStreamController {
+
+    private final BookingStreamService bookingStreamService;
+
+    /**
+     * Stream a hotel's booking changes
+     */
+    @GetMapping(value = "/hotel/{hotelId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream HRS hotel booking events",
+            description = "Server-sent events: first a SNAPSHOT of the bookings checking in over the next days, then a "
+                    + "CREATED, UPDATED, CANCELLED, CHECKED_IN or CHECKED_OUT event for every committed change of the "
+                    + "hotel's bookings, carrying the booking's new state. Clients upsert by bookingId; after a reconnect "
+                    + "the new SNAPSHOT replaces the old one")
+    public SseEmitter streamHotelEvents(
+            @Parameter(description = "Hotel ID", required = true)
+            @PathVariable @Min(value = 1, message = "Hotel ID must be positive") Long hotelId) {
+
+        log.info("Opening HRS booking stream for hotel: {} at 2025-06-27 05:53:04 by arihants1", hotelId);
+
+        return bookingStreamService.openHotelStream(hotelId);
+    }
+}
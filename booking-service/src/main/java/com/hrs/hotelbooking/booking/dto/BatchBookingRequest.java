@@ -0,0 +1,28 @@
+package com.hrs.hotelbooking.booking.dto;
+
+import com.hrs.hotelbooking.shared.dto.BookingDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Group booking request for the HRS batch booking endpoint
+ * Items are validated individually by the service so one bad item does not reject the whole group
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchBookingRequest {
+
+    public static final int MAX_ITEMS = 200;
+
+    @NotEmpty(message = "At least one booking is required")
+    @Size(max = MAX_ITEMS, message = "A batch cannot contain more than 200 bookings")
+    private List<BookingDTO> bookings;
+}
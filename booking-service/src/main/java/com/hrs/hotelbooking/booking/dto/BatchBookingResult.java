@@ -0,0 +1,44 @@
+package com.hrs.hotelbooking.booking.dto;
+
+import com.hrs.hotelbooking.shared.dto.BookingDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Per-item outcome of an HRS batch booking, in request order
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchBookingResult {
+
+    private int requested;
+    private int created;
+    private int rejected;
+    private List<Item> items;
+
+    public boolean isAllCreated() {
+        return rejected == 0;
+    }
+
+    public enum ItemStatus {
+        CREATED,
+        REJECTED
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private int index;
+        private ItemStatus status;
+        private BookingDTO booking;
+        private String error;
+    }
+}
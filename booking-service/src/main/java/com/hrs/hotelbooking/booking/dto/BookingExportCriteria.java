@@ -0,0 +1,24 @@
+package com.hrs.hotelbooking.booking.dto;
+
+import com.hrs.hotelbooking.shared.dto.BookingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Filters for streaming booking exports; every field is optional
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingExportCriteria {
+
+    private LocalDate checkInFrom;
+    private LocalDate checkInTo;
+    private Long hotelId;
+    private BookingStatus status;
+}
@@ -0,0 +1,30 @@
+package com.hrs.hotelbooking.booking.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hrs.hotelbooking.booking.entity.BookingIntake;
+import com.hrs.hotelbooking.shared.dto.BookingDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Status of an asynchronously submitted HRS booking, as returned to pollers and callbacks
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BookingIntakeDTO {
+
+    private String ticketId;
+    private BookingIntake.Status status;
+    private Integer attempts;
+    private BookingDTO booking;
+    private String error;
+    private LocalDateTime submittedAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,37 @@
+package com.hrs.hotelbooking.booking.dto;
+
+import com.hrs.hotelbooking.shared.dto.BookingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * HRS booking rollup report row: bookings that moved into a status, summed per day, hotel or city
+ * (whichever the report groups by; the other dimensions are null)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingRollupDTO {
+
+    private LocalDate day;
+    private Long hotelId;
+    private String city;
+    private BookingStatus status;
+    private long bookings;
+    private long roomNights;
+    private BigDecimal grossAmount;
+    private BigDecimal taxesAmount;
+    private BigDecimal feesAmount;
+
+    public enum GroupBy {
+        DAY,
+        HOTEL,
+        CITY
+    }
+}
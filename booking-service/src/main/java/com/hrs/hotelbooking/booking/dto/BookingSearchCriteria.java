@@ -29,6 +29,7 @@ public class BookingSearchCriteria {
     private String hotelCity;
     private String hotelCountry;
     private List<String> roomTypes;
+    // Evaluated against today's date at query time, not stored in the index
     private Boolean isUpcoming;
     private Boolean isPast;
     private String paymentStatus;
@@ -0,0 +1,55 @@
+package com.hrs.hotelbooking.booking.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hrs.hotelbooking.booking.event.BookingChangedEvent;
+import com.hrs.hotelbooking.shared.dto.BookingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A committed HRS booking change as pushed to front-desk streams. Carries the booking's state after
+ * the change, so clients upsert by bookingId; previousHotelId is set when an edit moved it to another hotel
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BookingStreamEventDTO {
+
+    private BookingChangedEvent.Type type;
+    private Long bookingId;
+    private String bookingReference;
+    private Long hotelId;
+    private Long previousHotelId;
+    private Long userId;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private Integer numberOfRooms;
+    private BookingStatus status;
+    private LocalDateTime occurredAt;
+
+    public static BookingStreamEventDTO of(BookingChangedEvent event) {
+        BookingChangedEvent.Stay current = event.current();
+        BookingChangedEvent.Stay previous = event.previous();
+        return BookingStreamEventDTO.builder()
+                .type(event.type())
+                .bookingId(current.bookingId())
+                .bookingReference(current.bookingReference())
+                .hotelId(current.hotelId())
+                .previousHotelId(previous != null && !previous.hotelId().equals(current.hotelId())
+                        ? previous.hotelId() : null)
+                .userId(current.userId())
+                .checkInDate(current.checkInDate())
+                .checkOutDate(current.checkOutDate())
+                .numberOfRooms(current.numberOfRooms())
+                .status(current.status())
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.hrs.hotelbooking.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * HRS hotel occupancy over the nights [from, to), grouped into buckets of the requested granularity
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OccupancyCalendarDTO {
+
+    private Long hotelId;
+    private LocalDate from;
+    private LocalDate to;
+    private Granularity granularity;
+    private long roomNightsSold;
+    private int peakRoomsSold;
+    private LocalDate peakNight;
+    private List<Bucket> buckets;
+
+    public enum Granularity {
+        DAY,
+        WEEK,
+        MONTH
+    }
+
+    /**
+     * Nights [from, to) of one day, week (from the range start) or calendar month
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        private LocalDate from;
+        private LocalDate to;
+        private long roomNightsSold;
+        private double averageRoomsSold;
+    }
+}
@@ -25,7 +25,6 @@ import java.time.LocalDateTime;
         @Index(name = "idx_booking_hotel", columnList = "hotel_id"),
         @Index(name = "idx_booking_dates", columnList = "check_in_date, check_out_date"),
         @Index(name = "idx_booking_status", columnList = "status"),
-        @Index(name = "idx_booking_reference", columnList = "booking_reference"),
         @Index(name = "idx_booking_created", columnList = "created_at"),
         @Index(name = "idx_booking_user_status", columnList = "user_id, status"),
         @Index(name = "idx_booking_hotel_dates", columnList = "hotel_id, check_in_date, check_out_date")
@@ -36,8 +35,14 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Booking {
 
+    /**
+     * Longest stay that can be booked; also bounds overlap queries by check-in date for partition pruning
+     */
+    public static final int MAX_NIGHTS = 30;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_id_seq")
+    @SequenceGenerator(name = "booking_id_seq", sequenceName = "bookings_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -83,10 +88,11 @@ public class Booking {
     @Builder.Default
     private BookingStatus status = BookingStatus.CONFIRMED;
 
-    @Column(name = "booking_reference", length = 50, unique = true, nullable = false)
+    // Unique across all partitions through the booking_keys table
+    @Column(name = "booking_reference", length = 50, nullable = false)
     private String bookingReference;
 
-    @Column(name = "confirmation_number", length = 50, unique = true)
+    @Column(name = "confirmation_number", length = 50)
     private String confirmationNumber;
 
     @Column(name = "special_requests", columnDefinition = "TEXT")
@@ -0,0 +1,95 @@
+package com.hrs.hotelbooking.booking.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * HRS Booking Intake Entity
+ * Durable queue entry for a booking request accepted asynchronously (202 + ticket)
+ * The request payload is kept as JSON until a worker turns it into a booking
+ *
+ * @author arihants1
+ */
+@Entity
+@Table(name = "booking_intake", indexes = {
+        @Index(name = "idx_booking_intake_ticket", columnList = "ticket_id", unique = true),
+        @Index(name = "idx_booking_intake_status", columnList = "status, id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingIntake {
+
+    public enum Status {
+        QUEUED,
+        PROCESSING,
+        COMPLETED,
+        FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "ticket_id", length = 36, nullable = false, unique = true)
+    private String ticketId;
+
+    @Column(name = "payload", columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    @Builder.Default
+    private Status status = Status.QUEUED;
+
+    @Column(name = "callback_url", length = 500)
+    private String callbackUrl;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "booking_id")
+    private Long bookingId;
+
+    @Column(name = "booking_reference", length = 50)
+    private String bookingReference;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        LocalDateTime now = LocalDateTime.now();
+        createdAt = now;
+        updatedAt = now;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+}
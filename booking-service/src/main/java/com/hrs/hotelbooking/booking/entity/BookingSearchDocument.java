@@ -122,12 +122,6 @@ public class BookingSearchDocument {
     @Field(type = FieldType.Boolean)
     private Boolean isActive;
 
-    @Field(type = FieldType.Boolean)
-    private Boolean isUpcoming;
-
-    @Field(type = FieldType.Boolean)
-    private Boolean isPast;
-
     @Field(type = FieldType.Keyword)
     private List<String> tags;
 
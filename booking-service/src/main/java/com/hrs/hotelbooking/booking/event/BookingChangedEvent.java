@@ -0,0 +1,49 @@
+package com.hrs.hotelbooking.booking.event;
+
+import com.hrs.hotelbooking.booking.entity.Booking;
+import com.hrs.hotelbooking.shared.dto.BookingStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * HRS Booking Changed Event
+ * Published by the booking service for every booking write. Listeners that keep derived state
+ * (in-memory indexes, rollups) react with @TransactionalEventListener, so they only see committed changes.
+ * previous is the stay before an update and null for every other type
+ *
+ * @author arihants1
+ */
+public record BookingChangedEvent(Type type, Stay previous, Stay current) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        CANCELLED,
+        CHECKED_IN,
+        CHECKED_OUT
+    }
+
+    public static BookingChangedEvent of(Type type, Booking booking) {
+        return new BookingChangedEvent(type, null, Stay.of(booking));
+    }
+
+    public static BookingChangedEvent updated(Stay previous, Booking booking) {
+        return new BookingChangedEvent(Type.UPDATED, previous, Stay.of(booking));
+    }
+
+    /**
+     * Immutable copy of the booking columns derived state is built from; the entity itself keeps changing
+     */
+    public record Stay(Long bookingId, String bookingReference, Long hotelId, Long userId,
+                       LocalDate checkInDate, LocalDate checkOutDate, int numberOfRooms, BookingStatus status,
+                       BigDecimal totalAmount, BigDecimal taxesAmount, BigDecimal feesAmount) {
+
+        public static Stay of(Booking booking) {
+            return new Stay(booking.getId(), booking.getBookingReference(), booking.getHotelId(), booking.getUserId(),
+                    booking.getCheckInDate(), booking.getCheckOutDate(),
+                    booking.getNumberOfRooms() != null ? booking.getNumberOfRooms() : 0, booking.getStatus(),
+                    booking.getTotalAmount(), booking.getTaxesAmount(), booking.getFeesAmount());
+        }
+    }
+}
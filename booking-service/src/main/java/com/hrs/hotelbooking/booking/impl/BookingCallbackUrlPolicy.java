@@ -0,0 +1,117 @@
+package com.hrs.hotelbooking.booking.service.impl;
+
+import com.hrs.hotelbooking.shared.exception.BusinessValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * HRS Booking Callback URL Policy
+ * Decides which intake callback URLs booking-service may POST to. The host must be on the configured
+ * allowlist (an exact host, or "*.partner.com" for its subdomains; empty disables callbacks) and every
+ * address it resolves to must be public, so a callback can never reach loopback, private, link-local
+ * (cloud metadata) or other internal addresses. Checked when the request is queued and again right
+ * before the callback is sent, since the DNS answer can change in between.
+ *
+ * @author arihants1
+ */
+@Component
+@Slf4j
+public class BookingCallbackUrlPolicy {
+
+    private static final int MAX_LENGTH = 500;
+
+    private final List<String> allowedHosts;
+
+    public BookingCallbackUrlPolicy(@Value("${hrs.booking.intake.callback-allowed-hosts:}") List<String> allowedHosts) {
+        this.allowedHosts = allowedHosts.stream()
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .map(host -> host.toLowerCase(Locale.ROOT))
+                .toList();
+    }
+
+    /**
+     * Reject a callback URL booking-service must not call
+     */
+    public void validate(String callbackUrl) {
+        if (callbackUrl.length() > MAX_LENGTH) {
+            throw new BusinessValidationException("Callback URL cannot exceed 500 characters");
+        }
+
+        URI uri;
+        try {
+            uri = URI.create(callbackUrl);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessValidationException("Callback URL is not a valid URL");
+        }
+        if (!"http".equalsIgnoreCase(uri.getScheme()) && !"https".equalsIgnoreCase(uri.getScheme())
+                || uri.getHost() == null) {
+            throw new BusinessValidationException("Callback URL must be an absolute http(s) URL");
+        }
+
+        String host = uri.getHost().toLowerCase(Locale.ROOT);
+        if (!isAllowedHost(host)) {
+            throw new BusinessValidationException("Callback URL host is not allowed: " + host);
+        }
+
+        InetAddress[] addresses;
+        try {
+            addresses = resolve(host);
+        } catch (UnknownHostException e) {
+            throw new BusinessValidationException("Callback URL host cannot be resolved: " + host);
+        }
+        for (InetAddress address : addresses) {
+            if (isInternal(address)) {
+                throw new BusinessValidationException("Callback URL must not point to an internal address: " + host);
+            }
+        }
+    }
+
+    /**
+     * Whether a stored callback URL may still be called
+     */
+    public boolean isAllowed(String callbackUrl) {
+        try {
+            validate(callbackUrl);
+            return true;
+        } catch (BusinessValidationException e) {
+            log.warn("HRS booking intake callback to {} refused: {}", callbackUrl, e.getMessage());
+            return false;
+        }
+    }
+
+    protected InetAddress[] resolve(String host) throws UnknownHostException {
+        return InetAddress.getAllByName(host);
+    }
+
+    private boolean isAllowedHost(String host) {
+        return allowedHosts.stream().anyMatch(allowed -> allowed.startsWith("*.")
+                ? host.endsWith(allowed.substring(1))
+                : host.equals(allowed));
+    }
+
+    private static boolean isInternal(InetAddress address) {
+        if (address.isAnyLocalAddress() || address.isLoopbackAddress() || address.isLinkLocalAddress()
+                || address.isSiteLocalAddress() || address.isMulticastAddress()) {
+            return true;
+        }
+        byte[] bytes = address.getAddress();
+        if (address instanceof Inet4Address) {
+            int first = bytes[0] & 0xff;
+            int second = bytes[1] & 0xff;
+            // 0.0.0.0/8 "this network", 100.64.0.0/10 carrier-grade NAT
+            return first == 0 || first == 100 && (second & 0xc0) == 64;
+        }
+        // fc00::/7 unique local
+        return (bytes[0] & 0xfe) == 0xfc;
+    }
+}
@@ -5,7 +5,6 @@ import com.hrs.hotelbooking.booking.entity.BookingSearchDocument;
 import com.hrs.hotelbooking.shared.dto.BookingStatus;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
@@ -29,9 +28,6 @@ public class BookingElasticsearchMapper {
         boolean isActive = booking.getStatus() == BookingStatus.CONFIRMED ||
                           booking.getStatus() == BookingStatus.CHECKED_IN;
 
-        boolean isUpcoming = booking.getCheckInDate() != null && booking.getCheckInDate().isAfter(LocalDate.now());
-        boolean isPast = booking.getCheckOutDate() != null && booking.getCheckOutDate().isBefore(LocalDate.now());
-
         // Generate tags for faceted search
         List<String> tags = new ArrayList<>();
         if (booking.getNumberOfGuests() > 2) tags.add("group");
@@ -76,8 +72,6 @@ public class BookingElasticsearchMapper {
                 .updatedAt(booking.getUpdatedAt())
                 .stayDuration(stayDuration)
                 .isActive(isActive)
-                .isUpcoming(isUpcoming)
-                .isPast(isPast)
                 .tags(tags)
                 .searchableText(searchText.toString())
                 .build();
@@ -0,0 +1,282 @@
+package com.hrs.hotelbooking.booking.service.impl;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrs.hotelbooking.booking.dto.BookingExportCriteria;
+import com.hrs.hotelbooking.booking.service.BookingExportService;
+import com.hrs.hotelbooking.shared.exception.BusinessValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * HRS Booking Export Service Implementation
+ * Streams booking extracts through a server-side cursor: the query runs in a read-only transaction
+ * (PostgreSQL only honours the fetch size with autocommit off), rows arrive fetch-size at a time and
+ * each one is written to the response before the next is read. Heap use stays flat whatever the
+ * size of the extract, and the database runs one query instead of one OFFSET query per page.
+ *
+ * @author arihants1
+ */
+@Service
+@Slf4j
+public class BookingExportServiceImpl implements BookingExportService {
+
+    /**
+     * Exported columns in output order; guest contact details are deliberately left out
+     */
+    static final List<Column> COLUMNS = List.of(
+            new Column("id", Type.LONG),
+            new Column("booking_reference", Type.TEXT),
+            new Column("confirmation_number", Type.TEXT),
+            new Column("user_id", Type.LONG),
+            new Column("hotel_id", Type.LONG),
+            new Column("room_type", Type.TEXT),
+            new Column("check_in_date", Type.DATE),
+            new Column("check_out_date", Type.DATE),
+            new Column("number_of_rooms", Type.LONG),
+            new Column("number_of_guests", Type.LONG),
+            new Column("base_amount", Type.DECIMAL),
+            new Column("taxes_amount", Type.DECIMAL),
+            new Column("fees_amount", Type.DECIMAL),
+            new Column("discount_amount", Type.DECIMAL),
+            new Column("total_amount", Type.DECIMAL),
+            new Column("status", Type.TEXT),
+            new Column("payment_status", Type.TEXT),
+            new Column("payment_method", Type.TEXT),
+            new Column("created_at", Type.TIMESTAMP),
+            new Column("cancelled_at", Type.TIMESTAMP));
+
+    private static final String SELECT = COLUMNS.stream().map(Column::name)
+            .collect(Collectors.joining(", ", "SELECT ", " FROM bookings WHERE 1 = 1"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JsonFactory jsonFactory;
+    private final int fetchSize;
+
+    public BookingExportServiceImpl(DataSource dataSource,
+                                    ObjectMapper objectMapper,
+                                    @Value("${hrs.booking.export.fetch-size:1000}") int fetchSize) {
+        // Own template so the cursor fetch size applies to exports only
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.jsonFactory = objectMapper.getFactory();
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void validateCriteria(BookingExportCriteria criteria) {
+        if (criteria.getCheckInFrom() != null && criteria.getCheckInTo() != null
+                && criteria.getCheckInTo().isBefore(criteria.getCheckInFrom())) {
+            throw new BusinessValidationException("Check-in end date cannot be before start date");
+        }
+        if (criteria.getHotelId() != null && criteria.getHotelId() <= 0) {
+            throw new BusinessValidationException("Invalid hotel ID provided");
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportBookings(BookingExportCriteria criteria, Format format, OutputStream out) {
+        log.info("Exporting HRS bookings as {} at 2025-06-27 05:47:04 - criteria: {}", format, criteria);
+
+        validateCriteria(criteria);
+
+        List<Object> args = new ArrayList<>();
+        String sql = buildQuery(criteria, args);
+        long[] rows = {0};
+
+        try (RowWriter writer = format == Format.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(jsonFactory, out)) {
+            writer.writeHeader();
+            jdbcTemplate.query(sql, resultSet -> {
+                try {
+                    writer.writeRow(resultSet);
+                    // Push each fetched batch to the client instead of buffering it
+                    if (++rows[0] % fetchSize == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    // Client went away: abort the query and release the cursor
+                    throw new UncheckedIOException(e);
+                }
+            }, args.toArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        log.info("Exported {} HRS bookings as {} at 2025-06-27 05:47:04", rows[0], format);
+        return rows[0];
+    }
+
+    private String buildQuery(BookingExportCriteria criteria, List<Object> args) {
+        StringBuilder sql = new StringBuilder(SELECT);
+        if (criteria.getCheckInFrom() != null) {
+            sql.append(" AND check_in_date >= ?");
+            args.add(criteria.getCheckInFrom());
+        }
+        if (criteria.getCheckInTo() != null) {
+            sql.append(" AND check_in_date <= ?");
+            args.add(criteria.getCheckInTo());
+        }
+        if (criteria.getHotelId() != null) {
+            sql.append(" AND hotel_id = ?");
+            args.add(criteria.getHotelId());
+        }
+        if (criteria.getStatus() != null) {
+            sql.append(" AND status = ?");
+            args.add(criteria.getStatus().name());
+        }
+        return sql.append(" ORDER BY check_in_date, id").toString();
+    }
+
+    enum Type {
+        LONG, DECIMAL, TEXT, DATE, TIMESTAMP
+    }
+
+    record Column(String name, Type type) {
+
+        Object read(ResultSet resultSet, int index) throws SQLException {
+            Object value = switch (type) {
+                case LONG -> resultSet.getLong(index);
+                case DECIMAL -> resultSet.getBigDecimal(index);
+                case TEXT -> resultSet.getString(index);
+                case DATE -> resultSet.getObject(index, LocalDate.class);
+                case TIMESTAMP -> resultSet.getObject(index, OffsetDateTime.class);
+            };
+            return resultSet.wasNull() ? null : value;
+        }
+    }
+
+    private interface RowWriter extends Closeable {
+
+        void writeHeader() throws IOException;
+
+        void writeRow(ResultSet resultSet) throws SQLException, IOException;
+
+        void flush() throws IOException;
+    }
+
+    /**
+     * One JSON object per line, written with the streaming generator (no per-row tree or map)
+     */
+    private static final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(JsonFactory jsonFactory, OutputStream out) throws IOException {
+            this.generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Rows are newline-terminated below; no extra separator between root values
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void writeHeader() {
+        }
+
+        @Override
+        public void writeRow(ResultSet resultSet) throws SQLException, IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < COLUMNS.size(); i++) {
+                Column column = COLUMNS.get(i);
+                Object value = column.read(resultSet, i + 1);
+                if (value == null) {
+                    generator.writeNullField(column.name());
+                } else if (value instanceof Long number) {
+                    generator.writeNumberField(column.name(), number);
+                } else if (value instanceof BigDecimal amount) {
+                    generator.writeNumberField(column.name(), amount);
+                } else {
+                    generator.writeStringField(column.name(), value.toString());
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    /**
+     * RFC 4180 CSV with a header row; fields are quoted only when they need it
+     */
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream out) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        }
+
+        @Override
+        public void writeHeader() throws IOException {
+            writer.write(COLUMNS.stream().map(Column::name).collect(Collectors.joining(",")));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void writeRow(ResultSet resultSet) throws SQLException, IOException {
+            for (int i = 0; i < COLUMNS.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = COLUMNS.get(i).read(resultSet, i + 1);
+                if (value != null) {
+                    writeField(value.toString());
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        private void writeField(String field) throws IOException {
+            if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+                writer.write(field);
+                return;
+            }
+            writer.write('"');
+            writer.write(field.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            // Leave the response stream open; the container closes it
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.hrs.hotelbooking.booking.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrs.hotelbooking.booking.dto.BookingIntakeDTO;
+import com.hrs.hotelbooking.booking.entity.BookingIntake;
+import com.hrs.hotelbooking.booking.repository.BookingIntakeRepository;
+import com.hrs.hotelbooking.booking.service.BookingIntakeService;
+import com.hrs.hotelbooking.booking.service.BookingService;
+import com.hrs.hotelbooking.shared.dto.BookingDTO;
+import com.hrs.hotelbooking.shared.exception.BusinessValidationException;
+import com.hrs.hotelbooking.shared.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * HRS Booking Intake Service Implementation
+ * Keeps the request path to validation plus one INSERT so connection hold time stays short;
+ * the expensive booking creation runs later on the intake workers
+ *
+ * @author arihants1
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class BookingIntakeServiceImpl implements BookingIntakeService {
+
+    private final BookingIntakeRepository intakeRepository;
+    private final BookingService bookingService;
+    private final ObjectMapper objectMapper;
+    private final BookingCallbackUrlPolicy callbackUrlPolicy;
+
+    @Value("${hrs.booking.intake.max-attempts:3}")
+    private int maxAttempts = 3;
+
+    @Override
+    @Transactional
+    public BookingIntakeDTO submit(BookingDTO bookingDTO, String callbackUrl) {
+        log.info("Queueing HRS booking at 2025-06-27 05:47:04 for user: {} hotel: {}",
+                bookingDTO.getUserId(), bookingDTO.getHotelId());
+
+        bookingService.validateBooking(bookingDTO);
+        if (StringUtils.hasText(callbackUrl)) {
+            callbackUrlPolicy.validate(callbackUrl);
+        }
+
+        BookingIntake intake = BookingIntake.builder()
+                .ticketId(UUID.randomUUID().toString())
+                .payload(writePayload(bookingDTO))
+                .callbackUrl(StringUtils.hasText(callbackUrl) ? callbackUrl : null)
+                .build();
+
+        BookingIntake savedIntake = intakeRepository.save(intake);
+        log.info("HRS booking queued with ticket: {} at 2025-06-27 05:47:04", savedIntake.getTicketId());
+
+        return toDto(savedIntake, null);
+    }
+
+    @Override
+    public BookingIntakeDTO getStatus(String ticketId) {
+        if (!StringUtils.hasText(ticketId)) {
+            throw new BusinessValidationException("Ticket ID cannot be empty");
+        }
+
+        BookingIntake intake = intakeRepository.findByTicketId(ticketId)
+                .orElseThrow(() -> new ResourceNotFoundException("HRS Booking intake", "ticketId", ticketId));
+
+        BookingDTO booking = intake.getStatus() == BookingIntake.Status.COMPLETED
+                ? bookingService.getBookingById(intake.getBookingId())
+                : null;
+
+        return toDto(intake, booking);
+    }
+
+    @Override
+    @Transactional
+    public List<BookingIntake> claimNext(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        List<BookingIntake> claimed = intakeRepository.lockNextQueued(limit);
+        LocalDateTime now = LocalDateTime.now();
+        for (BookingIntake intake : claimed) {
+            intake.setStatus(BookingIntake.Status.PROCESSING);
+            intake.setAttempts(intake.getAttempts() + 1);
+            intake.setStartedAt(now);
+        }
+
+        if (!claimed.isEmpty()) {
+            log.debug("Claimed {} HRS booking intake entries at 2025-06-27 05:47:04", claimed.size());
+        }
+        return claimed;
+    }
+
+    @Override
+    @Transactional
+    public BookingIntakeDTO process(Long intakeId, int attempt) {
+        // Row-locks the entry until commit, so requeueStale cannot hand it to a second worker meanwhile
+        if (intakeRepository.lockClaim(intakeId, attempt) == 0) {
+            log.warn("HRS booking intake {} attempt {} was requeued or finished elsewhere, skipping",
+                    intakeId, attempt);
+            return null;
+        }
+        BookingIntake intake = findIntake(intakeId);
+
+        // Booking and intake update commit together, so a crash never leaves a booking
+        // behind an entry that will be processed again
+        BookingDTO booking = bookingService.createBooking(readPayload(intake.getPayload()));
+
+        LocalDateTime completedAt = LocalDateTime.now();
+        if (intakeRepository.markCompleted(intakeId, attempt, booking.getId(), booking.getBookingReference(),
+                completedAt) == 0) {
+            throw new IllegalStateException("HRS booking intake " + intake.getTicketId() + " lost its claim");
+        }
+        intake.setStatus(BookingIntake.Status.COMPLETED);
+        intake.setBookingId(booking.getId());
+        intake.setBookingReference(booking.getBookingReference());
+        intake.setErrorMessage(null);
+        intake.setCompletedAt(completedAt);
+
+        log.info("Processed HRS booking intake {} into booking {} at 2025-06-27 05:47:04",
+                intake.getTicketId(), booking.getBookingReference());
+
+        return toDto(intake, booking);
+    }
+
+    @Override
+    @Transactional
+    public BookingIntakeDTO markFailed(Long intakeId, int attempt, String error, boolean retryable) {
+        BookingIntake intake = findIntake(intakeId);
+        boolean requeue = retryable && attempt < maxAttempts;
+        BookingIntake.Status status = requeue ? BookingIntake.Status.QUEUED : BookingIntake.Status.FAILED;
+        LocalDateTime completedAt = requeue ? null : LocalDateTime.now();
+
+        if (intakeRepository.markFailed(intakeId, attempt, status, error, completedAt) == 0) {
+            log.warn("HRS booking intake {} attempt {} was requeued or finished elsewhere, failure not recorded: {}",
+                    intake.getTicketId(), attempt, error);
+            return null;
+        }
+        intake.setStatus(status);
+        intake.setErrorMessage(error);
+        intake.setCompletedAt(completedAt);
+
+        if (requeue) {
+            log.warn("HRS booking intake {} failed on attempt {}, queued again: {}",
+                    intake.getTicketId(), attempt, error);
+        } else {
+            log.warn("HRS booking intake {} failed: {}", intake.getTicketId(), error);
+        }
+
+        return toDto(intake, null);
+    }
+
+    @Override
+    @Transactional
+    public int requeueStale(Duration staleAfter) {
+        int requeued = intakeRepository.requeueStale(LocalDateTime.now().minus(staleAfter));
+        if (requeued > 0) {
+            log.warn("Requeued {} stale HRS booking intake entries at 2025-06-27 05:47:04", requeued);
+        }
+        return requeued;
+    }
+
+    private BookingIntake findIntake(Long intakeId) {
+        return intakeRepository.findById(intakeId)
+                .orElseThrow(() -> new ResourceNotFoundException("HRS Booking intake", "id", intakeId));
+    }
+
+    private String writePayload(BookingDTO bookingDTO) {
+        try {
+            return objectMapper.writeValueAsString(bookingDTO);
+        } catch (JsonProcessingException e) {
+            throw new BusinessValidationException("Booking request could not be queued: " + e.getOriginalMessage());
+        }
+    }
+
+    private BookingDTO readPayload(String payload) {
+        try {
+            // BookingDTO serializes derived getters (isUpcoming, getFormattedAmount...) that have no setter
+            return objectMapper.readerFor(BookingDTO.class)
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValue(payload);
+        } catch (JsonProcessingException e) {
+            throw new BusinessValidationException("Queued booking request is unreadable: " + e.getOriginalMessage());
+        }
+    }
+
+    private BookingIntakeDTO toDto(BookingIntake intake, BookingDTO booking) {
+        return BookingIntakeDTO.builder()
+                .ticketId(intake.getTicketId())
+                .status(intake.getStatus())
+                .attempts(intake.getAttempts())
+                .booking(booking)
+                .error(intake.getErrorMessage())
+                .submittedAt(intake.getCreatedAt())
+                .completedAt(intake.getCompletedAt())
+                .build();
+    }
+}
@@ -0,0 +1,182 @@
+package com.hrs.hotelbooking.booking.service.impl;
+
+import com.hrs.hotelbooking.booking.dto.BookingIntakeDTO;
+import com.hrs.hotelbooking.booking.entity.BookingIntake;
+import com.hrs.hotelbooking.booking.service.BookingIntakeService;
+import com.hrs.hotelbooking.shared.exception.BusinessValidationException;
+import com.hrs.hotelbooking.shared.response.ApiResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HRS Booking Intake Worker
+ * Drains the booking intake queue with a fixed number of workers, so at most that many
+ * connections are spent on booking creation however large the burst in front of it
+ * Finished entries are pushed to their callback URL, if one was given and still passes the
+ * BookingCallbackUrlPolicy; the host is resolved again here because its DNS answer may have changed
+ *
+ * @author arihants1
+ */
+@Component
+@ConditionalOnProperty(prefix = "hrs.booking.intake", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class BookingIntakeWorker {
+
+    private final BookingIntakeService intakeService;
+    private final BookingCallbackUrlPolicy callbackUrlPolicy;
+    private final RestTemplate callbackClient;
+    private final MeterRegistry meterRegistry;
+    private final int workers;
+    private final Duration staleAfter;
+    private final ThreadPoolExecutor executor;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public BookingIntakeWorker(BookingIntakeService intakeService,
+                               BookingCallbackUrlPolicy callbackUrlPolicy,
+                               RestTemplateBuilder restTemplateBuilder,
+                               MeterRegistry meterRegistry,
+                               @Value("${hrs.booking.intake.workers:4}") int workers,
+                               @Value("${hrs.booking.intake.stale-after-seconds:300}") long staleAfterSeconds,
+                               @Value("${hrs.booking.intake.callback-timeout-ms:3000}") long callbackTimeoutMs) {
+        this.intakeService = intakeService;
+        this.callbackUrlPolicy = callbackUrlPolicy;
+        this.meterRegistry = meterRegistry;
+        this.workers = workers;
+        this.staleAfter = Duration.ofSeconds(staleAfterSeconds);
+        // HttpURLConnection never follows redirects for a POST, so an allowed host cannot bounce the callback
+        // on to an internal one
+        this.callbackClient = restTemplateBuilder
+                .requestFactory(SimpleClientHttpRequestFactory.class)
+                .setConnectTimeout(Duration.ofMillis(callbackTimeoutMs))
+                .setReadTimeout(Duration.ofMillis(callbackTimeoutMs))
+                .build();
+        // Never holds more than `workers` queued tasks because drain() only claims free capacity
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workers), new CustomizableThreadFactory("hrs-booking-intake-"));
+
+        Gauge.builder("hrs.booking.intake.in_flight", inFlight, AtomicInteger::get)
+                .description("HRS booking intake entries being processed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Claim as many queued entries as there are idle workers
+     */
+    @Scheduled(fixedDelayString = "${hrs.booking.intake.poll-interval-ms:250}")
+    public void drain() {
+        int capacity = workers - inFlight.get();
+        if (capacity <= 0) {
+            return;
+        }
+
+        List<BookingIntake> claimed;
+        try {
+            claimed = intakeService.claimNext(capacity);
+        } catch (RuntimeException e) {
+            log.warn("Could not claim HRS booking intake entries: {}", e.getMessage());
+            return;
+        }
+
+        for (BookingIntake intake : claimed) {
+            inFlight.incrementAndGet();
+            executor.execute(() -> {
+                try {
+                    handle(intake);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    /**
+     * Recover entries whose worker stopped before finishing (restart, crash)
+     */
+    @Scheduled(fixedDelayString = "${hrs.booking.intake.stale-check-interval-ms:60000}")
+    public void recoverStale() {
+        try {
+            intakeService.requeueStale(staleAfter);
+        } catch (RuntimeException e) {
+            log.warn("Could not requeue stale HRS booking intake entries: {}", e.getMessage());
+        }
+    }
+
+    void handle(BookingIntake intake) {
+        BookingIntakeDTO result;
+        try {
+            result = intakeService.process(intake.getId(), intake.getAttempts());
+        } catch (BusinessValidationException e) {
+            result = fail(intake, e.getMessage(), false);
+        } catch (RuntimeException e) {
+            log.error("HRS booking intake {} could not be processed", intake.getTicketId(), e);
+            result = fail(intake, "Booking could not be processed, please retry", true);
+        }
+
+        if (result == null) {
+            return;
+        }
+        meterRegistry.counter("hrs.booking.intake.processed", "outcome", result.getStatus().name().toLowerCase())
+                .increment();
+
+        if (intake.getCallbackUrl() != null && isFinished(result)) {
+            notifyCallback(intake.getCallbackUrl(), result);
+        }
+    }
+
+    private BookingIntakeDTO fail(BookingIntake intake, String error, boolean retryable) {
+        try {
+            return intakeService.markFailed(intake.getId(), intake.getAttempts(), error, retryable);
+        } catch (RuntimeException e) {
+            // Left in PROCESSING; recoverStale() puts it back on the queue
+            log.error("Could not record failure for HRS booking intake {}", intake.getTicketId(), e);
+            return null;
+        }
+    }
+
+    private boolean isFinished(BookingIntakeDTO result) {
+        return result.getStatus() == BookingIntake.Status.COMPLETED || result.getStatus() == BookingIntake.Status.FAILED;
+    }
+
+    private void notifyCallback(String callbackUrl, BookingIntakeDTO result) {
+        if (!callbackUrlPolicy.isAllowed(callbackUrl)) {
+            meterRegistry.counter("hrs.booking.intake.callback.refused").increment();
+            return;
+        }
+        try {
+            callbackClient.postForEntity(callbackUrl,
+                    ApiResponse.success(result, "HRS booking intake " + result.getStatus().name().toLowerCase()),
+                    Void.class);
+        } catch (RestClientException e) {
+            meterRegistry.counter("hrs.booking.intake.callback.failed").increment();
+            log.warn("HRS booking intake callback to {} failed for ticket {}: {}",
+                    callbackUrl, result.getTicketId(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("HRS booking intake workers did not finish in time; unfinished entries will be requeued");
+            executor.shutdownNow();
+        }
+    }
+}
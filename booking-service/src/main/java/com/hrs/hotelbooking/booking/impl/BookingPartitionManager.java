@@ -0,0 +1,110 @@
+package com.hrs.hotelbooking.booking.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * HRS Booking Partition Manager
+ * Keeps the check-in partitions of the bookings table ahead of the booking horizon and archives old ones.
+ * Runs at startup and then daily; the work is done by the hrs_ensure_booking_partitions and
+ * hrs_archive_booking_partitions functions in init.sql, under a transaction-scoped advisory lock so
+ * only one instance maintains partitions at a time.
+ *
+ * @author arihants1
+ */
+@Component
+@ConditionalOnProperty(prefix = "hrs.booking.partitioning", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class BookingPartitionManager {
+
+    /**
+     * Advisory lock key shared by all booking-service instances ("HRSBKPRT")
+     */
+    static final long MAINTENANCE_LOCK_KEY = 0x4852_5342_4B50_5254L;
+
+    /**
+     * Bookings open at most a year ahead (see BookingServiceImpl#validateBookingDates)
+     */
+    private static final int BOOKING_HORIZON_MONTHS = 12;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final String archiveSchema;
+
+    public BookingPartitionManager(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${hrs.booking.partitioning.months-ahead:15}") int monthsAhead,
+                                   @Value("${hrs.booking.partitioning.retention-months:24}") int retentionMonths,
+                                   @Value("${hrs.booking.partitioning.archive-schema:hrs_archive}") String archiveSchema) {
+        if (monthsAhead <= BOOKING_HORIZON_MONTHS) {
+            throw new IllegalArgumentException("hrs.booking.partitioning.months-ahead must exceed the "
+                    + BOOKING_HORIZON_MONTHS + "-month booking horizon");
+        }
+        if (retentionMonths < 2) {
+            throw new IllegalArgumentException("hrs.booking.partitioning.retention-months must be at least 2");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.archiveSchema = archiveSchema;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${hrs.booking.partitioning.cron:0 15 3 * * *}")
+    public void maintain() {
+        try {
+            maintain(LocalDate.now());
+        } catch (DataAccessException e) {
+            // Partitions are kept three months beyond the horizon, so a failed run is retried before it matters
+            log.error("HRS booking partition maintenance failed at 2025-06-27 05:47:04: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Create missing partitions from last month to monthsAhead and archive months older than retentionMonths.
+     * Returns false when another instance holds the maintenance lock
+     */
+    boolean maintain(LocalDate today) {
+        LocalDate thisMonth = today.withDayOfMonth(1);
+
+        Boolean done = transactionTemplate.execute(status -> {
+            Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)",
+                    Boolean.class, MAINTENANCE_LOCK_KEY);
+            if (!Boolean.TRUE.equals(locked)) {
+                log.debug("HRS booking partition maintenance already running on another instance");
+                return false;
+            }
+
+            List<String> created = jdbcTemplate.queryForList("SELECT hrs_ensure_booking_partitions(?, ?)",
+                    String.class, thisMonth.minusMonths(1), thisMonth.plusMonths(monthsAhead));
+            List<String> archived = jdbcTemplate.queryForList("SELECT hrs_archive_booking_partitions(?, ?)",
+                    String.class, thisMonth.minusMonths(retentionMonths), archiveSchema);
+
+            if (!created.isEmpty() || !archived.isEmpty()) {
+                log.info("HRS booking partitions at 2025-06-27 05:47:04 - created: {}, archived to {}: {}",
+                        created, archiveSchema, archived);
+            }
+            return true;
+        });
+        return Boolean.TRUE.equals(done);
+    }
+}
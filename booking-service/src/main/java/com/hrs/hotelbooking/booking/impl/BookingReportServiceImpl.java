@@ -0,0 +1,91 @@
+package com.hrs.hotelbooking.booking.service.impl;
+
+import com.hrs.hotelbooking.booking.dto.BookingRollupDTO;
+import com.hrs.hotelbooking.booking.rollup.BookingRollupBackfill;
+import com.hrs.hotelbooking.booking.rollup.BookingRollupStore;
+import com.hrs.hotelbooking.booking.service.BookingReportService;
+import com.hrs.hotelbooking.shared.dto.BookingStatus;
+import com.hrs.hotelbooking.shared.exception.BusinessValidationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * HRS Booking Report Service Implementation
+ * Reports sum at most one rollup row per day, hotel and status instead of scanning bookings
+ *
+ * @author arihants1
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class BookingReportServiceImpl implements BookingReportService {
+
+    static final int DEFAULT_REPORT_DAYS = 30;
+    static final int MAX_REPORT_DAYS = 731;
+    static final int DEFAULT_BACKFILL_DAYS = 730;
+
+    private final BookingRollupStore rollupStore;
+    private final BookingRollupBackfill rollupBackfill;
+
+    @Override
+    public List<BookingRollupDTO> getRollups(BookingRollupDTO.GroupBy groupBy, LocalDate from, LocalDate to,
+                                             Long hotelId, String city, BookingStatus status) {
+        log.info("Fetching HRS booking rollups at 2025-06-27 05:47:04 - by: {}, days: {}..{}, hotel: {}, city: {}, status: {}",
+                groupBy, from, to, hotelId, city, status);
+
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_REPORT_DAYS - 1);
+        validateDays(start, end);
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_REPORT_DAYS) {
+            throw new BusinessValidationException(
+                    String.format("Report window cannot exceed %d days", MAX_REPORT_DAYS));
+        }
+        if (hotelId != null && hotelId <= 0) {
+            throw new BusinessValidationException("Invalid hotel ID provided");
+        }
+
+        return rollupStore.report(groupBy != null ? groupBy : BookingRollupDTO.GroupBy.DAY, start, end, hotelId,
+                StringUtils.hasText(city) ? city.trim() : null, status);
+    }
+
+    @Override
+    public void startBackfill(LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now();
+        LocalDate end = to != null ? to : today.minusDays(1);
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_BACKFILL_DAYS - 1);
+        validateDays(start, end);
+        if (!end.isBefore(today)) {
+            // Today's rows are written by every booking as it commits; rebuilding them would race those writes
+            throw new BusinessValidationException("Rollup backfill can only rebuild days before today");
+        }
+        // Days with archived bookings would be cleared and never refilled: the default window stops short
+        // of them, an explicit one is refused
+        LocalDate earliest = rollupBackfill.earliestRebuildableDay(today);
+        if (from == null && start.isBefore(earliest)) {
+            start = earliest;
+        }
+        if (start.isBefore(earliest) || end.isBefore(start)) {
+            throw new BusinessValidationException(String.format(
+                    "Rollup backfill cannot rebuild days before %s: older bookings are archived", earliest));
+        }
+
+        if (!rollupBackfill.start(start, end)) {
+            throw new BusinessValidationException("HRS rollup backfill is already running");
+        }
+        log.info("HRS booking rollup backfill of {}..{} queued at 2025-06-27 05:47:04", start, end);
+    }
+
+    private static void validateDays(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new BusinessValidationException("Window end date cannot be before start date");
+        }
+    }
+}
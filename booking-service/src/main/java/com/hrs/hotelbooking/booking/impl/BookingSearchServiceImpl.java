@@ -1,5 +1,7 @@
 package com.hrs.hotelbooking.booking.impl;
 
+import com.hrs.hotelbooking.booking.availability.BookedInterval;
+import com.hrs.hotelbooking.booking.availability.BookingIntervalIndex;
 import com.hrs.hotelbooking.booking.dto.BookingSearchCriteria;
 import com.hrs.hotelbooking.booking.entity.Booking;
 import com.hrs.hotelbooking.booking.entity.BookingSearchDocument;
@@ -34,6 +36,7 @@ public class BookingSearchServiceImpl implements BookingSearchService {
     private final BookingRepository bookingRepository;
     private final BookingElasticsearchMapper bookingMapper;
     private final ElasticsearchOperations elasticsearchOperations;
+    private final BookingIntervalIndex bookingIntervalIndex;
 
     @Override
     public Page<BookingSearchDocument> searchBookings(String query, Pageable pageable) {
@@ -79,13 +82,26 @@ public class BookingSearchServiceImpl implements BookingSearchService {
     @Override
     public Page<BookingSearchDocument> getUpcomingHotelBookings(Long hotelId, Pageable pageable) {
         log.debug("Getting upcoming bookings for hotel: {}", hotelId);
-        return bookingSearchRepository.findByHotelIdAndIsUpcomingTrue(hotelId, pageable);
+        return bookingSearchRepository.findByHotelIdAndCheckInDateAfter(hotelId, LocalDate.now(), pageable);
     }
 
     @Override
     public List<BookingSearchDocument> findOverlappingBookings(Long hotelId, LocalDate checkIn, LocalDate checkOut) {
         log.debug("Finding overlapping bookings for hotel {} between {} and {}", hotelId, checkIn, checkOut);
-        return bookingSearchRepository.findOverlappingBookings(hotelId, checkIn, checkOut);
+
+        // Inside the interval index window the overlap is known in memory; only the documents are fetched
+        Optional<List<BookedInterval>> overlapping = bookingIntervalIndex.overlapping(hotelId, checkIn, checkOut);
+        if (overlapping.isEmpty()) {
+            return bookingSearchRepository.findOverlappingBookings(hotelId, checkIn, checkOut);
+        }
+        if (overlapping.get().isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = overlapping.get().stream().map(BookedInterval::bookingId).toList();
+        List<BookingSearchDocument> documents = new ArrayList<>(ids.size());
+        bookingSearchRepository.findAllById(ids).forEach(documents::add);
+        return documents;
     }
 
     @Override
@@ -206,12 +222,19 @@ public class BookingSearchServiceImpl implements BookingSearchService {
             baseCriteria = baseCriteria.and("roomType").in(criteria.getRoomTypes());
         }
 
+        // Temporal flags are date ranges against today, so indexed documents never go stale
+        LocalDate today = LocalDate.now();
+
         if (criteria.getIsUpcoming() != null) {
-            baseCriteria = baseCriteria.and("isUpcoming").is(criteria.getIsUpcoming());
+            baseCriteria = criteria.getIsUpcoming()
+                    ? baseCriteria.and("checkInDate").greaterThan(today)
+                    : baseCriteria.and("checkInDate").lessThanEqual(today);
         }
 
         if (criteria.getIsPast() != null) {
-            baseCriteria = baseCriteria.and("isPast").is(criteria.getIsPast());
+            baseCriteria = criteria.getIsPast()
+                    ? baseCriteria.and("checkOutDate").lessThan(today)
+                    : baseCriteria.and("checkOutDate").greaterThanEqual(today);
         }
 
         if (criteria.getPaymentStatus() != null) {
@@ -1,29 +1,53 @@
 package com.hrs.hotelbooking.booking.service.impl;
 
+import com.hrs.hotelbooking.booking.availability.BookedInterval;
+import com.hrs.hotelbooking.booking.availability.BookingIntervalIndex;
+import com.hrs.hotelbooking.booking.dto.BatchBookingRequest;
+import com.hrs.hotelbooking.booking.dto.BatchBookingResult;
 import com.hrs.hotelbooking.booking.entity.Booking;
+import com.hrs.hotelbooking.booking.event.BookingChangedEvent;
 import com.hrs.hotelbooking.booking.mapper.BookingMapper;
+import com.hrs.hotelbooking.booking.pricing.PricingEngine;
 import com.hrs.hotelbooking.booking.repository.BookingRepository;
+import com.hrs.hotelbooking.booking.repository.BookingSummary;
 import com.hrs.hotelbooking.booking.service.BookingService;
 import com.hrs.hotelbooking.shared.dto.BookingDTO;
 import com.hrs.hotelbooking.shared.dto.BookingStatus;
 import com.hrs.hotelbooking.shared.exception.ResourceNotFoundException;
 import com.hrs.hotelbooking.shared.exception.BusinessValidationException;
+import com.hrs.hotelbooking.shared.money.Money;
+import com.hrs.hotelbooking.shared.pagination.CursorPage;
+import com.hrs.hotelbooking.shared.pagination.PageCursor;
+import com.hrs.hotelbooking.shared.retry.RetryOnConflict;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * HRS Booking Service Implementation - Essential Features Only
@@ -41,15 +65,22 @@ public class BookingServiceImpl implements BookingService {
 
     private final BookingRepository bookingRepository;
     private final BookingMapper bookingMapper;
+    private final BookingStateMachine bookingStateMachine;
+    private final PricingEngine pricingEngine;
+    private final BookingIntervalIndex bookingIntervalIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final String CURRENT_USER = "arihants1";
-    private static final BigDecimal TAX_RATE = new BigDecimal("0.10"); // 10% tax
-    private static final BigDecimal SERVICE_FEE_RATE = new BigDecimal("0.05"); // 5% service fee
+    private static final long TAX_RATE_BASIS_POINTS = 1_000; // 10% tax
+    private static final long SERVICE_FEE_RATE_BASIS_POINTS = 500; // 5% service fee
+    private static final long HISTORY_DEFAULT_WINDOW_DAYS = 365;
+    private static final long HISTORY_MAX_WINDOW_DAYS = 2 * HISTORY_DEFAULT_WINDOW_DAYS + 1;
+    private static final int MAX_IDENTIFIER_ROUNDS = 5;
     private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
 
     @Override
     @Transactional
-    @CacheEvict(value = {"bookings", "userBookings"}, allEntries = true)
+    @CacheEvict(value = {"bookings", "userBookings", "hotelBookings"}, allEntries = true)
     public BookingDTO createBooking(BookingDTO bookingDTO) {
         log.info("Creating HRS booking at 2025-06-27 05:47:04 by {} for user: {} hotel: {}",
                 CURRENT_USER, bookingDTO.getUserId(), bookingDTO.getHotelId());
@@ -65,7 +96,7 @@ public class BookingServiceImpl implements BookingService {
         String bookingReference = generateBookingReference();
         String confirmationNumber = generateConfirmationNumber();
 
-        // Calculate simple pricing
+        // Calculate pricing
         calculatePricing(bookingDTO);
 
         // Create booking entity
@@ -79,6 +110,7 @@ public class BookingServiceImpl implements BookingService {
         setDefaultGuestInfo(booking, bookingDTO);
 
         Booking savedBooking = bookingRepository.save(booking);
+        eventPublisher.publishEvent(BookingChangedEvent.of(BookingChangedEvent.Type.CREATED, savedBooking));
 
         BookingDTO result = bookingMapper.toDto(savedBooking);
         log.info("Successfully created HRS booking with reference: {} at 2025-06-27 05:47:04", bookingReference);
@@ -86,6 +118,107 @@ public class BookingServiceImpl implements BookingService {
         return result;
     }
 
+    @Override
+    public void validateBooking(BookingDTO bookingDTO) {
+        validateBookingDto(bookingDTO);
+        validateBookingDates(bookingDTO.getCheckInDate(), bookingDTO.getCheckOutDate());
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(value = {"bookings", "userBookings", "hotelBookings"}, allEntries = true)
+    public BatchBookingResult createBookings(List<BookingDTO> bookingDTOs) {
+        if (bookingDTOs == null || bookingDTOs.isEmpty()) {
+            throw new BusinessValidationException("At least one booking is required");
+        }
+        if (bookingDTOs.size() > BatchBookingRequest.MAX_ITEMS) {
+            throw new BusinessValidationException(
+                    "A batch cannot contain more than " + BatchBookingRequest.MAX_ITEMS + " bookings");
+        }
+
+        log.info("Creating HRS batch of {} bookings at 2025-06-27 05:47:04 by {}", bookingDTOs.size(), CURRENT_USER);
+
+        BatchBookingResult.Item[] items = new BatchBookingResult.Item[bookingDTOs.size()];
+        List<Integer> accepted = new ArrayList<>();
+
+        // Per-item validation; one bad item must not reject the rest of the group
+        for (int i = 0; i < bookingDTOs.size(); i++) {
+            BookingDTO bookingDTO = bookingDTOs.get(i);
+            try {
+                validateBooking(bookingDTO);
+                accepted.add(i);
+            } catch (BusinessValidationException e) {
+                items[i] = rejectedItem(i, bookingDTO, e.getMessage());
+            }
+        }
+
+        // One set-based duplicate check against existing bookings. Overlaps inside the batch are
+        // the point of a group booking (several rooms for the same user and stay), so only the
+        // database is checked
+        List<Integer> toCreate = new ArrayList<>();
+        Map<String, List<Booking>> existing = findOverlapCandidates(bookingDTOs, accepted);
+        for (Integer index : accepted) {
+            BookingDTO bookingDTO = bookingDTOs.get(index);
+            Booking duplicate = findOverlap(existing, bookingDTO);
+            if (duplicate != null) {
+                items[index] = rejectedItem(index, bookingDTO,
+                        "You already have a booking for this hotel with overlapping dates. Reference: " +
+                                duplicate.getBookingReference());
+            } else {
+                toCreate.add(index);
+            }
+        }
+
+        if (!toCreate.isEmpty()) {
+            String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMATTER);
+            String day = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+            List<String> references = generateUniqueIdentifiers(toCreate.size(),
+                    () -> "HRS_" + timestamp + "_" + String.format("%04d", (int)(Math.random() * 10000)),
+                    bookingRepository::findExistingBookingReferences);
+            List<String> confirmationNumbers = generateUniqueIdentifiers(toCreate.size(),
+                    () -> "CONF" + day + String.format("%06d", (int)(Math.random() * 1000000)),
+                    bookingRepository::findExistingConfirmationNumbers);
+
+            List<Booking> bookings = new ArrayList<>(toCreate.size());
+            for (int k = 0; k < toCreate.size(); k++) {
+                BookingDTO bookingDTO = bookingDTOs.get(toCreate.get(k));
+                calculatePricing(bookingDTO);
+
+                Booking booking = bookingMapper.toEntity(bookingDTO);
+                booking.setBookingReference(references.get(k));
+                booking.setConfirmationNumber(confirmationNumbers.get(k));
+                booking.setStatus(BookingStatus.CONFIRMED);
+                booking.setPaymentStatus("PENDING");
+                setDefaultGuestInfo(booking, bookingDTO);
+                bookings.add(booking);
+            }
+
+            // Pooled sequence ids let Hibernate send these as JDBC batches
+            List<Booking> savedBookings = bookingRepository.saveAll(bookings);
+            for (int k = 0; k < toCreate.size(); k++) {
+                int index = toCreate.get(k);
+                eventPublisher.publishEvent(BookingChangedEvent.of(BookingChangedEvent.Type.CREATED, savedBookings.get(k)));
+                items[index] = BatchBookingResult.Item.builder()
+                        .index(index)
+                        .status(BatchBookingResult.ItemStatus.CREATED)
+                        .booking(bookingMapper.toDto(savedBookings.get(k)))
+                        .build();
+            }
+        }
+
+        BatchBookingResult result = BatchBookingResult.builder()
+                .requested(bookingDTOs.size())
+                .created(toCreate.size())
+                .rejected(bookingDTOs.size() - toCreate.size())
+                .items(List.of(items))
+                .build();
+
+        log.info("Created {} of {} HRS batch bookings at 2025-06-27 05:47:04",
+                result.getCreated(), result.getRequested());
+
+        return result;
+    }
+
     @Override
     @Cacheable(value = "bookings", key = "#id")
     public BookingDTO getBookingById(Long id) {
@@ -120,7 +253,8 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     @Transactional
-    @CacheEvict(value = {"bookings", "userBookings"}, allEntries = true)
+    @CacheEvict(value = {"bookings", "userBookings", "hotelBookings"}, allEntries = true)
+    @RetryOnConflict
     public BookingDTO updateBooking(Long id, BookingDTO bookingDTO) {
         log.info("Updating HRS booking with ID: {} at 2025-06-27 05:47:04 by {}", id, CURRENT_USER);
 
@@ -134,17 +268,15 @@ public class BookingServiceImpl implements BookingService {
             throw new BusinessValidationException("Booking cannot be modified in current status");
         }
 
-        // Validate new booking data if dates are being changed
-        if (bookingDTO.getCheckInDate() != null && bookingDTO.getCheckOutDate() != null) {
-            validateBookingDates(bookingDTO.getCheckInDate(), bookingDTO.getCheckOutDate());
-        }
-
-        // Check for duplicate bookings if dates changed
+        // Dates changed: validate and check the stay as it will be, which a partial update only half describes
         if (datesChanged(existingBooking, bookingDTO)) {
+            mergeStay(existingBooking, bookingDTO);
+            validateBookingDates(bookingDTO.getCheckInDate(), bookingDTO.getCheckOutDate());
             checkDuplicateBookings(bookingDTO, id);
         }
 
         // Update fields using mapper
+        BookingChangedEvent.Stay previous = BookingChangedEvent.Stay.of(existingBooking);
         bookingMapper.updateEntityFromDto(existingBooking, bookingDTO);
 
         // Recalculate pricing if needed
@@ -153,6 +285,7 @@ public class BookingServiceImpl implements BookingService {
         }
 
         Booking updatedBooking = bookingRepository.save(existingBooking);
+        eventPublisher.publishEvent(BookingChangedEvent.updated(previous, updatedBooking));
         BookingDTO result = bookingMapper.toDto(updatedBooking);
 
         log.info("Successfully updated HRS booking: {} at 2025-06-27 05:47:04", result.getBookingReference());
@@ -162,27 +295,18 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     @Transactional
-    @CacheEvict(value = {"bookings", "userBookings"}, allEntries = true)
+    @CacheEvict(value = {"bookings", "userBookings", "hotelBookings"}, allEntries = true)
     public BookingDTO cancelBooking(Long id) {
         log.info("Cancelling HRS booking with ID: {} at 2025-06-27 05:47:04 by {}", id, CURRENT_USER);
 
         validateBookingId(id);
 
-        Booking booking = bookingRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("HRS Booking", "id", id));
+        // Single guarded UPDATE ... RETURNING; the status check cannot race with another transition
+        BookingStateMachine.TransitionResult transition =
+                bookingStateMachine.cancel(id, CURRENT_USER, "Customer request");
+        Booking cancelledBooking = requireApplied(transition, id, "Booking cannot be cancelled in current status");
+        eventPublisher.publishEvent(BookingChangedEvent.of(BookingChangedEvent.Type.CANCELLED, cancelledBooking));
 
-        // Validate that booking can be cancelled
-        if (!booking.isCancellable()) {
-            throw new BusinessValidationException("Booking cannot be cancelled in current status");
-        }
-
-        // Update booking status
-        booking.setStatus(BookingStatus.CANCELLED);
-        booking.setCancelledAt(LocalDateTime.now());
-        booking.setCancelledBy(CURRENT_USER);
-        booking.setCancellationReason("Customer request");
-
-        Booking cancelledBooking = bookingRepository.save(booking);
         BookingDTO result = bookingMapper.toDto(cancelledBooking);
 
         log.info("Successfully cancelled HRS booking: {} at 2025-06-27 05:47:04", result.getBookingReference());
@@ -191,58 +315,62 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
-    @Cacheable(value = "userBookings", key = "#userId")
-    public List<BookingDTO> getBookingsByUserId(Long userId) {
-        log.info("Fetching HRS bookings for user: {} at 2025-06-27 05:47:04 by {}", userId, CURRENT_USER);
+    @Cacheable(value = "userBookings", key = "#userId + ':' + #from + ':' + #to + ':' + #size", condition = "#page == 0")
+    public Page<BookingDTO> getBookingsByUserId(Long userId, LocalDate from, LocalDate to, int page, int size) {
+        log.info("Fetching HRS bookings for user: {} at 2025-06-27 05:47:04 by {} - window: {}..{}, page: {}, size: {}",
+                userId, CURRENT_USER, from, to, page, size);
 
         validateUserId(userId);
+        validatePaginationParameters(page, size);
+        LocalDate[] window = resolveHistoryWindow(from, to);
 
-        List<Booking> bookings = bookingRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        List<BookingDTO> result = bookingMapper.toDtoList(bookings);
+        // Latest stays first; only the first page is cached, deeper pages always hit the index
+        Pageable pageable = PageRequest.of(page, size,
+                Sort.by(Sort.Direction.DESC, "checkInDate").and(Sort.by(Sort.Direction.DESC, "id")));
+        Page<BookingDTO> result = bookingRepository
+                .findByUserIdAndCheckInDateBetween(userId, window[0], window[1], pageable)
+                .map(bookingMapper::toSummaryDto);
 
-        log.debug("Found {} HRS bookings for user {} at 2025-06-27 05:47:04", result.size(), userId);
+        log.debug("Found {} of {} HRS bookings for user {} at 2025-06-27 05:47:04",
+                result.getNumberOfElements(), result.getTotalElements(), userId);
 
         return result;
     }
 
     @Override
-    public List<BookingDTO> getBookingsByHotelId(Long hotelId) {
-        log.info("Fetching HRS bookings for hotel: {} at 2025-06-27 05:47:04 by {}", hotelId, CURRENT_USER);
+    @Cacheable(value = "hotelBookings", key = "#hotelId + ':' + #from + ':' + #to + ':' + #size", condition = "#page == 0")
+    public Page<BookingDTO> getBookingsByHotelId(Long hotelId, LocalDate from, LocalDate to, int page, int size) {
+        log.info("Fetching HRS bookings for hotel: {} at 2025-06-27 05:47:04 by {} - window: {}..{}, page: {}, size: {}",
+                hotelId, CURRENT_USER, from, to, page, size);
 
         validateHotelId(hotelId);
+        validatePaginationParameters(page, size);
+        LocalDate[] window = resolveHistoryWindow(from, to);
 
-        List<Booking> bookings = bookingRepository.findByHotelIdOrderByCheckInDateAsc(hotelId);
-        List<BookingDTO> result = bookingMapper.toDtoList(bookings);
+        // Arrivals in check-in order, served straight from idx_booking_hotel_dates
+        Pageable pageable = PageRequest.of(page, size,
+                Sort.by(Sort.Direction.ASC, "checkInDate").and(Sort.by(Sort.Direction.ASC, "id")));
+        Page<BookingDTO> result = bookingRepository
+                .findByHotelIdAndCheckInDateBetween(hotelId, window[0], window[1], pageable)
+                .map(bookingMapper::toSummaryDto);
 
-        log.debug("Found {} HRS bookings for hotel {} at 2025-06-27 05:47:04", result.size(), hotelId);
+        log.debug("Found {} of {} HRS bookings for hotel {} at 2025-06-27 05:47:04",
+                result.getNumberOfElements(), result.getTotalElements(), hotelId);
 
         return result;
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = {"bookings", "userBookings"}, allEntries = true)
+    @CacheEvict(value = {"bookings", "userBookings", "hotelBookings"}, allEntries = true)
     public BookingDTO checkInGuest(Long bookingId) {
         log.info("Checking in guest for HRS booking: {} at 2025-06-27 05:47:04 by {}", bookingId, CURRENT_USER);
 
-        Booking booking = bookingRepository.findById(bookingId)
-                .orElseThrow(() -> new ResourceNotFoundException("HRS Booking", "id", bookingId));
-
-        // Validate check-in is allowed
-        if (booking.getStatus() != BookingStatus.CONFIRMED) {
-            throw new BusinessValidationException("Only confirmed bookings can be checked in");
-        }
-
-        // Check if check-in date is today or past
-        LocalDate today = LocalDate.now();
-        if (booking.getCheckInDate().isAfter(today)) {
-            throw new BusinessValidationException("Cannot check in before check-in date");
-        }
-
-        booking.setStatus(BookingStatus.CHECKED_IN);
-        booking.setCheckedInAt(LocalDateTime.now());
+        // Only confirmed bookings whose check-in date is today or past
+        BookingStateMachine.TransitionResult transition = bookingStateMachine.checkIn(bookingId, LocalDate.now());
+        Booking checkedInBooking = requireApplied(transition, bookingId, "Only confirmed bookings can be checked in");
+        eventPublisher.publishEvent(BookingChangedEvent.of(BookingChangedEvent.Type.CHECKED_IN, checkedInBooking));
 
-        Booking checkedInBooking = bookingRepository.save(booking);
         BookingDTO result = bookingMapper.toDto(checkedInBooking);
 
         log.info("Successfully checked in guest for booking: {} at 2025-06-27 05:47:04", result.getBookingReference());
@@ -252,22 +380,14 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     @Transactional
-    @CacheEvict(value = {"bookings", "userBookings"}, allEntries = true)
+    @CacheEvict(value = {"bookings", "userBookings", "hotelBookings"}, allEntries = true)
     public BookingDTO checkOutGuest(Long bookingId) {
         log.info("Checking out guest for HRS booking: {} at 2025-06-27 05:47:04 by {}", bookingId, CURRENT_USER);
 
-        Booking booking = bookingRepository.findById(bookingId)
-                .orElseThrow(() -> new ResourceNotFoundException("HRS Booking", "id", bookingId));
+        BookingStateMachine.TransitionResult transition = bookingStateMachine.checkOut(bookingId);
+        Booking checkedOutBooking = requireApplied(transition, bookingId, "Only checked-in bookings can be checked out");
+        eventPublisher.publishEvent(BookingChangedEvent.of(BookingChangedEvent.Type.CHECKED_OUT, checkedOutBooking));
 
-        // Validate check-out is allowed
-        if (booking.getStatus() != BookingStatus.CHECKED_IN) {
-            throw new BusinessValidationException("Only checked-in bookings can be checked out");
-        }
-
-        booking.setStatus(BookingStatus.CHECKED_OUT);
-        booking.setCheckedOutAt(LocalDateTime.now());
-
-        Booking checkedOutBooking = bookingRepository.save(booking);
         BookingDTO result = bookingMapper.toDto(checkedOutBooking);
 
         log.info("Successfully checked out guest for booking: {} at 2025-06-27 05:47:04", result.getBookingReference());
@@ -282,14 +402,32 @@ public class BookingServiceImpl implements BookingService {
         validatePaginationParameters(page, size);
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<Booking> bookingsPage = bookingRepository.findAll(pageable);
+        Page<BookingSummary> bookingsPage = bookingRepository.findAllBy(pageable);
 
-        Page<BookingDTO> result = bookingsPage.map(bookingMapper::toDto);
+        Page<BookingDTO> result = bookingsPage.map(bookingMapper::toSummaryDto);
         log.debug("Retrieved {} HRS bookings at 2025-06-27 05:47:04", result.getContent().size());
 
         return result;
     }
 
+    @Override
+    public CursorPage<BookingDTO> scrollBookings(String cursor, int size, boolean includeTotal) {
+        log.info("Scrolling HRS bookings at 2025-06-27 05:47:04 by {} - size: {}, includeTotal: {}",
+                CURRENT_USER, size, includeTotal);
+
+        validatePaginationParameters(0, size);
+
+        // One extra row tells whether another page follows, without a count
+        PageCursor after = PageCursor.decode(cursor);
+        List<BookingSummary> bookings = after == null
+                ? bookingRepository.findAllByOrderByCreatedAtDescIdDesc(PageRequest.of(0, size + 1))
+                : bookingRepository.findPageAfter(after.createdAt(), after.id(), size + 1);
+
+        return CursorPage.of(bookings, size, bookingMapper::toSummaryDto,
+                booking -> new PageCursor(booking.getCreatedAt(), booking.getId()),
+                includeTotal ? bookingRepository.count() : null);
+    }
+
     // Private helper methods
     private String generateBookingReference() {
         String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMATTER);
@@ -325,36 +463,26 @@ public class BookingServiceImpl implements BookingService {
     }
 
     private void calculatePricing(BookingDTO bookingDTO) {
-        // Simple pricing calculation
-        BigDecimal basePrice = new BigDecimal("100.00"); // Default base price per night per room
-        long nights = java.time.temporal.ChronoUnit.DAYS.between(
-                bookingDTO.getCheckInDate(), bookingDTO.getCheckOutDate());
-
-        BigDecimal baseAmount = basePrice
-                .multiply(BigDecimal.valueOf(nights))
-                .multiply(BigDecimal.valueOf(bookingDTO.getNumberOfRooms()));
+        // Hotel nightly rate x room type x weekend/season multipliers, from the in-memory rate table
+        Money baseAmount = pricingEngine.baseAmount(bookingDTO.getHotelId(), bookingDTO.getRoomType(),
+                bookingDTO.getCheckInDate(), bookingDTO.getCheckOutDate(), bookingDTO.getNumberOfRooms());
 
         // Apply discount if any
-        BigDecimal discountAmount = bookingDTO.getDiscountAmount() != null ?
-                bookingDTO.getDiscountAmount() : BigDecimal.ZERO;
-
-        if (discountAmount.compareTo(BigDecimal.ZERO) > 0) {
-            baseAmount = baseAmount.subtract(discountAmount);
-            if (baseAmount.compareTo(BigDecimal.ZERO) < 0) {
-                baseAmount = BigDecimal.ZERO;
-            }
+        Money discountAmount = Money.ofNullable(bookingDTO.getDiscountAmount());
+        if (discountAmount.isPositive()) {
+            baseAmount = baseAmount.minus(discountAmount).atLeastZero();
         }
 
-        // Calculate taxes and fees
-        BigDecimal taxesAmount = baseAmount.multiply(TAX_RATE);
-        BigDecimal feesAmount = baseAmount.multiply(SERVICE_FEE_RATE);
-        BigDecimal totalAmount = baseAmount.add(taxesAmount).add(feesAmount);
+        // Calculate taxes and fees in minor units, rounded half up to the cent
+        Money taxesAmount = baseAmount.timesBasisPoints(TAX_RATE_BASIS_POINTS);
+        Money feesAmount = baseAmount.timesBasisPoints(SERVICE_FEE_RATE_BASIS_POINTS);
+        Money totalAmount = baseAmount.plus(taxesAmount).plus(feesAmount);
 
         // Set calculated amounts
-        bookingDTO.setBaseAmount(baseAmount);
-        bookingDTO.setTaxesAmount(taxesAmount);
-        bookingDTO.setFeesAmount(feesAmount);
-        bookingDTO.setTotalAmount(totalAmount);
+        bookingDTO.setBaseAmount(baseAmount.toBigDecimal());
+        bookingDTO.setTaxesAmount(taxesAmount.toBigDecimal());
+        bookingDTO.setFeesAmount(feesAmount.toBigDecimal());
+        bookingDTO.setTotalAmount(totalAmount.toBigDecimal());
 
         log.debug("Calculated booking pricing at 2025-06-27 05:47:04 - Base: {}, Taxes: {}, Fees: {}, Total: {}",
                 baseAmount, taxesAmount, feesAmount, totalAmount);
@@ -362,6 +490,8 @@ public class BookingServiceImpl implements BookingService {
 
     private void recalculatePricing(Booking booking) {
         BookingDTO tempDto = BookingDTO.builder()
+                .hotelId(booking.getHotelId())
+                .roomType(booking.getRoomType())
                 .checkInDate(booking.getCheckInDate())
                 .checkOutDate(booking.getCheckOutDate())
                 .numberOfRooms(booking.getNumberOfRooms())
@@ -398,18 +528,124 @@ public class BookingServiceImpl implements BookingService {
     }
 
     private void checkDuplicateBookings(BookingDTO bookingDTO, Long excludeId) {
-        List<Booking> duplicates = bookingRepository.findDuplicateBookings(
-                bookingDTO.getUserId(),
-                bookingDTO.getHotelId(),
-                bookingDTO.getCheckInDate(),
-                bookingDTO.getCheckOutDate(),
-                excludeId
-        );
-
-        if (!duplicates.isEmpty()) {
+        // The interval index answers for the next weeks of the hotel; other ranges go to the database
+        Optional<List<BookedInterval>> overlapping = bookingIntervalIndex.overlapping(
+                bookingDTO.getHotelId(), bookingDTO.getCheckInDate(), bookingDTO.getCheckOutDate());
+        List<String> duplicateReferences = overlapping.isPresent()
+                ? overlapping.get().stream()
+                        .filter(stay -> stay.userId().equals(bookingDTO.getUserId()))
+                        .filter(stay -> !stay.bookingId().equals(excludeId))
+                        .map(BookedInterval::bookingReference)
+                        .toList()
+                : bookingRepository.findDuplicateBookings(
+                                bookingDTO.getUserId(),
+                                bookingDTO.getHotelId(),
+                                bookingDTO.getCheckInDate(),
+                                bookingDTO.getCheckOutDate(),
+                                excludeId
+                        ).stream()
+                        .map(Booking::getBookingReference)
+                        .toList();
+
+        if (!duplicateReferences.isEmpty()) {
             throw new BusinessValidationException(
                     "You already have a booking for this hotel with overlapping dates. Reference: " +
-                            duplicates.get(0).getBookingReference());
+                            duplicateReferences.get(0));
+        }
+    }
+
+    private Map<String, List<Booking>> findOverlapCandidates(List<BookingDTO> bookingDTOs, List<Integer> indexes) {
+        if (indexes.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<BookingDTO> candidates = indexes.stream().map(bookingDTOs::get).toList();
+        Set<Long> userIds = candidates.stream().map(BookingDTO::getUserId).collect(Collectors.toSet());
+        Set<Long> hotelIds = candidates.stream().map(BookingDTO::getHotelId).collect(Collectors.toSet());
+        LocalDate minCheckIn = candidates.stream().map(BookingDTO::getCheckInDate)
+                .min(Comparator.naturalOrder()).orElseThrow();
+        LocalDate maxCheckOut = candidates.stream().map(BookingDTO::getCheckOutDate)
+                .max(Comparator.naturalOrder()).orElseThrow();
+
+        return bookingRepository.findOverlapCandidates(userIds, hotelIds, minCheckIn, maxCheckOut).stream()
+                .collect(Collectors.groupingBy(booking -> overlapKey(booking.getUserId(), booking.getHotelId())));
+    }
+
+    private Booking findOverlap(Map<String, List<Booking>> existing, BookingDTO bookingDTO) {
+        // Same predicate as findDuplicateBookings
+        return existing.getOrDefault(overlapKey(bookingDTO.getUserId(), bookingDTO.getHotelId()), List.of()).stream()
+                .filter(booking -> !booking.getCheckInDate().isAfter(bookingDTO.getCheckOutDate())
+                        && !booking.getCheckOutDate().isBefore(bookingDTO.getCheckInDate()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private String overlapKey(Long userId, Long hotelId) {
+        return userId + ":" + hotelId;
+    }
+
+    /**
+     * Draw identifiers until the batch is unique, asking the database about the new draws once per round.
+     * Every returned identifier has been checked; a batch still short after the last round is refused
+     */
+    private List<String> generateUniqueIdentifiers(int count, Supplier<String> generator,
+                                                   Function<Collection<String>, Set<String>> existing) {
+        Set<String> identifiers = new LinkedHashSet<>();
+        for (int round = 0; round < MAX_IDENTIFIER_ROUNDS; round++) {
+            Set<String> drawn = new LinkedHashSet<>();
+            while (identifiers.size() + drawn.size() < count) {
+                String identifier = generator.get();
+                if (!identifiers.contains(identifier)) {
+                    drawn.add(identifier);
+                }
+            }
+            drawn.removeAll(existing.apply(drawn));
+            identifiers.addAll(drawn);
+            if (identifiers.size() == count) {
+                return new ArrayList<>(identifiers);
+            }
+        }
+        throw new BusinessValidationException("Could not generate unique booking identifiers, please retry");
+    }
+
+    private BatchBookingResult.Item rejectedItem(int index, BookingDTO bookingDTO, String error) {
+        return BatchBookingResult.Item.builder()
+                .index(index)
+                .status(BatchBookingResult.ItemStatus.REJECTED)
+                .booking(bookingDTO)
+                .error(error)
+                .build();
+    }
+
+    private Booking requireApplied(BookingStateMachine.TransitionResult transition, Long bookingId,
+                                   String illegalStateMessage) {
+        switch (transition.outcome()) {
+            case APPLIED:
+                return transition.booking();
+            case NOT_FOUND:
+                throw new ResourceNotFoundException("HRS Booking", "id", bookingId);
+            case TOO_EARLY:
+                throw new BusinessValidationException("Cannot check in before check-in date");
+            default:
+                throw new BusinessValidationException(illegalStateMessage);
+        }
+    }
+
+    /**
+     * Fill the stay fields a partial update left out from the booking being updated
+     */
+    private void mergeStay(Booking existingBooking, BookingDTO bookingDTO) {
+        if (bookingDTO.getUserId() == null) {
+            bookingDTO.setUserId(existingBooking.getUserId());
+        }
+        if (bookingDTO.getHotelId() == null) {
+            bookingDTO.setHotelId(existingBooking.getHotelId());
+        }
+        if (bookingDTO.getCheckInDate() == null) {
+            bookingDTO.setCheckInDate(existingBooking.getCheckInDate());
+        }
+        if (bookingDTO.getCheckOutDate() == null) {
+            bookingDTO.setCheckOutDate(existingBooking.getCheckOutDate());
         }
     }
 
@@ -424,6 +660,8 @@ public class BookingServiceImpl implements BookingService {
         return datesChanged(existingBooking, bookingDTO) ||
                 (bookingDTO.getNumberOfRooms() != null &&
                         !bookingDTO.getNumberOfRooms().equals(existingBooking.getNumberOfRooms())) ||
+                (bookingDTO.getRoomType() != null &&
+                        !bookingDTO.getRoomType().equals(existingBooking.getRoomType())) ||
                 (bookingDTO.getDiscountAmount() != null &&
                         !bookingDTO.getDiscountAmount().equals(existingBooking.getDiscountAmount()));
     }
@@ -479,8 +717,8 @@ public class BookingServiceImpl implements BookingService {
         }
 
         long nights = java.time.temporal.ChronoUnit.DAYS.between(checkIn, checkOut);
-        if (nights > 30) {
-            throw new BusinessValidationException("Booking cannot exceed 30 nights");
+        if (nights > Booking.MAX_NIGHTS) {
+            throw new BusinessValidationException("Booking cannot exceed " + Booking.MAX_NIGHTS + " nights");
         }
     }
 
@@ -508,6 +746,24 @@ public class BookingServiceImpl implements BookingService {
         }
     }
 
+    /**
+     * Default and bound a booking history window on check-in date, so a single request never spans all history
+     */
+    private LocalDate[] resolveHistoryWindow(LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now();
+        LocalDate windowFrom = from != null ? from : today.minusDays(HISTORY_DEFAULT_WINDOW_DAYS);
+        LocalDate windowTo = to != null ? to : today.plusDays(HISTORY_DEFAULT_WINDOW_DAYS);
+
+        if (windowTo.isBefore(windowFrom)) {
+            throw new BusinessValidationException("Window end date cannot be before start date");
+        }
+        if (ChronoUnit.DAYS.between(windowFrom, windowTo) > HISTORY_MAX_WINDOW_DAYS) {
+            throw new BusinessValidationException(
+                    String.format("Booking history window cannot exceed %d days", HISTORY_MAX_WINDOW_DAYS));
+        }
+        return new LocalDate[]{windowFrom, windowTo};
+    }
+
     private void validatePaginationParameters(int page, int size) {
         if (page < 0) {
             throw new BusinessValidationException("Page number cannot be negative");
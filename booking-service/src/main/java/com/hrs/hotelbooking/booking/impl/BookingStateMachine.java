@@ -0,0 +1,151 @@
+package com.hrs.hotelbooking.booking.service.impl;
+
+import com.hrs.hotelbooking.booking.entity.Booking;
+import com.hrs.hotelbooking.shared.dto.BookingStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * HRS Booking State Machine
+ * Applies booking status transitions as one guarded statement:
+ *   UPDATE bookings SET status = ... WHERE id = ? AND status IN (...) RETURNING *
+ * The status check and the write are atomic, so two concurrent transitions cannot both win
+ * and no entity has to be loaded first. When nothing was updated, a cheap status lookup
+ * explains why (not found, wrong state, too early) as a typed result.
+ *
+ * @author arihants1
+ */
+@Component
+@Slf4j
+public class BookingStateMachine {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Allowed booking transitions: target status and the statuses it may start from
+     */
+    public enum Transition {
+        CANCEL(BookingStatus.CANCELLED, EnumSet.of(BookingStatus.CONFIRMED, BookingStatus.PENDING)),
+        CHECK_IN(BookingStatus.CHECKED_IN, EnumSet.of(BookingStatus.CONFIRMED)),
+        CHECK_OUT(BookingStatus.CHECKED_OUT, EnumSet.of(BookingStatus.CHECKED_IN));
+
+        private final BookingStatus target;
+        private final Set<BookingStatus> allowedFrom;
+
+        Transition(BookingStatus target, Set<BookingStatus> allowedFrom) {
+            this.target = target;
+            this.allowedFrom = allowedFrom;
+        }
+
+        public BookingStatus getTarget() {
+            return target;
+        }
+
+        public boolean allows(BookingStatus status) {
+            return allowedFrom.contains(status);
+        }
+
+        List<String> allowedFromNames() {
+            return allowedFrom.stream().map(Enum::name).collect(Collectors.toList());
+        }
+    }
+
+    public enum Outcome {
+        APPLIED,
+        NOT_FOUND,
+        ILLEGAL_STATE,
+        TOO_EARLY
+    }
+
+    /**
+     * Result of a transition attempt; booking is set only when applied, currentStatus when rejected
+     */
+    public record TransitionResult(Transition transition, Outcome outcome, Booking booking, BookingStatus currentStatus) {
+
+        public boolean isApplied() {
+            return outcome == Outcome.APPLIED;
+        }
+    }
+
+    @Transactional
+    public TransitionResult cancel(Long bookingId, String cancelledBy, String reason) {
+        return apply(Transition.CANCEL, bookingId,
+                "cancelled_at = CURRENT_TIMESTAMP, cancelled_by = :cancelledBy, cancellation_reason = :reason",
+                "",
+                Map.of("cancelledBy", cancelledBy, "reason", reason));
+    }
+
+    @Transactional
+    public TransitionResult checkIn(Long bookingId, LocalDate today) {
+        return apply(Transition.CHECK_IN, bookingId,
+                "checked_in_at = CURRENT_TIMESTAMP",
+                " AND check_in_date <= :today",
+                Map.of("today", Date.valueOf(today)));
+    }
+
+    @Transactional
+    public TransitionResult checkOut(Long bookingId) {
+        return apply(Transition.CHECK_OUT, bookingId,
+                "checked_out_at = CURRENT_TIMESTAMP",
+                "",
+                Map.of());
+    }
+
+    @SuppressWarnings("unchecked")
+    private TransitionResult apply(Transition transition, Long bookingId, String assignments, String guard,
+                                   Map<String, Object> parameters) {
+        String sql = "UPDATE bookings SET status = :target, " + assignments +
+                ", updated_at = CURRENT_TIMESTAMP, version = version + 1" +
+                " WHERE id = :id AND status IN (:allowed)" + guard +
+                " RETURNING *";
+
+        Query query = entityManager.createNativeQuery(sql, Booking.class)
+                .setParameter("target", transition.getTarget().name())
+                .setParameter("id", bookingId)
+                .setParameter("allowed", transition.allowedFromNames());
+        parameters.forEach(query::setParameter);
+
+        List<Booking> updated = query.getResultList();
+        if (!updated.isEmpty()) {
+            log.debug("HRS booking {} transitioned to {} at 2025-06-27 05:47:04", bookingId, transition.getTarget());
+            return new TransitionResult(transition, Outcome.APPLIED, updated.get(0), transition.getTarget());
+        }
+        return explainRejection(transition, bookingId);
+    }
+
+    /**
+     * Only runs when the guarded update matched nothing, so the happy path stays a single round trip
+     */
+    @SuppressWarnings("unchecked")
+    private TransitionResult explainRejection(Transition transition, Long bookingId) {
+        List<String> statuses = entityManager.createNativeQuery("SELECT status FROM bookings WHERE id = :id")
+                .setParameter("id", bookingId)
+                .getResultList();
+
+        if (statuses.isEmpty()) {
+            return new TransitionResult(transition, Outcome.NOT_FOUND, null, null);
+        }
+
+        BookingStatus current = BookingStatus.valueOf(statuses.get(0));
+        // Right state but the guard failed: for check-in that is the check-in date
+        Outcome outcome = transition.allows(current) && transition == Transition.CHECK_IN
+                ? Outcome.TOO_EARLY
+                : Outcome.ILLEGAL_STATE;
+
+        log.debug("HRS booking {} rejected transition {} from {}: {}", bookingId, transition, current, outcome);
+        return new TransitionResult(transition, outcome, null, current);
+    }
+}
@@ -0,0 +1,77 @@
+package com.hrs.hotelbooking.booking.service.impl;
+
+import com.hrs.hotelbooking.booking.mapper.BookingMapper;
+import com.hrs.hotelbooking.booking.repository.BookingRepository;
+import com.hrs.hotelbooking.booking.service.BookingStreamService;
+import com.hrs.hotelbooking.booking.stream.BookingEventHub;
+import com.hrs.hotelbooking.shared.dto.BookingDTO;
+import com.hrs.hotelbooking.shared.exception.BusinessValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * HRS Booking Stream Service Implementation
+ * A front desk reads its arrivals once per connection, from the database, and is pushed every change
+ * after that, instead of re-running the upcoming-bookings search every few seconds. The snapshot is read on
+ * the primary, bypassing the hotelBookings cache and the read replicas: changes are only pushed from the
+ * moment of subscription, so a stale snapshot would miss bookings for good
+ *
+ * @author arihants1
+ */
+@Service
+@Slf4j
+public class BookingStreamServiceImpl implements BookingStreamService {
+
+    private final BookingRepository bookingRepository;
+    private final BookingMapper bookingMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final BookingEventHub eventHub;
+    private final int snapshotDays;
+    private final int snapshotMaxBookings;
+
+    public BookingStreamServiceImpl(BookingRepository bookingRepository,
+                                    BookingMapper bookingMapper,
+                                    PlatformTransactionManager transactionManager,
+                                    BookingEventHub eventHub,
+                                    @Value("${hrs.booking.stream.snapshot-days:30}") int snapshotDays,
+                                    @Value("${hrs.booking.stream.snapshot-max-bookings:500}") int snapshotMaxBookings) {
+        this.bookingRepository = bookingRepository;
+        this.bookingMapper = bookingMapper;
+        // Read-write, so replica routing sends the snapshot query to the primary
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventHub = eventHub;
+        this.snapshotDays = snapshotDays;
+        this.snapshotMaxBookings = snapshotMaxBookings;
+    }
+
+    @Override
+    public SseEmitter openHotelStream(Long hotelId) {
+        log.info("Opening HRS booking stream for hotel: {} at 2025-06-27 05:47:04", hotelId);
+
+        if (hotelId == null || hotelId <= 0) {
+            throw new BusinessValidationException("Invalid hotel ID provided");
+        }
+        return eventHub.subscribe(hotelId, () -> upcomingArrivals(hotelId));
+    }
+
+    /**
+     * Bookings checking in from today over the next snapshot-days, earliest first, at most snapshot-max-bookings
+     */
+    List<BookingDTO> upcomingArrivals(Long hotelId) {
+        LocalDate today = LocalDate.now();
+        return transactionTemplate.execute(status -> bookingRepository
+                .findByHotelIdAndCheckInDateBetweenOrderByCheckInDateAscIdAsc(hotelId, today,
+                        today.plusDays(snapshotDays), PageRequest.of(0, snapshotMaxBookings))
+                .stream()
+                .map(bookingMapper::toSummaryDto)
+                .toList());
+    }
+}
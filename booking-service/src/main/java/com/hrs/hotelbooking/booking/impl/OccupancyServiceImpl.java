@@ -0,0 +1,107 @@
+package com.hrs.hotelbooking.booking.service.impl;
+
+import com.hrs.hotelbooking.booking.availability.HotelOccupancyLedger;
+import com.hrs.hotelbooking.booking.dto.OccupancyCalendarDTO;
+import com.hrs.hotelbooking.booking.service.OccupancyService;
+import com.hrs.hotelbooking.shared.exception.BusinessValidationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HRS Occupancy Service Implementation
+ * Reads one row per night from the occupancy ledger and answers every bucket of the calendar from a
+ * prefix sum over those nights, so a calendar costs O(nights) whatever the granularity
+ *
+ * @author arihants1
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class OccupancyServiceImpl implements OccupancyService {
+
+    static final int DEFAULT_CALENDAR_NIGHTS = 365;
+    static final int MAX_CALENDAR_NIGHTS = 366;
+
+    private final HotelOccupancyLedger occupancyLedger;
+
+    @Override
+    public OccupancyCalendarDTO getOccupancyCalendar(Long hotelId, LocalDate from, LocalDate to,
+                                                     OccupancyCalendarDTO.Granularity granularity) {
+        log.info("Fetching HRS occupancy for hotel: {} at 2025-06-27 05:47:04 - nights: {}..{}, granularity: {}",
+                hotelId, from, to, granularity);
+
+        if (hotelId == null || hotelId <= 0) {
+            throw new BusinessValidationException("Invalid hotel ID provided");
+        }
+        LocalDate start = from != null ? from : LocalDate.now();
+        LocalDate end = to != null ? to : start.plusDays(DEFAULT_CALENDAR_NIGHTS);
+        if (!end.isAfter(start)) {
+            throw new BusinessValidationException("Occupancy end date must be after start date");
+        }
+        if (ChronoUnit.DAYS.between(start, end) > MAX_CALENDAR_NIGHTS) {
+            throw new BusinessValidationException(
+                    String.format("Occupancy window cannot exceed %d nights", MAX_CALENDAR_NIGHTS));
+        }
+        OccupancyCalendarDTO.Granularity step = granularity != null ? granularity : OccupancyCalendarDTO.Granularity.DAY;
+
+        int[] rooms = occupancyLedger.roomsSold(hotelId, start, end);
+
+        // roomNights[i] = room-nights sold on the nights [start, start + i)
+        long[] roomNights = new long[rooms.length + 1];
+        int peak = 0;
+        LocalDate peakNight = null;
+        for (int i = 0; i < rooms.length; i++) {
+            roomNights[i + 1] = roomNights[i] + rooms[i];
+            if (rooms[i] > peak) {
+                peak = rooms[i];
+                peakNight = start.plusDays(i);
+            }
+        }
+
+        List<OccupancyCalendarDTO.Bucket> buckets = new ArrayList<>();
+        for (LocalDate bucketStart = start; bucketStart.isBefore(end); ) {
+            LocalDate bucketEnd = min(nextBucket(bucketStart, step), end);
+            int first = (int) ChronoUnit.DAYS.between(start, bucketStart);
+            int last = (int) ChronoUnit.DAYS.between(start, bucketEnd);
+            long sold = roomNights[last] - roomNights[first];
+            buckets.add(OccupancyCalendarDTO.Bucket.builder()
+                    .from(bucketStart)
+                    .to(bucketEnd)
+                    .roomNightsSold(sold)
+                    .averageRoomsSold((double) sold / (last - first))
+                    .build());
+            bucketStart = bucketEnd;
+        }
+
+        return OccupancyCalendarDTO.builder()
+                .hotelId(hotelId)
+                .from(start)
+                .to(end)
+                .granularity(step)
+                .roomNightsSold(roomNights[rooms.length])
+                .peakRoomsSold(peak)
+                .peakNight(peakNight)
+                .buckets(buckets)
+                .build();
+    }
+
+    private static LocalDate nextBucket(LocalDate bucketStart, OccupancyCalendarDTO.Granularity granularity) {
+        return switch (granularity) {
+            case DAY -> bucketStart.plusDays(1);
+            case WEEK -> bucketStart.plusWeeks(1);
+            case MONTH -> bucketStart.withDayOfMonth(1).plusMonths(1);
+        };
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -1,6 +1,7 @@
 package com.hrs.hotelbooking.booking.mapper;
 
 import com.hrs.hotelbooking.booking.entity.Booking;
+import com.hrs.hotelbooking.booking.repository.BookingSummary;
 import com.hrs.hotelbooking.shared.dto.BookingDTO;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -219,9 +220,9 @@ public class BookingMapper {
     }
 
     /**
-     * Create booking summary DTO (lightweight version)
+     * Create booking summary DTO (lightweight version) from a list row
      */
-    public BookingDTO toSummaryDto(Booking booking) {
+    public BookingDTO toSummaryDto(BookingSummary booking) {
         if (booking == null) {
             return null;
         }
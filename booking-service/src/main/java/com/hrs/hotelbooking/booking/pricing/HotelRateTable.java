@@ -0,0 +1,173 @@
+package com.hrs.hotelbooking.booking.pricing;
+
+import com.hrs.hotelbooking.shared.dto.HotelRateDTO;
+import com.hrs.hotelbooking.shared.response.ApiResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HRS Hotel Rate Table
+ * In-memory copy of every hotel's nightly base rate (in minor units) and city, loaded from hotel-service
+ * once at startup and then refreshed incrementally with only the hotels changed since the last pull.
+ * hotel-service stamps updated_at before its transaction commits, so a change can become visible after a
+ * newer one has already been pulled; each incremental pull re-reads refresh-overlap-ms before the newest
+ * change seen to pick those up. Readers see an immutable snapshot, so pricing never waits on a refresh
+ * or a remote call
+ *
+ * @author arihants1
+ */
+@Component
+@Slf4j
+public class HotelRateTable {
+
+    /** Returned for hotels the table has not seen */
+    public static final long NO_RATE = -1L;
+
+    private static final ParameterizedTypeReference<ApiResponse<List<HotelRateDTO>>> RATES_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final RestTemplate hotelServiceClient;
+    private final String ratesUrl;
+    private final MeterRegistry meterRegistry;
+    private final Duration refreshOverlap;
+
+    private volatile Map<Long, Long> rates = Map.of();
+    private volatile Map<Long, String> cities = Map.of();
+    /** Newest hotel change seen so far (hotel-service clock); null until a full load has returned rows */
+    private volatile LocalDateTime watermark;
+
+    public HotelRateTable(RestTemplateBuilder restTemplateBuilder,
+                          MeterRegistry meterRegistry,
+                          @Value("${hrs.services.hotel-service.url:http://localhost:8081}") String hotelServiceUrl,
+                          @Value("${hrs.services.hotel-service.connect-timeout:5000}") long connectTimeoutMs,
+                          @Value("${hrs.services.hotel-service.read-timeout:5000}") long readTimeoutMs,
+                          @Value("${hrs.pricing.refresh-overlap-ms:30000}") long refreshOverlapMs) {
+        this.meterRegistry = meterRegistry;
+        this.refreshOverlap = Duration.ofMillis(refreshOverlapMs);
+        this.ratesUrl = hotelServiceUrl + "/api/v1/hotels/rates";
+        this.hotelServiceClient = restTemplateBuilder
+                .setConnectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .setReadTimeout(Duration.ofMillis(readTimeoutMs))
+                .build();
+
+        Gauge.builder("hrs.pricing.rates.size", this, table -> table.rates.size())
+                .description("HRS hotels with a nightly rate in the booking rate table")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Nightly base rate of a hotel in minor units, or {@link #NO_RATE}
+     */
+    public long nightlyRateMinor(Long hotelId) {
+        Long rate = hotelId != null ? rates.get(hotelId) : null;
+        return rate != null ? rate : NO_RATE;
+    }
+
+    /**
+     * City of a hotel, or null for hotels the table has not seen
+     */
+    public String city(Long hotelId) {
+        return hotelId != null ? cities.get(hotelId) : null;
+    }
+
+    public int size() {
+        return rates.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    /**
+     * Pull hotels changed since the last refresh; falls back to a full load until one has succeeded
+     */
+    @Scheduled(fixedDelayString = "${hrs.pricing.refresh-interval-ms:60000}",
+            initialDelayString = "${hrs.pricing.refresh-interval-ms:60000}")
+    public synchronized void refresh() {
+        LocalDateTime since = refreshSince();
+        String mode = since == null ? "full" : "incremental";
+        try {
+            UriComponentsBuilder uri = UriComponentsBuilder.fromHttpUrl(ratesUrl);
+            if (since != null) {
+                uri.queryParam("updatedSince", since.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            }
+            ApiResponse<List<HotelRateDTO>> response = hotelServiceClient.exchange(
+                    uri.toUriString(), HttpMethod.GET, null, RATES_TYPE).getBody();
+            List<HotelRateDTO> changed = response != null && response.getData() != null
+                    ? response.getData() : List.of();
+
+            apply(changed, since == null);
+            meterRegistry.counter("hrs.pricing.rates.refresh", "outcome", mode).increment();
+            if (!changed.isEmpty()) {
+                log.info("HRS rate table {} refresh applied {} hotel rates ({} total)", mode, changed.size(), rates.size());
+            }
+        } catch (RestClientException e) {
+            meterRegistry.counter("hrs.pricing.rates.refresh", "outcome", "failed").increment();
+            log.warn("HRS rate table {} refresh failed, keeping {} cached rates: {}", mode, rates.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Lower bound of the next incremental pull, or null while a full load is still needed
+     */
+    LocalDateTime refreshSince() {
+        LocalDateTime newest = watermark;
+        return newest != null ? newest.minus(refreshOverlap) : null;
+    }
+
+    /**
+     * Swap in a new snapshot; a full load replaces the table, otherwise changes are merged over a copy
+     */
+    void apply(List<HotelRateDTO> changed, boolean full) {
+        if (!full && changed.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> next = full ? new HashMap<>(changed.size() * 2) : new HashMap<>(rates);
+        Map<Long, String> nextCities = full ? new HashMap<>(changed.size() * 2) : new HashMap<>(cities);
+        LocalDateTime newest = full ? null : watermark;
+        for (HotelRateDTO rate : changed) {
+            if (rate.getHotelId() == null) {
+                continue;
+            }
+            if (rate.getBasePrice() != null) {
+                next.put(rate.getHotelId(), rate.getBasePrice().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+            } else {
+                next.remove(rate.getHotelId());
+            }
+            if (rate.getCity() != null) {
+                nextCities.put(rate.getHotelId(), rate.getCity());
+            }
+            if (rate.getUpdatedAt() != null && (newest == null || rate.getUpdatedAt().isAfter(newest))) {
+                newest = rate.getUpdatedAt();
+            }
+        }
+
+        rates = Map.copyOf(next);
+        cities = Map.copyOf(nextCities);
+        // Stays null after an empty full load, so the next refresh is a (cheap) full load again
+        watermark = newest;
+    }
+}
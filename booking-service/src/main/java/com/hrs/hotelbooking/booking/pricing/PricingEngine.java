@@ -0,0 +1,128 @@
+package com.hrs.hotelbooking.booking.pricing;
+
+import com.hrs.hotelbooking.shared.exception.BusinessValidationException;
+import com.hrs.hotelbooking.shared.money.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * HRS Pricing Engine
+ * Base amount of a stay = hotel nightly rate x room type multiplier x sum of the nightly
+ * (weekend x season) multipliers x rooms. Everything is long arithmetic in minor units and
+ * basis points over in-memory tables, returned as {@link Money}
+ *
+ * @author arihants1
+ */
+@Component
+@Slf4j
+public class PricingEngine {
+
+    /** Nightly and room type multipliers are both basis points */
+    private static final long SCALE = RateCalendar.ONE * RateCalendar.ONE;
+
+    private final HotelRateTable rateTable;
+    private final long defaultNightlyRateMinor;
+    private final Map<String, Long> roomTypeFactors;
+    private volatile RateCalendar calendar;
+
+    public PricingEngine(HotelRateTable rateTable,
+                         @Value("${hrs.pricing.default-nightly-rate:100.00}") BigDecimal defaultNightlyRate,
+                         @Value("${hrs.pricing.weekend-days:FRIDAY,SATURDAY}") String weekendDays,
+                         @Value("${hrs.pricing.weekend-multiplier:1.00}") String weekendMultiplier,
+                         @Value("${hrs.pricing.seasons:}") String seasons,
+                         @Value("${hrs.pricing.room-types:STANDARD=1.00}") String roomTypes,
+                         @Value("${hrs.pricing.horizon-days:400}") int horizonDays) {
+        this.rateTable = rateTable;
+        this.defaultNightlyRateMinor = defaultNightlyRate.setScale(2, RoundingMode.HALF_UP)
+                .unscaledValue().longValueExact();
+        this.roomTypeFactors = parseRoomTypes(roomTypes);
+        this.calendar = new RateCalendar(LocalDate.now(), horizonDays, parseWeekendDays(weekendDays),
+                RateCalendar.basisPoints(weekendMultiplier), RateCalendar.parseSeasons(seasons));
+
+        log.info("HRS pricing engine ready: {} room types, {} day horizon", roomTypeFactors.size(), horizonDays);
+    }
+
+    /**
+     * Base amount (before discount, taxes and fees) for the nights [checkIn, checkOut)
+     */
+    public Money baseAmount(Long hotelId, String roomType, LocalDate checkIn, LocalDate checkOut, int rooms) {
+        long nightlyRate = rateTable.nightlyRateMinor(hotelId);
+        if (nightlyRate == HotelRateTable.NO_RATE) {
+            nightlyRate = defaultNightlyRateMinor;
+        }
+
+        long factorSum = currentCalendar().factorSum(checkIn, checkOut);
+        long weight = factorSum * roomTypeFactor(roomType) * rooms;
+
+        long minor;
+        try {
+            minor = Math.addExact(Math.multiplyExact(nightlyRate, weight), SCALE / 2) / SCALE;
+        } catch (ArithmeticException overflow) {
+            minor = BigDecimal.valueOf(nightlyRate).multiply(BigDecimal.valueOf(weight))
+                    .divide(BigDecimal.valueOf(SCALE), 0, RoundingMode.HALF_UP)
+                    .longValueExact();
+        }
+        return Money.ofMinor(minor);
+    }
+
+    long roomTypeFactor(String roomType) {
+        if (roomType == null) {
+            return RateCalendar.ONE;
+        }
+        return roomTypeFactors.getOrDefault(roomType.trim().toUpperCase(Locale.ROOT), RateCalendar.ONE);
+    }
+
+    /**
+     * Calendar whose horizon starts today; moved forward lazily on the first price after midnight
+     */
+    private RateCalendar currentCalendar() {
+        RateCalendar current = calendar;
+        LocalDate today = LocalDate.now();
+        if (!current.getStart().equals(today)) {
+            current = current.startingAt(today);
+            calendar = current;
+        }
+        return current;
+    }
+
+    private static Set<DayOfWeek> parseWeekendDays(String spec) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        if (spec == null || spec.isBlank()) {
+            return days;
+        }
+        for (String day : spec.split(",")) {
+            try {
+                days.add(DayOfWeek.valueOf(day.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new BusinessValidationException("Invalid weekend day: " + day);
+            }
+        }
+        return days;
+    }
+
+    private static Map<String, Long> parseRoomTypes(String spec) {
+        Map<String, Long> factors = new HashMap<>();
+        if (spec == null || spec.isBlank()) {
+            return factors;
+        }
+        for (String entry : spec.split(",")) {
+            String[] typeAndFactor = entry.trim().split("=");
+            if (typeAndFactor.length != 2 || typeAndFactor[0].isBlank()) {
+                throw new BusinessValidationException("Invalid room type multiplier: " + entry);
+            }
+            factors.put(typeAndFactor[0].trim().toUpperCase(Locale.ROOT), RateCalendar.basisPoints(typeAndFactor[1]));
+        }
+        return Map.copyOf(factors);
+    }
+}
@@ -0,0 +1,148 @@
+package com.hrs.hotelbooking.booking.pricing;
+
+import com.hrs.hotelbooking.shared.exception.BusinessValidationException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * HRS Rate Calendar
+ * Immutable per-night price multipliers (weekend x season) in basis points, with prefix sums over
+ * a fixed horizon so the multiplier total of any stay inside it is two array reads
+ *
+ * @author arihants1
+ */
+final class RateCalendar {
+
+    /** 1.00 expressed in basis points */
+    static final long ONE = 10_000L;
+
+    private final LocalDate start;
+    private final long[] prefix;
+    private final Set<DayOfWeek> weekendDays;
+    private final long weekendFactor;
+    private final List<Season> seasons;
+
+    RateCalendar(LocalDate start, int horizonDays, Set<DayOfWeek> weekendDays,
+                 long weekendFactor, List<Season> seasons) {
+        this.start = start;
+        this.weekendDays = weekendDays.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(weekendDays);
+        this.weekendFactor = weekendFactor;
+        this.seasons = List.copyOf(seasons);
+
+        // prefix[i] is the multiplier total of the nights [start, start + i)
+        this.prefix = new long[horizonDays + 1];
+        LocalDate day = start;
+        for (int i = 0; i < horizonDays; i++) {
+            prefix[i + 1] = prefix[i] + factor(day);
+            day = day.plusDays(1);
+        }
+    }
+
+    LocalDate getStart() {
+        return start;
+    }
+
+    /**
+     * Same rules, horizon moved to begin at the given day
+     */
+    RateCalendar startingAt(LocalDate day) {
+        return new RateCalendar(day, prefix.length - 1, weekendDays, weekendFactor, seasons);
+    }
+
+    /**
+     * Sum of the nightly multipliers for the nights [checkIn, checkOut), in basis points
+     */
+    long factorSum(LocalDate checkIn, LocalDate checkOut) {
+        long from = checkIn.toEpochDay() - start.toEpochDay();
+        long to = checkOut.toEpochDay() - start.toEpochDay();
+        if (from >= 0 && to < prefix.length) {
+            return prefix[(int) to] - prefix[(int) from];
+        }
+
+        // Outside the precomputed horizon (only possible around midnight or with odd clocks)
+        long sum = 0;
+        for (LocalDate day = checkIn; day.isBefore(checkOut); day = day.plusDays(1)) {
+            sum += factor(day);
+        }
+        return sum;
+    }
+
+    /**
+     * Multiplier for a single night, in basis points
+     */
+    long factor(LocalDate night) {
+        long factor = weekendDays.contains(night.getDayOfWeek()) ? weekendFactor : ONE;
+        MonthDay monthDay = MonthDay.from(night);
+        for (Season season : seasons) {
+            if (season.contains(monthDay)) {
+                return scale(factor, season.factor());
+            }
+        }
+        return factor;
+    }
+
+    /**
+     * Multiply two basis-point values, rounding half up
+     */
+    static long scale(long basisPoints, long otherBasisPoints) {
+        return (basisPoints * otherBasisPoints + ONE / 2) / ONE;
+    }
+
+    /**
+     * Parse a decimal multiplier such as "1.15" into basis points
+     */
+    static long basisPoints(String multiplier) {
+        try {
+            long value = new BigDecimal(multiplier.trim()).movePointRight(4)
+                    .setScale(0, RoundingMode.HALF_UP).longValueExact();
+            if (value <= 0) {
+                throw new BusinessValidationException("Price multiplier must be positive: " + multiplier);
+            }
+            return value;
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new BusinessValidationException("Invalid price multiplier: " + multiplier);
+        }
+    }
+
+    /**
+     * Parse "06-15..08-31=1.20,12-20..01-05=1.30"; a season may wrap over the new year
+     */
+    static List<Season> parseSeasons(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return Collections.emptyList();
+        }
+        List<Season> seasons = new ArrayList<>();
+        for (String entry : spec.split(",")) {
+            String[] rangeAndFactor = entry.trim().split("=");
+            String[] range = rangeAndFactor[0].split("\\.\\.");
+            if (rangeAndFactor.length != 2 || range.length != 2) {
+                throw new BusinessValidationException("Invalid pricing season: " + entry);
+            }
+            seasons.add(new Season(MonthDay.parse("--" + range[0].trim()), MonthDay.parse("--" + range[1].trim()),
+                    basisPoints(rangeAndFactor[1])));
+        }
+        return seasons;
+    }
+
+    /**
+     * Inclusive month-day range with its multiplier in basis points
+     */
+    record Season(MonthDay from, MonthDay to, long factor) {
+
+        boolean contains(MonthDay day) {
+            if (!from.isAfter(to)) {
+                return !day.isBefore(from) && !day.isAfter(to);
+            }
+            return !day.isBefore(from) || !day.isAfter(to);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.hrs.hotelbooking.booking.repository;
+
+import com.hrs.hotelbooking.booking.entity.BookingIntake;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * HRS Booking Intake Repository
+ * Queue operations for asynchronously accepted booking requests
+ *
+ * @author arihants1
+ */
+@Repository
+public interface BookingIntakeRepository extends JpaRepository<BookingIntake, Long> {
+
+    /**
+     * Find intake entry by its public ticket ID
+     */
+    Optional<BookingIntake> findByTicketId(String ticketId);
+
+    /**
+     * Lock the oldest queued entries; SKIP LOCKED lets several service instances drain the queue
+     * without handing the same entry to two workers
+     */
+    @Query(value = "SELECT * FROM booking_intake WHERE status = 'QUEUED' ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<BookingIntake> lockNextQueued(@Param("limit") int limit);
+
+    /**
+     * Confirm a worker still owns its claim and row-lock the entry for the rest of the transaction.
+     * attempts identifies the claim: an entry requeued and claimed again has moved on to the next attempt
+     */
+    @Modifying
+    @Query("UPDATE BookingIntake i SET i.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE i.id = :id AND i.status = 'PROCESSING' AND i.attempts = :attempts")
+    int lockClaim(@Param("id") Long id, @Param("attempts") int attempts);
+
+    /**
+     * Complete a claimed entry; 0 when the claim was lost
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE BookingIntake i SET i.status = 'COMPLETED', i.bookingId = :bookingId, " +
+            "i.bookingReference = :bookingReference, i.errorMessage = NULL, i.completedAt = :completedAt, " +
+            "i.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE i.id = :id AND i.status = 'PROCESSING' AND i.attempts = :attempts")
+    int markCompleted(@Param("id") Long id, @Param("attempts") int attempts, @Param("bookingId") Long bookingId,
+                      @Param("bookingReference") String bookingReference,
+                      @Param("completedAt") LocalDateTime completedAt);
+
+    /**
+     * Record the failure of a claimed entry, queueing it again or failing it for good; 0 when the claim was lost
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE BookingIntake i SET i.status = :status, i.errorMessage = :error, i.completedAt = :completedAt, " +
+            "i.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE i.id = :id AND i.status = 'PROCESSING' AND i.attempts = :attempts")
+    int markFailed(@Param("id") Long id, @Param("attempts") int attempts, @Param("status") BookingIntake.Status status,
+                   @Param("error") String error, @Param("completedAt") LocalDateTime completedAt);
+
+    /**
+     * Put entries whose worker died mid-flight back on the queue. An entry whose worker is still inside
+     * process() is row-locked by lockClaim, so this waits for it and then finds it no longer PROCESSING
+     */
+    @Modifying
+    @Query("UPDATE BookingIntake i SET i.status = 'QUEUED', i.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE i.status = 'PROCESSING' AND i.startedAt < :cutoff")
+    int requeueStale(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Count entries in a given state
+     */
+    long countByStatus(BookingIntake.Status status);
+}
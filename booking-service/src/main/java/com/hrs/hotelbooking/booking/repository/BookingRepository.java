@@ -10,13 +10,19 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * HRS Booking Repository - Essential Operations Only
  * Data access for booking operations in the HRS booking system
  * Simplified queries for core booking functionality
+ * bookings is partitioned by check-in month: range queries carry a check_in_date bound so PostgreSQL
+ * only reads the partitions in range, and reference lookups go through the unpartitioned booking_keys
+ * List queries return BookingSummary rows; only detail lookups hydrate Booking entities
  *
  * @author arihants1
  * @since 2025-06-27 05:47:04 UTC
@@ -25,42 +31,163 @@ import java.util.Optional;
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
     /**
-     * Find booking by reference number
+     * BookingSummary columns for native queries; quoted aliases keep the camel case the projection matches on
      */
-    Optional<Booking> findByBookingReference(String bookingReference);
+    String SUMMARY_COLUMNS = "id, booking_reference AS \"bookingReference\", hotel_id AS \"hotelId\", " +
+            "user_id AS \"userId\", check_in_date AS \"checkInDate\", check_out_date AS \"checkOutDate\", " +
+            "number_of_rooms AS \"numberOfRooms\", number_of_guests AS \"numberOfGuests\", " +
+            "total_amount AS \"totalAmount\", status, created_at AS \"createdAt\"";
 
     /**
-     * Check if booking reference exists
+     * Find booking by reference number; booking_keys supplies the check-in date, so only one partition is read
      */
-    boolean existsByBookingReference(String bookingReference);
+    @Query(value = "SELECT b.* FROM booking_keys k JOIN bookings b " +
+            "ON b.id = k.booking_id AND b.check_in_date = k.check_in_date " +
+            "WHERE k.booking_reference = :bookingReference", nativeQuery = true)
+    Optional<Booking> findByBookingReference(@Param("bookingReference") String bookingReference);
 
     /**
-     * Check if confirmation number exists
+     * Check if booking reference exists (unique index on booking_keys, not one probe per partition)
      */
-    boolean existsByConfirmationNumber(String confirmationNumber);
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM booking_keys WHERE booking_reference = :bookingReference)",
+            nativeQuery = true)
+    boolean existsByBookingReference(@Param("bookingReference") String bookingReference);
 
     /**
-     * Find bookings by user ID ordered by creation date
+     * Check if confirmation number exists (unique index on booking_keys)
      */
-    List<Booking> findByUserIdOrderByCreatedAtDesc(Long userId);
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM booking_keys WHERE confirmation_number = :confirmationNumber)",
+            nativeQuery = true)
+    boolean existsByConfirmationNumber(@Param("confirmationNumber") String confirmationNumber);
 
     /**
-     * Find bookings by hotel ID ordered by check-in date
+     * Page of a user's bookings with check-in inside the window (idx_booking_user_checkin); order comes from the pageable
      */
-    List<Booking> findByHotelIdOrderByCheckInDateAsc(Long hotelId);
+    Page<BookingSummary> findByUserIdAndCheckInDateBetween(Long userId, LocalDate from, LocalDate to, Pageable pageable);
+
+    /**
+     * Page of a hotel's bookings with check-in inside the window (idx_booking_hotel_dates); order comes from the pageable
+     */
+    Page<BookingSummary> findByHotelIdAndCheckInDateBetween(Long hotelId, LocalDate from, LocalDate to, Pageable pageable);
+
+    /**
+     * A hotel's arrivals inside the window in check-in order (idx_booking_hotel_dates); a List result skips the count query
+     */
+    List<BookingSummary> findByHotelIdAndCheckInDateBetweenOrderByCheckInDateAscIdAsc(Long hotelId, LocalDate from,
+                                                                                      LocalDate to, Pageable pageable);
+
+    /**
+     * Page of all bookings, as list rows
+     */
+    Page<BookingSummary> findAllBy(Pageable pageable);
+
+    /**
+     * First keyset page of bookings, newest first; a List result skips the count query
+     */
+    List<BookingSummary> findAllByOrderByCreatedAtDescIdDesc(Pageable pageable);
+
+    /**
+     * Keyset page of bookings after the cursor row (index seek on idx_booking_created_id)
+     */
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM bookings WHERE (created_at, id) < (:createdAt, :id) " +
+            "ORDER BY created_at DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<BookingSummary> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id,
+                                       @Param("limit") int limit);
 
 
     /**
-     * Find duplicate bookings (same user, hotel, overlapping dates)
+     * Find duplicate bookings (same user, hotel, overlapping dates); without both dates there is no stay to overlap
+     */
+    default List<Booking> findDuplicateBookings(Long userId, Long hotelId, LocalDate checkIn, LocalDate checkOut,
+                                                Long excludeId) {
+        if (userId == null || hotelId == null || checkIn == null || checkOut == null) {
+            return List.of();
+        }
+        return findDuplicateBookingsFrom(userId, hotelId, checkIn.minusDays(Booking.MAX_NIGHTS), checkIn, checkOut,
+                excludeId);
+    }
+
+    /**
+     * Duplicate check with an explicit lower check-in bound. No stay is longer than Booking.MAX_NIGHTS,
+     * so an overlapping booking checks in on or after checkIn - MAX_NIGHTS; the bound prunes older partitions
      */
     @Query("SELECT b FROM Booking b WHERE b.userId = :userId AND b.hotelId = :hotelId AND " +
             "b.status IN ('CONFIRMED', 'CHECKED_IN', 'PENDING') AND " +
+            "b.checkInDate >= :earliestCheckIn AND " +
             "((b.checkInDate <= :checkOut AND b.checkOutDate >= :checkIn)) AND " +
             "(:excludeId IS NULL OR b.id != :excludeId)")
-    List<Booking> findDuplicateBookings(@Param("userId") Long userId,
-                                        @Param("hotelId") Long hotelId,
-                                        @Param("checkIn") LocalDate checkIn,
-                                        @Param("checkOut") LocalDate checkOut,
-                                        @Param("excludeId") Long excludeId);
+    List<Booking> findDuplicateBookingsFrom(@Param("userId") Long userId,
+                                            @Param("hotelId") Long hotelId,
+                                            @Param("earliestCheckIn") LocalDate earliestCheckIn,
+                                            @Param("checkIn") LocalDate checkIn,
+                                            @Param("checkOut") LocalDate checkOut,
+                                            @Param("excludeId") Long excludeId);
+
+    /**
+     * Find active bookings that may overlap any item of a group booking.
+     * One range query over the union of users, hotels and dates; callers match exact overlaps in memory
+     */
+    default List<Booking> findOverlapCandidates(Collection<Long> userIds, Collection<Long> hotelIds,
+                                                LocalDate minCheckIn, LocalDate maxCheckOut) {
+        return findOverlapCandidatesFrom(userIds, hotelIds, minCheckIn.minusDays(Booking.MAX_NIGHTS), minCheckIn,
+                maxCheckOut);
+    }
+
+    /**
+     * Overlap candidates with an explicit lower check-in bound, for partition pruning (see findDuplicateBookingsFrom)
+     */
+    @Query("SELECT b FROM Booking b WHERE b.userId IN :userIds AND b.hotelId IN :hotelIds AND " +
+            "b.status IN ('CONFIRMED', 'CHECKED_IN', 'PENDING') AND " +
+            "b.checkInDate >= :earliestCheckIn AND " +
+            "b.checkInDate <= :maxCheckOut AND b.checkOutDate >= :minCheckIn")
+    List<Booking> findOverlapCandidatesFrom(@Param("userIds") Collection<Long> userIds,
+                                            @Param("hotelIds") Collection<Long> hotelIds,
+                                            @Param("earliestCheckIn") LocalDate earliestCheckIn,
+                                            @Param("minCheckIn") LocalDate minCheckIn,
+                                            @Param("maxCheckOut") LocalDate maxCheckOut);
+
+    /**
+     * Active stays of a hotel that check out on or after from and check in before windowEnd
+     * (the bookings held by the in-memory interval index)
+     */
+    default List<BookingSummary> findActiveStays(Long hotelId, LocalDate from, LocalDate windowEnd) {
+        return findActiveStaysFrom(hotelId, from.minusDays(Booking.MAX_NIGHTS), from, windowEnd);
+    }
+
+    /**
+     * Active stays with an explicit lower check-in bound, for partition pruning (see findDuplicateBookingsFrom)
+     */
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM bookings WHERE hotel_id = :hotelId AND " +
+            "status IN ('CONFIRMED', 'CHECKED_IN', 'PENDING') AND " +
+            "check_in_date >= :earliestCheckIn AND check_in_date < :windowEnd AND check_out_date >= :from",
+            nativeQuery = true)
+    List<BookingSummary> findActiveStaysFrom(@Param("hotelId") Long hotelId,
+                                             @Param("earliestCheckIn") LocalDate earliestCheckIn,
+                                             @Param("from") LocalDate from,
+                                             @Param("windowEnd") LocalDate windowEnd);
+
+    /**
+     * Bookings of the given hotels changed after since, whatever their status (idx_booking_updated_at)
+     */
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM bookings WHERE hotel_id IN (:hotelIds) AND " +
+            "check_in_date >= :earliestCheckIn AND updated_at > :since", nativeQuery = true)
+    List<BookingSummary> findStaysChangedSince(@Param("hotelIds") Collection<Long> hotelIds,
+                                               @Param("earliestCheckIn") LocalDate earliestCheckIn,
+                                               @Param("since") LocalDateTime since);
+
+    /**
+     * Return which of the given booking references are already taken
+     */
+    @Query(value = "SELECT booking_reference FROM booking_keys WHERE booking_reference IN (:references)",
+            nativeQuery = true)
+    Set<String> findExistingBookingReferences(@Param("references") Collection<String> references);
+
+    /**
+     * Return which of the given confirmation numbers are already taken
+     */
+    @Query(value = "SELECT confirmation_number FROM booking_keys WHERE confirmation_number IN (:confirmationNumbers)",
+            nativeQuery = true)
+    Set<String> findExistingConfirmationNumbers(@Param("confirmationNumbers") Collection<String> confirmationNumbers);
 
 }
\ No newline at end of file
@@ -20,16 +20,16 @@ public interface BookingSearchRepository extends ElasticsearchRepository<Booking
 
     BookingSearchDocument findByBookingReference(String bookingReference);
 
-    // For availability checks
-    @Query("{\"bool\": {\"must\": [{\"term\": {\"hotelId\": ?0}}, {\"range\": {\"checkInDate\": {\"lte\": \"?2\"}}}, {\"range\": {\"checkOutDate\": {\"gte\": \"?1\"}}}]}}")
+    // For availability checks: bookings that still hold rooms (same statuses as the interval index)
+    @Query("{\"bool\": {\"must\": [{\"term\": {\"hotelId\": ?0}}, {\"terms\": {\"status\": [\"PENDING\", \"CONFIRMED\", \"CHECKED_IN\"]}}, {\"range\": {\"checkInDate\": {\"lte\": \"?2\"}}}, {\"range\": {\"checkOutDate\": {\"gte\": \"?1\"}}}]}}")
     List<BookingSearchDocument> findOverlappingBookings(Long hotelId, LocalDate checkInDate, LocalDate checkOutDate);
 
     // Advanced full-text search
     @Query("{\"bool\": {\"should\": [{\"match\": {\"guestName\": \"?0\"}}, {\"match\": {\"bookingReference\": \"?0\"}}, {\"match\": {\"confirmationNumber\": \"?0\"}}, {\"match\": {\"searchableText\": \"?0\"}}]}}")
     Page<BookingSearchDocument> fullTextSearch(String searchTerm, Pageable pageable);
 
-
-    Page<BookingSearchDocument> findByHotelIdAndIsUpcomingTrue(Long hotelId, Pageable pageable);
+    // Upcoming bookings: check-in after the given day, evaluated at query time
+    Page<BookingSearchDocument> findByHotelIdAndCheckInDateAfter(Long hotelId, LocalDate date, Pageable pageable);
 
     // Recent bookings
     Page<BookingSearchDocument> findByCreatedAtAfterOrderByCreatedAtDesc(LocalDateTime dateTime, Pageable pageable);
@@ -0,0 +1,57 @@
+package com.hrs.hotelbooking.booking.repository;
+
+import com.hrs.hotelbooking.shared.dto.BookingStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * HRS Booking Summary Projection
+ * The columns of a booking list row. Guest details, payment fields and special requests are only
+ * read by the detail endpoints, which load the full Booking entity
+ *
+ * @author arihants1
+ */
+public interface BookingSummary {
+
+    Long getId();
+
+    String getBookingReference();
+
+    Long getHotelId();
+
+    Long getUserId();
+
+    LocalDate getCheckInDate();
+
+    LocalDate getCheckOutDate();
+
+    Integer getNumberOfRooms();
+
+    Integer getNumberOfGuests();
+
+    BigDecimal getTotalAmount();
+
+    BookingStatus getStatus();
+
+    LocalDateTime getCreatedAt();
+
+    // Derived from the columns above, same rules as Booking; default methods are not selected
+
+    default long calculateNights() {
+        LocalDate checkIn = getCheckInDate();
+        LocalDate checkOut = getCheckOutDate();
+        return checkIn != null && checkOut != null ? ChronoUnit.DAYS.between(checkIn, checkOut) : 0;
+    }
+
+    default boolean isModifiable() {
+        BookingStatus status = getStatus();
+        return status == BookingStatus.CONFIRMED || status == BookingStatus.PENDING;
+    }
+
+    default boolean isCancellable() {
+        return isModifiable();
+    }
+}
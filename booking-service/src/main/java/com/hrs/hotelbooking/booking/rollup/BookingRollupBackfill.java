@@ -0,0 +1,217 @@
+package com.hrs.hotelbooking.booking.rollup;
+
+import com.hrs.hotelbooking.booking.entity.Booking;
+import com.hrs.hotelbooking.shared.dto.BookingStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * HRS Booking Rollup Backfill
+ * Rebuilds the rollup rows of past days from the bookings table. The days are cleared first, then the
+ * whole table is read in id order chunk-size rows at a time (keyset, no long-running transaction) and
+ * every booking is folded into the day it was created (as CONFIRMED, or PENDING while still pending)
+ * and the days it was cancelled, checked in and checked out. Sums are buffered in memory and added to
+ * the table whenever max-buffered-rows distinct rows have piled up, so memory is bounded by the size
+ * of the rollup, not of the history.
+ *
+ * Only days before today can be rebuilt: today's rows belong to the live recorder. Nor can days whose
+ * bookings may already be archived (see earliestRebuildableDay): clearing them would lose rows that
+ * can no longer be recomputed. Edits made after creation are folded into the creation day, since
+ * bookings keep no edit history. One backfill runs per instance at a time; run it on a single instance.
+ *
+ * @author arihants1
+ */
+@Component
+@Slf4j
+public class BookingRollupBackfill {
+
+    static final String CHUNK_SQL = """
+            SELECT id, hotel_id, status, number_of_rooms, check_in_date, check_out_date,
+                   total_amount, taxes_amount, fees_amount, created_at, cancelled_at, checked_in_at, checked_out_at
+            FROM bookings WHERE id > ? ORDER BY id LIMIT ?
+            """;
+
+    private static final RowMapper<BookingRow> ROW_MAPPER = (rs, rowNum) -> new BookingRow(
+            rs.getLong("id"),
+            rs.getLong("hotel_id"),
+            BookingStatus.valueOf(rs.getString("status")),
+            rs.getInt("number_of_rooms"),
+            rs.getDate("check_in_date").toLocalDate(),
+            rs.getDate("check_out_date").toLocalDate(),
+            rs.getBigDecimal("total_amount"),
+            rs.getBigDecimal("taxes_amount"),
+            rs.getBigDecimal("fees_amount"),
+            toLocalDateTime(rs.getTimestamp("created_at")),
+            toLocalDateTime(rs.getTimestamp("cancelled_at")),
+            toLocalDateTime(rs.getTimestamp("checked_in_at")),
+            toLocalDateTime(rs.getTimestamp("checked_out_at")));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BookingRollupStore rollupStore;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxBufferedRows;
+    private final boolean partitioningEnabled;
+    private final int retentionMonths;
+    private final ExecutorService executor =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("hrs-rollup-backfill-"));
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public BookingRollupBackfill(JdbcTemplate jdbcTemplate,
+                                 BookingRollupStore rollupStore,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${hrs.booking.rollup.backfill.chunk-size:5000}") int chunkSize,
+                                 @Value("${hrs.booking.rollup.backfill.max-buffered-rows:50000}") int maxBufferedRows,
+                                 @Value("${hrs.booking.partitioning.enabled:true}") boolean partitioningEnabled,
+                                 @Value("${hrs.booking.partitioning.retention-months:24}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rollupStore = rollupStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxBufferedRows = maxBufferedRows;
+        this.partitioningEnabled = partitioningEnabled;
+        this.retentionMonths = retentionMonths;
+    }
+
+    /**
+     * First day whose rows can still be rebuilt from the bookings table. Check-in months older than
+     * retention-months are moved to the archive schema (BookingPartitionManager), and a booking checked
+     * out on a day may have checked in up to Booking.MAX_NIGHTS nights before it
+     */
+    public LocalDate earliestRebuildableDay(LocalDate today) {
+        if (!partitioningEnabled) {
+            return LocalDate.MIN;
+        }
+        return today.withDayOfMonth(1).minusMonths(retentionMonths).plusDays(Booking.MAX_NIGHTS);
+    }
+
+    /**
+     * Start rebuilding the days from..to (inclusive) in the background; false when a backfill is already running
+     */
+    public boolean start(LocalDate from, LocalDate to) {
+        LocalDate earliest = earliestRebuildableDay(LocalDate.now());
+        if (from.isBefore(earliest)) {
+            throw new IllegalArgumentException("HRS rollup backfill cannot rebuild days before " + earliest
+                    + ": older bookings are archived");
+        }
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    run(from, to);
+                } catch (RuntimeException e) {
+                    log.error("HRS booking rollup backfill of {}..{} failed at 2025-06-27 05:47:04: {}",
+                            from, to, e.getMessage(), e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * Rebuild the days from..to (inclusive) on the calling thread; from must not be before earliestRebuildableDay
+     */
+    Result run(LocalDate from, LocalDate to) {
+        log.info("HRS booking rollup backfill of {}..{} started at 2025-06-27 05:47:04", from, to);
+        int cleared = transactionTemplate.execute(status -> rollupStore.deleteDays(from, to));
+
+        Map<RollupKey, RollupTotals> buffer = new HashMap<>();
+        long lastId = 0;
+        long scanned = 0;
+        long written = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<BookingRow> chunk = jdbcTemplate.query(CHUNK_SQL, ROW_MAPPER, lastId, chunkSize);
+            for (BookingRow row : chunk) {
+                fold(buffer, row, from, to);
+            }
+            scanned += chunk.size();
+
+            boolean last = chunk.size() < chunkSize;
+            if (last || buffer.size() >= maxBufferedRows) {
+                written += transactionTemplate.execute(status -> rollupStore.add(buffer));
+                buffer.clear();
+            }
+            if (last) {
+                break;
+            }
+            lastId = chunk.get(chunk.size() - 1).id();
+        }
+
+        log.info("HRS booking rollup backfill of {}..{} finished - cleared {} rows, scanned {} bookings, wrote {} rows",
+                from, to, cleared, scanned, written);
+        return new Result(scanned, written);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // The next run clears the same days again, so an interrupted backfill is simply started over
+        executor.shutdownNow();
+    }
+
+    private static void fold(Map<RollupKey, RollupTotals> buffer, BookingRow row, LocalDate from, LocalDate to) {
+        BookingStatus created = row.status() == BookingStatus.PENDING ? BookingStatus.PENDING : BookingStatus.CONFIRMED;
+        fold(buffer, row, row.createdAt(), created, from, to);
+        fold(buffer, row, row.cancelledAt(), BookingStatus.CANCELLED, from, to);
+        fold(buffer, row, row.checkedInAt(), BookingStatus.CHECKED_IN, from, to);
+        fold(buffer, row, row.checkedOutAt(), BookingStatus.CHECKED_OUT, from, to);
+    }
+
+    private static void fold(Map<RollupKey, RollupTotals> buffer, BookingRow row, LocalDateTime at,
+                             BookingStatus status, LocalDate from, LocalDate to) {
+        if (at == null) {
+            return;
+        }
+        LocalDate day = at.toLocalDate();
+        if (day.isBefore(from) || day.isAfter(to)) {
+            return;
+        }
+        buffer.computeIfAbsent(new RollupKey(day, row.hotelId(), status), key -> new RollupTotals())
+                .add(1, true, row.numberOfRooms(), row.checkInDate(), row.checkOutDate(),
+                        row.totalAmount(), row.taxesAmount(), row.feesAmount());
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    record BookingRow(long id, Long hotelId, BookingStatus status, int numberOfRooms,
+                      LocalDate checkInDate, LocalDate checkOutDate,
+                      BigDecimal totalAmount, BigDecimal taxesAmount, BigDecimal feesAmount,
+                      LocalDateTime createdAt, LocalDateTime cancelledAt,
+                      LocalDateTime checkedInAt, LocalDateTime checkedOutAt) {
+    }
+
+    record Result(long scanned, long written) {
+    }
+}
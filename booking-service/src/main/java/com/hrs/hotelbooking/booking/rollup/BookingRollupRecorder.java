@@ -0,0 +1,59 @@
+package com.hrs.hotelbooking.booking.rollup;
+
+import com.hrs.hotelbooking.booking.event.BookingChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * HRS Booking Rollup Recorder
+ * Folds every booking write into today's rollup rows, synchronously in the booking's own transaction:
+ * a booking created, cancelled, checked in or checked out counts once in the row of the status it moved
+ * into, with its room-nights and amounts; an edit adds only the difference it made to its current status
+ * row without counting the booking again. Past days are never touched, which is what lets the backfill
+ * rebuild them while bookings keep coming in
+ *
+ * @author arihants1
+ */
+@Component
+@Slf4j
+public class BookingRollupRecorder {
+
+    private final BookingRollupStore rollupStore;
+
+    public BookingRollupRecorder(BookingRollupStore rollupStore) {
+        this.rollupStore = rollupStore;
+    }
+
+    @EventListener
+    public void onBookingChanged(BookingChangedEvent event) {
+        LocalDate today = LocalDate.now();
+        Map<RollupKey, RollupTotals> changes = new HashMap<>();
+        if (event.type() == BookingChangedEvent.Type.UPDATED) {
+            add(changes, today, event.previous(), -1, false);
+            add(changes, today, event.current(), 1, false);
+        } else {
+            add(changes, today, event.current(), 1, true);
+        }
+
+        int written = rollupStore.add(changes);
+        if (written > 0) {
+            log.debug("HRS booking rollup recorded {} for booking {} in {} rows",
+                    event.type(), event.current().bookingId(), written);
+        }
+    }
+
+    private static void add(Map<RollupKey, RollupTotals> changes, LocalDate day, BookingChangedEvent.Stay stay,
+                            int sign, boolean counted) {
+        if (stay == null || stay.hotelId() == null || stay.status() == null) {
+            return;
+        }
+        changes.computeIfAbsent(new RollupKey(day, stay.hotelId(), stay.status()), key -> new RollupTotals())
+                .add(sign, counted, stay.numberOfRooms(), stay.checkInDate(), stay.checkOutDate(),
+                        stay.totalAmount(), stay.taxesAmount(), stay.feesAmount());
+    }
+}
@@ -0,0 +1,129 @@
+package com.hrs.hotelbooking.booking.rollup;
+
+import com.hrs.hotelbooking.booking.dto.BookingRollupDTO;
+import com.hrs.hotelbooking.booking.pricing.HotelRateTable;
+import com.hrs.hotelbooking.shared.dto.BookingStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * HRS Booking Rollup Store
+ * Reads and writes booking_daily_rollup. Writes only ever add to rows, so the live recorder and a
+ * backfill chunk can both fold their changes in with the same upsert; the city is taken from the
+ * hotel rate table when the row is written
+ *
+ * @author arihants1
+ */
+@Component
+public class BookingRollupStore {
+
+    private static final String UPSERT = """
+            INSERT INTO booking_daily_rollup
+                (day, hotel_id, status, city, bookings, room_nights, gross_amount, taxes_amount, fees_amount)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (day, hotel_id, status) DO UPDATE SET
+                city = COALESCE(EXCLUDED.city, booking_daily_rollup.city),
+                bookings = booking_daily_rollup.bookings + EXCLUDED.bookings,
+                room_nights = booking_daily_rollup.room_nights + EXCLUDED.room_nights,
+                gross_amount = booking_daily_rollup.gross_amount + EXCLUDED.gross_amount,
+                taxes_amount = booking_daily_rollup.taxes_amount + EXCLUDED.taxes_amount,
+                fees_amount = booking_daily_rollup.fees_amount + EXCLUDED.fees_amount
+            """;
+
+    private static final String DELETE_DAYS = "DELETE FROM booking_daily_rollup WHERE day >= ? AND day <= ?";
+
+    private static final String SUMS = "SUM(bookings) AS bookings, SUM(room_nights) AS room_nights, "
+            + "SUM(gross_amount) AS gross_amount, SUM(taxes_amount) AS taxes_amount, SUM(fees_amount) AS fees_amount";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final HotelRateTable hotelRateTable;
+
+    public BookingRollupStore(JdbcTemplate jdbcTemplate, HotelRateTable hotelRateTable) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.hotelRateTable = hotelRateTable;
+    }
+
+    /**
+     * Add the totals to their rows in key order; rows that net to zero are skipped. Returns the rows written
+     */
+    public int add(Map<RollupKey, RollupTotals> changes) {
+        List<Object[]> rows = new ArrayList<>(changes.size());
+        new TreeMap<>(changes).forEach((key, totals) -> {
+            if (!totals.isZero()) {
+                rows.add(new Object[]{Date.valueOf(key.day()), key.hotelId(), key.status().name(),
+                        hotelRateTable.city(key.hotelId()), totals.getBookings(), totals.getRoomNights(),
+                        totals.getGrossAmount(), totals.getTaxesAmount(), totals.getFeesAmount()});
+            }
+        });
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT, rows);
+        }
+        return rows.size();
+    }
+
+    /**
+     * Remove every row of the days from..to (inclusive); returns the rows removed
+     */
+    public int deleteDays(LocalDate from, LocalDate to) {
+        return jdbcTemplate.update(DELETE_DAYS, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    /**
+     * Sum the rows of the days from..to (inclusive) per status and the requested dimension;
+     * hotelId, city and status narrow the rows when set
+     */
+    public List<BookingRollupDTO> report(BookingRollupDTO.GroupBy groupBy, LocalDate from,
+                                         LocalDate to, Long hotelId, String city, BookingStatus status) {
+        String dimension = switch (groupBy) {
+            case DAY -> "day";
+            case HOTEL -> "hotel_id";
+            case CITY -> "city";
+        };
+        String select = groupBy == BookingRollupDTO.GroupBy.HOTEL ? "hotel_id, MAX(city) AS city" : dimension;
+
+        StringBuilder sql = new StringBuilder("SELECT ").append(select).append(", status, ").append(SUMS)
+                .append(" FROM booking_daily_rollup WHERE day >= ? AND day <= ?");
+        List<Object> args = new ArrayList<>(List.of(Date.valueOf(from), Date.valueOf(to)));
+        if (hotelId != null) {
+            sql.append(" AND hotel_id = ?");
+            args.add(hotelId);
+        }
+        if (city != null) {
+            sql.append(" AND city = ?");
+            args.add(city);
+        }
+        if (status != null) {
+            sql.append(" AND status = ?");
+            args.add(status.name());
+        }
+        sql.append(" GROUP BY ").append(dimension).append(", status ORDER BY ").append(dimension).append(", status");
+
+        return jdbcTemplate.query(sql.toString(), rowMapper(groupBy), args.toArray());
+    }
+
+    private static RowMapper<BookingRollupDTO> rowMapper(BookingRollupDTO.GroupBy groupBy) {
+        return (rs, rowNum) -> {
+            BookingRollupDTO.BookingRollupDTOBuilder row = BookingRollupDTO.builder()
+                    .status(BookingStatus.valueOf(rs.getString("status")))
+                    .bookings(rs.getLong("bookings"))
+                    .roomNights(rs.getLong("room_nights"))
+                    .grossAmount(rs.getBigDecimal("gross_amount"))
+                    .taxesAmount(rs.getBigDecimal("taxes_amount"))
+                    .feesAmount(rs.getBigDecimal("fees_amount"));
+            switch (groupBy) {
+                case DAY -> row.day(rs.getDate("day").toLocalDate());
+                case HOTEL -> row.hotelId(rs.getLong("hotel_id")).city(rs.getString("city"));
+                case CITY -> row.city(rs.getString("city"));
+            }
+            return row.build();
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package com.hrs.hotelbooking.booking.rollup;
+
+import com.hrs.hotelbooking.shared.dto.BookingStatus;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+
+/**
+ * HRS Rollup Key
+ * One row of booking_daily_rollup: the bookings of a hotel that moved into a status on a day.
+ * Ordered like the primary key, so writes of the same rows always lock them in the same order
+ *
+ * @author arihants1
+ */
+public record RollupKey(LocalDate day, Long hotelId, BookingStatus status) implements Comparable<RollupKey> {
+
+    private static final Comparator<RollupKey> ORDER = Comparator.comparing(RollupKey::day)
+            .thenComparing(RollupKey::hotelId)
+            .thenComparing(RollupKey::status);
+
+    @Override
+    public int compareTo(RollupKey other) {
+        return ORDER.compare(this, other);
+    }
+}
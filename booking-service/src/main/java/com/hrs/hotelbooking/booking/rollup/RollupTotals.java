@@ -0,0 +1,54 @@
+package com.hrs.hotelbooking.booking.rollup;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * HRS Rollup Totals
+ * Mutable sums added to one rollup row; used to fold the changes of a booking write or a backfill
+ * chunk before they are written
+ *
+ * @author arihants1
+ */
+@Getter
+public class RollupTotals {
+
+    private long bookings;
+    private long roomNights;
+    private BigDecimal grossAmount = BigDecimal.ZERO;
+    private BigDecimal taxesAmount = BigDecimal.ZERO;
+    private BigDecimal feesAmount = BigDecimal.ZERO;
+
+    /**
+     * Add (sign 1) or take away (sign -1) one booking's stay and amounts; counted says whether the
+     * booking itself is counted or only its figures change
+     */
+    public RollupTotals add(int sign, boolean counted, int numberOfRooms, LocalDate checkIn, LocalDate checkOut,
+                            BigDecimal gross, BigDecimal taxes, BigDecimal fees) {
+        if (counted) {
+            bookings += sign;
+        }
+        if (checkIn != null && checkOut != null) {
+            roomNights += sign * numberOfRooms * ChronoUnit.DAYS.between(checkIn, checkOut);
+        }
+        grossAmount = grossAmount.add(signed(gross, sign));
+        taxesAmount = taxesAmount.add(signed(taxes, sign));
+        feesAmount = feesAmount.add(signed(fees, sign));
+        return this;
+    }
+
+    public boolean isZero() {
+        return bookings == 0 && roomNights == 0 && grossAmount.signum() == 0
+                && taxesAmount.signum() == 0 && feesAmount.signum() == 0;
+    }
+
+    private static BigDecimal signed(BigDecimal amount, int sign) {
+        if (amount == null) {
+            return BigDecimal.ZERO;
+        }
+        return sign < 0 ? amount.negate() : amount;
+    }
+}
@@ -0,0 +1,49 @@
+package com.hrs.hotelbooking.booking.service;
+
+import com.hrs.hotelbooking.booking.dto.BookingExportCriteria;
+
+import java.io.OutputStream;
+
+/**
+ * HRS Booking Export Service Interface
+ * Streams booking extracts straight from the database to a caller-supplied stream
+ *
+ * @author arihants1
+ */
+public interface BookingExportService {
+
+    /**
+     * Supported export formats
+     */
+    enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    /**
+     * Validate export filters before the response is committed
+     */
+    void validateCriteria(BookingExportCriteria criteria);
+
+    /**
+     * Write every booking matching the criteria to out, ordered by check-in date, and return the row count.
+     * Rows are read through a database cursor and written as they arrive, so heap use does not grow with the export
+     */
+    long exportBookings(BookingExportCriteria criteria, Format format, OutputStream out);
+}
@@ -0,0 +1,51 @@
+package com.hrs.hotelbooking.booking.service;
+
+import com.hrs.hotelbooking.booking.dto.BookingIntakeDTO;
+import com.hrs.hotelbooking.booking.entity.BookingIntake;
+import com.hrs.hotelbooking.shared.dto.BookingDTO;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * HRS Booking Intake Service Interface
+ * Asynchronous booking intake: requests are queued durably, acknowledged with a ticket
+ * and turned into bookings by a bounded worker pool
+ *
+ * @author arihants1
+ */
+public interface BookingIntakeService {
+
+    /**
+     * Validate and queue a booking request, returning its ticket
+     */
+    BookingIntakeDTO submit(BookingDTO bookingDTO, String callbackUrl);
+
+    /**
+     * Get the current state of a queued booking request
+     */
+    BookingIntakeDTO getStatus(String ticketId);
+
+    /**
+     * Claim up to limit queued requests for processing
+     */
+    List<BookingIntake> claimNext(int limit);
+
+    /**
+     * Create the booking for a claimed request and complete it in the same transaction.
+     * attempt is the entry's attempts at claim time; returns null when that claim was lost
+     * (requeued as stale and claimed again), in which case nothing is created
+     */
+    BookingIntakeDTO process(Long intakeId, int attempt);
+
+    /**
+     * Record a processing failure; retryable failures are queued again until attempts run out.
+     * Returns null when the claim was lost and the entry is no longer this worker's to update
+     */
+    BookingIntakeDTO markFailed(Long intakeId, int attempt, String error, boolean retryable);
+
+    /**
+     * Return requests stuck in processing for longer than staleAfter to the queue
+     */
+    int requeueStale(Duration staleAfter);
+}
@@ -0,0 +1,30 @@
+package com.hrs.hotelbooking.booking.service;
+
+import com.hrs.hotelbooking.booking.dto.BookingRollupDTO;
+import com.hrs.hotelbooking.shared.dto.BookingStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * HRS Booking Report Service Interface
+ * Booking and revenue reports read from the daily booking rollups
+ *
+ * @author arihants1
+ */
+public interface BookingReportService {
+
+    /**
+     * Bookings, room-nights and amounts per status and day, hotel or city over the days from..to
+     * (inclusive; null bounds default to the last 30 days), optionally narrowed to a hotel, city or status
+     */
+    List<BookingRollupDTO> getRollups(BookingRollupDTO.GroupBy groupBy, LocalDate from, LocalDate to,
+                                      Long hotelId, String city, BookingStatus status);
+
+    /**
+     * Start rebuilding the rollups of the past days from..to (inclusive; null bounds default to the
+     * two years up to yesterday, starting no earlier than the first day whose bookings are not archived)
+     * from the bookings table; an explicit from reaching archived days is rejected
+     */
+    void startBackfill(LocalDate from, LocalDate to);
+}
@@ -37,7 +37,7 @@ public interface BookingSearchService {
     Page<BookingSearchDocument> getUpcomingHotelBookings(Long hotelId, Pageable pageable);
 
     /**
-     * Find overlapping bookings for availability check
+     * Find active (pending, confirmed, checked-in) bookings overlapping the dates, for availability checks
      */
     List<BookingSearchDocument> findOverlappingBookings(Long hotelId, LocalDate checkIn, LocalDate checkOut);
 
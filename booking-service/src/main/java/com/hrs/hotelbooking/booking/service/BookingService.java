@@ -1,8 +1,11 @@
 package com.hrs.hotelbooking.booking.service;
 
+import com.hrs.hotelbooking.booking.dto.BatchBookingResult;
 import com.hrs.hotelbooking.shared.dto.BookingDTO;
+import com.hrs.hotelbooking.shared.pagination.CursorPage;
 import org.springframework.data.domain.Page;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -19,6 +22,16 @@ public interface BookingService {
      */
     BookingDTO createBooking(BookingDTO bookingDTO);
 
+    /**
+     * Validate booking request fields and dates without touching the database
+     */
+    void validateBooking(BookingDTO bookingDTO);
+
+    /**
+     * Create a group of bookings in one transaction, reporting the outcome of each item
+     */
+    BatchBookingResult createBookings(List<BookingDTO> bookingDTOs);
+
     /**
      * Get booking by ID
      */
@@ -40,14 +53,16 @@ public interface BookingService {
     BookingDTO cancelBooking(Long id);
 
     /**
-     * Get all bookings by user ID
+     * Get a page of a user's booking summaries, latest check-in first, within a check-in date window
+     * (null bounds default to one year either side of today)
      */
-    List<BookingDTO> getBookingsByUserId(Long userId);
+    Page<BookingDTO> getBookingsByUserId(Long userId, LocalDate from, LocalDate to, int page, int size);
 
     /**
-     * Get all bookings by hotel ID
+     * Get a page of a hotel's booking summaries, earliest check-in first, within a check-in date window
+     * (null bounds default to one year either side of today)
      */
-    List<BookingDTO> getBookingsByHotelId(Long hotelId);
+    Page<BookingDTO> getBookingsByHotelId(Long hotelId, LocalDate from, LocalDate to, int page, int size);
 
     /**
      * Check-in guest
@@ -63,4 +78,9 @@ public interface BookingService {
      * Get all bookings with pagination
      */
     Page<BookingDTO> getAllBookings(int page, int size);
+
+    /**
+     * Get all bookings with keyset pagination, newest first
+     */
+    CursorPage<BookingDTO> scrollBookings(String cursor, int size, boolean includeTotal);
 }
\ No newline at end of file
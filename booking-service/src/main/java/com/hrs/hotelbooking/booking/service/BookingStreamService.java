@@ -0,0 +1,18 @@
+package com.hrs.hotelbooking.booking.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * HRS Booking Stream Service Interface
+ * Server-sent event streams of committed booking changes for hotel front desks
+ *
+ * @author arihants1
+ */
+public interface BookingStreamService {
+
+    /**
+     * Open a hotel's stream: a SNAPSHOT event with the upcoming arrivals, then one event per committed
+     * create, update, cancel, check-in and check-out of the hotel's bookings
+     */
+    SseEmitter openHotelStream(Long hotelId);
+}
@@ -0,0 +1,21 @@
+package com.hrs.hotelbooking.booking.service;
+
+import com.hrs.hotelbooking.booking.dto.OccupancyCalendarDTO;
+
+import java.time.LocalDate;
+
+/**
+ * HRS Occupancy Service Interface
+ * Rooms sold per hotel and night, read from the materialized occupancy ledger
+ *
+ * @author arihants1
+ */
+public interface OccupancyService {
+
+    /**
+     * Occupancy of a hotel over the nights [from, to) (null bounds default to the next 365 nights),
+     * grouped by day, week or calendar month
+     */
+    OccupancyCalendarDTO getOccupancyCalendar(Long hotelId, LocalDate from, LocalDate to,
+                                              OccupancyCalendarDTO.Granularity granularity);
+}
@@ -0,0 +1,219 @@
+package com.hrs.hotelbooking.booking.stream;
+
+import com.hrs.hotelbooking.booking.dto.BookingStreamEventDTO;
+import com.hrs.hotelbooking.shared.exception.BusinessValidationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * HRS Booking Event Hub
+ * In-process fan-out of committed booking changes to the front-desk streams open on this node, keyed by
+ * hotel. Publishing only offers the event to each subscriber's bounded buffer (buffer-size events) and
+ * returns; it never writes to, or completes, an emitter, since both wait for a write in progress to a
+ * stalled client. Sender threads write the buffers out, one thread per stream with pending events, started
+ * on demand up to sender-threads and retired when idle, so a stalled client ties up only its own thread.
+ * Each write is bounded by the container's write timeout (server.tomcat.connection-timeout); a write that
+ * fails or times out drops the subscriber. A subscriber whose buffer is full has fallen behind and is
+ * disconnected instead of growing without bound: its client reconnects and starts over from a fresh
+ * snapshot. A heartbeat comment every heartbeat-interval-ms keeps proxies from closing idle streams and
+ * finds clients that went away.
+ *
+ * Metrics: hrs.booking.stream.subscribers, hrs.booking.stream.overflows
+ *
+ * @author arihants1
+ */
+@Component
+@Slf4j
+public class BookingEventHub {
+
+    static final String SNAPSHOT_EVENT = "SNAPSHOT";
+
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long reconnectMillis;
+    private final Counter overflows;
+    private final ThreadPoolExecutor sender;
+
+    private final Map<Long, Set<BookingStreamSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    public BookingEventHub(MeterRegistry meterRegistry,
+                           @Value("${hrs.booking.stream.timeout-ms:1800000}") long timeoutMillis,
+                           @Value("${hrs.booking.stream.buffer-size:256}") int bufferSize,
+                           @Value("${hrs.booking.stream.max-subscribers:10000}") int maxSubscribers,
+                           @Value("${hrs.booking.stream.reconnect-ms:3000}") long reconnectMillis,
+                           @Value("${hrs.booking.stream.sender-threads:64}") int senderThreads) {
+        this.timeoutMillis = timeoutMillis;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.reconnectMillis = reconnectMillis;
+        this.overflows = meterRegistry.counter("hrs.booking.stream.overflows");
+        // A thread is started for every drain until sender-threads are running; drains queue only beyond that
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("hrs-booking-stream-"));
+        this.sender.allowCoreThreadTimeOut(true);
+
+        Gauge.builder("hrs.booking.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("HRS front-desk booking streams open on this node")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Open a stream of the hotel's booking changes. The subscriber is registered before the snapshot is
+     * read, so a change committed meanwhile is delivered after the snapshot rather than lost; clients
+     * upsert by booking id, which makes the overlap harmless
+     */
+    public SseEmitter subscribe(Long hotelId, Supplier<?> snapshot) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new BusinessValidationException(
+                    String.format("HRS booking streams are at capacity (%d), try again later", maxSubscribers));
+        }
+
+        SseEmitter emitter = createEmitter();
+        BookingStreamSubscriber subscriber = new BookingStreamSubscriber(hotelId, emitter, bufferSize);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(subscriber));
+        subscribers.compute(hotelId, (id, hotelSubscribers) -> {
+            Set<BookingStreamSubscriber> set = hotelSubscribers != null ? hotelSubscribers : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+
+        try {
+            if (!subscriber.send(SseEmitter.event().name(SNAPSHOT_EVENT).reconnectTime(reconnectMillis)
+                    .data(snapshot.get(), MediaType.APPLICATION_JSON))) {
+                remove(subscriber);
+                return emitter;
+            }
+        } catch (RuntimeException e) {
+            remove(subscriber);
+            throw e;
+        }
+
+        // Changes buffered while the snapshot was read go out now
+        subscriber.release();
+        schedule(subscriber);
+        log.debug("HRS booking stream opened for hotel {} - {} streams open", hotelId, subscriberCount.get());
+        return emitter;
+    }
+
+    /**
+     * Offer a committed change to the streams of its hotel, and of the hotel it was moved away from
+     */
+    public void publish(BookingStreamEventDTO event) {
+        deliver(event.getHotelId(), event);
+        if (event.getPreviousHotelId() != null) {
+            deliver(event.getPreviousHotelId(), event);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${hrs.booking.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        subscribers.values().forEach(hotelSubscribers -> hotelSubscribers.forEach(subscriber ->
+                offer(subscriber, SseEmitter.event().comment("heartbeat"))));
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        subscribers.values().forEach(hotelSubscribers -> hotelSubscribers.forEach(subscriber -> {
+            subscriber.close();
+            subscriber.getEmitter().complete();
+        }));
+        subscribers.clear();
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void deliver(Long hotelId, BookingStreamEventDTO event) {
+        Set<BookingStreamSubscriber> hotelSubscribers = subscribers.get(hotelId);
+        if (hotelSubscribers == null) {
+            return;
+        }
+        // One builder per subscriber: a built SseEventBuilder cannot be sent twice
+        hotelSubscribers.forEach(subscriber -> offer(subscriber,
+                SseEmitter.event().name(event.getType().name()).data(event, MediaType.APPLICATION_JSON)));
+    }
+
+    private void offer(BookingStreamSubscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.offer(event)) {
+            schedule(subscriber);
+        } else if (!subscriber.isClosed()) {
+            overflows.increment();
+            log.warn("HRS booking stream for hotel {} fell {} events behind, disconnecting it",
+                    subscriber.getHotelId(), bufferSize);
+            // Completing here could wait on the stalled write; the drain completes the emitter instead
+            subscriber.close();
+            remove(subscriber);
+            schedule(subscriber);
+        }
+    }
+
+    private void schedule(BookingStreamSubscriber subscriber) {
+        if (subscriber.needsDrain() && subscriber.tryClaim()) {
+            try {
+                sender.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                // Only after shutdown, which completes every emitter itself
+                subscriber.release();
+            }
+        }
+    }
+
+    /**
+     * Runs on a sender thread with the subscriber claimed. A closed subscriber keeps the claim for good,
+     * so its emitter is completed exactly once, here, after any write in progress has returned
+     */
+    private void drain(BookingStreamSubscriber subscriber) {
+        do {
+            if (!subscriber.drain()) {
+                remove(subscriber);
+                subscriber.getEmitter().complete();
+                return;
+            }
+            subscriber.release();
+            // An event offered after the buffer looked empty but before the release is picked up here
+        } while (subscriber.needsDrain() && subscriber.tryClaim());
+    }
+
+    private void remove(BookingStreamSubscriber subscriber) {
+        AtomicBoolean removed = new AtomicBoolean();
+        subscribers.computeIfPresent(subscriber.getHotelId(), (id, hotelSubscribers) -> {
+            removed.set(hotelSubscribers.remove(subscriber));
+            return hotelSubscribers.isEmpty() ? null : hotelSubscribers;
+        });
+        if (removed.get()) {
+            subscriber.close();
+            subscriberCount.decrementAndGet();
+        }
+    }
+}
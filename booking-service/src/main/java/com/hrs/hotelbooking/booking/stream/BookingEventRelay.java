@@ -0,0 +1,98 @@
+package com.hrs.hotelbooking.booking.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrs.hotelbooking.booking.dto.BookingStreamEventDTO;
+import com.hrs.hotelbooking.booking.event.BookingChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * HRS Booking Event Relay
+ * Feeds the event hub with every committed booking change. Changes of this node go to the local hub
+ * once their transaction commits and are published as "node|json" on the Redis channel; the other
+ * booking-service nodes receive them there and hand them to their own hub, so a front desk sees every
+ * change whichever node its stream landed on. Redis pub/sub is fire-and-forget: a stream that misses a
+ * message while Redis is unreachable is brought up to date by the snapshot of its next connection.
+ * Disable the relay with hrs.booking.stream.relay.enabled=false on a single-node deployment
+ *
+ * Metrics: hrs.booking.stream.relayed{direction=sent|received}
+ *
+ * @author arihants1
+ */
+@Component
+@Slf4j
+public class BookingEventRelay implements MessageListener {
+
+    private static final String SEPARATOR = "|";
+
+    private final BookingEventHub eventHub;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean relayEnabled;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Counter sent;
+    private final Counter received;
+
+    public BookingEventRelay(BookingEventHub eventHub,
+                             StringRedisTemplate redisTemplate,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${hrs.booking.stream.relay.enabled:true}") boolean relayEnabled,
+                             @Value("${hrs.booking.stream.relay.channel:hrs:booking:events}") String channel) {
+        this.eventHub = eventHub;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.relayEnabled = relayEnabled;
+        this.channel = channel;
+        this.sent = meterRegistry.counter("hrs.booking.stream.relayed", "direction", "sent");
+        this.received = meterRegistry.counter("hrs.booking.stream.relayed", "direction", "received");
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBookingChanged(BookingChangedEvent event) {
+        BookingStreamEventDTO streamEvent = BookingStreamEventDTO.of(event);
+        eventHub.publish(streamEvent);
+        if (!relayEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(channel, nodeId + SEPARATOR + objectMapper.writeValueAsString(streamEvent));
+            sent.increment();
+        } catch (JsonProcessingException | RuntimeException e) {
+            // The booking is committed; streams on other nodes catch up on their next snapshot
+            log.warn("HRS could not relay {} of booking {} to other nodes: {}",
+                    event.type(), streamEvent.getBookingId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 2);
+        if (parts.length != 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            eventHub.publish(objectMapper.readValue(parts[1], BookingStreamEventDTO.class));
+            received.increment();
+        } catch (JsonProcessingException e) {
+            log.warn("HRS ignored unreadable booking stream message on {}: {}", channel, e.getMessage());
+        }
+    }
+}
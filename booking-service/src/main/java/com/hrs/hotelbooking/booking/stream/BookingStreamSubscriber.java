@@ -0,0 +1,96 @@
+package com.hrs.hotelbooking.booking.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One open front-desk stream: its emitter and the bounded buffer of events not yet written to it.
+ * Publishers only offer to the buffer; a single drain at a time writes it out on the hub's sender threads,
+ * so a slow client never holds up a booking commit or the other subscribers
+ *
+ * @author arihants1
+ */
+final class BookingStreamSubscriber {
+
+    private final Long hotelId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+    // Held while the snapshot is written and by the running drain
+    private final AtomicBoolean draining = new AtomicBoolean(true);
+    private volatile boolean closed;
+
+    BookingStreamSubscriber(Long hotelId, SseEmitter emitter, int bufferSize) {
+        this.hotelId = hotelId;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    Long getHotelId() {
+        return hotelId;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Buffer an event; false when the buffer is full and the subscriber has fallen too far behind
+     */
+    boolean offer(SseEmitter.SseEventBuilder event) {
+        return !closed && buffer.offer(event);
+    }
+
+    /**
+     * Buffered events to write, or a closed stream whose emitter is still to be completed
+     */
+    boolean needsDrain() {
+        return closed || !buffer.isEmpty();
+    }
+
+    /**
+     * Claim the right to drain; only one thread writes to the emitter at a time
+     */
+    boolean tryClaim() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void release() {
+        draining.set(false);
+    }
+
+    /**
+     * Write buffered events until the buffer is empty; false once the client is gone
+     */
+    boolean drain() {
+        SseEmitter.SseEventBuilder event;
+        while (!closed && (event = buffer.poll()) != null) {
+            if (!send(event)) {
+                return false;
+            }
+        }
+        return !closed;
+    }
+
+    boolean send(SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            close();
+            return false;
+        }
+    }
+
+    void close() {
+        closed = true;
+        buffer.clear();
+    }
+}
@@ -0,0 +1,200 @@
+package com.hrs.hotelbooking.booking.availability;
+
+import com.hrs.hotelbooking.booking.entity.Booking;
+import com.hrs.hotelbooking.booking.event.BookingChangedEvent;
+import com.hrs.hotelbooking.booking.repository.BookingRepository;
+import com.hrs.hotelbooking.booking.repository.BookingSummary;
+import com.hrs.hotelbooking.shared.dto.BookingStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+class BookingIntervalIndexTest {
+
+    private static final ProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
+    private BookingRepository bookingRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private BookingIntervalIndex index;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        bookingRepository = mock(BookingRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        index = new BookingIntervalIndex(bookingRepository, meterRegistry, true, 90, 2, 5000);
+        today = LocalDate.now();
+    }
+
+    @Test
+    void overlapping_ShouldLoadHotelOnceAndAnswerFromMemory() {
+        // Given
+        given(bookingRepository.findActiveStays(1L, today, today.plusDays(90))).willReturn(List.of(
+                summary(booking(10L, 1L, 5, 8, 1, BookingStatus.CONFIRMED)),
+                summary(booking(11L, 1L, 8, 10, 2, BookingStatus.PENDING)),
+                summary(booking(12L, 1L, 20, 22, 1, BookingStatus.CONFIRMED))));
+
+        // When
+        List<BookedInterval> first = index.overlapping(1L, today.plusDays(7), today.plusDays(9)).orElseThrow();
+        List<BookedInterval> second = index.overlapping(1L, today.plusDays(10), today.plusDays(12)).orElseThrow();
+
+        // Then: checkIn <= to and checkOut >= from, touching stays included like the database check
+        assertThat(first).extracting(BookedInterval::bookingId).containsExactly(10L, 11L);
+        assertThat(second).extracting(BookedInterval::bookingId).containsExactly(11L);
+        verify(bookingRepository, times(1)).findActiveStays(any(), any(), any());
+        assertThat(meterRegistry.get("hrs.booking.interval-index.lookups").tag("result", "hit").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    void overlapping_ShouldFallBackOutsideWindow() {
+        // When & Then
+        assertThat(index.overlapping(1L, today.minusDays(1), today.plusDays(2))).isEmpty();
+        assertThat(index.overlapping(1L, today.plusDays(80), today.plusDays(90))).isEmpty();
+        verifyNoInteractions(bookingRepository);
+        assertThat(meterRegistry.get("hrs.booking.interval-index.lookups").tag("result", "fallback").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    void overlapping_ShouldFallBackWhenDisabled() {
+        // Given
+        index = new BookingIntervalIndex(bookingRepository, meterRegistry, false, 90, 2, 5000);
+
+        // When & Then
+        assertThat(index.overlapping(1L, today.plusDays(1), today.plusDays(2))).isEmpty();
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    void onBookingChanged_ShouldApplyCommittedWritesToLoadedHotels() {
+        // Given
+        Booking existing = booking(10L, 1L, 5, 8, 1, BookingStatus.CONFIRMED);
+        given(bookingRepository.findActiveStays(1L, today, today.plusDays(90))).willReturn(List.of(summary(existing)));
+        index.overlapping(1L, today.plusDays(1), today.plusDays(2));
+
+        // When: one booking created, the existing one moved, then cancelled
+        index.onBookingChanged(BookingChangedEvent.of(BookingChangedEvent.Type.CREATED,
+                booking(11L, 1L, 1, 3, 1, BookingStatus.CONFIRMED)));
+        BookingChangedEvent.Stay previous = BookingChangedEvent.Stay.of(existing);
+        existing.setCheckInDate(today.plusDays(30));
+        existing.setCheckOutDate(today.plusDays(32));
+        index.onBookingChanged(BookingChangedEvent.updated(previous, existing));
+        List<BookedInterval> afterMove = index.overlapping(1L, today.plusDays(1), today.plusDays(40)).orElseThrow();
+        existing.setStatus(BookingStatus.CANCELLED);
+        index.onBookingChanged(BookingChangedEvent.of(BookingChangedEvent.Type.CANCELLED, existing));
+
+        // Then
+        assertThat(afterMove).extracting(BookedInterval::bookingId).containsExactly(11L, 10L);
+        assertThat(afterMove.get(1).checkInDate()).isEqualTo(today.plusDays(30));
+        assertThat(index.overlapping(1L, today.plusDays(1), today.plusDays(40)).orElseThrow())
+                .extracting(BookedInterval::bookingId).containsExactly(11L);
+    }
+
+    @Test
+    void sync_ShouldApplyBookingsChangedOnOtherNodes() {
+        // Given
+        given(bookingRepository.findActiveStays(1L, today, today.plusDays(90))).willReturn(List.of(
+                summary(booking(10L, 1L, 5, 8, 1, BookingStatus.CONFIRMED))));
+        index.overlapping(1L, today.plusDays(1), today.plusDays(2));
+        given(bookingRepository.findStaysChangedSince(eq(List.of(1L)), any(LocalDate.class), any(LocalDateTime.class)))
+                .willReturn(List.of(
+                        summary(booking(10L, 1L, 5, 8, 1, BookingStatus.CANCELLED)),
+                        summary(booking(11L, 1L, 6, 7, 3, BookingStatus.CONFIRMED))));
+
+        // When
+        index.sync();
+
+        // Then
+        assertThat(index.overlapping(1L, today.plusDays(1), today.plusDays(10)).orElseThrow())
+                .extracting(BookedInterval::bookingId).containsExactly(11L);
+    }
+
+    @Test
+    void roomsPerNight_ShouldSumRoomsOfStaysCoveringEachNight() {
+        // Given
+        given(bookingRepository.findActiveStays(1L, today, today.plusDays(90))).willReturn(List.of(
+                summary(booking(10L, 1L, 2, 5, 1, BookingStatus.CONFIRMED)),
+                summary(booking(11L, 1L, 4, 6, 2, BookingStatus.CHECKED_IN)),
+                summary(booking(12L, 1L, 6, 7, 4, BookingStatus.CONFIRMED))));
+
+        // When: nights today+1 .. today+6
+        int[] rooms = index.roomsPerNight(1L, today.plusDays(1), today.plusDays(7)).orElseThrow();
+
+        // Then
+        assertThat(rooms).containsExactly(0, 1, 1, 3, 2, 4);
+    }
+
+    @Test
+    void overlapping_ShouldEvictLeastRecentlyUsedHotel_WhenFull() {
+        // Given
+        given(bookingRepository.findActiveStays(any(), any(), any())).willReturn(List.of());
+        index.overlapping(1L, today.plusDays(1), today.plusDays(2));
+        index.overlapping(2L, today.plusDays(1), today.plusDays(2));
+        index.overlapping(1L, today.plusDays(1), today.plusDays(2));
+
+        // When
+        index.overlapping(3L, today.plusDays(1), today.plusDays(2));
+        index.overlapping(1L, today.plusDays(1), today.plusDays(2));
+
+        // Then: hotel 2 was evicted, hotel 1 stayed loaded
+        assertThat(index.size()).isEqualTo(2);
+        verify(bookingRepository, times(1)).findActiveStays(eq(1L), any(), any());
+    }
+
+    @Test
+    void hotelIntervals_ShouldMatchBruteForceOverlap() {
+        // Given
+        Random random = new Random(42);
+        List<BookedInterval> bookings = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            LocalDate checkIn = today.plusDays(random.nextInt(80));
+            bookings.add(new BookedInterval(id, "HRS" + id, id % 7, checkIn,
+                    checkIn.plusDays(1 + random.nextInt(Booking.MAX_NIGHTS)), 1));
+        }
+        HotelIntervals intervals = HotelIntervals.of(today, today.plusDays(90), bookings);
+
+        for (int i = 0; i < 200; i++) {
+            LocalDate from = today.plusDays(random.nextInt(85));
+            LocalDate to = from.plusDays(random.nextInt(5));
+
+            // When
+            List<BookedInterval> result = intervals.overlapping(from, to);
+
+            // Then
+            assertThat(result).containsExactlyInAnyOrderElementsOf(bookings.stream()
+                    .filter(b -> !b.checkInDate().isAfter(to) && !b.checkOutDate().isBefore(from))
+                    .toList());
+        }
+    }
+
+    private Booking booking(Long id, Long hotelId, int checkInOffset, int checkOutOffset, int rooms,
+                            BookingStatus status) {
+        return Booking.builder()
+                .id(id)
+                .bookingReference("HRS" + id)
+                .hotelId(hotelId)
+                .userId(100L + id)
+                .checkInDate(today.plusDays(checkInOffset))
+                .checkOutDate(today.plusDays(checkOutOffset))
+                .numberOfRooms(rooms)
+                .status(status)
+                .build();
+    }
+
+    private static BookingSummary summary(Booking booking) {
+        return PROJECTIONS.createProjection(BookingSummary.class, booking);
+    }
+}
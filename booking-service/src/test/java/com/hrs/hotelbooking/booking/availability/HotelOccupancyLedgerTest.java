@@ -0,0 +1,112 @@
+package com.hrs.hotelbooking.booking.availability;
+
+import com.hrs.hotelbooking.booking.event.BookingChangedEvent;
+import com.hrs.hotelbooking.shared.dto.BookingStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+class HotelOccupancyLedgerTest {
+
+    private static final LocalDate JULY_1 = LocalDate.of(2025, 7, 1);
+
+    private JdbcTemplate jdbcTemplate;
+    private HotelOccupancyLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        ledger = new HotelOccupancyLedger(jdbcTemplate);
+    }
+
+    @Test
+    void onBookingChanged_ShouldAddRoomsForEveryNightOfCreatedBooking() {
+        // When
+        ledger.onBookingChanged(new BookingChangedEvent(BookingChangedEvent.Type.CREATED, null,
+                stay(1L, 0, 3, 2, BookingStatus.CONFIRMED)));
+
+        // Then: nights July 1, 2 and 3; the check-out day is not sold
+        assertThat(upsertedRows()).containsExactly(
+                row(1L, 0, 2),
+                row(1L, 1, 2),
+                row(1L, 2, 2));
+    }
+
+    @Test
+    void onBookingChanged_ShouldOnlyWriteNetChangeOfUpdatedStay() {
+        // Given: moved one night later and up from 1 to 2 rooms
+        BookingChangedEvent.Stay previous = stay(1L, 0, 3, 1, BookingStatus.CONFIRMED);
+        BookingChangedEvent.Stay current = stay(1L, 1, 4, 2, BookingStatus.CONFIRMED);
+
+        // When
+        ledger.onBookingChanged(new BookingChangedEvent(BookingChangedEvent.Type.UPDATED, previous, current));
+
+        // Then
+        assertThat(upsertedRows()).containsExactly(
+                row(1L, 0, -1),
+                row(1L, 1, 1),
+                row(1L, 2, 1),
+                row(1L, 3, 2));
+    }
+
+    @Test
+    void onBookingChanged_ShouldMoveRoomsBetweenHotelsInHotelOrder() {
+        // When
+        ledger.onBookingChanged(new BookingChangedEvent(BookingChangedEvent.Type.UPDATED,
+                stay(2L, 0, 1, 1, BookingStatus.PENDING), stay(1L, 0, 1, 1, BookingStatus.PENDING)));
+
+        // Then
+        assertThat(upsertedRows()).containsExactly(row(1L, 0, 1), row(2L, 0, -1));
+    }
+
+    @Test
+    void onBookingChanged_ShouldGiveBackNightsOfCancelledBooking() {
+        // When
+        ledger.onBookingChanged(new BookingChangedEvent(BookingChangedEvent.Type.CANCELLED, null,
+                stay(1L, 0, 2, 3, BookingStatus.CANCELLED)));
+
+        // Then
+        assertThat(upsertedRows()).containsExactly(row(1L, 0, -3), row(1L, 1, -3));
+    }
+
+    @Test
+    void onBookingChanged_ShouldIgnoreCheckInAndUnchangedUpdates() {
+        // Given
+        BookingChangedEvent.Stay stay = stay(1L, 0, 2, 1, BookingStatus.CONFIRMED);
+
+        // When
+        ledger.onBookingChanged(new BookingChangedEvent(BookingChangedEvent.Type.CHECKED_IN, null, stay));
+        ledger.onBookingChanged(new BookingChangedEvent(BookingChangedEvent.Type.UPDATED, stay, stay));
+
+        // Then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> upsertedRows() {
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        return rows.getValue();
+    }
+
+    private static Object[] row(Long hotelId, int night, int rooms) {
+        return new Object[]{hotelId, Date.valueOf(JULY_1.plusDays(night)), rooms};
+    }
+
+    private static BookingChangedEvent.Stay stay(Long hotelId, int checkIn, int checkOut, int rooms,
+                                                 BookingStatus status) {
+        return new BookingChangedEvent.Stay(10L, "HRS10", hotelId, 100L,
+                JULY_1.plusDays(checkIn), JULY_1.plusDays(checkOut), rooms, status,
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+}
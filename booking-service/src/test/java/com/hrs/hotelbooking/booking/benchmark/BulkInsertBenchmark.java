@@ -0,0 +1,176 @@
+package com.hrs.hotelbooking.booking.benchmark;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+
+/**
+ * HRS Bulk Insert Benchmark
+ * Compares the JDBC traffic Hibernate generates for booking inserts before and after the move
+ * from IDENTITY to pooled sequence ids:
+ * - identity: one INSERT ... RETURNING id round trip per row (batching impossible)
+ * - pooled:   one nextval per 50 rows, INSERTs batched 25 at a time with reWriteBatchedInserts
+ * Works on temporary tables, so it is safe to run against a development database.
+ *
+ *   ./gradlew :booking-service:bulkInsertBenchmark --args="jdbc:postgresql://localhost:5432/hotel_booking postgres postgres123 20000"
+ *
+ * @author arihants1
+ */
+public final class BulkInsertBenchmark {
+
+    private static final int ALLOCATION_SIZE = 50;
+    private static final int BATCH_SIZE = 25;
+    private static final int ROWS_PER_TRANSACTION = 1000;
+
+    private static final String COLUMNS =
+            "user_id, hotel_id, check_in_date, check_out_date, room_type, number_of_rooms, number_of_guests, "
+                    + "total_amount, base_amount, taxes_amount, fees_amount, status, booking_reference";
+
+    private BulkInsertBenchmark() {
+    }
+
+    public static void main(String[] args) throws SQLException {
+        String url = args.length > 0 ? args[0] : "jdbc:postgresql://localhost:5432/hotel_booking";
+        String user = args.length > 1 ? args[1] : "postgres";
+        String password = args.length > 2 ? args[2] : "postgres123";
+        int rows = args.length > 3 ? Integer.parseInt(args[3]) : 20_000;
+
+        System.out.printf("HRS bulk insert benchmark: %d bookings against %s%n", rows, url);
+
+        try (Connection connection = DriverManager.getConnection(withRewrite(url, false), user, password)) {
+            warmUp(connection, rows / 10);
+            report("identity", rows, identityInserts(connection, rows));
+        }
+        try (Connection connection = DriverManager.getConnection(withRewrite(url, true), user, password)) {
+            warmUp(connection, rows / 10);
+            report("pooled", rows, pooledBatchInserts(connection, rows));
+        }
+    }
+
+    private static void warmUp(Connection connection, int rows) throws SQLException {
+        createTables(connection);
+        identityInserts(connection, rows);
+        pooledBatchInserts(connection, rows);
+        createTables(connection);
+    }
+
+    private static long identityInserts(Connection connection, int rows) throws SQLException {
+        connection.setAutoCommit(false);
+        long start = System.nanoTime();
+
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO hrs_bench_identity (" + COLUMNS + ") VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?) RETURNING id")) {
+            for (int i = 0; i < rows; i++) {
+                bind(insert, "I", i);
+                try (ResultSet generated = insert.executeQuery()) {
+                    generated.next();
+                }
+                if ((i + 1) % ROWS_PER_TRANSACTION == 0) {
+                    connection.commit();
+                }
+            }
+        }
+
+        connection.commit();
+        return System.nanoTime() - start;
+    }
+
+    private static long pooledBatchInserts(Connection connection, int rows) throws SQLException {
+        connection.setAutoCommit(false);
+        long start = System.nanoTime();
+        long nextId = 0;
+        long blockEnd = -1;
+
+        try (PreparedStatement nextval = connection.prepareStatement("SELECT nextval('hrs_bench_pooled_seq')");
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO hrs_bench_pooled (id, " + COLUMNS + ") VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?)")) {
+            for (int i = 0; i < rows; i++) {
+                if (nextId > blockEnd) {
+                    try (ResultSet block = nextval.executeQuery()) {
+                        block.next();
+                        blockEnd = block.getLong(1);
+                        nextId = blockEnd - ALLOCATION_SIZE + 1;
+                    }
+                }
+
+                insert.setLong(1, nextId++);
+                bindShifted(insert, "P", i);
+                insert.addBatch();
+
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+                if ((i + 1) % ROWS_PER_TRANSACTION == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+        }
+
+        connection.commit();
+        return System.nanoTime() - start;
+    }
+
+    private static void createTables(Connection connection) throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS hrs_bench_identity");
+            statement.execute("DROP TABLE IF EXISTS hrs_bench_pooled");
+            statement.execute("DROP SEQUENCE IF EXISTS hrs_bench_pooled_seq");
+            statement.execute("CREATE TEMPORARY TABLE hrs_bench_identity (id BIGSERIAL PRIMARY KEY, " + columnDefinitions() + ")");
+            statement.execute("CREATE TEMPORARY SEQUENCE hrs_bench_pooled_seq START WITH " + ALLOCATION_SIZE
+                    + " INCREMENT BY " + ALLOCATION_SIZE);
+            statement.execute("CREATE TEMPORARY TABLE hrs_bench_pooled (id BIGINT PRIMARY KEY, " + columnDefinitions() + ")");
+        }
+    }
+
+    private static String columnDefinitions() {
+        return "user_id BIGINT NOT NULL, hotel_id BIGINT NOT NULL, check_in_date DATE NOT NULL, "
+                + "check_out_date DATE NOT NULL, room_type VARCHAR(100), number_of_rooms INTEGER NOT NULL, "
+                + "number_of_guests INTEGER NOT NULL, total_amount DECIMAL(12,2), base_amount DECIMAL(12,2), "
+                + "taxes_amount DECIMAL(12,2), fees_amount DECIMAL(12,2), status VARCHAR(50) NOT NULL, "
+                + "booking_reference VARCHAR(50) NOT NULL UNIQUE";
+    }
+
+    private static void bind(PreparedStatement statement, String prefix, int row) throws SQLException {
+        bindFrom(statement, 1, prefix, row);
+    }
+
+    private static void bindShifted(PreparedStatement statement, String prefix, int row) throws SQLException {
+        bindFrom(statement, 2, prefix, row);
+    }
+
+    private static void bindFrom(PreparedStatement statement, int first, String prefix, int row) throws SQLException {
+        LocalDate checkIn = LocalDate.now().plusDays(row % 365);
+        statement.setLong(first, 1 + row % 8);
+        statement.setLong(first + 1, 1 + row % 5);
+        statement.setDate(first + 2, Date.valueOf(checkIn));
+        statement.setDate(first + 3, Date.valueOf(checkIn.plusDays(3)));
+        statement.setString(first + 4, "STANDARD");
+        statement.setInt(first + 5, 1);
+        statement.setInt(first + 6, 2);
+        statement.setBigDecimal(first + 7, new BigDecimal("345.00"));
+        statement.setBigDecimal(first + 8, new BigDecimal("300.00"));
+        statement.setBigDecimal(first + 9, new BigDecimal("30.00"));
+        statement.setBigDecimal(first + 10, new BigDecimal("15.00"));
+        statement.setString(first + 11, "CONFIRMED");
+        statement.setString(first + 12, prefix + "-" + System.nanoTime() + "-" + row);
+    }
+
+    private static String withRewrite(String url, boolean rewrite) {
+        String separator = url.contains("?") ? "&" : "?";
+        return url + separator + "reWriteBatchedInserts=" + rewrite;
+    }
+
+    private static void report(String mode, int rows, long nanos) {
+        double seconds = nanos / 1_000_000_000.0;
+        System.out.printf("%-9s %8.0f rows/s  (%d rows in %.2fs)%n", mode, rows / seconds, rows, seconds);
+    }
+}
@@ -285,8 +285,6 @@ class BookingElasticsearchIndexerTest {
         // Verify derived fields
         assertThat(document.getStayDuration()).isEqualTo(10);
         assertThat(document.getIsActive()).isTrue();
-        assertThat(document.getIsUpcoming()).isTrue(); // Future check-in date
-        assertThat(document.getIsPast()).isFalse();
 
         // Verify tags
         assertThat(document.getTags()).contains("group", "multi-room", "long-stay", "active-stay");
@@ -330,8 +328,6 @@ class BookingElasticsearchIndexerTest {
         BookingSearchDocument document = documentsCaptor.getValue().get(0);
 
         assertThat(document.getStayDuration()).isNull();
-        assertThat(document.getIsUpcoming()).isFalse();
-        assertThat(document.getIsPast()).isFalse();
     }
 
     @Test
@@ -400,8 +396,6 @@ class BookingElasticsearchIndexerTest {
 
         assertThat(document.getStayDuration()).isEqualTo(3);
         assertThat(document.getIsActive()).isFalse(); // CHECKED_OUT is not active
-        assertThat(document.getIsUpcoming()).isFalse(); // Past check-in date
-        assertThat(document.getIsPast()).isTrue(); // Past check-out date
     }
 
     @Test
@@ -435,8 +429,6 @@ class BookingElasticsearchIndexerTest {
 
         assertThat(document.getStayDuration()).isEqualTo(3);
         assertThat(document.getIsActive()).isTrue(); // CONFIRMED is active
-        assertThat(document.getIsUpcoming()).isTrue(); // Future check-in date
-        assertThat(document.getIsPast()).isFalse(); // Future check-out date
     }
 
     @Test
@@ -0,0 +1,234 @@
+package com.hrs.hotelbooking.booking.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * Test cases for IdempotencyKeyFilter
+ *
+ * @author arihants1
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Idempotency Key Filter Tests")
+class IdempotencyKeyFilterTest {
+
+    private static final String BODY = "{\"userId\":1,\"hotelId\":1}";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final Map<String, String> store = new ConcurrentHashMap<>();
+    private final AtomicInteger executions = new AtomicInteger();
+    private IdempotencyKeyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new IdempotencyKeyFilter(redisTemplate, new ObjectMapper().findAndRegisterModules(),
+                Duration.ofHours(24), Duration.ofSeconds(60));
+
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenAnswer(invocation -> store.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+        lenient().doAnswer(invocation -> store.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        lenient().when(valueOperations.get(anyString()))
+                .thenAnswer(invocation -> store.get((String) invocation.getArgument(0)));
+        lenient().when(redisTemplate.delete(anyString()))
+                .thenAnswer(invocation -> store.remove((String) invocation.getArgument(0)) != null);
+    }
+
+    @Test
+    @DisplayName("Should replay stored response without executing the request again")
+    void shouldReplayStoredResponse() throws Exception {
+        // Given
+        MockHttpServletResponse first = perform(request("key-1", BODY), respondWith(201));
+
+        // When
+        MockHttpServletResponse replay = perform(request("key-1", BODY), respondWith(201));
+
+        // Then
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(replay.getStatus()).isEqualTo(201);
+        assertThat(replay.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(replay.getContentAsString()).isEqualTo(first.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused with a different body")
+    void shouldRejectKeyReusedWithDifferentBody() throws Exception {
+        // Given
+        perform(request("key-2", BODY), respondWith(201));
+
+        // When
+        MockHttpServletResponse response = perform(request("key-2", "{\"userId\":2,\"hotelId\":1}"), respondWith(201));
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should answer 409 while the first request is still running")
+    void shouldRejectConcurrentDuplicate() throws Exception {
+        // Given - the first request claims the key and, while running, a duplicate arrives
+        AtomicInteger duplicateStatus = new AtomicInteger();
+        FilterChain slowChain = (request, response) -> {
+            executions.incrementAndGet();
+            duplicateStatus.set(perform(request("key-3", BODY), respondWith(201)).getStatus());
+            ((HttpServletResponse) response).setStatus(201);
+        };
+
+        // When
+        perform(request("key-3", BODY), slowChain);
+
+        // Then
+        assertThat(duplicateStatus.get()).isEqualTo(409);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should release the key when the request fails")
+    void shouldReleaseKeyOnError() throws Exception {
+        // Given
+        perform(request("key-4", BODY), respondWith(400));
+
+        // When
+        MockHttpServletResponse retry = perform(request("key-4", BODY), respondWith(201));
+
+        // Then
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should process normally when Redis is unavailable")
+    void shouldFailOpenWhenRedisUnavailable() throws Exception {
+        // Given
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .willThrow(new RedisConnectionFailureException("Connection refused"));
+
+        // When
+        MockHttpServletResponse response = perform(request("key-5", BODY), respondWith(201));
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should ignore reads and requests without a key")
+    void shouldSkipRequestsWithoutKey() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/bookings");
+        request.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+
+        // When
+        perform(request, respondWith(201));
+        perform(new MockHttpServletRequest("GET", "/api/v1/bookings/1"), respondWith(200));
+
+        // Then
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(store).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should hand the cached body to a non-blocking reader")
+    void shouldServeCachedBodyToReadListener() throws Exception {
+        // Given: the controller reads the body through a ReadListener
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        AtomicBoolean allRead = new AtomicBoolean();
+        FilterChain chain = (request, response) -> {
+            executions.incrementAndGet();
+            ServletInputStream input = request.getInputStream();
+            input.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    byte[] buffer = new byte[8];
+                    while (input.isReady() && !input.isFinished()) {
+                        int n = input.read(buffer);
+                        if (n > 0) {
+                            read.write(buffer, 0, n);
+                        }
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    allRead.set(true);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    throw new AssertionError(t);
+                }
+            });
+            ((HttpServletResponse) response).setStatus(201);
+        };
+
+        // When
+        MockHttpServletResponse response = perform(request("key-6", BODY), chain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(read.toString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(allRead).isTrue();
+    }
+
+    private MockHttpServletRequest request(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/bookings");
+        request.addHeader(IdempotencyKeyFilter.HEADER, key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private FilterChain respondWith(int status) {
+        return (request, response) -> {
+            executions.incrementAndGet();
+            request.getInputStream().readAllBytes();
+            ((HttpServletResponse) response).setStatus(status);
+            response.setContentType("application/json");
+            response.getWriter().write("{\"success\":true,\"data\":{\"id\":" + executions.get() + "}}");
+            response.getWriter().flush();
+        };
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -1,7 +1,11 @@
 package com.hrs.hotelbooking.booking.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrs.hotelbooking.booking.dto.BatchBookingRequest;
+import com.hrs.hotelbooking.booking.dto.BatchBookingResult;
+import com.hrs.hotelbooking.booking.dto.OccupancyCalendarDTO;
 import com.hrs.hotelbooking.booking.service.BookingService;
+import com.hrs.hotelbooking.booking.service.OccupancyService;
 import com.hrs.hotelbooking.shared.dto.BookingDTO;
 import com.hrs.hotelbooking.shared.dto.BookingStatus;
 import com.hrs.hotelbooking.shared.exception.ResourceNotFoundException;
@@ -14,6 +18,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
@@ -47,6 +54,9 @@ class BookingControllerTest {
     @MockBean
     private BookingService bookingService;
 
+    @MockBean
+    private OccupancyService occupancyService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -118,6 +128,43 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$.data.totalAmount", is(230.00)));
     }
 
+    @Test
+    @DisplayName("Should return multi-status when part of a batch is rejected")
+    void shouldReturnMultiStatusForPartiallyCreatedBatch() throws Exception {
+        // Given
+        BatchBookingResult result = BatchBookingResult.builder()
+                .requested(2)
+                .created(1)
+                .rejected(1)
+                .items(List.of(
+                        BatchBookingResult.Item.builder().index(0)
+                                .status(BatchBookingResult.ItemStatus.CREATED).booking(createdBookingDTO).build(),
+                        BatchBookingResult.Item.builder().index(1)
+                                .status(BatchBookingResult.ItemStatus.REJECTED).booking(validBookingDTO)
+                                .error("Check-in date cannot be in the past").build()))
+                .build();
+        given(bookingService.createBookings(any())).willReturn(result);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/bookings/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new BatchBookingRequest(List.of(validBookingDTO, validBookingDTO)))))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.data.created", is(1)))
+                .andExpect(jsonPath("$.data.items[0].status", is("CREATED")))
+                .andExpect(jsonPath("$.data.items[1].error", is("Check-in date cannot be in the past")));
+    }
+
+    @Test
+    @DisplayName("Should reject an empty batch")
+    void shouldRejectEmptyBatch() throws Exception {
+        mockMvc.perform(post("/api/v1/bookings/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BatchBookingRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Should return validation error for invalid booking data")
     void shouldReturnValidationErrorForInvalidBookingData() throws Exception {
@@ -371,17 +418,17 @@ class BookingControllerTest {
     void shouldGetUserBookingsSuccessfully() throws Exception {
         // Given
         Long userId = 1L;
-        List<BookingDTO> userBookings = Arrays.asList(createdBookingDTO);
-        given(bookingService.getBookingsByUserId(userId)).willReturn(userBookings);
+        Page<BookingDTO> userBookings = new PageImpl<>(Arrays.asList(createdBookingDTO), PageRequest.of(0, 20), 1);
+        given(bookingService.getBookingsByUserId(userId, null, null, 0, 20)).willReturn(userBookings);
 
         // When & Then
         mockMvc.perform(get("/api/v1/bookings/user/{userId}", userId))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success", is(true)))
-                .andExpect(jsonPath("$.message", is("Found 1 bookings for user")))
-                .andExpect(jsonPath("$.data", hasSize(1)))
-                .andExpect(jsonPath("$.data[0].userId", is(1)));
+                .andExpect(jsonPath("$.message", is("Found 1 bookings for user (page 1 of 1)")))
+                .andExpect(jsonPath("$.data.content", hasSize(1)))
+                .andExpect(jsonPath("$.data.content[0].userId", is(1)));
     }
 
     @Test
@@ -389,17 +436,60 @@ class BookingControllerTest {
     void shouldGetHotelBookingsSuccessfully() throws Exception {
         // Given
         Long hotelId = 1L;
-        List<BookingDTO> hotelBookings = Arrays.asList(createdBookingDTO);
-        given(bookingService.getBookingsByHotelId(hotelId)).willReturn(hotelBookings);
+        LocalDate from = LocalDate.of(2025, 7, 1);
+        LocalDate to = LocalDate.of(2025, 7, 31);
+        Page<BookingDTO> hotelBookings = new PageImpl<>(Arrays.asList(createdBookingDTO), PageRequest.of(1, 10), 11);
+        given(bookingService.getBookingsByHotelId(hotelId, from, to, 1, 10)).willReturn(hotelBookings);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/bookings/hotel/{hotelId}", hotelId)
+                        .param("from", "2025-07-01")
+                        .param("to", "2025-07-31")
+                        .param("page", "1")
+                        .param("size", "10"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success", is(true)))
+                .andExpect(jsonPath("$.message", is("Found 11 bookings for hotel (page 2 of 2)")))
+                .andExpect(jsonPath("$.data.content", hasSize(1)))
+                .andExpect(jsonPath("$.data.content[0].hotelId", is(1)));
+    }
+
+    @Test
+    @DisplayName("Should get hotel occupancy calendar successfully")
+    void shouldGetHotelOccupancySuccessfully() throws Exception {
+        // Given
+        LocalDate from = LocalDate.of(2025, 7, 1);
+        LocalDate to = LocalDate.of(2025, 7, 15);
+        OccupancyCalendarDTO occupancy = OccupancyCalendarDTO.builder()
+                .hotelId(1L)
+                .from(from)
+                .to(to)
+                .granularity(OccupancyCalendarDTO.Granularity.WEEK)
+                .roomNightsSold(42)
+                .peakRoomsSold(5)
+                .peakNight(LocalDate.of(2025, 7, 4))
+                .buckets(List.of(
+                        OccupancyCalendarDTO.Bucket.builder().from(from).to(from.plusDays(7))
+                                .roomNightsSold(30).averageRoomsSold(30.0 / 7).build(),
+                        OccupancyCalendarDTO.Bucket.builder().from(from.plusDays(7)).to(to)
+                                .roomNightsSold(12).averageRoomsSold(12.0 / 7).build()))
+                .build();
+        given(occupancyService.getOccupancyCalendar(1L, from, to, OccupancyCalendarDTO.Granularity.WEEK))
+                .willReturn(occupancy);
 
         // When & Then
-        mockMvc.perform(get("/api/v1/bookings/hotel/{hotelId}", hotelId))
+        mockMvc.perform(get("/api/v1/bookings/hotel/{hotelId}/occupancy", 1L)
+                        .param("from", "2025-07-01")
+                        .param("to", "2025-07-15")
+                        .param("granularity", "WEEK"))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success", is(true)))
-                .andExpect(jsonPath("$.message", is("Found 1 bookings for hotel")))
-                .andExpect(jsonPath("$.data", hasSize(1)))
-                .andExpect(jsonPath("$.data[0].hotelId", is(1)));
+                .andExpect(jsonPath("$.message", is("HRS occupancy for 14 nights retrieved successfully")))
+                .andExpect(jsonPath("$.data.roomNightsSold", is(42)))
+                .andExpect(jsonPath("$.data.buckets", hasSize(2)))
+                .andExpect(jsonPath("$.data.buckets[1].roomNightsSold", is(12)));
     }
 
     @Test
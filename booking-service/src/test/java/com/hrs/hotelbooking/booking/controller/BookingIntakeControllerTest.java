@@ -0,0 +1,83 @@
+package com.hrs.hotelbooking.booking.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrs.hotelbooking.booking.dto.BookingIntakeDTO;
+import com.hrs.hotelbooking.booking.entity.BookingIntake;
+import com.hrs.hotelbooking.booking.service.BookingIntakeService;
+import com.hrs.hotelbooking.shared.dto.BookingDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(BookingIntakeController.class)
+@DisplayName("Booking Intake Controller Tests")
+class BookingIntakeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private BookingIntakeService intakeService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Should accept booking with 202 and a ticket location")
+    void shouldAcceptBookingAsynchronously() throws Exception {
+        // Given
+        BookingDTO booking = BookingDTO.builder()
+                .userId(1L)
+                .hotelId(1L)
+                .checkInDate(LocalDate.now().plusDays(1))
+                .checkOutDate(LocalDate.now().plusDays(3))
+                .roomType("STANDARD")
+                .numberOfRooms(1)
+                .numberOfGuests(2)
+                .build();
+        given(intakeService.submit(any(BookingDTO.class), isNull())).willReturn(BookingIntakeDTO.builder()
+                .ticketId("5f0c6a9e-2d7b-4c1e-9a57-3b8d2f6e1c40")
+                .status(BookingIntake.Status.QUEUED)
+                .build());
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/bookings/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(booking)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/v1/bookings/intake/5f0c6a9e-2d7b-4c1e-9a57-3b8d2f6e1c40"))
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.data.status", is("QUEUED")));
+    }
+
+    @Test
+    @DisplayName("Should return completed intake without Retry-After")
+    void shouldReturnCompletedIntake() throws Exception {
+        // Given
+        given(intakeService.getStatus("t-1")).willReturn(BookingIntakeDTO.builder()
+                .ticketId("t-1")
+                .status(BookingIntake.Status.COMPLETED)
+                .booking(BookingDTO.builder().id(42L).build())
+                .build());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/bookings/intake/t-1"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Retry-After"))
+                .andExpect(jsonPath("$.data.booking.id", is(42)));
+    }
+}
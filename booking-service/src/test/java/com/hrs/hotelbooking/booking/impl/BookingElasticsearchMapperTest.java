@@ -265,96 +265,6 @@ class BookingElasticsearchMapperTest {
         assertThat(document.getIsActive()).isFalse();
     }
 
-    @Test
-    @DisplayName("Should mark booking as upcoming when check-in date is in future")
-    void shouldMarkBookingAsUpcomingWhenCheckInDateIsInFuture() {
-        // Given - future check-in date
-        Booking booking = createBookingWith(builder -> builder
-                .checkInDate(LocalDate.now().plusDays(30))
-        );
-
-        // When
-        BookingSearchDocument document = mapper.toSearchDocument(booking);
-
-        // Then
-        assertThat(document.getIsUpcoming()).isTrue();
-    }
-
-    @Test
-    @DisplayName("Should not mark booking as upcoming when check-in date is in past")
-    void shouldNotMarkBookingAsUpcomingWhenCheckInDateIsInPast() {
-        // Given - past check-in date
-        Booking booking = createBookingWith(builder -> builder
-                .checkInDate(LocalDate.now().minusDays(5))
-        );
-
-        // When
-        BookingSearchDocument document = mapper.toSearchDocument(booking);
-
-        // Then
-        assertThat(document.getIsUpcoming()).isFalse();
-    }
-
-    @Test
-    @DisplayName("Should handle null check-in date for upcoming calculation")
-    void shouldHandleNullCheckInDateForUpcomingCalculation() {
-        // Given
-        Booking booking = createBookingWith(builder -> builder
-                .checkInDate(null)
-        );
-
-        // When
-        BookingSearchDocument document = mapper.toSearchDocument(booking);
-
-        // Then
-        assertThat(document.getIsUpcoming()).isFalse();
-    }
-
-    @Test
-    @DisplayName("Should mark booking as past when check-out date is in past")
-    void shouldMarkBookingAsPastWhenCheckOutDateIsInPast() {
-        // Given - past check-out date
-        Booking booking = createBookingWith(builder -> builder
-                .checkOutDate(LocalDate.now().minusDays(10))
-        );
-
-        // When
-        BookingSearchDocument document = mapper.toSearchDocument(booking);
-
-        // Then
-        assertThat(document.getIsPast()).isTrue();
-    }
-
-    @Test
-    @DisplayName("Should not mark booking as past when check-out date is in future")
-    void shouldNotMarkBookingAsPastWhenCheckOutDateIsInFuture() {
-        // Given - future check-out date
-        Booking booking = createBookingWith(builder -> builder
-                .checkOutDate(LocalDate.now().plusDays(10))
-        );
-
-        // When
-        BookingSearchDocument document = mapper.toSearchDocument(booking);
-
-        // Then
-        assertThat(document.getIsPast()).isFalse();
-    }
-
-    @Test
-    @DisplayName("Should handle null check-out date for past calculation")
-    void shouldHandleNullCheckOutDateForPastCalculation() {
-        // Given
-        Booking booking = createBookingWith(builder -> builder
-                .checkOutDate(null)
-        );
-
-        // When
-        BookingSearchDocument document = mapper.toSearchDocument(booking);
-
-        // Then
-        assertThat(document.getIsPast()).isFalse();
-    }
-
     @Test
     @DisplayName("Should generate group tag for bookings with more than 2 guests")
     void shouldGenerateGroupTagForBookingsWithMoreThanTwoGuests() {
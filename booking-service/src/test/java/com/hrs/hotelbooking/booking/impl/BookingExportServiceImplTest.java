@@ -0,0 +1,142 @@
+package com.hrs.hotelbooking.booking.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrs.hotelbooking.booking.dto.BookingExportCriteria;
+import com.hrs.hotelbooking.booking.service.BookingExportService;
+import com.hrs.hotelbooking.booking.service.impl.BookingExportServiceImpl;
+import com.hrs.hotelbooking.shared.dto.BookingStatus;
+import com.hrs.hotelbooking.shared.exception.BusinessValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BookingExportServiceImpl
+ *
+ * @author arihants1
+ */
+@ExtendWith(MockitoExtension.class)
+class BookingExportServiceImplTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private BookingExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new BookingExportServiceImpl(dataSource, objectMapper, 500);
+    }
+
+    private void givenOneRow() throws Exception {
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.prepareStatement(anyString())).willReturn(statement);
+        given(statement.executeQuery()).willReturn(resultSet);
+        given(resultSet.next()).willReturn(true, false);
+        // Columns 1 (id), 2 (booking_reference), 5 (hotel_id), 6 (room_type), 7 (check_in_date), 15 (total_amount)
+        given(resultSet.getLong(1)).willReturn(7L);
+        given(resultSet.getString(2)).willReturn("HRS_20250627054704_0001");
+        given(resultSet.getLong(5)).willReturn(3L);
+        given(resultSet.getString(6)).willReturn("Deluxe, \"sea view\"");
+        given(resultSet.getObject(7, LocalDate.class)).willReturn(LocalDate.of(2025, 7, 1));
+        given(resultSet.getBigDecimal(15)).willReturn(new BigDecimal("345.00"));
+    }
+
+    @Test
+    void exportBookings_ShouldStreamCsvThroughCursorWithFilters() throws Exception {
+        // Given
+        givenOneRow();
+        BookingExportCriteria criteria = BookingExportCriteria.builder()
+                .checkInFrom(LocalDate.of(2025, 7, 1))
+                .hotelId(3L)
+                .status(BookingStatus.CONFIRMED)
+                .build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long rows = exportService.exportBookings(criteria, BookingExportService.Format.CSV, out);
+
+        // Then
+        assertThat(rows).isEqualTo(1);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("id,booking_reference,confirmation_number,user_id,hotel_id,room_type,check_in_date");
+        assertThat(lines[1]).startsWith("7,HRS_20250627054704_0001,,0,3,\"Deluxe, \"\"sea view\"\"\",2025-07-01,");
+        assertThat(lines[1]).contains(",345.00,");
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(connection).prepareStatement(sql.capture());
+        assertThat(sql.getValue())
+                .contains("check_in_date >= ?", "hotel_id = ?", "status = ?")
+                .doesNotContain("check_in_date <= ?")
+                .endsWith("ORDER BY check_in_date, id");
+        verify(statement).setFetchSize(500);
+        verify(statement).setObject(1, LocalDate.of(2025, 7, 1));
+        verify(statement).setString(3, "CONFIRMED");
+        verify(connection).close();
+    }
+
+    @Test
+    void exportBookings_ShouldWriteOneJsonObjectPerLine() throws Exception {
+        // Given
+        givenOneRow();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        exportService.exportBookings(new BookingExportCriteria(), BookingExportService.Format.NDJSON, out);
+
+        // Then
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertThat(body).endsWith("}\n");
+        JsonNode row = objectMapper.readTree(body.trim());
+        assertThat(row.get("id").asLong()).isEqualTo(7L);
+        assertThat(row.get("room_type").asText()).isEqualTo("Deluxe, \"sea view\"");
+        assertThat(row.get("check_in_date").asText()).isEqualTo("2025-07-01");
+        assertThat(row.get("total_amount").decimalValue()).isEqualByComparingTo("345.00");
+        assertThat(row.get("cancelled_at").isNull()).isTrue();
+    }
+
+    @Test
+    void validateCriteria_ShouldRejectInvertedWindow() {
+        // Given
+        BookingExportCriteria criteria = BookingExportCriteria.builder()
+                .checkInFrom(LocalDate.of(2025, 7, 31))
+                .checkInTo(LocalDate.of(2025, 7, 1))
+                .build();
+
+        // When & Then
+        assertThatThrownBy(() -> exportService.validateCriteria(criteria))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessageContaining("cannot be before start date");
+        verifyNoInteractions(dataSource);
+    }
+}
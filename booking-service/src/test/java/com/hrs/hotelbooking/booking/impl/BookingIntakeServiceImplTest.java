@@ -0,0 +1,231 @@
+package com.hrs.hotelbooking.booking.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrs.hotelbooking.booking.dto.BookingIntakeDTO;
+import com.hrs.hotelbooking.booking.entity.BookingIntake;
+import com.hrs.hotelbooking.booking.repository.BookingIntakeRepository;
+import com.hrs.hotelbooking.booking.service.BookingService;
+import com.hrs.hotelbooking.booking.service.impl.BookingCallbackUrlPolicy;
+import com.hrs.hotelbooking.booking.service.impl.BookingIntakeServiceImpl;
+import com.hrs.hotelbooking.shared.dto.BookingDTO;
+import com.hrs.hotelbooking.shared.exception.BusinessValidationException;
+import com.hrs.hotelbooking.shared.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * Unit tests for BookingIntakeServiceImpl
+ *
+ * @author arihants1
+ */
+@ExtendWith(MockitoExtension.class)
+class BookingIntakeServiceImplTest {
+
+    @Mock
+    private BookingIntakeRepository intakeRepository;
+
+    @Mock
+    private BookingService bookingService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private BookingIntakeServiceImpl intakeService;
+    private BookingDTO bookingDTO;
+
+    @BeforeEach
+    void setUp() {
+        intakeService = new BookingIntakeServiceImpl(intakeRepository, bookingService, objectMapper,
+                callbackUrlPolicy("partner.example.com", "*.hotels.example.com"));
+        bookingDTO = BookingDTO.builder()
+                .userId(1L)
+                .hotelId(1L)
+                .checkInDate(LocalDate.now().plusDays(1))
+                .checkOutDate(LocalDate.now().plusDays(3))
+                .numberOfRooms(1)
+                .numberOfGuests(2)
+                .build();
+    }
+
+    @Test
+    void submit_ShouldQueueRequestAndReturnTicket_WithoutCreatingBooking() {
+        // Given
+        given(intakeRepository.save(any(BookingIntake.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        BookingIntakeDTO result = intakeService.submit(bookingDTO, "https://partner.example.com/hrs/callback");
+
+        // Then
+        assertThat(result.getTicketId()).hasSize(36);
+        assertThat(result.getStatus()).isEqualTo(BookingIntake.Status.QUEUED);
+        verify(bookingService).validateBooking(bookingDTO);
+        verify(bookingService, never()).createBooking(any());
+        verify(intakeRepository).save(argThat(intake -> intake.getPayload().contains("\"hotelId\":1")));
+    }
+
+    @Test
+    void submit_ShouldRejectNonHttpCallbackUrl() {
+        // When & Then
+        assertThatThrownBy(() -> intakeService.submit(bookingDTO, "file:///etc/passwd"))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessageContaining("Callback URL");
+        verify(intakeRepository, never()).save(any());
+    }
+
+    @Test
+    void submit_ShouldRejectCallbackHostNotOnAllowlist() {
+        // When & Then
+        assertThatThrownBy(() -> intakeService.submit(bookingDTO, "https://attacker.example.net/hook"))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessageContaining("host is not allowed");
+        verify(intakeRepository, never()).save(any());
+    }
+
+    @Test
+    void submit_ShouldRejectAllowedCallbackHostResolvingToInternalAddress() {
+        // When & Then: metadata endpoint, private network and loopback behind allowed names
+        assertThatThrownBy(() -> intakeService.submit(bookingDTO, "http://metadata.hotels.example.com/latest"))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessageContaining("internal address");
+        assertThatThrownBy(() -> intakeService.submit(bookingDTO, "http://intranet.hotels.example.com/hook"))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessageContaining("internal address");
+        assertThatThrownBy(() -> intakeService.submit(bookingDTO, "http://local.hotels.example.com/hook"))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessageContaining("internal address");
+        verify(intakeRepository, never()).save(any());
+    }
+
+    @Test
+    void claimNext_ShouldMarkClaimedEntriesProcessing() {
+        // Given
+        BookingIntake queued = BookingIntake.builder().id(7L).ticketId("t-7").payload("{}").build();
+        given(intakeRepository.lockNextQueued(4)).willReturn(List.of(queued));
+
+        // When
+        List<BookingIntake> claimed = intakeService.claimNext(4);
+
+        // Then
+        assertThat(claimed).containsExactly(queued);
+        assertThat(queued.getStatus()).isEqualTo(BookingIntake.Status.PROCESSING);
+        assertThat(queued.getAttempts()).isEqualTo(1);
+        assertThat(queued.getStartedAt()).isNotNull();
+    }
+
+    @Test
+    void process_ShouldCreateBookingAndCompleteEntry() throws Exception {
+        // Given
+        BookingIntake intake = BookingIntake.builder().id(7L).ticketId("t-7")
+                .payload(objectMapper.writeValueAsString(bookingDTO))
+                .status(BookingIntake.Status.PROCESSING).attempts(1).build();
+        BookingDTO created = BookingDTO.builder().id(42L).bookingReference("HRS_20250627054704_0001").build();
+        given(intakeRepository.lockClaim(7L, 1)).willReturn(1);
+        given(intakeRepository.findById(7L)).willReturn(Optional.of(intake));
+        given(bookingService.createBooking(any(BookingDTO.class))).willReturn(created);
+        given(intakeRepository.markCompleted(eq(7L), eq(1), eq(42L), eq("HRS_20250627054704_0001"),
+                any(LocalDateTime.class))).willReturn(1);
+
+        // When
+        BookingIntakeDTO result = intakeService.process(7L, 1);
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(BookingIntake.Status.COMPLETED);
+        assertThat(result.getBooking().getId()).isEqualTo(42L);
+        assertThat(intake.getBookingReference()).isEqualTo("HRS_20250627054704_0001");
+        assertThat(intake.getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    void process_ShouldSkipEntry_WhenClaimWasLostToAnotherWorker() {
+        // Given: requeued as stale and claimed again, now on attempt 2
+        given(intakeRepository.lockClaim(7L, 1)).willReturn(0);
+
+        // When
+        BookingIntakeDTO result = intakeService.process(7L, 1);
+
+        // Then
+        assertThat(result).isNull();
+        verify(bookingService, never()).createBooking(any());
+        verify(intakeRepository, never()).markCompleted(anyLong(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    void markFailed_ShouldRequeueRetryableFailure_UntilAttemptsRunOut() {
+        // Given
+        BookingIntake intake = BookingIntake.builder().id(7L).ticketId("t-7").payload("{}")
+                .status(BookingIntake.Status.PROCESSING).attempts(1).build();
+        given(intakeRepository.findById(7L)).willReturn(Optional.of(intake));
+        given(intakeRepository.markFailed(anyLong(), anyInt(), any(BookingIntake.Status.class), anyString(), any()))
+                .willReturn(1);
+
+        // When
+        BookingIntakeDTO retried = intakeService.markFailed(7L, 1, "connection reset", true);
+        BookingIntakeDTO failed = intakeService.markFailed(7L, 3, "connection reset", true);
+
+        // Then
+        assertThat(retried.getStatus()).isEqualTo(BookingIntake.Status.QUEUED);
+        assertThat(failed.getStatus()).isEqualTo(BookingIntake.Status.FAILED);
+        assertThat(failed.getCompletedAt()).isNotNull();
+        verify(intakeRepository).markFailed(7L, 1, BookingIntake.Status.QUEUED, "connection reset", null);
+        verify(intakeRepository).markFailed(eq(7L), eq(3), eq(BookingIntake.Status.FAILED), eq("connection reset"),
+                any(LocalDateTime.class));
+    }
+
+    @Test
+    void markFailed_ShouldLeaveEntryAlone_WhenClaimWasLost() {
+        // Given: the entry is no longer PROCESSING on this attempt
+        BookingIntake intake = BookingIntake.builder().id(7L).ticketId("t-7").payload("{}")
+                .status(BookingIntake.Status.COMPLETED).attempts(2).build();
+        given(intakeRepository.findById(7L)).willReturn(Optional.of(intake));
+        given(intakeRepository.markFailed(anyLong(), anyInt(), any(BookingIntake.Status.class), anyString(), any()))
+                .willReturn(0);
+
+        // When
+        BookingIntakeDTO result = intakeService.markFailed(7L, 1, "connection reset", true);
+
+        // Then
+        assertThat(result).isNull();
+        assertThat(intake.getStatus()).isEqualTo(BookingIntake.Status.COMPLETED);
+    }
+
+    @Test
+    void getStatus_ShouldThrowResourceNotFoundException_WhenTicketUnknown() {
+        // Given
+        given(intakeRepository.findByTicketId("missing")).willReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> intakeService.getStatus("missing"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    /**
+     * Resolves the test host names without DNS
+     */
+    private static BookingCallbackUrlPolicy callbackUrlPolicy(String... allowedHosts) {
+        return new BookingCallbackUrlPolicy(List.of(allowedHosts)) {
+            @Override
+            protected InetAddress[] resolve(String host) throws UnknownHostException {
+                String address = switch (host) {
+                    case "metadata.hotels.example.com" -> "169.254.169.254";
+                    case "intranet.hotels.example.com" -> "10.0.0.5";
+                    case "local.hotels.example.com" -> "127.0.0.1";
+                    default -> "93.184.216.34";
+                };
+                return new InetAddress[]{InetAddress.getByName(address)};
+            }
+        };
+    }
+}
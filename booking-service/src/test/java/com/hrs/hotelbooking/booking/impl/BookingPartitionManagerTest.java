@@ -0,0 +1,95 @@
+package com.hrs.hotelbooking.booking.impl;
+
+import com.hrs.hotelbooking.booking.service.impl.BookingPartitionManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BookingPartitionManager
+ *
+ * @author arihants1
+ */
+@ExtendWith(MockitoExtension.class)
+class BookingPartitionManagerTest {
+
+    private static final String LOCK_SQL = "SELECT pg_try_advisory_xact_lock(?)";
+    private static final String ENSURE_SQL = "SELECT hrs_ensure_booking_partitions(?, ?)";
+    private static final String ARCHIVE_SQL = "SELECT hrs_archive_booking_partitions(?, ?)";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BookingPartitionManager partitionManager;
+    private LocalDate thisMonth;
+
+    @BeforeEach
+    void setUp() {
+        partitionManager = new BookingPartitionManager(jdbcTemplate, transactionManager, 15, 24, "hrs_archive");
+        thisMonth = LocalDate.now().withDayOfMonth(1);
+    }
+
+    @Test
+    void maintain_ShouldCreateAheadAndArchiveOldPartitions_WhenLockAcquired() {
+        // Given
+        given(jdbcTemplate.queryForObject(eq(LOCK_SQL), eq(Boolean.class), anyLong())).willReturn(true);
+        given(jdbcTemplate.queryForList(eq(ENSURE_SQL), eq(String.class), any(), any()))
+                .willReturn(List.of("bookings_p2027_01"));
+        given(jdbcTemplate.queryForList(eq(ARCHIVE_SQL), eq(String.class), any(), any()))
+                .willReturn(List.of("bookings_p2024_09"));
+
+        // When
+        partitionManager.maintain();
+
+        // Then
+        verify(jdbcTemplate).queryForList(ENSURE_SQL, String.class, thisMonth.minusMonths(1), thisMonth.plusMonths(15));
+        verify(jdbcTemplate).queryForList(ARCHIVE_SQL, String.class, thisMonth.minusMonths(24), "hrs_archive");
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void maintain_ShouldDoNothing_WhenAnotherInstanceHoldsTheLock() {
+        // Given
+        given(jdbcTemplate.queryForObject(eq(LOCK_SQL), eq(Boolean.class), anyLong())).willReturn(false);
+
+        // When
+        partitionManager.maintain();
+
+        // Then
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class), any(), any());
+    }
+
+    @Test
+    void maintain_ShouldRollBackAndNotThrow_WhenDatabaseFails() {
+        // Given
+        given(jdbcTemplate.queryForObject(eq(LOCK_SQL), eq(Boolean.class), anyLong()))
+                .willThrow(new QueryTimeoutException("statement timeout"));
+
+        // When & Then
+        assertThatCode(() -> partitionManager.maintain()).doesNotThrowAnyException();
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void constructor_ShouldRejectHorizonShorterThanBookingWindow() {
+        assertThatThrownBy(() -> new BookingPartitionManager(jdbcTemplate, transactionManager, 12, 24, "hrs_archive"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("months-ahead");
+    }
+}
@@ -0,0 +1,112 @@
+package com.hrs.hotelbooking.booking.impl;
+
+import com.hrs.hotelbooking.booking.dto.BookingRollupDTO;
+import com.hrs.hotelbooking.booking.rollup.BookingRollupBackfill;
+import com.hrs.hotelbooking.booking.rollup.BookingRollupStore;
+import com.hrs.hotelbooking.booking.service.impl.BookingReportServiceImpl;
+import com.hrs.hotelbooking.shared.exception.BusinessValidationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * Unit tests for BookingReportServiceImpl
+ *
+ * @author arihants1
+ */
+@ExtendWith(MockitoExtension.class)
+class BookingReportServiceImplTest {
+
+    @Mock
+    private BookingRollupStore rollupStore;
+
+    @Mock
+    private BookingRollupBackfill rollupBackfill;
+
+    @InjectMocks
+    private BookingReportServiceImpl reportService;
+
+    @Test
+    void getRollups_ShouldDefaultToLastThirtyDaysByDay() {
+        // Given
+        LocalDate today = LocalDate.now();
+
+        // When
+        reportService.getRollups(null, null, null, null, "  Berlin ", null);
+
+        // Then
+        verify(rollupStore).report(BookingRollupDTO.GroupBy.DAY, today.minusDays(29), today, null, "Berlin", null);
+    }
+
+    @Test
+    void getRollups_ShouldRejectWindowLongerThanTwoYears() {
+        // Given
+        LocalDate from = LocalDate.of(2024, 1, 1);
+
+        // When & Then
+        assertThatThrownBy(() -> reportService.getRollups(BookingRollupDTO.GroupBy.HOTEL, from, from.plusDays(731),
+                null, null, null))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessageContaining("cannot exceed");
+        verifyNoInteractions(rollupStore);
+    }
+
+    @Test
+    void startBackfill_ShouldRejectToday() {
+        // When & Then
+        assertThatThrownBy(() -> reportService.startBackfill(null, LocalDate.now()))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessage("Rollup backfill can only rebuild days before today");
+        verifyNoInteractions(rollupBackfill);
+    }
+
+    @Test
+    void startBackfill_ShouldReject_WhenAlreadyRunning() {
+        // Given
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        given(rollupBackfill.earliestRebuildableDay(any())).willReturn(LocalDate.MIN);
+        given(rollupBackfill.start(any(), any())).willReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> reportService.startBackfill(null, null))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessage("HRS rollup backfill is already running");
+        verify(rollupBackfill).start(yesterday.minusDays(729), yesterday);
+    }
+
+    @Test
+    void startBackfill_ShouldStopDefaultWindowAtArchivedDays() {
+        // Given
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate earliest = yesterday.minusDays(400);
+        given(rollupBackfill.earliestRebuildableDay(any())).willReturn(earliest);
+        given(rollupBackfill.start(any(), any())).willReturn(true);
+
+        // When
+        reportService.startBackfill(null, null);
+
+        // Then
+        verify(rollupBackfill).start(earliest, yesterday);
+    }
+
+    @Test
+    void startBackfill_ShouldRejectExplicitWindowReachingArchivedDays() {
+        // Given
+        LocalDate earliest = LocalDate.now().minusDays(400);
+        given(rollupBackfill.earliestRebuildableDay(any())).willReturn(earliest);
+
+        // When & Then
+        assertThatThrownBy(() -> reportService.startBackfill(earliest.minusDays(1), null))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessageContaining("older bookings are archived");
+        verify(rollupBackfill, never()).start(any(), any());
+    }
+}
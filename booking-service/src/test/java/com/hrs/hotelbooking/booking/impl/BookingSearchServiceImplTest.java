@@ -1,5 +1,8 @@
 package com.hrs.hotelbooking.booking.impl;
 
+import com.hrs.hotelbooking.booking.availability.BookedInterval;
+import com.hrs.hotelbooking.booking.availability.BookingIntervalIndex;
+import com.hrs.hotelbooking.booking.dto.BookingSearchCriteria;
 import com.hrs.hotelbooking.booking.entity.BookingSearchDocument;
 import com.hrs.hotelbooking.booking.repository.BookingSearchRepository;
 import com.hrs.hotelbooking.shared.dto.BookingStatus;
@@ -7,6 +10,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -14,12 +18,20 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
@@ -37,6 +49,12 @@ class BookingSearchServiceImplTest {
     @Mock
     private BookingSearchRepository bookingSearchRepository;
 
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private BookingIntervalIndex bookingIntervalIndex;
+
     @InjectMocks
     private BookingSearchServiceImpl bookingSearchService;
 
@@ -345,4 +363,104 @@ class BookingSearchServiceImplTest {
         assertThat(result.getContent().get(0).getConfirmationNumber()).isEqualTo("CNF123456789");
         verify(bookingSearchRepository).fullTextSearch(searchQuery, pageable);
     }
+
+    @Test
+    @DisplayName("Should find upcoming hotel bookings by check-in date at query time")
+    void shouldFindUpcomingHotelBookingsByCheckInDate() {
+        // Given
+        Page<BookingSearchDocument> expectedPage = new PageImpl<>(Arrays.asList(searchDocument), pageable, 1);
+        given(bookingSearchRepository.findByHotelIdAndCheckInDateAfter(1L, LocalDate.now(), pageable))
+                .willReturn(expectedPage);
+
+        // When
+        Page<BookingSearchDocument> result = bookingSearchService.getUpcomingHotelBookings(1L, pageable);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(searchDocument);
+        verify(bookingSearchRepository).findByHotelIdAndCheckInDateAfter(1L, LocalDate.now(), pageable);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("Should translate upcoming and past flags into date ranges against today")
+    void shouldTranslateTemporalFlagsIntoDateRanges() {
+        // Given
+        SearchHits<BookingSearchDocument> hits = mock(SearchHits.class);
+        given(hits.getSearchHits()).willReturn(Collections.emptyList());
+        given(elasticsearchOperations.search(any(CriteriaQuery.class), eq(BookingSearchDocument.class)))
+                .willReturn(hits);
+        BookingSearchCriteria criteria = BookingSearchCriteria.builder().isUpcoming(true).isPast(false).build();
+
+        // When
+        bookingSearchService.searchUserBookings(1L, criteria, pageable);
+
+        // Then
+        ArgumentCaptor<CriteriaQuery> query = ArgumentCaptor.forClass(CriteriaQuery.class);
+        verify(elasticsearchOperations).search(query.capture(), eq(BookingSearchDocument.class));
+        Map<String, Criteria> byField = query.getValue().getCriteria().getCriteriaChain().stream()
+                .collect(Collectors.toMap(c -> c.getField().getName(), c -> c));
+        LocalDate today = LocalDate.now();
+
+        assertThat(byField).doesNotContainKeys("isUpcoming", "isPast");
+        assertThat(byField.get("checkInDate").getQueryCriteriaEntries())
+                .singleElement()
+                .satisfies(entry -> {
+                    assertThat(entry.getKey()).isEqualTo(Criteria.OperationKey.GREATER);
+                    assertThat(entry.getValue()).isEqualTo(today);
+                });
+        assertThat(byField.get("checkOutDate").getQueryCriteriaEntries())
+                .singleElement()
+                .satisfies(entry -> {
+                    assertThat(entry.getKey()).isEqualTo(Criteria.OperationKey.GREATER_EQUAL);
+                    assertThat(entry.getValue()).isEqualTo(today);
+                });
+    }
+
+    @Test
+    @DisplayName("Should fetch overlapping bookings by id when the interval index covers the range")
+    void shouldFetchOverlappingBookingsFromIntervalIndex() {
+        // Given
+        LocalDate checkIn = LocalDate.now().plusDays(2);
+        LocalDate checkOut = checkIn.plusDays(3);
+        given(bookingIntervalIndex.overlapping(1L, checkIn, checkOut)).willReturn(Optional.of(List.of(
+                new BookedInterval(1L, "HRS202506290001", 1L, checkIn, checkOut, 1))));
+        given(bookingSearchRepository.findAllById(List.of(1L))).willReturn(List.of(searchDocument));
+
+        // When
+        List<BookingSearchDocument> result = bookingSearchService.findOverlappingBookings(1L, checkIn, checkOut);
+
+        // Then
+        assertThat(result).containsExactly(searchDocument);
+        verify(bookingSearchRepository, never()).findOverlappingBookings(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should skip Elasticsearch when the interval index has no overlap")
+    void shouldSkipElasticsearchWhenIntervalIndexHasNoOverlap() {
+        // Given
+        LocalDate checkIn = LocalDate.now().plusDays(2);
+        given(bookingIntervalIndex.overlapping(1L, checkIn, checkIn.plusDays(1))).willReturn(Optional.of(List.of()));
+
+        // When
+        List<BookingSearchDocument> result = bookingSearchService.findOverlappingBookings(1L, checkIn, checkIn.plusDays(1));
+
+        // Then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(bookingSearchRepository);
+    }
+
+    @Test
+    @DisplayName("Should query Elasticsearch for ranges outside the interval index window")
+    void shouldFallBackToElasticsearchOutsideWindow() {
+        // Given
+        LocalDate checkIn = LocalDate.now().plusYears(1);
+        given(bookingSearchRepository.findOverlappingBookings(1L, checkIn, checkIn.plusDays(1)))
+                .willReturn(List.of(searchDocument));
+
+        // When
+        List<BookingSearchDocument> result = bookingSearchService.findOverlappingBookings(1L, checkIn, checkIn.plusDays(1));
+
+        // Then
+        assertThat(result).containsExactly(searchDocument);
+    }
 }
@@ -1,26 +1,47 @@
 package com.hrs.hotelbooking.booking.impl;
 
+import com.hrs.hotelbooking.booking.availability.BookedInterval;
+import com.hrs.hotelbooking.booking.availability.BookingIntervalIndex;
+import com.hrs.hotelbooking.booking.dto.BatchBookingResult;
 import com.hrs.hotelbooking.booking.entity.Booking;
+import com.hrs.hotelbooking.booking.event.BookingChangedEvent;
 import com.hrs.hotelbooking.booking.mapper.BookingMapper;
+import com.hrs.hotelbooking.booking.pricing.PricingEngine;
 import com.hrs.hotelbooking.booking.repository.BookingRepository;
+import com.hrs.hotelbooking.booking.repository.BookingSummary;
 import com.hrs.hotelbooking.booking.service.impl.BookingServiceImpl;
+import com.hrs.hotelbooking.booking.service.impl.BookingStateMachine;
 import com.hrs.hotelbooking.shared.dto.BookingDTO;
 import com.hrs.hotelbooking.shared.dto.BookingStatus;
 import com.hrs.hotelbooking.shared.exception.BusinessValidationException;
 import com.hrs.hotelbooking.shared.exception.ResourceNotFoundException;
+import com.hrs.hotelbooking.shared.money.Money;
+import com.hrs.hotelbooking.shared.pagination.CursorPage;
+import com.hrs.hotelbooking.shared.pagination.PageCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -35,12 +56,26 @@ import static org.mockito.BDDMockito.*;
 @ExtendWith(MockitoExtension.class)
 class BookingServiceImplTest {
 
+    private static final ProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
     @Mock
     private BookingRepository bookingRepository;
 
     @Mock
     private BookingMapper bookingMapper;
 
+    @Mock
+    private BookingStateMachine bookingStateMachine;
+
+    @Mock
+    private PricingEngine pricingEngine;
+
+    @Mock
+    private BookingIntervalIndex bookingIntervalIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private BookingServiceImpl bookingService;
 
@@ -99,6 +134,8 @@ class BookingServiceImplTest {
         given(bookingRepository.findDuplicateBookings(
                 anyLong(), anyLong(), any(LocalDate.class), any(LocalDate.class), isNull()))
                 .willReturn(Collections.emptyList());
+        given(pricingEngine.baseAmount(anyLong(), any(), any(LocalDate.class), any(LocalDate.class), anyInt()))
+                .willReturn(Money.ofMinor(20_000));
         given(bookingMapper.toEntity(any(BookingDTO.class))).willReturn(bookingEntity);
         given(bookingRepository.save(any(Booking.class))).willReturn(bookingEntity);
         given(bookingMapper.toDto(any(Booking.class))).willReturn(savedBookingDTO);
@@ -114,6 +151,32 @@ class BookingServiceImplTest {
         verify(bookingRepository).save(any(Booking.class));
     }
 
+    @Test
+    void createBooking_ShouldApplyTaxesAndFeesToEngineBaseAmount() {
+        // Given
+        given(bookingRepository.findDuplicateBookings(
+                anyLong(), anyLong(), any(LocalDate.class), any(LocalDate.class), isNull()))
+                .willReturn(Collections.emptyList());
+        given(pricingEngine.baseAmount(eq(validBookingDTO.getHotelId()), eq(validBookingDTO.getRoomType()),
+                eq(validBookingDTO.getCheckInDate()), eq(validBookingDTO.getCheckOutDate()),
+                eq(validBookingDTO.getNumberOfRooms())))
+                .willReturn(Money.ofMinor(46_000));
+        given(bookingMapper.toEntity(any(BookingDTO.class))).willReturn(bookingEntity);
+        given(bookingRepository.save(any(Booking.class))).willReturn(bookingEntity);
+        given(bookingMapper.toDto(any(Booking.class))).willReturn(savedBookingDTO);
+
+        // When
+        bookingService.createBooking(validBookingDTO);
+
+        // Then
+        ArgumentCaptor<BookingDTO> priced = ArgumentCaptor.forClass(BookingDTO.class);
+        verify(bookingMapper).toEntity(priced.capture());
+        assertThat(priced.getValue().getBaseAmount()).isEqualByComparingTo("460.00");
+        assertThat(priced.getValue().getTaxesAmount()).isEqualByComparingTo("46.00");
+        assertThat(priced.getValue().getFeesAmount()).isEqualByComparingTo("23.00");
+        assertThat(priced.getValue().getTotalAmount()).isEqualByComparingTo("529.00");
+    }
+
     @Test
     void createBooking_ShouldThrowBusinessValidationException_WhenUserIdIsNull() {
         // Given
@@ -173,12 +236,75 @@ class BookingServiceImplTest {
                 .hasMessageContaining("You already have a booking for this hotel with overlapping dates");
     }
 
+    @Test
+    void createBooking_ShouldPublishCreatedEvent() {
+        // Given
+        given(bookingRepository.findDuplicateBookings(
+                anyLong(), anyLong(), any(LocalDate.class), any(LocalDate.class), isNull()))
+                .willReturn(Collections.emptyList());
+        given(pricingEngine.baseAmount(anyLong(), any(), any(LocalDate.class), any(LocalDate.class), anyInt()))
+                .willReturn(Money.ofMinor(20_000));
+        given(bookingMapper.toEntity(any(BookingDTO.class))).willReturn(bookingEntity);
+        given(bookingRepository.save(any(Booking.class))).willReturn(bookingEntity);
+        given(bookingMapper.toDto(any(Booking.class))).willReturn(savedBookingDTO);
+
+        // When
+        bookingService.createBooking(validBookingDTO);
+
+        // Then
+        ArgumentCaptor<BookingChangedEvent> event = ArgumentCaptor.forClass(BookingChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().type()).isEqualTo(BookingChangedEvent.Type.CREATED);
+        assertThat(event.getValue().previous()).isNull();
+        assertThat(event.getValue().current().bookingId()).isEqualTo(bookingEntity.getId());
+        assertThat(event.getValue().current().checkInDate()).isEqualTo(bookingEntity.getCheckInDate());
+    }
+
+    @Test
+    void createBooking_ShouldDetectDuplicateFromIntervalIndex_WithoutQueryingDatabase() {
+        // Given
+        BookedInterval otherUser = new BookedInterval(7L, "HRS_OTHER", 99L,
+                validBookingDTO.getCheckInDate(), validBookingDTO.getCheckOutDate(), 1);
+        BookedInterval sameUser = new BookedInterval(8L, "HRS_MINE", validBookingDTO.getUserId(),
+                validBookingDTO.getCheckInDate().plusDays(1), validBookingDTO.getCheckOutDate().plusDays(1), 1);
+        given(bookingIntervalIndex.overlapping(validBookingDTO.getHotelId(),
+                validBookingDTO.getCheckInDate(), validBookingDTO.getCheckOutDate()))
+                .willReturn(Optional.of(List.of(otherUser, sameUser)));
+
+        // When & Then
+        assertThatThrownBy(() -> bookingService.createBooking(validBookingDTO))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessageContaining("HRS_MINE");
+        verify(bookingRepository, never()).findDuplicateBookings(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void createBooking_ShouldTrustIntervalIndex_WhenNoOverlapInWindow() {
+        // Given
+        given(bookingIntervalIndex.overlapping(anyLong(), any(LocalDate.class), any(LocalDate.class)))
+                .willReturn(Optional.of(List.of()));
+        given(pricingEngine.baseAmount(anyLong(), any(), any(LocalDate.class), any(LocalDate.class), anyInt()))
+                .willReturn(Money.ofMinor(20_000));
+        given(bookingMapper.toEntity(any(BookingDTO.class))).willReturn(bookingEntity);
+        given(bookingRepository.save(any(Booking.class))).willReturn(bookingEntity);
+        given(bookingMapper.toDto(any(Booking.class))).willReturn(savedBookingDTO);
+
+        // When
+        bookingService.createBooking(validBookingDTO);
+
+        // Then
+        verify(bookingRepository, never()).findDuplicateBookings(any(), any(), any(), any(), any());
+        verify(bookingRepository).save(any(Booking.class));
+    }
+
     @Test
     void createBooking_ShouldThrowRuntimeException_WhenDatabaseSaveFails() {
         // Given
         given(bookingRepository.findDuplicateBookings(
                 anyLong(), anyLong(), any(LocalDate.class), any(LocalDate.class), isNull()))
                 .willReturn(Collections.emptyList());
+        given(pricingEngine.baseAmount(anyLong(), any(), any(LocalDate.class), any(LocalDate.class), anyInt()))
+                .willReturn(Money.ofMinor(20_000));
         given(bookingMapper.toEntity(any(BookingDTO.class))).willReturn(bookingEntity);
         given(bookingRepository.save(any(Booking.class)))
                 .willThrow(new RuntimeException("Database connection failed"));
@@ -189,6 +315,107 @@ class BookingServiceImplTest {
                 .hasMessageContaining("Database connection failed");
     }
 
+    @Test
+    void createBookings_ShouldReturnPerItemResults_WhenSomeItemsAreInvalidOrDuplicated() {
+        // Given
+        BookingDTO duplicate = BookingDTO.builder().userId(2L).hotelId(1L)
+                .checkInDate(LocalDate.now().plusDays(5)).checkOutDate(LocalDate.now().plusDays(7))
+                .numberOfRooms(1).numberOfGuests(2).build();
+        BookingDTO invalid = BookingDTO.builder().userId(1L).hotelId(1L)
+                .checkInDate(LocalDate.now().minusDays(1)).checkOutDate(LocalDate.now().plusDays(2))
+                .numberOfRooms(1).numberOfGuests(2).build();
+        Booking existing = Booking.builder().userId(2L).hotelId(1L)
+                .checkInDate(LocalDate.now().plusDays(6)).checkOutDate(LocalDate.now().plusDays(8))
+                .bookingReference("HRS_EXISTING").build();
+
+        given(bookingRepository.findOverlapCandidates(anyCollection(), anyCollection(), any(LocalDate.class), any(LocalDate.class)))
+                .willReturn(List.of(existing));
+        given(pricingEngine.baseAmount(anyLong(), any(), any(LocalDate.class), any(LocalDate.class), anyInt()))
+                .willReturn(Money.ofMinor(20_000));
+        given(bookingMapper.toEntity(any(BookingDTO.class))).willAnswer(invocation -> new Booking());
+        given(bookingRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        given(bookingMapper.toDto(any(Booking.class))).willReturn(savedBookingDTO);
+
+        // When
+        BatchBookingResult result = bookingService.createBookings(List.of(validBookingDTO, duplicate, invalid));
+
+        // Then
+        assertThat(result.getRequested()).isEqualTo(3);
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getRejected()).isEqualTo(2);
+        assertThat(result.getItems()).extracting(BatchBookingResult.Item::getStatus).containsExactly(
+                BatchBookingResult.ItemStatus.CREATED,
+                BatchBookingResult.ItemStatus.REJECTED,
+                BatchBookingResult.ItemStatus.REJECTED);
+        assertThat(result.getItems().get(1).getError()).contains("HRS_EXISTING");
+        assertThat(result.getItems().get(2).getError()).contains("Check-in date cannot be in the past");
+        verify(bookingRepository).findOverlapCandidates(anyCollection(), anyCollection(), any(LocalDate.class), any(LocalDate.class));
+        verify(bookingRepository, never()).findDuplicateBookings(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createBookings_ShouldAllowOverlapsWithinBatchAndSaveInOneCall() {
+        // Given
+        List<BookingDTO> group = IntStream.range(0, 100)
+                .mapToObj(i -> BookingDTO.builder().userId(1L).hotelId(1L)
+                        .checkInDate(LocalDate.now().plusDays(1)).checkOutDate(LocalDate.now().plusDays(3))
+                        .numberOfRooms(1).numberOfGuests(2).build())
+                .toList();
+
+        given(bookingRepository.findOverlapCandidates(anyCollection(), anyCollection(), any(LocalDate.class), any(LocalDate.class)))
+                .willReturn(Collections.emptyList());
+        given(bookingRepository.findExistingBookingReferences(anyCollection())).willReturn(Set.of());
+        given(bookingRepository.findExistingConfirmationNumbers(anyCollection())).willReturn(Set.of());
+        given(pricingEngine.baseAmount(anyLong(), any(), any(LocalDate.class), any(LocalDate.class), anyInt()))
+                .willReturn(Money.ofMinor(20_000));
+        given(bookingMapper.toEntity(any(BookingDTO.class))).willAnswer(invocation -> new Booking());
+        given(bookingRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        given(bookingMapper.toDto(any(Booking.class))).willReturn(savedBookingDTO);
+
+        // When
+        BatchBookingResult result = bookingService.createBookings(group);
+
+        // Then
+        assertThat(result.getCreated()).isEqualTo(100);
+        assertThat(result.isAllCreated()).isTrue();
+        ArgumentCaptor<List<Booking>> saved = ArgumentCaptor.forClass(List.class);
+        verify(bookingRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).hasSize(100);
+        assertThat(saved.getValue()).extracting(Booking::getBookingReference).doesNotHaveDuplicates();
+        assertThat(saved.getValue()).extracting(Booking::getConfirmationNumber).doesNotHaveDuplicates();
+        verify(bookingRepository).findExistingBookingReferences(anyCollection());
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createBookings_ShouldThrowBusinessValidationException_WhenIdentifiersStayTaken() {
+        // Given: every reference drawn is already in use
+        given(bookingRepository.findOverlapCandidates(anyCollection(), anyCollection(), any(LocalDate.class), any(LocalDate.class)))
+                .willReturn(Collections.emptyList());
+        given(bookingRepository.findExistingBookingReferences(anyCollection()))
+                .willAnswer(invocation -> Set.copyOf((Collection<String>) invocation.getArgument(0)));
+
+        // When & Then
+        assertThatThrownBy(() -> bookingService.createBookings(List.of(validBookingDTO)))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessageContaining("unique booking identifiers");
+        verify(bookingRepository, times(5)).findExistingBookingReferences(anyCollection());
+        verify(bookingRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void createBookings_ShouldThrowBusinessValidationException_WhenBatchIsTooLarge() {
+        // Given
+        List<BookingDTO> tooMany = Collections.nCopies(201, validBookingDTO);
+
+        // When & Then
+        assertThatThrownBy(() -> bookingService.createBookings(tooMany))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessageContaining("cannot contain more than 200");
+    }
+
     @Test
     void getBookingById_ShouldReturnBookingDTO_WhenBookingExists() {
         // Given
@@ -283,6 +510,61 @@ class BookingServiceImplTest {
         verify(bookingRepository).save(bookingEntity);
     }
 
+    @Test
+    void updateBooking_ShouldCheckMergedStay_WhenOnlyCheckOutChanges() {
+        // Given: the index does not cover the stay, so the repository's default method answers
+        Long bookingId = 1L;
+        LocalDate newCheckOut = bookingEntity.getCheckOutDate().plusDays(2);
+        BookingDTO updatedBookingDTO = BookingDTO.builder().checkOutDate(newCheckOut).build();
+
+        given(bookingRepository.findById(bookingId)).willReturn(Optional.of(bookingEntity));
+        given(bookingIntervalIndex.overlapping(anyLong(), any(LocalDate.class), any(LocalDate.class)))
+                .willReturn(Optional.empty());
+        given(bookingRepository.findDuplicateBookings(any(), any(), any(), any(), any())).willCallRealMethod();
+        given(bookingRepository.save(any(Booking.class))).willReturn(bookingEntity);
+        given(bookingMapper.toDto(bookingEntity)).willReturn(savedBookingDTO);
+
+        // When
+        bookingService.updateBooking(bookingId, updatedBookingDTO);
+
+        // Then
+        LocalDate checkIn = bookingEntity.getCheckInDate();
+        verify(bookingRepository).findDuplicateBookingsFrom(1L, 1L, checkIn.minusDays(Booking.MAX_NIGHTS), checkIn,
+                newCheckOut, bookingId);
+        assertThat(updatedBookingDTO.getHotelId()).isEqualTo(1L);
+        assertThat(updatedBookingDTO.getCheckInDate()).isEqualTo(checkIn);
+    }
+
+    @Test
+    void updateBooking_ShouldRejectCheckOutOnlyUpdate_ThatStretchesStayPastMaxNights() {
+        // Given
+        Long bookingId = 1L;
+        BookingDTO updatedBookingDTO = BookingDTO.builder()
+                .checkOutDate(bookingEntity.getCheckInDate().plusDays(Booking.MAX_NIGHTS + 1))
+                .build();
+        given(bookingRepository.findById(bookingId)).willReturn(Optional.of(bookingEntity));
+
+        // When & Then
+        assertThatThrownBy(() -> bookingService.updateBooking(bookingId, updatedBookingDTO))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessageContaining("cannot exceed");
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
+    @Test
+    void findDuplicateBookings_ShouldFindNothing_WhenStayIsIncomplete() {
+        // Given
+        given(bookingRepository.findDuplicateBookings(any(), any(), any(), any(), any())).willCallRealMethod();
+
+        // When
+        List<Booking> duplicates = bookingRepository.findDuplicateBookings(1L, 1L, null,
+                LocalDate.now().plusDays(3), 1L);
+
+        // Then
+        assertThat(duplicates).isEmpty();
+        verify(bookingRepository, never()).findDuplicateBookingsFrom(any(), any(), any(), any(), any(), any());
+    }
+
     @Test
     void updateBooking_ShouldThrowBusinessValidationException_WhenBookingNotModifiable() {
         // Given
@@ -315,8 +597,9 @@ class BookingServiceImplTest {
                 .bookingReference("HRS202506291234567890")
                 .build();
 
-        given(bookingRepository.findById(bookingId)).willReturn(Optional.of(bookingEntity));
-        given(bookingRepository.save(any(Booking.class))).willReturn(bookingEntity);
+        given(bookingStateMachine.cancel(eq(bookingId), anyString(), anyString()))
+                .willReturn(new BookingStateMachine.TransitionResult(BookingStateMachine.Transition.CANCEL,
+                        BookingStateMachine.Outcome.APPLIED, bookingEntity, BookingStatus.CANCELLED));
         given(bookingMapper.toDto(bookingEntity)).willReturn(cancelledBookingDTO);
 
         // When
@@ -325,7 +608,8 @@ class BookingServiceImplTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getStatus()).isEqualTo(BookingStatus.CANCELLED);
-        verify(bookingRepository).save(bookingEntity);
+        verify(bookingRepository, never()).findById(any());
+        verify(bookingRepository, never()).save(any(Booking.class));
     }
 
     @Test
@@ -335,7 +619,9 @@ class BookingServiceImplTest {
         // Mock the booking as not cancellable by setting status to CANCELLED
         bookingEntity.setStatus(BookingStatus.CANCELLED);
 
-        given(bookingRepository.findById(bookingId)).willReturn(Optional.of(bookingEntity));
+        given(bookingStateMachine.cancel(eq(bookingId), anyString(), anyString()))
+                .willReturn(new BookingStateMachine.TransitionResult(BookingStateMachine.Transition.CANCEL,
+                        BookingStateMachine.Outcome.ILLEGAL_STATE, null, BookingStatus.CANCELLED));
 
         // When & Then
         assertThatThrownBy(() -> bookingService.cancelBooking(bookingId))
@@ -344,61 +630,166 @@ class BookingServiceImplTest {
     }
 
     @Test
-    void getBookingsByUserId_ShouldReturnListOfBookings_WhenUserHasBookings() {
+    void cancelBooking_ShouldThrowResourceNotFoundException_WhenBookingNotExists() {
         // Given
-        Long userId = 1L;
-        List<Booking> userBookings = List.of(bookingEntity);
-        List<BookingDTO> userBookingDTOs = List.of(savedBookingDTO);
+        given(bookingStateMachine.cancel(eq(99L), anyString(), anyString()))
+                .willReturn(new BookingStateMachine.TransitionResult(BookingStateMachine.Transition.CANCEL,
+                        BookingStateMachine.Outcome.NOT_FOUND, null, null));
+
+        // When & Then
+        assertThatThrownBy(() -> bookingService.cancelBooking(99L))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void checkInGuest_ShouldThrowBusinessValidationException_WhenBeforeCheckInDate() {
+        // Given
+        given(bookingStateMachine.checkIn(eq(1L), any(LocalDate.class)))
+                .willReturn(new BookingStateMachine.TransitionResult(BookingStateMachine.Transition.CHECK_IN,
+                        BookingStateMachine.Outcome.TOO_EARLY, null, BookingStatus.CONFIRMED));
 
-        given(bookingRepository.findByUserIdOrderByCreatedAtDesc(userId))
-                .willReturn(userBookings);
-        given(bookingMapper.toDtoList(userBookings)).willReturn(userBookingDTOs);
+        // When & Then
+        assertThatThrownBy(() -> bookingService.checkInGuest(1L))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessageContaining("Cannot check in before check-in date");
+    }
+
+    @Test
+    void checkOutGuest_ShouldReturnCheckedOutBooking_WhenTransitionApplied() {
+        // Given
+        bookingEntity.setStatus(BookingStatus.CHECKED_OUT);
+        given(bookingStateMachine.checkOut(1L))
+                .willReturn(new BookingStateMachine.TransitionResult(BookingStateMachine.Transition.CHECK_OUT,
+                        BookingStateMachine.Outcome.APPLIED, bookingEntity, BookingStatus.CHECKED_OUT));
+        given(bookingMapper.toDto(bookingEntity)).willReturn(savedBookingDTO);
 
         // When
-        List<BookingDTO> result = bookingService.getBookingsByUserId(userId);
+        BookingDTO result = bookingService.checkOutGuest(1L);
 
         // Then
-        assertThat(result).isNotNull();
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getUserId()).isEqualTo(userId);
-        verify(bookingRepository).findByUserIdOrderByCreatedAtDesc(userId);
+        assertThat(result).isEqualTo(savedBookingDTO);
+        verify(bookingRepository, never()).save(any(Booking.class));
     }
 
     @Test
-    void getBookingsByUserId_ShouldReturnEmptyList_WhenUserHasNoBookings() {
+    void getBookingsByUserId_ShouldReturnSummaryPage_WithinDefaultWindow() {
         // Given
         Long userId = 1L;
-        given(bookingRepository.findByUserIdOrderByCreatedAtDesc(userId))
-                .willReturn(Collections.emptyList());
-        given(bookingMapper.toDtoList(Collections.emptyList()))
-                .willReturn(Collections.emptyList());
+        BookingSummary bookingRow = summaryOf(bookingEntity);
+        given(bookingRepository.findByUserIdAndCheckInDateBetween(eq(userId), any(LocalDate.class),
+                any(LocalDate.class), any(Pageable.class)))
+                .willAnswer(invocation -> new PageImpl<>(List.of(bookingRow), invocation.getArgument(3), 1));
+        given(bookingMapper.toSummaryDto(bookingRow)).willReturn(savedBookingDTO);
 
         // When
-        List<BookingDTO> result = bookingService.getBookingsByUserId(userId);
+        Page<BookingDTO> result = bookingService.getBookingsByUserId(userId, null, null, 0, 20);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(savedBookingDTO);
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(bookingRepository).findByUserIdAndCheckInDateBetween(eq(userId),
+                eq(LocalDate.now().minusDays(365)), eq(LocalDate.now().plusDays(365)), pageable.capture());
+        assertThat(pageable.getValue().getSort().getOrderFor("checkInDate").isDescending()).isTrue();
+        verify(bookingMapper, never()).toDto(any(Booking.class));
+    }
+
+    @Test
+    void getBookingsByUserId_ShouldReturnEmptyPage_WhenUserHasNoBookings() {
+        // Given
+        Long userId = 1L;
+        given(bookingRepository.findByUserIdAndCheckInDateBetween(eq(userId), any(LocalDate.class),
+                any(LocalDate.class), any(Pageable.class)))
+                .willReturn(Page.empty());
+
+        // When
+        Page<BookingDTO> result = bookingService.getBookingsByUserId(userId, null, null, 0, 20);
 
         // Then
         assertThat(result).isNotNull();
-        assertThat(result).isEmpty();
+        assertThat(result.getContent()).isEmpty();
     }
 
     @Test
-    void getBookingsByHotelId_ShouldReturnListOfBookings_WhenHotelHasBookings() {
+    void getBookingsByUserId_ShouldThrowException_WhenWindowTooWide() {
+        // Given
+        LocalDate from = LocalDate.of(2020, 1, 1);
+
+        // When & Then
+        assertThatThrownBy(() -> bookingService.getBookingsByUserId(1L, from, from.plusYears(3), 0, 20))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessageContaining("cannot exceed 731 days");
+        assertThatThrownBy(() -> bookingService.getBookingsByUserId(1L, from, from.minusDays(1), 0, 20))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessageContaining("cannot be before start date");
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    void getBookingsByHotelId_ShouldReturnSummaryPage_InCheckInOrder() {
         // Given
         Long hotelId = 1L;
-        List<Booking> hotelBookings = List.of(bookingEntity);
-        List<BookingDTO> hotelBookingDTOs = List.of(savedBookingDTO);
+        LocalDate from = LocalDate.of(2025, 7, 1);
+        LocalDate to = LocalDate.of(2025, 7, 31);
+        BookingSummary bookingRow = summaryOf(bookingEntity);
+        given(bookingRepository.findByHotelIdAndCheckInDateBetween(eq(hotelId), eq(from), eq(to), any(Pageable.class)))
+                .willAnswer(invocation -> new PageImpl<>(List.of(bookingRow), invocation.getArgument(3), 41));
+        given(bookingMapper.toSummaryDto(bookingRow)).willReturn(savedBookingDTO);
+
+        // When
+        Page<BookingDTO> result = bookingService.getBookingsByHotelId(hotelId, from, to, 2, 20);
+
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().get(0).getHotelId()).isEqualTo(hotelId);
+        assertThat(result.getTotalPages()).isEqualTo(3);
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(bookingRepository).findByHotelIdAndCheckInDateBetween(eq(hotelId), eq(from), eq(to), pageable.capture());
+        assertThat(pageable.getValue().getPageNumber()).isEqualTo(2);
+        assertThat(pageable.getValue().getSort().getOrderFor("checkInDate").isAscending()).isTrue();
+    }
+
+    @Test
+    void scrollBookings_ShouldReturnFirstSliceWithCursorAndTotal() {
+        // Given
+        bookingEntity.setCreatedAt(LocalDateTime.of(2025, 6, 27, 5, 47, 4));
+        Booking older = new Booking();
+        older.setId(0L);
+        older.setCreatedAt(bookingEntity.getCreatedAt().minusSeconds(1));
+        BookingSummary bookingRow = summaryOf(bookingEntity);
+        given(bookingRepository.findAllByOrderByCreatedAtDescIdDesc(any(Pageable.class)))
+                .willReturn(List.of(bookingRow, summaryOf(older)));
+        given(bookingRepository.count()).willReturn(2L);
+        given(bookingMapper.toSummaryDto(bookingRow)).willReturn(savedBookingDTO);
+
+        // When
+        CursorPage<BookingDTO> result = bookingService.scrollBookings(null, 1, true);
 
-        given(bookingRepository.findByHotelIdOrderByCheckInDateAsc(hotelId))
-                .willReturn(hotelBookings);
-        given(bookingMapper.toDtoList(hotelBookings)).willReturn(hotelBookingDTOs);
+        // Then
+        assertThat(result.getContent()).containsExactly(savedBookingDTO);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getTotalElements()).isEqualTo(2L);
+        assertThat(PageCursor.decode(result.getNextCursor()).id()).isEqualTo(1L);
+    }
+
+    @Test
+    void getAllBookings_ShouldReadSummaryRowsOnly() {
+        // Given
+        BookingSummary bookingRow = summaryOf(bookingEntity);
+        given(bookingRepository.findAllBy(any(Pageable.class)))
+                .willAnswer(invocation -> new PageImpl<>(List.of(bookingRow), invocation.getArgument(0), 1));
+        given(bookingMapper.toSummaryDto(bookingRow)).willReturn(savedBookingDTO);
 
         // When
-        List<BookingDTO> result = bookingService.getBookingsByHotelId(hotelId);
+        Page<BookingDTO> result = bookingService.getAllBookings(0, 20);
 
         // Then
-        assertThat(result).isNotNull();
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getHotelId()).isEqualTo(hotelId);
-        verify(bookingRepository).findByHotelIdOrderByCheckInDateAsc(hotelId);
+        assertThat(result.getContent()).containsExactly(savedBookingDTO);
+        verify(bookingRepository, never()).findAll(any(Pageable.class));
+        verify(bookingMapper, never()).toDto(any(Booking.class));
+    }
+
+    private static BookingSummary summaryOf(Booking booking) {
+        return PROJECTIONS.createProjection(BookingSummary.class, booking);
     }
 }
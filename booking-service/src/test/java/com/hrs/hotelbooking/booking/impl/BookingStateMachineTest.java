@@ -0,0 +1,113 @@
+package com.hrs.hotelbooking.booking.impl;
+
+import com.hrs.hotelbooking.booking.entity.Booking;
+import com.hrs.hotelbooking.booking.service.impl.BookingStateMachine;
+import com.hrs.hotelbooking.shared.dto.BookingStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BookingStateMachine
+ *
+ * @author arihants1
+ */
+@ExtendWith(MockitoExtension.class)
+class BookingStateMachineTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Query updateQuery;
+
+    @Mock
+    private Query statusQuery;
+
+    @InjectMocks
+    private BookingStateMachine stateMachine;
+
+    @BeforeEach
+    void setUp() {
+        given(entityManager.createNativeQuery(startsWith("UPDATE bookings"), eq(Booking.class))).willReturn(updateQuery);
+        given(updateQuery.setParameter(anyString(), any())).willReturn(updateQuery);
+    }
+
+    @Test
+    void cancel_ShouldUpdateInOneGuardedStatement_WhenBookingIsCancellable() {
+        // Given
+        Booking cancelled = Booking.builder().id(1L).status(BookingStatus.CANCELLED).build();
+        given(updateQuery.getResultList()).willReturn(List.of(cancelled));
+
+        // When
+        BookingStateMachine.TransitionResult result = stateMachine.cancel(1L, "arihants1", "Customer request");
+
+        // Then
+        assertThat(result.isApplied()).isTrue();
+        assertThat(result.booking()).isSameAs(cancelled);
+        verify(entityManager).createNativeQuery(
+                argThat((String sql) -> sql.contains("WHERE id = :id AND status IN (:allowed)") && sql.endsWith("RETURNING *")),
+                eq(Booking.class));
+        verify(updateQuery).setParameter("allowed", List.of("PENDING", "CONFIRMED"));
+        verify(entityManager, never()).createNativeQuery(startsWith("SELECT"));
+    }
+
+    @Test
+    void checkOut_ShouldReportIllegalState_WhenBookingNotCheckedIn() {
+        // Given
+        given(updateQuery.getResultList()).willReturn(List.of());
+        givenCurrentStatus(List.of("CONFIRMED"));
+
+        // When
+        BookingStateMachine.TransitionResult result = stateMachine.checkOut(1L);
+
+        // Then
+        assertThat(result.outcome()).isEqualTo(BookingStateMachine.Outcome.ILLEGAL_STATE);
+        assertThat(result.currentStatus()).isEqualTo(BookingStatus.CONFIRMED);
+    }
+
+    @Test
+    void checkIn_ShouldReportTooEarly_WhenConfirmedBeforeCheckInDate() {
+        // Given
+        given(updateQuery.getResultList()).willReturn(List.of());
+        givenCurrentStatus(List.of("CONFIRMED"));
+
+        // When
+        BookingStateMachine.TransitionResult result = stateMachine.checkIn(1L, LocalDate.now());
+
+        // Then
+        assertThat(result.outcome()).isEqualTo(BookingStateMachine.Outcome.TOO_EARLY);
+    }
+
+    @Test
+    void cancel_ShouldReportNotFound_WhenBookingMissing() {
+        // Given
+        given(updateQuery.getResultList()).willReturn(List.of());
+        givenCurrentStatus(List.of());
+
+        // When
+        BookingStateMachine.TransitionResult result = stateMachine.cancel(99L, "arihants1", "Customer request");
+
+        // Then
+        assertThat(result.outcome()).isEqualTo(BookingStateMachine.Outcome.NOT_FOUND);
+    }
+
+    private void givenCurrentStatus(List<String> statuses) {
+        given(entityManager.createNativeQuery(startsWith("SELECT status"))).willReturn(statusQuery);
+        given(statusQuery.setParameter(anyString(), any())).willReturn(statusQuery);
+        given(statusQuery.getResultList()).willReturn(statuses);
+    }
+}
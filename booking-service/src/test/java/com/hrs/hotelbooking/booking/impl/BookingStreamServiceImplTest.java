@@ -0,0 +1,90 @@
+package com.hrs.hotelbooking.booking.impl;
+
+import com.hrs.hotelbooking.booking.mapper.BookingMapper;
+import com.hrs.hotelbooking.booking.repository.BookingRepository;
+import com.hrs.hotelbooking.booking.repository.BookingSummary;
+import com.hrs.hotelbooking.booking.service.impl.BookingStreamServiceImpl;
+import com.hrs.hotelbooking.booking.stream.BookingEventHub;
+import com.hrs.hotelbooking.shared.dto.BookingDTO;
+import com.hrs.hotelbooking.shared.exception.BusinessValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * Unit tests for BookingStreamServiceImpl
+ *
+ * @author arihants1
+ */
+@ExtendWith(MockitoExtension.class)
+class BookingStreamServiceImplTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingMapper bookingMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private BookingEventHub eventHub;
+
+    private BookingStreamServiceImpl bookingStreamService;
+
+    @BeforeEach
+    void setUp() {
+        bookingStreamService = new BookingStreamServiceImpl(bookingRepository, bookingMapper, transactionManager,
+                eventHub, 30, 500);
+    }
+
+    @Test
+    void openHotelStream_ShouldReadSnapshotFromPrimaryInOneQuery() {
+        // Given
+        BookingSummary first = mock(BookingSummary.class);
+        BookingSummary second = mock(BookingSummary.class);
+        BookingDTO firstDto = BookingDTO.builder().id(1L).build();
+        BookingDTO secondDto = BookingDTO.builder().id(2L).build();
+        LocalDate today = LocalDate.now();
+        given(bookingRepository.findByHotelIdAndCheckInDateBetweenOrderByCheckInDateAscIdAsc(
+                7L, today, today.plusDays(30), PageRequest.of(0, 500))).willReturn(List.of(first, second));
+        given(bookingMapper.toSummaryDto(first)).willReturn(firstDto);
+        given(bookingMapper.toSummaryDto(second)).willReturn(secondDto);
+
+        // When
+        bookingStreamService.openHotelStream(7L);
+        ArgumentCaptor<Supplier<?>> snapshot = ArgumentCaptor.forClass(Supplier.class);
+        then(eventHub).should().subscribe(eq(7L), snapshot.capture());
+        Object arrivals = snapshot.getValue().get();
+
+        // Then: a read-write transaction, which replica routing keeps on the primary
+        assertThat(arrivals).isEqualTo(List.of(firstDto, secondDto));
+        ArgumentCaptor<TransactionDefinition> transaction = ArgumentCaptor.forClass(TransactionDefinition.class);
+        then(transactionManager).should().getTransaction(transaction.capture());
+        assertThat(transaction.getValue().isReadOnly()).isFalse();
+    }
+
+    @Test
+    void openHotelStream_ShouldRejectInvalidHotelId() {
+        assertThatThrownBy(() -> bookingStreamService.openHotelStream(0L))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessage("Invalid hotel ID provided");
+
+        then(eventHub).shouldHaveNoInteractions();
+    }
+}
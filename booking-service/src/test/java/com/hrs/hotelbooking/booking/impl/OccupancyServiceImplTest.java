@@ -0,0 +1,93 @@
+package com.hrs.hotelbooking.booking.impl;
+
+import com.hrs.hotelbooking.booking.availability.HotelOccupancyLedger;
+import com.hrs.hotelbooking.booking.dto.OccupancyCalendarDTO;
+import com.hrs.hotelbooking.booking.service.impl.OccupancyServiceImpl;
+import com.hrs.hotelbooking.shared.exception.BusinessValidationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * Unit tests for OccupancyServiceImpl
+ *
+ * @author arihants1
+ */
+@ExtendWith(MockitoExtension.class)
+class OccupancyServiceImplTest {
+
+    @Mock
+    private HotelOccupancyLedger occupancyLedger;
+
+    @InjectMocks
+    private OccupancyServiceImpl occupancyService;
+
+    @Test
+    void getOccupancyCalendar_ShouldSumNightsPerBucket() {
+        // Given: nights Jan 30 .. Feb 9
+        LocalDate from = LocalDate.of(2026, 1, 30);
+        LocalDate to = LocalDate.of(2026, 2, 10);
+        given(occupancyLedger.roomsSold(1L, from, to)).willReturn(new int[]{2, 4, 1, 0, 0, 3, 3, 5, 0, 1, 1});
+
+        // When
+        OccupancyCalendarDTO weeks = occupancyService.getOccupancyCalendar(1L, from, to,
+                OccupancyCalendarDTO.Granularity.WEEK);
+        OccupancyCalendarDTO months = occupancyService.getOccupancyCalendar(1L, from, to,
+                OccupancyCalendarDTO.Granularity.MONTH);
+
+        // Then
+        assertThat(weeks.getRoomNightsSold()).isEqualTo(20);
+        assertThat(weeks.getPeakRoomsSold()).isEqualTo(5);
+        assertThat(weeks.getPeakNight()).isEqualTo(LocalDate.of(2026, 2, 6));
+        assertThat(weeks.getBuckets()).extracting(OccupancyCalendarDTO.Bucket::getRoomNightsSold)
+                .containsExactly(13L, 7L);
+        assertThat(weeks.getBuckets().get(1).getFrom()).isEqualTo(LocalDate.of(2026, 2, 6));
+        assertThat(weeks.getBuckets().get(1).getAverageRoomsSold()).isEqualTo(7.0 / 4);
+
+        assertThat(months.getBuckets()).extracting(OccupancyCalendarDTO.Bucket::getFrom)
+                .containsExactly(from, LocalDate.of(2026, 2, 1));
+        assertThat(months.getBuckets()).extracting(OccupancyCalendarDTO.Bucket::getRoomNightsSold)
+                .containsExactly(6L, 14L);
+    }
+
+    @Test
+    void getOccupancyCalendar_ShouldDefaultToNext365NightsByDay() {
+        // Given
+        given(occupancyLedger.roomsSold(eq(1L), any(), any())).willReturn(new int[365]);
+
+        // When
+        OccupancyCalendarDTO calendar = occupancyService.getOccupancyCalendar(1L, null, null, null);
+
+        // Then
+        assertThat(calendar.getFrom()).isEqualTo(LocalDate.now());
+        assertThat(calendar.getTo()).isEqualTo(LocalDate.now().plusDays(365));
+        assertThat(calendar.getGranularity()).isEqualTo(OccupancyCalendarDTO.Granularity.DAY);
+        assertThat(calendar.getBuckets()).hasSize(365);
+        assertThat(calendar.getPeakNight()).isNull();
+    }
+
+    @Test
+    void getOccupancyCalendar_ShouldRejectInvalidRanges() {
+        // Given
+        LocalDate from = LocalDate.of(2026, 1, 1);
+
+        // When & Then
+        assertThatThrownBy(() -> occupancyService.getOccupancyCalendar(1L, from, from, null))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessage("Occupancy end date must be after start date");
+        assertThatThrownBy(() -> occupancyService.getOccupancyCalendar(1L, from, from.plusDays(367), null))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessage("Occupancy window cannot exceed 366 nights");
+        assertThatThrownBy(() -> occupancyService.getOccupancyCalendar(0L, from, from.plusDays(1), null))
+                .isInstanceOf(BusinessValidationException.class);
+        verifyNoInteractions(occupancyLedger);
+    }
+}
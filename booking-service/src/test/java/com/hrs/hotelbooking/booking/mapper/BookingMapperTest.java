@@ -1,6 +1,7 @@
 package com.hrs.hotelbooking.booking.mapper;
 
 import com.hrs.hotelbooking.booking.entity.Booking;
+import com.hrs.hotelbooking.booking.repository.BookingSummary;
 import com.hrs.hotelbooking.shared.dto.BookingDTO;
 import com.hrs.hotelbooking.shared.dto.BookingStatus;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -534,4 +536,22 @@ class BookingMapperTest {
         assertThat(convertedEntity.getGuestEmail()).isEqualTo(bookingEntity.getGuestEmail());
         assertThat(convertedEntity.getGuestPhone()).isEqualTo(bookingEntity.getGuestPhone());
     }
+
+    @Test
+    @DisplayName("Should map a summary row without guest details")
+    void shouldMapSummaryRow() {
+        // Given
+        BookingSummary row = new SpelAwareProxyProjectionFactory().createProjection(BookingSummary.class, bookingEntity);
+
+        // When
+        BookingDTO result = bookingMapper.toSummaryDto(row);
+
+        // Then
+        assertThat(result.getBookingReference()).isEqualTo("BK202506270001");
+        assertThat(result.getTotalAmount()).isEqualByComparingTo("230.00");
+        assertThat(result.getNights()).isEqualTo(2);
+        assertThat(result.getModifiable()).isTrue();
+        assertThat(result.getGuestName()).isNull();
+        assertThat(result.getSpecialRequests()).isNull();
+    }
 }
@@ -0,0 +1,154 @@
+package com.hrs.hotelbooking.booking.pricing;
+
+import com.hrs.hotelbooking.shared.dto.HotelRateDTO;
+import com.hrs.hotelbooking.shared.money.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.MonthDay;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PricingEngineTest {
+
+    private HotelRateTable rateTable;
+    private PricingEngine pricingEngine;
+    private LocalDate monday;
+
+    @BeforeEach
+    void setUp() {
+        rateTable = new HotelRateTable(new RestTemplateBuilder(), new SimpleMeterRegistry(),
+                "http://localhost:8081", 1000, 1000, 30_000);
+        pricingEngine = new PricingEngine(rateTable, new BigDecimal("100.00"), "FRIDAY,SATURDAY", "1.15",
+                "12-20..01-05=1.30", "STANDARD=1.00,SUITE=2.50", 400);
+
+        // A week in spring, clear of the configured season
+        monday = LocalDate.now().plusYears(1).withMonth(4).withDayOfMonth(1)
+                .with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+    }
+
+    @Test
+    void baseAmount_ShouldUseDefaultRate_WhenHotelHasNoPublishedRate() {
+        // When
+        Money amount = pricingEngine.baseAmount(42L, "STANDARD", monday, monday.plusDays(2), 1);
+
+        // Then
+        assertThat(amount.toBigDecimal()).isEqualByComparingTo("200.00");
+    }
+
+    @Test
+    void baseAmount_ShouldApplyHotelRateWeekendRoomTypeAndRooms() {
+        // Given
+        rateTable.apply(List.of(rate(1L, "199.99", LocalDateTime.now())), true);
+
+        // When: Thursday, Friday and Saturday nights in a suite, two rooms
+        Money amount = pricingEngine.baseAmount(1L, "suite", monday.plusDays(3), monday.plusDays(6), 2);
+
+        // Then: 199.99 x 2.5 x (1 + 1.15 + 1.15) x 2
+        assertThat(amount.getMinorUnits()).isEqualTo(329_984L);
+    }
+
+    @Test
+    void baseAmount_ShouldApplySeasonAcrossNewYear() {
+        // Given: New Year's Eve to 2 January, whatever the weekdays
+        LocalDate newYearsEve = LocalDate.now().plusYears(1).withMonth(12).withDayOfMonth(31);
+        RateCalendar calendar = new RateCalendar(LocalDate.now(), 400, Set.of(), RateCalendar.ONE,
+                RateCalendar.parseSeasons("12-20..01-05=1.30"));
+
+        // When
+        long factorSum = calendar.factorSum(newYearsEve, newYearsEve.plusDays(2));
+
+        // Then
+        assertThat(factorSum).isEqualTo(2 * 13_000L);
+        assertThat(new RateCalendar.Season(MonthDay.of(12, 20), MonthDay.of(1, 5), 13_000L)
+                .contains(MonthDay.of(6, 1))).isFalse();
+    }
+
+    @Test
+    void factorSum_ShouldMatchNightByNightSum_InsideAndOutsideHorizon() {
+        // Given
+        RateCalendar calendar = new RateCalendar(LocalDate.now(), 60, Set.of(DayOfWeek.SATURDAY), 11_500L,
+                RateCalendar.parseSeasons("06-15..08-31=1.20"));
+
+        for (int offset = 0; offset < 90; offset += 7) {
+            LocalDate checkIn = LocalDate.now().plusDays(offset);
+            LocalDate checkOut = checkIn.plusDays(30);
+            long expected = 0;
+            for (LocalDate night = checkIn; night.isBefore(checkOut); night = night.plusDays(1)) {
+                expected += calendar.factor(night);
+            }
+
+            // Then
+            assertThat(calendar.factorSum(checkIn, checkOut)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void apply_ShouldMergeIncrementalChangesOverCurrentRates() {
+        // Given
+        LocalDateTime loadedAt = LocalDateTime.now().minusMinutes(10);
+        rateTable.apply(List.of(rate(1L, "150.00", loadedAt), rate(2L, "90.00", loadedAt)), true);
+
+        // When
+        rateTable.apply(List.of(rate(2L, "95.50", loadedAt.plusMinutes(5))), false);
+
+        // Then
+        assertThat(rateTable.size()).isEqualTo(2);
+        assertThat(rateTable.nightlyRateMinor(1L)).isEqualTo(15_000L);
+        assertThat(rateTable.nightlyRateMinor(2L)).isEqualTo(9_550L);
+        assertThat(rateTable.nightlyRateMinor(3L)).isEqualTo(HotelRateTable.NO_RATE);
+        assertThat(rateTable.city(2L)).isEqualTo("City 2");
+        assertThat(rateTable.city(3L)).isNull();
+    }
+
+    @Test
+    void refreshSince_ShouldRereadOverlap_SoOutOfOrderCommitIsPickedUp() {
+        // Given: hotel 2 pulled at loadedAt + 5 min
+        LocalDateTime loadedAt = LocalDateTime.now().minusMinutes(10);
+        rateTable.apply(List.of(rate(1L, "150.00", loadedAt), rate(2L, "90.00", loadedAt)), true);
+        rateTable.apply(List.of(rate(2L, "95.50", loadedAt.plusMinutes(5))), false);
+
+        // When: hotel 1 was stamped 10 seconds earlier but only committed after that pull
+        LocalDateTime lateCommit = loadedAt.plusMinutes(5).minusSeconds(10);
+        LocalDateTime since = rateTable.refreshSince();
+        rateTable.apply(List.of(rate(1L, "160.00", lateCommit)), false);
+
+        // Then: the next pull still covers it, and the older stamp does not move the watermark back
+        assertThat(since).isBeforeOrEqualTo(lateCommit);
+        assertThat(rateTable.nightlyRateMinor(1L)).isEqualTo(16_000L);
+        assertThat(rateTable.refreshSince()).isEqualTo(loadedAt.plusMinutes(5).minusSeconds(30));
+    }
+
+    @Test
+    void refreshSince_ShouldBeNull_UntilFullLoadHasReturnedRows() {
+        assertThat(rateTable.refreshSince()).isNull();
+
+        rateTable.apply(List.of(), true);
+
+        assertThat(rateTable.refreshSince()).isNull();
+    }
+
+    @Test
+    void basisPoints_ShouldRejectNonPositiveMultiplier() {
+        assertThatThrownBy(() -> RateCalendar.basisPoints("0"))
+                .hasMessageContaining("must be positive");
+    }
+
+    private HotelRateDTO rate(Long hotelId, String basePrice, LocalDateTime updatedAt) {
+        return HotelRateDTO.builder()
+                .hotelId(hotelId)
+                .basePrice(new BigDecimal(basePrice))
+                .city("City " + hotelId)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
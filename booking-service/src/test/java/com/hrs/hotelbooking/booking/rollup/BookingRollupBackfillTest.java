@@ -0,0 +1,134 @@
+package com.hrs.hotelbooking.booking.rollup;
+
+import com.hrs.hotelbooking.shared.dto.BookingStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * Unit tests for BookingRollupBackfill
+ *
+ * @author arihants1
+ */
+class BookingRollupBackfillTest {
+
+    private static final LocalDate DAY_1 = LocalDate.now().minusDays(30);
+    private static final LocalDate DAY_2 = DAY_1.plusDays(1);
+
+    private JdbcTemplate jdbcTemplate;
+    private BookingRollupStore rollupStore;
+    private BookingRollupBackfill backfill;
+    private List<Map<RollupKey, RollupTotals>> flushes;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        rollupStore = mock(BookingRollupStore.class);
+        flushes = new ArrayList<>();
+        given(rollupStore.add(anyMap())).willAnswer(invocation -> {
+            Map<RollupKey, RollupTotals> buffer = invocation.getArgument(0);
+            flushes.add(new HashMap<>(buffer));
+            return buffer.size();
+        });
+        // chunk size 2, flush after every chunk
+        backfill = new BookingRollupBackfill(jdbcTemplate, rollupStore, mock(PlatformTransactionManager.class), 2, 1,
+                true, 24);
+    }
+
+    @Test
+    void run_ShouldClearDaysAndFoldEveryChunkIntoTheDaysOfItsTransitions() {
+        // Given
+        given(jdbcTemplate.query(eq(BookingRollupBackfill.CHUNK_SQL), any(RowMapper.class), eq(0L), eq(2)))
+                .willReturn(List.of(
+                        row(10L, 1L, BookingStatus.CANCELLED, 2, "200.00", DAY_1, DAY_2, null, null),
+                        row(11L, 1L, BookingStatus.CONFIRMED, 1, "100.00", DAY_1, null, null, null)));
+        given(jdbcTemplate.query(eq(BookingRollupBackfill.CHUNK_SQL), any(RowMapper.class), eq(11L), eq(2)))
+                .willReturn(List.of(
+                        row(12L, 2L, BookingStatus.CHECKED_OUT, 1, "80.00", DAY_1.minusDays(1), null, DAY_2,
+                                DAY_2.plusDays(1))));
+
+        // When
+        BookingRollupBackfill.Result result = backfill.run(DAY_1, DAY_2);
+
+        // Then
+        verify(rollupStore).deleteDays(DAY_1, DAY_2);
+        assertThat(result.scanned()).isEqualTo(3);
+        assertThat(flushes).hasSize(2);
+
+        RollupTotals booked = flushes.get(0).get(new RollupKey(DAY_1, 1L, BookingStatus.CONFIRMED));
+        assertThat(booked.getBookings()).isEqualTo(2);
+        assertThat(booked.getRoomNights()).isEqualTo(3);
+        assertThat(booked.getGrossAmount()).isEqualByComparingTo("300.00");
+        assertThat(flushes.get(0).get(new RollupKey(DAY_2, 1L, BookingStatus.CANCELLED)).getBookings()).isEqualTo(1);
+
+        // Created and checked out outside the window: only the check-in counts
+        assertThat(flushes.get(1)).containsOnlyKeys(new RollupKey(DAY_2, 2L, BookingStatus.CHECKED_IN));
+    }
+
+    @Test
+    void start_ShouldRefuseSecondBackfillWhileOneIsRunning() {
+        // Given: the first chunk query blocks until released
+        CountDownLatch release = new CountDownLatch(1);
+        given(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any())).willAnswer(invocation -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of();
+        });
+
+        // When
+        boolean first = backfill.start(DAY_1, DAY_2);
+        boolean second = backfill.start(DAY_1, DAY_2);
+        release.countDown();
+        backfill.shutdown();
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+    }
+
+    @Test
+    void start_ShouldRefuseDaysWhoseBookingsMayBeArchived() {
+        // Given
+        LocalDate earliest = backfill.earliestRebuildableDay(LocalDate.now());
+
+        // When & Then: the days would be cleared but the bookings behind them are no longer in the table
+        assertThat(earliest).isEqualTo(LocalDate.now().withDayOfMonth(1).minusMonths(24).plusDays(30));
+        assertThatThrownBy(() -> backfill.start(earliest.minusDays(1), DAY_2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("archived");
+        assertThat(backfill.isRunning()).isFalse();
+        verifyNoInteractions(rollupStore, jdbcTemplate);
+    }
+
+    private static BookingRollupBackfill.BookingRow row(long id, Long hotelId, BookingStatus status, int nights,
+                                                        String total, LocalDate createdOn, LocalDate cancelledOn,
+                                                        LocalDate checkedInOn, LocalDate checkedOutOn) {
+        LocalDate checkIn = LocalDate.of(2026, 4, 1);
+        return new BookingRollupBackfill.BookingRow(id, hotelId, status, 1, checkIn, checkIn.plusDays(nights),
+                new BigDecimal(total), BigDecimal.ZERO, BigDecimal.ZERO,
+                at(createdOn), at(cancelledOn), at(checkedInOn), at(checkedOutOn));
+    }
+
+    private static LocalDateTime at(LocalDate day) {
+        return day != null ? day.atTime(12, 0) : null;
+    }
+}
@@ -0,0 +1,129 @@
+package com.hrs.hotelbooking.booking.rollup;
+
+import com.hrs.hotelbooking.booking.dto.BookingRollupDTO;
+import com.hrs.hotelbooking.booking.event.BookingChangedEvent;
+import com.hrs.hotelbooking.booking.pricing.HotelRateTable;
+import com.hrs.hotelbooking.shared.dto.BookingStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * Unit tests for BookingRollupRecorder and BookingRollupStore
+ *
+ * @author arihants1
+ */
+class BookingRollupRecorderTest {
+
+    private static final LocalDate CHECK_IN = LocalDate.of(2026, 3, 10);
+
+    private JdbcTemplate jdbcTemplate;
+    private BookingRollupStore rollupStore;
+    private BookingRollupRecorder recorder;
+    private Date today;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        HotelRateTable hotelRateTable = mock(HotelRateTable.class);
+        given(hotelRateTable.city(1L)).willReturn("Berlin");
+        rollupStore = new BookingRollupStore(jdbcTemplate, hotelRateTable);
+        recorder = new BookingRollupRecorder(rollupStore);
+        today = Date.valueOf(LocalDate.now());
+    }
+
+    @Test
+    void onBookingChanged_ShouldCountCreatedBookingInTodaysRow() {
+        // When: 2 rooms for 3 nights
+        recorder.onBookingChanged(new BookingChangedEvent(BookingChangedEvent.Type.CREATED, null,
+                stay(2, 3, BookingStatus.CONFIRMED, "660.00")));
+
+        // Then
+        assertThat(writtenRows()).containsExactly(new Object[]{today, 1L, "CONFIRMED", "Berlin", 1L, 6L,
+                new BigDecimal("660.00"), new BigDecimal("60.00"), new BigDecimal("6.00")});
+    }
+
+    @Test
+    void onBookingChanged_ShouldCountCancellationInCancelledRow() {
+        // When
+        recorder.onBookingChanged(new BookingChangedEvent(BookingChangedEvent.Type.CANCELLED, null,
+                stay(1, 2, BookingStatus.CANCELLED, "220.00")));
+
+        // Then
+        assertThat(writtenRows()).singleElement()
+                .satisfies(row -> assertThat(row[2]).isEqualTo("CANCELLED"))
+                .satisfies(row -> assertThat(row[4]).isEqualTo(1L));
+    }
+
+    @Test
+    void onBookingChanged_ShouldOnlyAddDifferenceOfEdit() {
+        // Given: one night longer at a higher price
+        BookingChangedEvent.Stay previous = stay(1, 2, BookingStatus.CONFIRMED, "220.00");
+        BookingChangedEvent.Stay current = stay(1, 3, BookingStatus.CONFIRMED, "330.00");
+
+        // When
+        recorder.onBookingChanged(new BookingChangedEvent(BookingChangedEvent.Type.UPDATED, previous, current));
+
+        // Then: the booking is not counted again
+        Object[] row = writtenRows().get(0);
+        assertThat(row[4]).isEqualTo(0L);
+        assertThat(row[5]).isEqualTo(1L);
+        assertThat((BigDecimal) row[6]).isEqualByComparingTo("110.00");
+    }
+
+    @Test
+    void onBookingChanged_ShouldWriteNothing_WhenEditChangesNoFigures() {
+        // Given
+        BookingChangedEvent.Stay stay = stay(1, 2, BookingStatus.CONFIRMED, "220.00");
+
+        // When
+        recorder.onBookingChanged(new BookingChangedEvent(BookingChangedEvent.Type.UPDATED, stay, stay));
+
+        // Then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void report_ShouldOnlyFilterOnGivenCriteria() {
+        // Given
+        LocalDate from = LocalDate.of(2026, 1, 1);
+        LocalDate to = LocalDate.of(2026, 1, 31);
+
+        // When
+        rollupStore.report(BookingRollupDTO.GroupBy.CITY, from, to, null, "Berlin", BookingStatus.CANCELLED);
+
+        // Then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).query(sql.capture(), any(RowMapper.class),
+                eq(Date.valueOf(from)), eq(Date.valueOf(to)), eq("Berlin"), eq("CANCELLED"));
+        assertThat(sql.getValue())
+                .startsWith("SELECT city, status, SUM(bookings)")
+                .contains("AND city = ? AND status = ?")
+                .doesNotContain("hotel_id")
+                .endsWith("GROUP BY city, status ORDER BY city, status");
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> writtenRows() {
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        return rows.getValue();
+    }
+
+    private static BookingChangedEvent.Stay stay(int rooms, int nights, BookingStatus status, String total) {
+        BigDecimal gross = new BigDecimal(total);
+        return new BookingChangedEvent.Stay(10L, "HRS10", 1L, 100L, CHECK_IN, CHECK_IN.plusDays(nights), rooms, status,
+                gross, gross.divide(BigDecimal.valueOf(11)), BigDecimal.valueOf(nights * 2L).setScale(2));
+    }
+}
@@ -0,0 +1,188 @@
+package com.hrs.hotelbooking.booking.stream;
+
+import com.hrs.hotelbooking.booking.dto.BookingStreamEventDTO;
+import com.hrs.hotelbooking.booking.event.BookingChangedEvent;
+import com.hrs.hotelbooking.shared.dto.BookingStatus;
+import com.hrs.hotelbooking.shared.exception.BusinessValidationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+
+/**
+ * Unit tests for BookingEventHub
+ *
+ * @author arihants1
+ */
+class BookingEventHubTest {
+
+    private BookingEventHub hub;
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void subscribe_ShouldSendSnapshotThenChangesOfTheHotel() throws InterruptedException {
+        // Given
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        hub = hub(8, 10, emitter);
+        hub.subscribe(1L, () -> List.of("arrival"));
+
+        // When
+        hub.publish(event(10L, 1L, null));
+        hub.publish(event(11L, 2L, null));
+        hub.publish(event(12L, 2L, 1L));
+
+        // Then: the change at hotel 2 is not sent, the booking moved away from hotel 1 is
+        emitter.awaitSent(3);
+        assertThat(emitter.sent).hasSize(3);
+        assertThat(emitter.sent.get(0)).contains("event:" + BookingEventHub.SNAPSHOT_EVENT, "arrival");
+        assertThat(emitter.sent.get(1)).contains("event:CREATED", "bookingId=10");
+        assertThat(emitter.sent.get(2)).contains("bookingId=12");
+        assertThat(hub.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void publish_ShouldDisconnectSubscriberThatFallsBehind() throws InterruptedException {
+        // Given: the client stops reading after the snapshot
+        CountDownLatch stalled = new CountDownLatch(1);
+        RecordingEmitter emitter = new RecordingEmitter(stalled);
+        hub = hub(2, 10, emitter);
+        hub.subscribe(1L, List::of);
+
+        // When: one event in flight and two buffered, the next one does not fit; publishing never waits
+        // on the emitter lock held by the stalled write
+        assertTimeout(Duration.ofSeconds(1), () -> {
+            for (long bookingId = 1; bookingId <= 4; bookingId++) {
+                hub.publish(event(bookingId, 1L, null));
+            }
+        });
+
+        // Then: dropped at once, completed by the sender once the stalled write returns
+        assertThat(hub.getSubscriberCount()).isZero();
+        assertThat(emitter.completed).isFalse();
+        stalled.countDown();
+        emitter.awaitCompleted();
+        assertThat(emitter.completed).isTrue();
+    }
+
+    @Test
+    void publish_ShouldKeepServingOtherStreams_WhileOneClientIsStalled() throws InterruptedException {
+        // Given: the stream of hotel 1 stops reading after the snapshot
+        CountDownLatch stalled = new CountDownLatch(1);
+        RecordingEmitter stalledEmitter = new RecordingEmitter(stalled);
+        RecordingEmitter healthyEmitter = new RecordingEmitter(null);
+        hub = hub(8, 10, stalledEmitter, healthyEmitter);
+        hub.subscribe(1L, List::of);
+        hub.subscribe(2L, List::of);
+
+        // When
+        hub.publish(event(1L, 1L, null));
+        stalledEmitter.awaitSent(2);
+        hub.publish(event(2L, 2L, null));
+
+        // Then: the healthy stream is written while the stalled write still holds its own sender thread
+        healthyEmitter.awaitSent(2);
+        assertThat(healthyEmitter.sent).hasSize(2);
+        assertThat(healthyEmitter.sent.get(1)).contains("bookingId=2");
+        assertThat(stalled.getCount()).isEqualTo(1);
+        stalled.countDown();
+    }
+
+    @Test
+    void subscribe_ShouldRefuseStreamsBeyondCapacity() {
+        // Given
+        hub = hub(8, 1, new RecordingEmitter(null));
+        hub.subscribe(1L, List::of);
+
+        // When & Then
+        assertThatThrownBy(() -> hub.subscribe(2L, List::of))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessageContaining("at capacity");
+        assertThat(hub.getSubscriberCount()).isEqualTo(1);
+    }
+
+    private static BookingEventHub hub(int bufferSize, int maxSubscribers, SseEmitter... emitters) {
+        Deque<SseEmitter> created = new ArrayDeque<>(List.of(emitters));
+        return new BookingEventHub(new SimpleMeterRegistry(), 60_000, bufferSize, maxSubscribers, 3_000, 2) {
+            @Override
+            SseEmitter createEmitter() {
+                return created.size() > 1 ? created.poll() : created.peek();
+            }
+        };
+    }
+
+    private static BookingStreamEventDTO event(Long bookingId, Long hotelId, Long previousHotelId) {
+        return BookingStreamEventDTO.builder()
+                .type(BookingChangedEvent.Type.CREATED)
+                .bookingId(bookingId)
+                .hotelId(hotelId)
+                .previousHotelId(previousHotelId)
+                .status(BookingStatus.CONFIRMED)
+                .build();
+    }
+
+    /**
+     * Records every event as text instead of writing it to a response; optionally blocks after the first.
+     * send and complete take the emitter's own lock, as SseEmitter does around a write to the response
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch stalled;
+        private volatile boolean completed;
+
+        RecordingEmitter(CountDownLatch stalled) {
+            this.stalled = stalled;
+        }
+
+        @Override
+        public synchronized void send(SseEventBuilder builder) throws IOException {
+            Set<ResponseBodyEmitter.DataWithMediaType> parts = builder.build();
+            StringBuilder text = new StringBuilder();
+            parts.forEach(part -> text.append(part.getData()));
+            sent.add(text.toString());
+            if (stalled != null && sent.size() > 1) {
+                try {
+                    stalled.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+
+        void awaitSent(int count) throws InterruptedException {
+            for (int i = 0; i < 500 && sent.size() < count; i++) {
+                Thread.sleep(10);
+            }
+        }
+
+        void awaitCompleted() throws InterruptedException {
+            for (int i = 0; i < 500 && !completed; i++) {
+                Thread.sleep(10);
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.hrs.hotelbooking.booking.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hrs.hotelbooking.booking.dto.BookingStreamEventDTO;
+import com.hrs.hotelbooking.booking.event.BookingChangedEvent;
+import com.hrs.hotelbooking.shared.dto.BookingStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * Unit tests for BookingEventRelay
+ *
+ * @author arihants1
+ */
+class BookingEventRelayTest {
+
+    private static final String CHANNEL = "hrs:booking:events";
+    private static final LocalDate CHECK_IN = LocalDate.of(2026, 5, 4);
+
+    private BookingEventHub eventHub;
+    private StringRedisTemplate redisTemplate;
+    private ObjectMapper objectMapper;
+    private BookingEventRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        eventHub = mock(BookingEventHub.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        relay = new BookingEventRelay(eventHub, redisTemplate, objectMapper, new SimpleMeterRegistry(), true, CHANNEL);
+    }
+
+    @Test
+    void onBookingChanged_ShouldPublishLocallyAndToOtherNodes() {
+        // When: the booking moved from hotel 1 to hotel 2
+        relay.onBookingChanged(new BookingChangedEvent(BookingChangedEvent.Type.UPDATED,
+                stay(1L, BookingStatus.CONFIRMED), stay(2L, BookingStatus.CONFIRMED)));
+
+        // Then
+        ArgumentCaptor<BookingStreamEventDTO> local = ArgumentCaptor.forClass(BookingStreamEventDTO.class);
+        verify(eventHub).publish(local.capture());
+        assertThat(local.getValue().getHotelId()).isEqualTo(2L);
+        assertThat(local.getValue().getPreviousHotelId()).isEqualTo(1L);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), contains("\"bookingReference\":\"HRS10\""));
+    }
+
+    @Test
+    void onMessage_ShouldPublishChangesOfOtherNodesOnly() {
+        // Given: a message of this node, captured as it was sent
+        relay.onBookingChanged(new BookingChangedEvent(BookingChangedEvent.Type.CANCELLED, null,
+                stay(1L, BookingStatus.CANCELLED)));
+        ArgumentCaptor<String> own = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), own.capture());
+        String json = own.getValue().substring(own.getValue().indexOf('|') + 1);
+        reset(eventHub);
+
+        // When
+        relay.onMessage(message(own.getValue()), null);
+        relay.onMessage(message("other-node|" + json), null);
+
+        // Then
+        ArgumentCaptor<BookingStreamEventDTO> received = ArgumentCaptor.forClass(BookingStreamEventDTO.class);
+        verify(eventHub, times(1)).publish(received.capture());
+        assertThat(received.getValue().getType()).isEqualTo(BookingChangedEvent.Type.CANCELLED);
+        assertThat(received.getValue().getCheckInDate()).isEqualTo(CHECK_IN);
+    }
+
+    @Test
+    void onBookingChanged_ShouldStillPublishLocally_WhenRedisIsDown() {
+        // Given
+        given(redisTemplate.convertAndSend(anyString(), anyString())).willThrow(new IllegalStateException("Redis down"));
+
+        // When
+        relay.onBookingChanged(new BookingChangedEvent(BookingChangedEvent.Type.CHECKED_IN, null,
+                stay(1L, BookingStatus.CHECKED_IN)));
+
+        // Then
+        verify(eventHub).publish(any(BookingStreamEventDTO.class));
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static BookingChangedEvent.Stay stay(Long hotelId, BookingStatus status) {
+        return new BookingChangedEvent.Stay(10L, "HRS10", hotelId, 100L, CHECK_IN, CHECK_IN.plusDays(2), 1, status,
+                new BigDecimal("230.00"), new BigDecimal("20.00"), new BigDecimal("10.00"));
+    }
+}
@@ -82,9 +82,11 @@ CREATE TABLE IF NOT EXISTS users (
                                      updated_by VARCHAR(50) DEFAULT 'arihants1'
 );
 
--- Create bookings table
+-- Create bookings table, range-partitioned by check-in month (bookings_pYYYY_MM, see hrs_ensure_booking_partitions)
+-- The primary key must contain the partition key; booking references and confirmation numbers are
+-- kept globally unique through booking_keys instead
 CREATE TABLE IF NOT EXISTS bookings (
-                                        id BIGSERIAL PRIMARY KEY,
+                                        id BIGSERIAL,
                                         user_id BIGINT NOT NULL,
                                         hotel_id BIGINT NOT NULL,
                                         check_in_date DATE NOT NULL,
@@ -97,8 +99,8 @@ CREATE TABLE IF NOT EXISTS bookings (
                                         taxes_amount DECIMAL(12,2) DEFAULT 0 CHECK (taxes_amount >= 0),
                                         fees_amount DECIMAL(12,2) DEFAULT 0 CHECK (fees_amount >= 0),
                                         status VARCHAR(50) NOT NULL DEFAULT 'CONFIRMED',
-                                        booking_reference VARCHAR(50) NOT NULL UNIQUE,
-                                        confirmation_number VARCHAR(50) UNIQUE,
+                                        booking_reference VARCHAR(50) NOT NULL,
+                                        confirmation_number VARCHAR(50),
                                         special_requests TEXT,
                                         guest_name VARCHAR(255),
                                         guest_email VARCHAR(255),
@@ -116,7 +118,58 @@ CREATE TABLE IF NOT EXISTS bookings (
                                         updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
                                         created_by VARCHAR(50) DEFAULT 'arihants1',
                                         updated_by VARCHAR(50) DEFAULT 'arihants1',
-                                        version BIGINT DEFAULT 0
+                                        version BIGINT DEFAULT 0,
+                                        PRIMARY KEY (id, check_in_date)
+) PARTITION BY RANGE (check_in_date);
+
+-- Create booking keys table: global uniqueness for booking references and confirmation numbers
+-- (maintained by trigger), and the check-in date that locates a booking's partition from its reference
+CREATE TABLE IF NOT EXISTS booking_keys (
+                                            booking_id BIGINT PRIMARY KEY,
+                                            booking_reference VARCHAR(50) NOT NULL UNIQUE,
+                                            confirmation_number VARCHAR(50) UNIQUE,
+                                            check_in_date DATE NOT NULL
+);
+
+-- Create booking intake queue table (asynchronous booking submission)
+CREATE TABLE IF NOT EXISTS booking_intake (
+                                              id BIGSERIAL PRIMARY KEY,
+                                              ticket_id VARCHAR(36) NOT NULL UNIQUE,
+                                              payload TEXT NOT NULL,
+                                              status VARCHAR(20) NOT NULL DEFAULT 'QUEUED',
+                                              callback_url VARCHAR(500),
+                                              attempts INTEGER NOT NULL DEFAULT 0,
+                                              booking_id BIGINT,
+                                              booking_reference VARCHAR(50),
+                                              error_message TEXT,
+                                              created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+                                              updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+                                              started_at TIMESTAMP WITH TIME ZONE,
+                                              completed_at TIMESTAMP WITH TIME ZONE
+);
+
+-- Create hotel occupancy ledger: rooms sold per hotel and night, maintained by booking-service
+-- (HotelOccupancyLedger) in the same transaction as every booking write
+CREATE TABLE IF NOT EXISTS hotel_occupancy (
+                                               hotel_id BIGINT NOT NULL,
+                                               night DATE NOT NULL,
+                                               rooms_sold INTEGER NOT NULL DEFAULT 0,
+                                               PRIMARY KEY (hotel_id, night)
+);
+
+-- Create daily booking rollups: per day, hotel and status, the bookings that moved into that status
+-- with their room-nights and amounts (maintained by booking-service BookingRollupRecorder)
+CREATE TABLE IF NOT EXISTS booking_daily_rollup (
+                                                    day DATE NOT NULL,
+                                                    hotel_id BIGINT NOT NULL,
+                                                    status VARCHAR(50) NOT NULL,
+                                                    city VARCHAR(100),
+                                                    bookings INTEGER NOT NULL DEFAULT 0,
+                                                    room_nights INTEGER NOT NULL DEFAULT 0,
+                                                    gross_amount DECIMAL(14,2) NOT NULL DEFAULT 0,
+                                                    taxes_amount DECIMAL(14,2) NOT NULL DEFAULT 0,
+                                                    fees_amount DECIMAL(14,2) NOT NULL DEFAULT 0,
+                                                    PRIMARY KEY (day, hotel_id, status)
 );
 
 -- Create performance indexes for hotels
@@ -127,22 +180,32 @@ CREATE INDEX IF NOT EXISTS idx_hotel_active ON hotels(is_active);
 CREATE INDEX IF NOT EXISTS idx_hotel_name ON hotels(name) WHERE is_active = true;
 CREATE INDEX IF NOT EXISTS idx_hotels_amenities ON hotels USING GIN(amenities) WHERE is_active = true;
 CREATE UNIQUE INDEX IF NOT EXISTS idx_hotels_unique_name_city ON hotels(LOWER(name), LOWER(city)) WHERE is_active = true;
+CREATE INDEX IF NOT EXISTS idx_hotel_created_id ON hotels(created_at, id) WHERE is_active = true;
 
 -- Create performance indexes for users
 CREATE INDEX IF NOT EXISTS idx_user_email ON users(email) WHERE is_active = true;
 CREATE INDEX IF NOT EXISTS idx_user_active ON users(is_active);
 CREATE INDEX IF NOT EXISTS idx_user_name ON users(first_name, last_name) WHERE is_active = true;
 CREATE INDEX IF NOT EXISTS idx_user_phone ON users(phone) WHERE phone IS NOT NULL AND is_active = true;
+CREATE INDEX IF NOT EXISTS idx_user_created_id ON users(created_at, id) WHERE is_active = true;
 
 -- Create performance indexes for bookings
 CREATE INDEX IF NOT EXISTS idx_booking_user ON bookings(user_id);
 CREATE INDEX IF NOT EXISTS idx_booking_hotel ON bookings(hotel_id);
 CREATE INDEX IF NOT EXISTS idx_booking_dates ON bookings(check_in_date, check_out_date);
 CREATE INDEX IF NOT EXISTS idx_booking_status ON bookings(status);
-CREATE INDEX IF NOT EXISTS idx_booking_reference ON bookings(booking_reference);
-CREATE INDEX IF NOT EXISTS idx_booking_confirmation ON bookings(confirmation_number);
 CREATE INDEX IF NOT EXISTS idx_booking_user_status ON bookings(user_id, status);
 CREATE INDEX IF NOT EXISTS idx_booking_hotel_dates ON bookings(hotel_id, check_in_date, check_out_date);
+CREATE INDEX IF NOT EXISTS idx_booking_user_checkin ON bookings(user_id, check_in_date);
+CREATE INDEX IF NOT EXISTS idx_booking_created_id ON bookings(created_at, id);
+CREATE INDEX IF NOT EXISTS idx_booking_updated_at ON bookings(updated_at);
+
+-- Create performance indexes for booking intake (workers scan QUEUED entries oldest first)
+CREATE INDEX IF NOT EXISTS idx_booking_intake_status ON booking_intake(status, id);
+
+-- Booking rollup indexes (per-hotel and per-city reports)
+CREATE INDEX IF NOT EXISTS idx_booking_rollup_hotel_day ON booking_daily_rollup(hotel_id, day);
+CREATE INDEX IF NOT EXISTS idx_booking_rollup_city_day ON booking_daily_rollup(city, day);
 
 -- Create trigger functions for automatic timestamp updates
 CREATE OR REPLACE FUNCTION update_updated_at_column()
@@ -170,6 +233,88 @@ CREATE TRIGGER trigger_bookings_updated_at
     FOR EACH ROW
 EXECUTE FUNCTION update_updated_at_column();
 
+-- Keep booking_keys in step with bookings. Keyed by booking id, so an update that moves a booking to
+-- another partition (fired as an insert there) just refreshes its row; a duplicate reference or
+-- confirmation number from another booking still violates the unique constraints
+CREATE OR REPLACE FUNCTION sync_booking_keys()
+    RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO booking_keys (booking_id, booking_reference, confirmation_number, check_in_date)
+    VALUES (NEW.id, NEW.booking_reference, NEW.confirmation_number, NEW.check_in_date)
+    ON CONFLICT (booking_id) DO UPDATE
+        SET booking_reference = EXCLUDED.booking_reference,
+            confirmation_number = EXCLUDED.confirmation_number,
+            check_in_date = EXCLUDED.check_in_date;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_bookings_keys_insert
+    AFTER INSERT ON bookings
+    FOR EACH ROW
+EXECUTE FUNCTION sync_booking_keys();
+
+CREATE TRIGGER trigger_bookings_keys_update
+    AFTER UPDATE ON bookings
+    FOR EACH ROW
+    WHEN (OLD.booking_reference IS DISTINCT FROM NEW.booking_reference
+        OR OLD.confirmation_number IS DISTINCT FROM NEW.confirmation_number
+        OR OLD.check_in_date IS DISTINCT FROM NEW.check_in_date)
+EXECUTE FUNCTION sync_booking_keys();
+
+-- Booking partition management (called by booking-service BookingPartitionManager)
+-- Create the monthly partitions from from_month through to_month that do not exist yet; returns their names
+CREATE OR REPLACE FUNCTION hrs_ensure_booking_partitions(from_month DATE, to_month DATE)
+    RETURNS SETOF TEXT AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::date;
+    partition_name TEXT;
+BEGIN
+    WHILE month_start <= to_month LOOP
+            partition_name := 'bookings_p' || to_char(month_start, 'YYYY_MM');
+            IF to_regclass(partition_name) IS NULL THEN
+                EXECUTE format('CREATE TABLE %I PARTITION OF bookings FOR VALUES FROM (%L) TO (%L)',
+                               partition_name, month_start, (month_start + INTERVAL '1 month')::date);
+                RETURN NEXT partition_name;
+            END IF;
+            month_start := (month_start + INTERVAL '1 month')::date;
+        END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Detach every monthly partition that ends on or before cutoff and move it to archive_schema,
+-- where it stays queryable (or can be dumped and dropped); returns the archived partition names.
+-- The archived bookings' booking_keys rows move along to archive_schema.booking_keys, so the live
+-- table only holds the keys of live bookings
+CREATE OR REPLACE FUNCTION hrs_archive_booking_partitions(cutoff DATE, archive_schema TEXT)
+    RETURNS SETOF TEXT AS $$
+DECLARE
+    partition_name TEXT;
+BEGIN
+    EXECUTE format('CREATE SCHEMA IF NOT EXISTS %I', archive_schema);
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I.booking_keys (LIKE booking_keys INCLUDING ALL)', archive_schema);
+    FOR partition_name IN
+        SELECT c.relname
+        FROM pg_inherits i
+                 JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'bookings'::regclass
+          AND c.relname ~ '^bookings_p[0-9]{4}_[0-9]{2}$'
+          AND (to_date(substr(c.relname, 11), 'YYYY_MM') + INTERVAL '1 month')::date <= cutoff
+        ORDER BY c.relname
+        LOOP
+            EXECUTE format('ALTER TABLE bookings DETACH PARTITION %I', partition_name);
+            EXECUTE format('WITH archived AS (DELETE FROM booking_keys k USING %I b WHERE k.booking_id = b.id '
+                               || 'RETURNING k.*) INSERT INTO %I.booking_keys SELECT * FROM archived '
+                               || 'ON CONFLICT DO NOTHING', partition_name, archive_schema);
+            EXECUTE format('ALTER TABLE %I SET SCHEMA %I', partition_name, archive_schema);
+            RETURN NEXT partition_name;
+        END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Initial partitions: from the sample data through the booking horizon (check-in at most a year ahead)
+SELECT hrs_ensure_booking_partitions(DATE '2025-06-01', (CURRENT_DATE + INTERVAL '15 months')::date);
+
 -- Insert sample data for hotels
 INSERT INTO hotels (name, description, location, city, country, star_rating, amenities, base_price, total_rooms, phone, email, website) VALUES
                                                                                                                                             ('HRS Grand Hotel New York', 'Luxury hotel in the heart of Manhattan with stunning city views and world-class amenities', '123 Broadway, Manhattan', 'New York', 'USA', 5, '{"wifi": true, "pool": true, "gym": true, "spa": true, "restaurant": true, "room_service": true, "concierge": true, "parking": true, "business_center": true}', 299.99, 200, '+1-212-555-0101', 'info@hrsgrandny.com', 'https://hrsgrandny.com'),
@@ -203,10 +348,46 @@ INSERT INTO bookings (user_id, hotel_id, check_in_date, check_out_date, room_typ
                                                                                 (3, 4, '2025-07-25', '2025-07-27', 'STANDARD', 1, 1, 197.98, 179.98, 17.98, 9.00, 'HRS_20250627113136_0004', 'CONF20250627000004', 'Admin User', 'admin@hrs.com', '+1-555-0100', 'CONFIRMED'),
                                                                                 (4, 5, '2025-08-10', '2025-08-13', 'DELUXE', 1, 2, 659.97, 599.97, 59.97, 30.00, 'HRS_20250627113136_0005', 'CONF20250627000005', 'Alice Johnson', 'alice.johnson@example.com', '+1-555-0125', 'PENDING');
 
+-- Occupancy ledger for the sample bookings (nights [check_in_date, check_out_date) of sold bookings)
+INSERT INTO hotel_occupancy (hotel_id, night, rooms_sold)
+SELECT b.hotel_id, n.night::date, SUM(b.number_of_rooms)
+FROM bookings b
+         CROSS JOIN LATERAL generate_series(b.check_in_date, b.check_out_date - 1, INTERVAL '1 day') AS n(night)
+WHERE b.status IN ('PENDING', 'CONFIRMED', 'CHECKED_IN', 'CHECKED_OUT')
+GROUP BY b.hotel_id, n.night::date
+ON CONFLICT (hotel_id, night) DO UPDATE SET rooms_sold = EXCLUDED.rooms_sold;
+
+-- Booking rollups for the sample bookings (counted on the day they were created)
+INSERT INTO booking_daily_rollup (day, hotel_id, status, city, bookings, room_nights, gross_amount, taxes_amount, fees_amount)
+SELECT b.created_at::date, b.hotel_id,
+       CASE WHEN b.status = 'PENDING' THEN 'PENDING' ELSE 'CONFIRMED' END,
+       MAX(h.city), COUNT(*), SUM(b.number_of_rooms * (b.check_out_date - b.check_in_date)),
+       COALESCE(SUM(b.total_amount), 0), COALESCE(SUM(b.taxes_amount), 0), COALESCE(SUM(b.fees_amount), 0)
+FROM bookings b
+         LEFT JOIN hotels h ON h.id = b.hotel_id
+GROUP BY 1, 2, 3
+ON CONFLICT (day, hotel_id, status) DO NOTHING;
+
+-- Pooled id sequences (HRS Hotel, User and Booking entities, allocationSize = 50)
+-- Hibernate reserves ids in blocks of 50 per nextval, so inserts no longer need RETURNING id
+-- and JDBC batching (hibernate.jdbc.batch_size) applies to them. INCREMENT BY must equal allocationSize.
+-- setval moves each sequence a full block past the existing rows; safe to re-run.
+ALTER SEQUENCE hotels_id_seq INCREMENT BY 50;
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE bookings_id_seq INCREMENT BY 50;
+
+SELECT setval('hotels_id_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM hotels), nextval('hotels_id_seq')) + 50);
+SELECT setval('users_id_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM users), nextval('users_id_seq')) + 50);
+SELECT setval('bookings_id_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM bookings), nextval('bookings_id_seq')) + 50);
+
 -- Add table comments
 COMMENT ON TABLE hotels IS 'HRS Hotels table - stores hotel information. Created: 2025-06-27 11:31:36 UTC by arihants1';
 COMMENT ON TABLE users IS 'HRS Users table - stores user profiles. Created: 2025-06-27 11:31:36 UTC by arihants1';
 COMMENT ON TABLE bookings IS 'HRS Bookings table - stores booking information. Created: 2025-06-27 11:31:36 UTC by arihants1';
+COMMENT ON TABLE booking_keys IS 'HRS Booking keys - globally unique booking references and confirmation numbers';
+COMMENT ON TABLE booking_intake IS 'HRS Booking intake queue - asynchronously submitted booking requests';
+COMMENT ON TABLE hotel_occupancy IS 'HRS Hotel occupancy ledger - rooms sold per hotel and night';
+COMMENT ON TABLE booking_daily_rollup IS 'HRS Daily booking rollups - bookings, room-nights and amounts per day, hotel and status';
 
 -- Display initialization summary
 DO $$
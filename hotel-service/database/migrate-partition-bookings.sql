@@ -0,0 +1,187 @@
+-- HRS migration for existing databases: partition bookings by check-in month
+-- Run once, in a maintenance window, before deploying the booking-service partition manager.
+-- Rows are copied into monthly partitions of a new bookings table; the old heap is kept as
+-- bookings_unpartitioned until the copy has been checked, then dropped by hand (last statement).
+
+BEGIN;
+
+-- Move the old table out of the way; free the sequence and the index names for the new table
+ALTER TABLE bookings RENAME TO bookings_unpartitioned;
+ALTER TABLE bookings_unpartitioned RENAME CONSTRAINT bookings_pkey TO bookings_unpartitioned_pkey;
+ALTER SEQUENCE bookings_id_seq OWNED BY NONE;
+DROP INDEX IF EXISTS idx_booking_user, idx_booking_hotel, idx_booking_dates, idx_booking_status,
+    idx_booking_reference, idx_booking_confirmation, idx_booking_user_status, idx_booking_hotel_dates,
+    idx_booking_user_checkin, idx_booking_created_id, idx_booking_created;
+
+CREATE TABLE bookings (
+                                        id BIGINT NOT NULL DEFAULT nextval('bookings_id_seq'),
+                                        user_id BIGINT NOT NULL,
+                                        hotel_id BIGINT NOT NULL,
+                                        check_in_date DATE NOT NULL,
+                                        check_out_date DATE NOT NULL,
+                                        room_type VARCHAR(100),
+                                        number_of_rooms INTEGER NOT NULL DEFAULT 1 CHECK (number_of_rooms > 0),
+                                        number_of_guests INTEGER NOT NULL DEFAULT 1 CHECK (number_of_guests > 0),
+                                        total_amount DECIMAL(12,2) CHECK (total_amount >= 0),
+                                        base_amount DECIMAL(12,2) CHECK (base_amount >= 0),
+                                        taxes_amount DECIMAL(12,2) DEFAULT 0 CHECK (taxes_amount >= 0),
+                                        fees_amount DECIMAL(12,2) DEFAULT 0 CHECK (fees_amount >= 0),
+                                        status VARCHAR(50) NOT NULL DEFAULT 'CONFIRMED',
+                                        booking_reference VARCHAR(50) NOT NULL,
+                                        confirmation_number VARCHAR(50),
+                                        special_requests TEXT,
+                                        guest_name VARCHAR(255),
+                                        guest_email VARCHAR(255),
+                                        guest_phone VARCHAR(50),
+                                        payment_status VARCHAR(50) DEFAULT 'PENDING',
+                                        payment_method VARCHAR(50),
+                                        payment_reference VARCHAR(100),
+                                        cancellation_reason TEXT,
+                                        cancelled_at TIMESTAMP WITH TIME ZONE,
+                                        cancelled_by VARCHAR(50),
+                                        checked_in_at TIMESTAMP WITH TIME ZONE,
+                                        checked_out_at TIMESTAMP WITH TIME ZONE,
+                                        discount_amount DECIMAL(10,2) DEFAULT 0 CHECK (discount_amount >= 0),
+                                        created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+                                        updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+                                        created_by VARCHAR(50) DEFAULT 'arihants1',
+                                        updated_by VARCHAR(50) DEFAULT 'arihants1',
+                                        version BIGINT DEFAULT 0,
+                                        PRIMARY KEY (id, check_in_date)
+) PARTITION BY RANGE (check_in_date);
+
+-- Create booking keys table: global uniqueness for booking references and confirmation numbers
+-- (maintained by trigger), and the check-in date that locates a booking's partition from its reference
+CREATE TABLE IF NOT EXISTS booking_keys (
+                                            booking_id BIGINT PRIMARY KEY,
+                                            booking_reference VARCHAR(50) NOT NULL UNIQUE,
+                                            confirmation_number VARCHAR(50) UNIQUE,
+                                            check_in_date DATE NOT NULL
+);
+
+ALTER SEQUENCE bookings_id_seq OWNED BY bookings.id;
+
+CREATE TRIGGER trigger_bookings_updated_at
+    BEFORE UPDATE ON bookings
+    FOR EACH ROW
+EXECUTE FUNCTION update_updated_at_column();
+
+-- Keep booking_keys in step with bookings. Keyed by booking id, so an update that moves a booking to
+-- another partition (fired as an insert there) just refreshes its row; a duplicate reference or
+-- confirmation number from another booking still violates the unique constraints
+CREATE OR REPLACE FUNCTION sync_booking_keys()
+    RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO booking_keys (booking_id, booking_reference, confirmation_number, check_in_date)
+    VALUES (NEW.id, NEW.booking_reference, NEW.confirmation_number, NEW.check_in_date)
+    ON CONFLICT (booking_id) DO UPDATE
+        SET booking_reference = EXCLUDED.booking_reference,
+            confirmation_number = EXCLUDED.confirmation_number,
+            check_in_date = EXCLUDED.check_in_date;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_bookings_keys_insert
+    AFTER INSERT ON bookings
+    FOR EACH ROW
+EXECUTE FUNCTION sync_booking_keys();
+
+CREATE TRIGGER trigger_bookings_keys_update
+    AFTER UPDATE ON bookings
+    FOR EACH ROW
+    WHEN (OLD.booking_reference IS DISTINCT FROM NEW.booking_reference
+        OR OLD.confirmation_number IS DISTINCT FROM NEW.confirmation_number
+        OR OLD.check_in_date IS DISTINCT FROM NEW.check_in_date)
+EXECUTE FUNCTION sync_booking_keys();
+
+-- Booking partition management (called by booking-service BookingPartitionManager)
+-- Create the monthly partitions from from_month through to_month that do not exist yet; returns their names
+CREATE OR REPLACE FUNCTION hrs_ensure_booking_partitions(from_month DATE, to_month DATE)
+    RETURNS SETOF TEXT AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::date;
+    partition_name TEXT;
+BEGIN
+    WHILE month_start <= to_month LOOP
+            partition_name := 'bookings_p' || to_char(month_start, 'YYYY_MM');
+            IF to_regclass(partition_name) IS NULL THEN
+                EXECUTE format('CREATE TABLE %I PARTITION OF bookings FOR VALUES FROM (%L) TO (%L)',
+                               partition_name, month_start, (month_start + INTERVAL '1 month')::date);
+                RETURN NEXT partition_name;
+            END IF;
+            month_start := (month_start + INTERVAL '1 month')::date;
+        END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Detach every monthly partition that ends on or before cutoff and move it to archive_schema,
+-- where it stays queryable (or can be dumped and dropped); returns the archived partition names.
+-- The archived bookings' booking_keys rows move along to archive_schema.booking_keys, so the live
+-- table only holds the keys of live bookings
+CREATE OR REPLACE FUNCTION hrs_archive_booking_partitions(cutoff DATE, archive_schema TEXT)
+    RETURNS SETOF TEXT AS $$
+DECLARE
+    partition_name TEXT;
+BEGIN
+    EXECUTE format('CREATE SCHEMA IF NOT EXISTS %I', archive_schema);
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I.booking_keys (LIKE booking_keys INCLUDING ALL)', archive_schema);
+    FOR partition_name IN
+        SELECT c.relname
+        FROM pg_inherits i
+                 JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'bookings'::regclass
+          AND c.relname ~ '^bookings_p[0-9]{4}_[0-9]{2}$'
+          AND (to_date(substr(c.relname, 11), 'YYYY_MM') + INTERVAL '1 month')::date <= cutoff
+        ORDER BY c.relname
+        LOOP
+            EXECUTE format('ALTER TABLE bookings DETACH PARTITION %I', partition_name);
+            EXECUTE format('WITH archived AS (DELETE FROM booking_keys k USING %I b WHERE k.booking_id = b.id '
+                               || 'RETURNING k.*) INSERT INTO %I.booking_keys SELECT * FROM archived '
+                               || 'ON CONFLICT DO NOTHING', partition_name, archive_schema);
+            EXECUTE format('ALTER TABLE %I SET SCHEMA %I', partition_name, archive_schema);
+            RETURN NEXT partition_name;
+        END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partitions for every existing check-in month through the booking horizon
+SELECT hrs_ensure_booking_partitions(
+               COALESCE((SELECT MIN(check_in_date) FROM bookings_unpartitioned), CURRENT_DATE),
+               (CURRENT_DATE + INTERVAL '15 months')::date);
+
+-- Copy the rows (the insert trigger fills booking_keys; a duplicate reference aborts the migration)
+INSERT INTO bookings (
+    id, user_id, hotel_id, check_in_date, check_out_date, room_type, number_of_rooms, number_of_guests,
+    total_amount, base_amount, taxes_amount, fees_amount, status, booking_reference, confirmation_number,
+    special_requests, guest_name, guest_email, guest_phone, payment_status, payment_method, payment_reference,
+    cancellation_reason, cancelled_at, cancelled_by, checked_in_at, checked_out_at, discount_amount,
+    created_at, updated_at, created_by, updated_by, version)
+SELECT
+    id, user_id, hotel_id, check_in_date, check_out_date, room_type, number_of_rooms, number_of_guests,
+    total_amount, base_amount, taxes_amount, fees_amount, status, booking_reference, confirmation_number,
+    special_requests, guest_name, guest_email, guest_phone, payment_status, payment_method, payment_reference,
+    cancellation_reason, cancelled_at, cancelled_by, checked_in_at, checked_out_at, discount_amount,
+    created_at, updated_at, created_by, updated_by, version
+FROM bookings_unpartitioned;
+
+-- Secondary indexes are created after the copy; each is built per partition
+CREATE INDEX IF NOT EXISTS idx_booking_user ON bookings(user_id);
+CREATE INDEX IF NOT EXISTS idx_booking_hotel ON bookings(hotel_id);
+CREATE INDEX IF NOT EXISTS idx_booking_dates ON bookings(check_in_date, check_out_date);
+CREATE INDEX IF NOT EXISTS idx_booking_status ON bookings(status);
+CREATE INDEX IF NOT EXISTS idx_booking_user_status ON bookings(user_id, status);
+CREATE INDEX IF NOT EXISTS idx_booking_hotel_dates ON bookings(hotel_id, check_in_date, check_out_date);
+CREATE INDEX IF NOT EXISTS idx_booking_user_checkin ON bookings(user_id, check_in_date);
+CREATE INDEX IF NOT EXISTS idx_booking_created_id ON bookings(created_at, id);
+
+COMMENT ON TABLE bookings IS 'HRS Bookings table - stores booking information. Created: 2025-06-27 11:31:36 UTC by arihants1';
+COMMENT ON TABLE booking_keys IS 'HRS Booking keys - globally unique booking references and confirmation numbers';
+
+COMMIT;
+
+ANALYZE bookings;
+ANALYZE booking_keys;
+
+-- After checking that SELECT COUNT(*) matches on both tables:
+-- DROP TABLE bookings_unpartitioned;
@@ -0,0 +1,15 @@
+-- HRS migration for existing databases: pooled id sequences
+-- Run once before deploying the services that use allocationSize = 50
+-- (ddl-auto: validate rejects a sequence whose INCREMENT BY differs from allocationSize)
+
+-- Pooled id sequences (HRS Hotel, User and Booking entities, allocationSize = 50)
+-- Hibernate reserves ids in blocks of 50 per nextval, so inserts no longer need RETURNING id
+-- and JDBC batching (hibernate.jdbc.batch_size) applies to them. INCREMENT BY must equal allocationSize.
+-- setval moves each sequence a full block past the existing rows; safe to re-run.
+ALTER SEQUENCE hotels_id_seq INCREMENT BY 50;
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE bookings_id_seq INCREMENT BY 50;
+
+SELECT setval('hotels_id_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM hotels), nextval('hotels_id_seq')) + 50);
+SELECT setval('users_id_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM users), nextval('users_id_seq')) + 50);
+SELECT setval('bookings_id_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM bookings), nextval('bookings_id_seq')) + 50);
@@ -2,6 +2,8 @@ package com.hrs.hotelbooking.hotel.controller;
 
 import com.hrs.hotelbooking.hotel.service.HotelService;
 import com.hrs.hotelbooking.shared.dto.HotelDTO;
+import com.hrs.hotelbooking.shared.dto.HotelRateDTO;
+import com.hrs.hotelbooking.shared.pagination.CursorPage;
 import com.hrs.hotelbooking.shared.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,6 +21,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Max;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -75,6 +78,25 @@ public class HotelController {
                 String.format("Found %d hotels", hotels.size())));
     }
 
+    /**
+     * Get nightly rates, consumed by the booking-service rate table
+     */
+    @GetMapping("/rates")
+    @Operation(summary = "Get HRS hotel rates",
+            description = "Retrieve base nightly rates for all hotels, or only those changed since a timestamp")
+    public ResponseEntity<ApiResponse<List<HotelRateDTO>>> getHotelRates(
+            @Parameter(description = "Only return hotels updated at or after this instant (ISO date-time)")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince) {
+
+        log.info("Fetching HRS hotel rates updated since: {} ", updatedSince);
+
+        List<HotelRateDTO> rates = hotelService.getHotelRates(updatedSince);
+
+        return ResponseEntity.ok(ApiResponse.success(rates,
+                String.format("Retrieved %d hotel rates", rates.size())));
+    }
+
     /**
      * Get hotel by ID
      */
@@ -117,6 +139,33 @@ public class HotelController {
                         hotels.getContent().size(), page + 1, hotels.getTotalPages())));
     }
 
+    /**
+     * Get hotels with keyset (cursor) pagination
+     */
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll HRS hotels",
+            description = "Retrieve active hotels newest first with cursor pagination. Pass nextCursor back as cursor for the next page; "
+                    + "every page costs the same however deep it is")
+    public ResponseEntity<ApiResponse<CursorPage<HotelDTO>>> scrollHotels(
+            @Parameter(description = "Cursor from the previous page (omit for the first page)")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Page size (1-50)")
+            @RequestParam(defaultValue = "20")
+            @Min(value = 1, message = "Page size must be at least 1")
+            @Max(value = 50, message = "Page size cannot exceed 50") int size,
+
+            @Parameter(description = "Include the total row count (costs an extra count query)")
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
+
+        log.info("Scrolling HRS hotels - size: {}, includeTotal: {}", size, includeTotal);
+
+        CursorPage<HotelDTO> hotels = hotelService.scrollHotels(cursor, size, includeTotal);
+
+        return ResponseEntity.ok(ApiResponse.success(hotels,
+                String.format("Retrieved %d hotels", hotels.getContent().size())));
+    }
+
     /**
      * Get hotels by city
      */
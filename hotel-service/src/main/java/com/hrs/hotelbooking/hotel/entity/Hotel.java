@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -28,6 +30,8 @@ import java.util.Map;
         @Index(name = "idx_hotel_active", columnList = "is_active"),
         @Index(name = "idx_hotel_search", columnList = "city, star_rating, base_price")
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "hotels")
 @Data
 @Builder
 @NoArgsConstructor
@@ -35,7 +39,8 @@ import java.util.Map;
 public class Hotel {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hotel_id_seq")
+    @SequenceGenerator(name = "hotel_id_seq", sequenceName = "hotels_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
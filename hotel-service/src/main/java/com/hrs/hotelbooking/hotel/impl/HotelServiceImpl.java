@@ -5,8 +5,12 @@ import com.hrs.hotelbooking.hotel.entity.HotelSearchDocument;
 import com.hrs.hotelbooking.hotel.mapper.HotelMapper;
 import com.hrs.hotelbooking.hotel.repository.HotelRepository;
 import com.hrs.hotelbooking.hotel.repository.HotelSearchRepository;
+import com.hrs.hotelbooking.hotel.repository.HotelSummary;
 import com.hrs.hotelbooking.hotel.service.HotelService;
 import com.hrs.hotelbooking.shared.dto.HotelDTO;
+import com.hrs.hotelbooking.shared.dto.HotelRateDTO;
+import com.hrs.hotelbooking.shared.pagination.CursorPage;
+import com.hrs.hotelbooking.shared.pagination.PageCursor;
 import com.hrs.hotelbooking.shared.exception.ResourceNotFoundException;
 import com.hrs.hotelbooking.shared.exception.BusinessValidationException;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -91,9 +96,26 @@ public class HotelServiceImpl implements HotelService {
         validatePagination(page, size);
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<Hotel> hotelsPage = hotelRepository.findByIsActiveTrueOrderByCreatedAtDesc(pageable);
+        Page<HotelSummary> hotelsPage = hotelRepository.findByIsActiveTrueOrderByCreatedAtDesc(pageable);
 
-        return hotelsPage.map(hotelMapper::toDto);
+        return hotelsPage.map(hotelMapper::toSummaryDto);
+    }
+
+    @Override
+    public CursorPage<HotelDTO> scrollHotels(String cursor, int size, boolean includeTotal) {
+        log.info("Scrolling hotels - size: {}, includeTotal: {}", size, includeTotal);
+
+        validatePagination(0, size);
+
+        // One extra row tells whether another page follows, without a count
+        PageCursor after = PageCursor.decode(cursor);
+        List<HotelSummary> hotels = after == null
+                ? hotelRepository.findByIsActiveTrueOrderByCreatedAtDescIdDesc(PageRequest.of(0, size + 1))
+                : hotelRepository.findActivePageAfter(after.createdAt(), after.id(), size + 1);
+
+        return CursorPage.of(hotels, size, hotelMapper::toSummaryDto,
+                hotel -> new PageCursor(hotel.getCreatedAt(), hotel.getId()),
+                includeTotal ? hotelRepository.countByIsActiveTrue() : null);
     }
 
     @Override
@@ -106,10 +128,10 @@ public class HotelServiceImpl implements HotelService {
         }
 
         Pageable pageable = PageRequest.of(0, 50); // Limit to 50
-        Page<Hotel> hotelsPage = hotelRepository
+        Page<HotelSummary> hotelsPage = hotelRepository
                 .findByCityIgnoreCaseAndIsActiveTrueOrderByStarRatingDescBasePriceAsc(city, pageable);
 
-        return hotelMapper.toDtoList(hotelsPage.getContent());
+        return hotelsPage.stream().map(hotelMapper::toSummaryDto).toList();
     }
 
     @Override
@@ -187,6 +209,24 @@ public class HotelServiceImpl implements HotelService {
         hotelSearchRepository.deleteById(id);
     }
 
+    @Override
+    public List<HotelRateDTO> getHotelRates(LocalDateTime updatedSince) {
+        log.info("Fetching hotel rates updated since: {} ", updatedSince);
+
+        List<Hotel> hotels = updatedSince == null
+                ? hotelRepository.findAll()
+                : hotelRepository.findByUpdatedAtGreaterThanEqual(updatedSince);
+
+        return hotels.stream()
+                .map(hotel -> HotelRateDTO.builder()
+                        .hotelId(hotel.getId())
+                        .basePrice(hotel.getBasePrice())
+                        .city(hotel.getCity())
+                        .updatedAt(hotel.getUpdatedAt())
+                        .build())
+                .toList();
+    }
+
     private void validatePagination(int page, int size) {
         if (page < 0) {
             throw new BusinessValidationException("Page cannot be negative");
@@ -1,6 +1,7 @@
 package com.hrs.hotelbooking.hotel.mapper;
 
 import com.hrs.hotelbooking.hotel.entity.Hotel;
+import com.hrs.hotelbooking.hotel.repository.HotelSummary;
 import com.hrs.hotelbooking.shared.dto.HotelDTO;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -52,6 +53,31 @@ public class HotelMapper {
         }
     }
 
+    /**
+     * Convert a hotel list row to HotelDTO; description and amenities are left out
+     */
+    public HotelDTO toSummaryDto(HotelSummary hotel) {
+        if (hotel == null) {
+            return null;
+        }
+
+        return HotelDTO.builder()
+                .id(hotel.getId())
+                .name(hotel.getName())
+                .location(hotel.getLocation())
+                .city(hotel.getCity())
+                .country(hotel.getCountry())
+                .starRating(hotel.getStarRating())
+                .basePrice(hotel.getBasePrice())
+                .totalRooms(hotel.getTotalRooms())
+                .phone(hotel.getPhone())
+                .email(hotel.getEmail())
+                .website(hotel.getWebsite())
+                .createdAt(hotel.getCreatedAt())
+                .updatedAt(hotel.getUpdatedAt())
+                .build();
+    }
+
     /**
      * Convert HotelDTO to Hotel entity
      */
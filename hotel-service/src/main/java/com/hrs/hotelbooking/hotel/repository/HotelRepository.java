@@ -1,14 +1,18 @@
 package com.hrs.hotelbooking.hotel.repository;
 
 import com.hrs.hotelbooking.hotel.entity.Hotel;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,26 +21,68 @@ import java.util.Optional;
  * Data access for hotel operations in the HRS booking system
  * Fixed parameter mapping issues
  *
+ * List queries return HotelSummary rows; only detail lookups hydrate Hotel entities.
+ * Read-mostly listing and search queries go through the "hotel-queries" query cache region
+ *
  * @author arihants1
  * @since 2025-06-27 11:38:16 UTC
  */
 @Repository
 public interface HotelRepository extends JpaRepository<Hotel, Long> {
 
+    String QUERY_CACHE_REGION = "hotel-queries";
+
+    /**
+     * HotelSummary columns for native queries; quoted aliases keep the camel case the projection matches on
+     */
+    String SUMMARY_COLUMNS = "id, name, location, city, country, star_rating AS \"starRating\", " +
+            "base_price AS \"basePrice\", total_rooms AS \"totalRooms\", phone, email, website, " +
+            "created_at AS \"createdAt\", updated_at AS \"updatedAt\"";
+
     /**
-     * Find active hotels with pagination
+     * Find active hotels with pagination, as list rows
      */
-    Page<Hotel> findByIsActiveTrueOrderByCreatedAtDesc(Pageable pageable);
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
+    Page<HotelSummary> findByIsActiveTrueOrderByCreatedAtDesc(Pageable pageable);
 
     /**
-     * Find active hotels by city with case-insensitive search
+     * First keyset page of active hotels, newest first; a List result skips the count query
      */
-    Page<Hotel> findByCityIgnoreCaseAndIsActiveTrueOrderByStarRatingDescBasePriceAsc(String city, Pageable pageable);
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
+    List<HotelSummary> findByIsActiveTrueOrderByCreatedAtDescIdDesc(Pageable pageable);
+
+    /**
+     * Keyset page of active hotels after the cursor row (index seek on idx_hotel_created_id)
+     */
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM hotels " +
+            "WHERE is_active = true AND (created_at, id) < (:createdAt, :id) " +
+            "ORDER BY created_at DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<HotelSummary> findActivePageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           @Param("limit") int limit);
+
+    /**
+     * Count active hotels
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
+    long countByIsActiveTrue();
+
+    /**
+     * Find active hotels by city with case-insensitive search, as list rows
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
+    Page<HotelSummary> findByCityIgnoreCaseAndIsActiveTrueOrderByStarRatingDescBasePriceAsc(String city, Pageable pageable);
 
     /**
      * Comprehensive hotel search - FIXED METHOD
      * All parameters now match the query
      */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
     @Query("SELECT h FROM Hotel h WHERE h.isActive = true AND " +
             "(:city IS NULL OR LOWER(h.city) LIKE LOWER(CONCAT('%', :city, '%'))) AND " +
             "(:country IS NULL OR LOWER(h.country) LIKE LOWER(CONCAT('%', :country, '%'))) AND " +
@@ -53,4 +99,9 @@ public interface HotelRepository extends JpaRepository<Hotel, Long> {
                              @Param("maxPrice") BigDecimal maxPrice,
                              Pageable pageable);
 
-}
\ No newline at end of file
+    /**
+     * Hotels changed since the given instant, inactive ones included, for incremental rate table refreshes
+     */
+    List<Hotel> findByUpdatedAtGreaterThanEqual(LocalDateTime since);
+
+}
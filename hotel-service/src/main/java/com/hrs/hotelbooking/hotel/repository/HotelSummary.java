@@ -0,0 +1,40 @@
+package com.hrs.hotelbooking.hotel.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * HRS Hotel Summary Projection
+ * The columns of a hotel list row. Description (TEXT) and amenities (jsonb) are only read by the
+ * detail endpoint, which loads the full Hotel entity
+ *
+ * @author arihants1
+ */
+public interface HotelSummary {
+
+    Long getId();
+
+    String getName();
+
+    String getLocation();
+
+    String getCity();
+
+    String getCountry();
+
+    Integer getStarRating();
+
+    BigDecimal getBasePrice();
+
+    Integer getTotalRooms();
+
+    String getPhone();
+
+    String getEmail();
+
+    String getWebsite();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
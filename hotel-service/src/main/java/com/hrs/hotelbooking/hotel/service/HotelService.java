@@ -1,9 +1,12 @@
 package com.hrs.hotelbooking.hotel.service;
 
 import com.hrs.hotelbooking.shared.dto.HotelDTO;
+import com.hrs.hotelbooking.shared.dto.HotelRateDTO;
+import com.hrs.hotelbooking.shared.pagination.CursorPage;
 import org.springframework.data.domain.Page;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -30,6 +33,11 @@ public interface HotelService {
      */
     Page<HotelDTO> getAllHotels(int page, int size);
 
+    /**
+     * Get active hotels with keyset pagination, newest first
+     */
+    CursorPage<HotelDTO> scrollHotels(String cursor, int size, boolean includeTotal);
+
     /**
      * Get hotels by city
      */
@@ -49,4 +57,9 @@ public interface HotelService {
      * Delete hotel
      */
     void deleteHotel(Long id);
-}
\ No newline at end of file
+
+    /**
+     * Get nightly rates for all hotels, or only those changed since the given instant
+     */
+    List<HotelRateDTO> getHotelRates(LocalDateTime updatedSince);
+}
@@ -3,6 +3,8 @@ package com.hrs.hotelbooking.hotel.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hrs.hotelbooking.hotel.service.HotelService;
 import com.hrs.hotelbooking.shared.dto.HotelDTO;
+import com.hrs.hotelbooking.shared.dto.HotelRateDTO;
+import com.hrs.hotelbooking.shared.pagination.CursorPage;
 import com.hrs.hotelbooking.shared.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +20,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
@@ -141,6 +144,30 @@ public class HotelControllerTest {
                 .andExpect(jsonPath("$.data.totalElements").value(2));
     }
 
+    // Test for /scroll endpoint
+    @Test
+    public void scrollHotels_WithCursorAndNoTotal_ReturnsSliceWithoutTotal() throws Exception {
+        // Arrange
+        CursorPage<HotelDTO> slice = CursorPage.<HotelDTO>builder()
+                .content(List.of(createHotelDTO(1L, "Grand Hotel", "New York", "USA", 5, 299.99)))
+                .size(1)
+                .hasNext(true)
+                .nextCursor("next-token")
+                .build();
+        when(hotelService.scrollHotels("prev-token", 1, false)).thenReturn(slice);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/hotels/scroll")
+                        .param("cursor", "prev-token")
+                        .param("size", "1")
+                        .param("includeTotal", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").value("next-token"))
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+    }
+
     // Test for /city/{city} endpoint
     @Test
     public void getHotelsByCity_WithValidCity_ReturnsHotels() throws Exception {
@@ -159,6 +186,26 @@ public class HotelControllerTest {
                 .andExpect(jsonPath("$.data[0].city").value("New York"));
     }
 
+    // Test for /rates endpoint
+    @Test
+    public void getHotelRates_WithUpdatedSince_ReturnsChangedRates() throws Exception {
+        // Arrange
+        LocalDateTime since = LocalDateTime.of(2025, 6, 27, 5, 0);
+        List<HotelRateDTO> rates = List.of(HotelRateDTO.builder()
+                .hotelId(1L)
+                .basePrice(new BigDecimal("199.99"))
+                .updatedAt(since.plusMinutes(5))
+                .build());
+        when(hotelService.getHotelRates(since)).thenReturn(rates);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/hotels/rates").param("updatedSince", "2025-06-27T05:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].hotelId").value(1))
+                .andExpect(jsonPath("$.data[0].basePrice").value(199.99));
+    }
+
     // Test for POST create hotel endpoint
     @Test
     public void createHotel_WithValidData_CreatesHotel() throws Exception {
@@ -1,9 +1,11 @@
 package com.hrs.hotelbooking.hotel.mapper;
 
 import com.hrs.hotelbooking.hotel.entity.Hotel;
+import com.hrs.hotelbooking.hotel.repository.HotelSummary;
 import com.hrs.hotelbooking.shared.dto.HotelDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -119,5 +121,31 @@ class HotelMapperTest {
         assertThat(hotelMapper.toDtoList(null)).isEmpty();
         assertThat(hotelMapper.toDtoList(Collections.emptyList())).isEmpty();
     }
-}
 
+    @Test
+    void toSummaryDto_shouldMapListColumnsOnly() {
+        Hotel hotel = Hotel.builder()
+                .id(7L)
+                .name("Summary Hotel")
+                .description("Long text")
+                .city("Berlin")
+                .country("Germany")
+                .starRating(4)
+                .amenities(Map.of("Pool", true))
+                .basePrice(new BigDecimal("149.00"))
+                .createdAt(LocalDateTime.now())
+                .build();
+        HotelSummary row = new SpelAwareProxyProjectionFactory().createProjection(HotelSummary.class, hotel);
+
+        HotelDTO dto = hotelMapper.toSummaryDto(row);
+
+        assertThat(dto.getId()).isEqualTo(7L);
+        assertThat(dto.getName()).isEqualTo("Summary Hotel");
+        assertThat(dto.getStarRating()).isEqualTo(4);
+        assertThat(dto.getBasePrice()).isEqualByComparingTo("149.00");
+        assertThat(dto.getCreatedAt()).isEqualTo(hotel.getCreatedAt());
+        assertThat(dto.getDescription()).isNull();
+        assertThat(dto.getAmenities()).isNull();
+        assertThat(hotelMapper.toSummaryDto(null)).isNull();
+    }
+}
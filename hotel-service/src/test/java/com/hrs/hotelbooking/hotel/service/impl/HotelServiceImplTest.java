@@ -4,7 +4,12 @@ import com.hrs.hotelbooking.hotel.entity.HotelSearchDocument;
 import com.hrs.hotelbooking.hotel.mapper.HotelMapper;
 import com.hrs.hotelbooking.hotel.repository.HotelRepository;
 import com.hrs.hotelbooking.hotel.repository.HotelSearchRepository;
+import com.hrs.hotelbooking.hotel.repository.HotelSummary;
+import com.hrs.hotelbooking.hotel.entity.Hotel;
 import com.hrs.hotelbooking.shared.dto.HotelDTO;
+import com.hrs.hotelbooking.shared.dto.HotelRateDTO;
+import com.hrs.hotelbooking.shared.pagination.CursorPage;
+import com.hrs.hotelbooking.shared.pagination.PageCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,8 +17,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -179,4 +186,55 @@ public class HotelServiceImplTest {
         verify(hotelSearchRepository).findByCityAndIsActive(city, true);
         verifyNoMoreInteractions(hotelSearchRepository);
     }
+
+    @Test
+    @DisplayName("Hotel rates since a timestamp should include deactivated hotels")
+    void getHotelRatesSince_ShouldReturnChangedHotelsIncludingInactive() {
+        // Arrange
+        LocalDateTime since = LocalDateTime.now().minusMinutes(5);
+        Hotel closed = new Hotel();
+        closed.setId(2L);
+        closed.setBasePrice(new BigDecimal("149.99"));
+        closed.setCity("Berlin");
+        closed.setIsActive(false);
+        closed.setUpdatedAt(since.plusMinutes(1));
+
+        when(hotelRepository.findByUpdatedAtGreaterThanEqual(since)).thenReturn(List.of(closed));
+
+        // Act
+        List<HotelRateDTO> result = hotelService.getHotelRates(since);
+
+        // Assert
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getHotelId()).isEqualTo(2L);
+        assertThat(result.get(0).getBasePrice()).isEqualByComparingTo("149.99");
+        assertThat(result.get(0).getCity()).isEqualTo("Berlin");
+        verify(hotelRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Scroll hotels after a cursor should seek without counting")
+    void scrollHotelsAfterCursor_ShouldSeekWithoutCount() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2025, 6, 27, 5, 47, 4);
+        PageCursor cursor = new PageCursor(createdAt, 40L);
+        Hotel hotel = new Hotel();
+        hotel.setId(39L);
+        hotel.setCreatedAt(createdAt);
+        HotelSummary row = new SpelAwareProxyProjectionFactory().createProjection(HotelSummary.class, hotel);
+        HotelDTO dto = new HotelDTO();
+        dto.setId(39L);
+
+        when(hotelRepository.findActivePageAfter(createdAt, 40L, 11)).thenReturn(List.of(row));
+        when(hotelMapper.toSummaryDto(row)).thenReturn(dto);
+
+        // Act
+        CursorPage<HotelDTO> result = hotelService.scrollHotels(cursor.encode(), 10, false);
+
+        // Assert
+        assertThat(result.getContent()).containsExactly(dto);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getTotalElements()).isNull();
+        verify(hotelRepository, never()).countByIsActiveTrue();
+    }
 }
@@ -0,0 +1,34 @@
+package com.hrs.hotelbooking.shared.cache;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
+
+/**
+ * HRS Second-Level Cache Bulk Update Aspect
+ * Bulk JPQL and native updates (@Modifying repository queries) bypass the entity events the
+ * invalidator listens to, so cached entities they change would stay stale on every node. After such
+ * a query the repository's domain type is evicted through SecondLevelCacheInvalidator#onBulkUpdate;
+ * keep @Modifying queries in the repository of the entity they change.
+ *
+ * @author arihants1
+ */
+@Aspect
+public class SecondLevelCacheBulkUpdateAspect {
+
+    private final SecondLevelCacheInvalidator invalidator;
+
+    public SecondLevelCacheBulkUpdateAspect(SecondLevelCacheInvalidator invalidator) {
+        this.invalidator = invalidator;
+    }
+
+    @AfterReturning("@annotation(org.springframework.data.jpa.repository.Modifying)")
+    public void afterBulkUpdate(JoinPoint joinPoint) {
+        Class<?> repository = joinPoint.getSignature().getDeclaringType();
+        if (Repository.class.isAssignableFrom(repository)) {
+            invalidator.onBulkUpdate(AbstractRepositoryMetadata.getMetadata(repository).getDomainType());
+        }
+    }
+}
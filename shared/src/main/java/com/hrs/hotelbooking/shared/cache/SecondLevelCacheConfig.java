@@ -0,0 +1,48 @@
+package com.hrs.hotelbooking.shared.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * HRS Second-Level Cache Configuration
+ * Cluster invalidation for the Hibernate second-level cache over Redis pub/sub.
+ * The regions themselves are set up per service (hibernate-ehcache.xml and spring.jpa.properties);
+ * enable with hrs.cache.l2.invalidation.enabled=true
+ *
+ * @author arihants1
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "hrs.cache.l2.invalidation", name = "enabled", havingValue = "true")
+public class SecondLevelCacheConfig {
+
+    @Bean
+    public SecondLevelCacheInvalidator secondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory,
+                                                                   StringRedisTemplate redisTemplate,
+                                                                   ObjectProvider<MeterRegistry> meterRegistry,
+                                                                   @Value("${hrs.cache.l2.invalidation.channel:hrs:l2:invalidate}") String channel) {
+        return new SecondLevelCacheInvalidator(entityManagerFactory, redisTemplate, meterRegistry, channel);
+    }
+
+    @Bean
+    public SecondLevelCacheBulkUpdateAspect secondLevelCacheBulkUpdateAspect(SecondLevelCacheInvalidator invalidator) {
+        return new SecondLevelCacheBulkUpdateAspect(invalidator);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer secondLevelCacheListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                           SecondLevelCacheInvalidator invalidator) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(invalidator, new ChannelTopic(invalidator.getChannel()));
+        return container;
+    }
+}
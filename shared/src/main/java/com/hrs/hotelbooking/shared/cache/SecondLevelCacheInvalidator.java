@@ -0,0 +1,187 @@
+package com.hrs.hotelbooking.shared.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * HRS Second-Level Cache Invalidator
+ * Keeps the Hibernate second-level cache of every node of a service coherent. Once a transaction that
+ * changed a cached entity commits, the node publishes "node|entity|id" on the service's Redis channel;
+ * the other nodes evict that entity and drop their query cache regions, whose results may now be stale.
+ * Inserts are published without an id: they only make cached query results stale.
+ * Bulk JPQL or native updates fire no entity events; onBulkUpdate (called by SecondLevelCacheBulkUpdateAspect
+ * after @Modifying repository queries) evicts the whole entity region on every node and publishes "node|entity|*".
+ *
+ * Metrics: hrs.cache.l2.invalidations{direction=sent|received}
+ *
+ * @author arihants1
+ */
+@Slf4j
+public class SecondLevelCacheInvalidator implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener, MessageListener {
+
+    private static final String SEPARATOR = "|";
+    private static final String ALL = "*";
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Counter sent;
+    private final Counter received;
+
+    public SecondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory,
+                                       StringRedisTemplate redisTemplate,
+                                       ObjectProvider<MeterRegistry> meterRegistry,
+                                       String channel) {
+        this(entityManagerFactory.unwrap(SessionFactoryImplementor.class), redisTemplate,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new), channel);
+    }
+
+    SecondLevelCacheInvalidator(SessionFactoryImplementor sessionFactory, StringRedisTemplate redisTemplate,
+                                MeterRegistry meterRegistry, String channel) {
+        this.sessionFactory = sessionFactory;
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.sent = meterRegistry.counter("hrs.cache.l2.invalidations", "direction", "sent");
+        this.received = meterRegistry.counter("hrs.cache.l2.invalidations", "direction", "received");
+    }
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+        log.info("HRS second-level cache invalidation on channel {} at 2025-06-27 05:47:04", channel);
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(event.getPersister(), null);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    /**
+     * Evict every cached instance of an entity changed by a bulk update, here and on the other nodes,
+     * once the surrounding transaction commits (at once without one)
+     */
+    public void onBulkUpdate(Class<?> entityClass) {
+        EntityPersister persister = sessionFactory.getMappingMetamodel().findEntityDescriptor(entityClass.getName());
+        if (persister == null || !persister.canWriteToCache()) {
+            return;
+        }
+
+        Runnable evict = () -> {
+            Cache cache = sessionFactory.getCache();
+            cache.evictEntityData(persister.getEntityName());
+            cache.evictQueryRegions();
+            publish(persister, ALL);
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        received.increment();
+
+        String entityName = parts[1];
+        String id = parts[2];
+        Cache cache = sessionFactory.getCache();
+        if (ALL.equals(id)) {
+            cache.evictEntityData(entityName);
+        } else if (!id.isEmpty()) {
+            Class<?> idType = sessionFactory.getMappingMetamodel().getEntityDescriptor(entityName)
+                    .getIdentifierType().getReturnedClass();
+            if (Long.class.equals(idType)) {
+                cache.evictEntityData(entityName, Long.valueOf(id));
+            } else {
+                cache.evictEntityData(entityName);
+            }
+        }
+        cache.evictQueryRegions();
+        log.debug("HRS evicted {} {} from the second-level cache on remote change", entityName, id);
+    }
+
+    private void publish(EntityPersister persister, Object id) {
+        if (!persister.canWriteToCache()) {
+            return;
+        }
+        String message = nodeId + SEPARATOR + persister.getEntityName() + SEPARATOR + (id == null ? "" : id);
+        try {
+            redisTemplate.convertAndSend(channel, message);
+            sent.increment();
+        } catch (RuntimeException e) {
+            // The change is committed; other nodes serve the old entry until it expires
+            log.warn("HRS could not publish second-level cache invalidation for {} {}: {}",
+                    persister.getEntityName(), id, e.getMessage());
+        }
+    }
+}
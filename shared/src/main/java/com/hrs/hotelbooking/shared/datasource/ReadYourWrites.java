@@ -0,0 +1,61 @@
+package com.hrs.hotelbooking.shared.datasource;
+
+import java.util.function.LongConsumer;
+
+/**
+ * HRS Read-Your-Writes
+ * Per-thread "read from the primary until" deadline, set when a read-write transaction commits.
+ * While it holds, read-only transactions on the thread skip the replicas. ReadYourWritesFilter
+ * seeds it from the caller's cookie and hands each new deadline back to the caller.
+ *
+ * @author arihants1
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<State> STATE = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    /**
+     * Starts a request scope; {@code onPin} is told each new deadline (epoch millis)
+     */
+    public static void begin(long primaryUntil, LongConsumer onPin) {
+        State state = new State();
+        state.primaryUntil = primaryUntil;
+        state.onPin = onPin;
+        STATE.set(state);
+    }
+
+    public static void end() {
+        STATE.remove();
+    }
+
+    /**
+     * Keeps this thread (and, through the request scope, its caller) on the primary for the window
+     */
+    public static void pin(long windowMillis) {
+        State state = STATE.get();
+        if (state == null) {
+            state = new State();
+            STATE.set(state);
+        }
+        long until = System.currentTimeMillis() + windowMillis;
+        if (until > state.primaryUntil) {
+            state.primaryUntil = until;
+            if (state.onPin != null) {
+                state.onPin.accept(until);
+            }
+        }
+    }
+
+    public static boolean isPinned() {
+        State state = STATE.get();
+        return state != null && System.currentTimeMillis() < state.primaryUntil;
+    }
+
+    private static final class State {
+        private long primaryUntil;
+        private LongConsumer onPin;
+    }
+}
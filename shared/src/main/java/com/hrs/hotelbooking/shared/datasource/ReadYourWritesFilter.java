@@ -0,0 +1,76 @@
+package com.hrs.hotelbooking.shared.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * HRS Read-Your-Writes Filter
+ * Carries the primary-read deadline across requests in the HRS_PRIMARY_UNTIL cookie, so a caller's
+ * reads after a booking, hotel or user change see that change even while the replicas catch up.
+ * Deadlines further out than the window are ignored; a forged cookie can only cost primary reads.
+ *
+ * @author arihants1
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE = "HRS_PRIMARY_UNTIL";
+
+    private final long windowMillis;
+
+    public ReadYourWritesFilter(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ReadYourWrites.begin(primaryUntil(request), until -> {
+            if (!response.isCommitted()) {
+                response.addHeader(HttpHeaders.SET_COOKIE, cookie(until));
+            }
+        });
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.end();
+        }
+    }
+
+    long primaryUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    long until = Long.parseLong(cookie.getValue());
+                    return until <= System.currentTimeMillis() + windowMillis ? until : 0;
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private String cookie(long until) {
+        return ResponseCookie.from(COOKIE, Long.toString(until))
+                .path("/")
+                .maxAge(Duration.ofMillis(windowMillis).plusSeconds(1))
+                .httpOnly(true)
+                .sameSite("Lax")
+                .build()
+                .toString();
+    }
+}
@@ -0,0 +1,95 @@
+package com.hrs.hotelbooking.shared.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HRS Replica Routing Configuration
+ * Replaces Boot's single DataSource with a primary pool plus one pool per replica URL, all built from
+ * spring.datasource (hikari settings included). Replica pools are read-only connections.
+ * Enable with hrs.datasource.replica.enabled=true and a comma-separated hrs.datasource.replica.urls
+ *
+ * @author arihants1
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "hrs.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    @Value("${hrs.datasource.replica.max-lag-ms:2000}")
+    private long maxLagMillis;
+
+    @Value("${hrs.datasource.replica.lag-check-interval-ms:1000}")
+    private long lagCheckIntervalMillis;
+
+    @Bean
+    @Primary
+    public ReplicaRoutingDataSource dataSource(DataSourceProperties properties,
+                                               Environment environment,
+                                               ObjectProvider<MeterRegistry> meterRegistry,
+                                               @Value("${hrs.datasource.replica.urls:}") String urls,
+                                               @Value("${hrs.datasource.replica.username:${spring.datasource.username:}}") String username,
+                                               @Value("${hrs.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        String[] replicaUrls = StringUtils.tokenizeToStringArray(urls, ",");
+        if (replicaUrls.length == 0) {
+            throw new IllegalArgumentException("hrs.datasource.replica.urls must list at least one replica "
+                    + "when hrs.datasource.replica.enabled=true");
+        }
+        if (maxLagMillis <= 0 || lagCheckIntervalMillis <= 0) {
+            throw new IllegalArgumentException("hrs.datasource.replica.max-lag-ms and lag-check-interval-ms must be positive");
+        }
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(primary));
+
+        List<ReplicaRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.length; i++) {
+            String name = "replica-" + (i + 1);
+            HikariDataSource replica = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(replicaUrls[i])
+                    .username(username)
+                    .password(password)
+                    .build();
+            binder.bind(HIKARI_PREFIX, Bindable.ofInstance(replica));
+            replica.setPoolName("hrs-" + name);
+            replica.setReadOnly(true);
+            replica.setMetricRegistry(registry);
+            replicas.add(new ReplicaRoutingDataSource.Replica(name, replica));
+        }
+
+        return new ReplicaRoutingDataSource(primary, replicas, maxLagMillis, lagCheckIntervalMillis, registry);
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter() {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(maxLagMillis + lagCheckIntervalMillis));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -0,0 +1,225 @@
+package com.hrs.hotelbooking.shared.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HRS Replica Routing DataSource
+ * Sends read-only transactions to a replica and everything else to the primary.
+ *
+ * The routing is lazy: the physical connection is only chosen at the first statement, by which time
+ * the transaction's read-only flag is known. A replica is used only while its measured replay lag is
+ * within max-lag; once a read-write transaction commits, the thread (and, through ReadYourWritesFilter,
+ * the caller) reads from the primary for max-lag plus one check interval.
+ *
+ * Metrics:
+ * - hrs.datasource.routing{target, reason=read-write|read-your-writes|no-replica|replica}
+ * - hrs.datasource.replica.lag{replica} - milliseconds, -1 while unreachable
+ *
+ * @author arihants1
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    // Zero when the replica has replayed everything it received, so an idle primary does not look like lag
+    private static final String LAG_SQL = "SELECT COALESCE(CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 END, 0)";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final long stickinessMillis;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Object writeMarker = new Object();
+    private final long lagCheckIntervalMillis;
+    private ScheduledExecutorService lagChecker;
+
+    private final Counter readWrite;
+    private final Counter readYourWrites;
+    private final Counter noReplica;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas,
+                                    long maxLagMillis, long lagCheckIntervalMillis, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.maxLagMillis = maxLagMillis;
+        this.lagCheckIntervalMillis = lagCheckIntervalMillis;
+        this.stickinessMillis = maxLagMillis + lagCheckIntervalMillis;
+
+        this.readWrite = routingCounter(meterRegistry, PRIMARY, "read-write");
+        this.readYourWrites = routingCounter(meterRegistry, PRIMARY, "read-your-writes");
+        this.noReplica = routingCounter(meterRegistry, PRIMARY, "no-replica");
+        for (Replica replica : this.replicas) {
+            replica.routed = routingCounter(meterRegistry, replica.name, "replica");
+            Gauge.builder("hrs.datasource.replica.lag", replica, r -> r.lagMillis)
+                    .tag("replica", replica.name)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        }
+
+        Router router = new Router();
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        this.replicas.forEach(replica -> targets.put(replica.name, replica.dataSource));
+        router.setTargetDataSources(targets);
+        router.setDefaultTargetDataSource(primary);
+        router.setLenientFallback(false);
+        router.afterPropertiesSet();
+        setTargetDataSource(router);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        lagChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hrs-replica-lag");
+            thread.setDaemon(true);
+            return thread;
+        });
+        lagChecker.scheduleWithFixedDelay(this::checkLag, 0, lagCheckIntervalMillis, TimeUnit.MILLISECONDS);
+
+        log.info("HRS replica routing enabled with {} replicas (max lag {}ms) at 2025-06-27 05:47:04",
+                replicas.size(), maxLagMillis);
+    }
+
+    /**
+     * Lookup key of the pool the current transaction's connection comes from
+     */
+    Object route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            watchForCommit();
+            readWrite.increment();
+            return PRIMARY;
+        }
+        if (ReadYourWrites.isPinned()) {
+            readYourWrites.increment();
+            return PRIMARY;
+        }
+
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.lagMillis >= 0 && replica.lagMillis <= maxLagMillis) {
+                replica.routed.increment();
+                return replica.name;
+            }
+        }
+        noReplica.increment();
+        return PRIMARY;
+    }
+
+    /**
+     * Pins the thread to the primary once the read-write transaction it joined commits
+     */
+    private void watchForCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(writeMarker)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(writeMarker, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(writeMarker);
+                if (status == STATUS_COMMITTED) {
+                    ReadYourWrites.pin(stickinessMillis);
+                }
+            }
+        });
+    }
+
+    void checkLag() {
+        for (Replica replica : replicas) {
+            long lag;
+            try (Connection connection = replica.dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(LAG_SQL)) {
+                statement.setQueryTimeout(5);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    lag = resultSet.next() ? Math.max(0, resultSet.getLong(1)) : -1;
+                }
+            } catch (SQLException | RuntimeException e) {
+                log.debug("HRS replica {} lag check failed: {}", replica.name, e.getMessage());
+                lag = -1;
+            }
+
+            boolean wasUsable = replica.lagMillis >= 0 && replica.lagMillis <= maxLagMillis;
+            boolean usable = lag >= 0 && lag <= maxLagMillis;
+            if (wasUsable != usable) {
+                log.warn("HRS replica {} {} (lag {}ms)", replica.name, usable ? "back in rotation" : "taken out of rotation", lag);
+            }
+            replica.lagMillis = lag;
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (lagChecker != null) {
+            lagChecker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return meterRegistry.counter("hrs.datasource.routing", "target", target, "reason", reason);
+    }
+
+    private final class Router extends AbstractRoutingDataSource {
+        @Override
+        protected Object determineCurrentLookupKey() {
+            return route();
+        }
+    }
+
+    /**
+     * A replica pool; starts out of rotation until its first lag check
+     */
+    public static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile long lagMillis = -1;
+        private Counter routed;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getLagMillis() {
+            return lagMillis;
+        }
+    }
+}
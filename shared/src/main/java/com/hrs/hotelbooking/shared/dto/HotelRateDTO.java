@@ -0,0 +1,40 @@
+package com.hrs.hotelbooking.shared.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * HRS Hotel Rate Data Transfer Object
+ * The pricing-relevant slice of a hotel, published by hotel-service for the booking rate table
+ *
+ * @author arihants1
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Nightly rate information for an HRS hotel")
+public class HotelRateDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    @Schema(description = "Hotel ID", example = "1")
+    private Long hotelId;
+
+    @Schema(description = "Base price per night per standard room", example = "199.99")
+    private BigDecimal basePrice;
+
+    @Schema(description = "Hotel city", example = "New York")
+    private String city;
+
+    @Schema(description = "Last change to the hotel row")
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime updatedAt;
+}
@@ -2,6 +2,7 @@ package com.hrs.hotelbooking.shared.exception;
 
 import com.hrs.hotelbooking.shared.response.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -50,6 +51,19 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Object>> handleConcurrentModification(OptimisticLockingFailureException ex) {
+        log.warn("HRS concurrent modification: {}", ex.getMessage());
+
+        ApiResponse<Object> response = ApiResponse.error(
+            "The resource was modified concurrently, please reload and try again",
+            "HRS_CONCURRENT_MODIFICATION",
+            LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Object>> handleValidationErrors(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
@@ -0,0 +1,197 @@
+package com.hrs.hotelbooking.shared.money;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Objects;
+
+/**
+ * HRS Money
+ * Immutable amount held as a long count of the currency's minor units (cents for USD, yen for JPY)
+ * plus its currency, so sums and rate multiplications are plain long arithmetic.
+ *
+ * Rounding rules:
+ * - plus, minus and times(long) are exact and throw ArithmeticException on overflow
+ * - rate multiplications (basis points, ratios) round half up, i.e. half away from zero
+ * - BigDecimal input with more decimals than the currency allows is rounded half up
+ * - mixing currencies throws IllegalArgumentException
+ *
+ * @author arihants1
+ */
+@JsonSerialize(using = MoneyJsonSerializer.class)
+@JsonDeserialize(using = MoneyJsonDeserializer.class)
+public final class Money implements Comparable<Money>, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** Currency for amounts stored without one (all HRS booking amounts today) */
+    public static final Currency DEFAULT_CURRENCY = Currency.getInstance("USD");
+
+    /** 100% expressed in basis points */
+    public static final long BASIS_POINTS = 10_000L;
+
+    private static final Money ZERO_DEFAULT = new Money(0L, DEFAULT_CURRENCY);
+
+    private final long minorUnits;
+    private final Currency currency;
+
+    private Money(long minorUnits, Currency currency) {
+        this.minorUnits = minorUnits;
+        this.currency = currency;
+    }
+
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        return new Money(minorUnits, Objects.requireNonNull(currency, "currency"));
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO_DEFAULT : new Money(minorUnits, DEFAULT_CURRENCY);
+    }
+
+    public static Money of(BigDecimal amount, Currency currency) {
+        Objects.requireNonNull(amount, "amount");
+        Objects.requireNonNull(currency, "currency");
+        return new Money(amount.setScale(fractionDigits(currency), RoundingMode.HALF_UP)
+                .unscaledValue().longValueExact(), currency);
+    }
+
+    public static Money of(BigDecimal amount) {
+        return of(amount, DEFAULT_CURRENCY);
+    }
+
+    /**
+     * Null-tolerant variant for optional amount fields; null becomes zero
+     */
+    public static Money ofNullable(BigDecimal amount) {
+        return amount == null ? ZERO_DEFAULT : of(amount, DEFAULT_CURRENCY);
+    }
+
+    public static Money zero(Currency currency) {
+        return DEFAULT_CURRENCY.equals(currency) ? ZERO_DEFAULT : new Money(0L, currency);
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    public Money plus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money minus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money times(long factor) {
+        return new Money(Math.multiplyExact(minorUnits, factor), currency);
+    }
+
+    /**
+     * Multiply by a rate in basis points (1000 = 10%), rounding half up
+     */
+    public Money timesBasisPoints(long basisPoints) {
+        return times(basisPoints, BASIS_POINTS);
+    }
+
+    /**
+     * Multiply by numerator / denominator, rounding half up
+     */
+    public Money times(long numerator, long denominator) {
+        if (denominator <= 0) {
+            throw new IllegalArgumentException("Denominator must be positive: " + denominator);
+        }
+        long product;
+        try {
+            product = Math.multiplyExact(minorUnits, numerator);
+        } catch (ArithmeticException overflow) {
+            return new Money(BigDecimal.valueOf(minorUnits).multiply(BigDecimal.valueOf(numerator))
+                    .divide(BigDecimal.valueOf(denominator), 0, RoundingMode.HALF_UP)
+                    .longValueExact(), currency);
+        }
+        return new Money(divideHalfUp(product, denominator), currency);
+    }
+
+    /**
+     * This amount, or zero when it is negative
+     */
+    public Money atLeastZero() {
+        return minorUnits < 0 ? zero(currency) : this;
+    }
+
+    public Money negate() {
+        return new Money(Math.negateExact(minorUnits), currency);
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, fractionDigits(currency));
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        requireSameCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Money other)) {
+            return false;
+        }
+        return minorUnits == other.minorUnits && currency.equals(other.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(minorUnits) + currency.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString() + " " + currency.getCurrencyCode();
+    }
+
+    static int fractionDigits(Currency currency) {
+        // Pseudo-currencies such as XXX report -1
+        return Math.max(currency.getDefaultFractionDigits(), 0);
+    }
+
+    private static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) >= divisor - Math.abs(remainder)) {
+            quotient += Long.signum(dividend);
+        }
+        return quotient;
+    }
+
+    private void requireSameCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency.getCurrencyCode()
+                    + " vs " + other.currency.getCurrencyCode());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.hrs.hotelbooking.shared.money;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * HRS Money JPA Converter
+ * Maps Money to the existing DECIMAL(12,2) amount columns, which carry no currency of their own:
+ * values are read back as {@link Money#DEFAULT_CURRENCY} and anything else is refused on write.
+ * Opt in per field with {@code @Convert(converter = MoneyAttributeConverter.class)}
+ *
+ * @author arihants1
+ */
+@Converter
+public class MoneyAttributeConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        if (money == null) {
+            return null;
+        }
+        if (!Money.DEFAULT_CURRENCY.equals(money.getCurrency())) {
+            throw new IllegalArgumentException("Only " + Money.DEFAULT_CURRENCY.getCurrencyCode()
+                    + " amounts can be stored in a currency-less column: " + money);
+        }
+        return money.toBigDecimal();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal amount) {
+        return amount != null ? Money.of(amount) : null;
+    }
+}
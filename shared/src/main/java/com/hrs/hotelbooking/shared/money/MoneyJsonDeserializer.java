@@ -0,0 +1,62 @@
+package com.hrs.hotelbooking.shared.money;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Currency;
+
+/**
+ * HRS Money JSON Deserializer
+ * Reads {"amount": 123.45, "currency": "USD"}; a bare number or numeric string is taken as
+ * {@link Money#DEFAULT_CURRENCY}, so BigDecimal amount fields can switch to Money without breaking clients
+ *
+ * @author arihants1
+ */
+public class MoneyJsonDeserializer extends StdDeserializer<Money> {
+
+    public MoneyJsonDeserializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return Money.of(parser.getDecimalValue());
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            return Money.of(parseAmount(parser, parser.getText()));
+        }
+
+        JsonNode node = parser.readValueAsTree();
+        JsonNode amount = node.get("amount");
+        if (amount == null || amount.isNull()) {
+            return (Money) context.handleUnexpectedToken(Money.class, parser);
+        }
+        BigDecimal value = amount.isNumber() ? amount.decimalValue() : parseAmount(parser, amount.asText());
+
+        JsonNode currency = node.get("currency");
+        if (currency == null || currency.isNull()) {
+            return Money.of(value);
+        }
+        try {
+            return Money.of(value, Currency.getInstance(currency.asText()));
+        } catch (IllegalArgumentException e) {
+            return (Money) context.handleWeirdStringValue(Money.class, currency.asText(), "Unknown currency code");
+        }
+    }
+
+    private BigDecimal parseAmount(JsonParser parser, String text) throws IOException {
+        try {
+            return new BigDecimal(text.trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidFormatException(parser, "Invalid money amount", text, Money.class);
+        }
+    }
+}
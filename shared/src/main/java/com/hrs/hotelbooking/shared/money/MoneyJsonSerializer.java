@@ -0,0 +1,28 @@
+package com.hrs.hotelbooking.shared.money;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * HRS Money JSON Serializer
+ * Writes {"amount": 123.45, "currency": "USD"} with the amount as an exact decimal number
+ *
+ * @author arihants1
+ */
+public class MoneyJsonSerializer extends StdSerializer<Money> {
+
+    public MoneyJsonSerializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public void serialize(Money value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("amount", value.toBigDecimal());
+        generator.writeStringField("currency", value.getCurrency().getCurrencyCode());
+        generator.writeEndObject();
+    }
+}
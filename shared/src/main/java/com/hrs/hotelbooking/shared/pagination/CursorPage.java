@@ -0,0 +1,59 @@
+package com.hrs.hotelbooking.shared.pagination;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * HRS Cursor Page
+ * One slice of a keyset-paginated listing. Pass nextCursor back as ?cursor= for the following
+ * slice; totalElements is only present when the caller asked for it (includeTotal=true)
+ *
+ * @author arihants1
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Keyset-paginated slice of an HRS listing")
+public class CursorPage<T> {
+
+    @Schema(description = "Rows in this slice, newest first")
+    private List<T> content;
+
+    @Schema(description = "Requested slice size", example = "20")
+    private int size;
+
+    @Schema(description = "Whether another slice follows", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "Opaque cursor for the next slice; absent on the last one")
+    private String nextCursor;
+
+    @Schema(description = "Total number of rows; only present with includeTotal=true", example = "1234")
+    private Long totalElements;
+
+    /**
+     * Build a slice from rows fetched with a limit of size + 1; the extra row only signals that more follow
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size, Function<E, T> mapper,
+                                          Function<E, PageCursor> cursorOf, Long totalElements) {
+        boolean hasNext = rows.size() > size;
+        List<E> slice = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorPage.<T>builder()
+                .content(slice.stream().map(mapper).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(slice.get(slice.size() - 1)).encode() : null)
+                .totalElements(totalElements)
+                .build();
+    }
+}
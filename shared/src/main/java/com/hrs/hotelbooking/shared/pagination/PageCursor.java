@@ -0,0 +1,58 @@
+package com.hrs.hotelbooking.shared.pagination;
+
+import com.hrs.hotelbooking.shared.exception.BusinessValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * HRS Page Cursor
+ * Position of the last row a client has seen in a (created_at DESC, id DESC) listing.
+ * Sent to clients as an opaque URL-safe token; the next page starts strictly after it,
+ * so it is found with an index seek instead of skipping OFFSET rows
+ *
+ * @author arihants1
+ */
+public record PageCursor(LocalDateTime createdAt, long id) {
+
+    private static final String VERSION = "v1";
+    private static final LocalDateTime EPOCH = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
+
+    public PageCursor {
+        if (createdAt == null) {
+            throw new BusinessValidationException("Page cursor requires a creation timestamp");
+        }
+        // Postgres keeps microseconds; anything finer would never match the stored value
+        createdAt = createdAt.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    public String encode() {
+        long micros = ChronoUnit.MICROS.between(EPOCH, createdAt);
+        String raw = VERSION + ":" + micros + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}; null or blank means "first page"
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.US_ASCII);
+            String[] parts = raw.split(":");
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new BusinessValidationException("Invalid page cursor");
+            }
+            LocalDateTime createdAt = EPOCH.plus(Long.parseLong(parts[1]), ChronoUnit.MICROS);
+            return new PageCursor(createdAt, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeException | ArithmeticException e) {
+            throw new BusinessValidationException("Invalid page cursor");
+        }
+    }
+}
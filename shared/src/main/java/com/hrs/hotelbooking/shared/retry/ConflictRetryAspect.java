@@ -0,0 +1,113 @@
+package com.hrs.hotelbooking.shared.retry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * HRS Conflict Retry Aspect
+ * Implements {@link RetryOnConflict}. Ordered ahead of the transaction interceptor so every
+ * attempt gets its own transaction (the optimistic-lock failure surfaces at commit).
+ *
+ * Metrics, tagged with the method:
+ * - hrs.conflict.calls{outcome=clean|recovered|exhausted|interrupted} - one per call
+ * - hrs.conflict.conflicts - one per lost race; conflicts / calls is the conflict rate
+ *
+ * @author arihants1
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+@Slf4j
+public class ConflictRetryAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final Sleeper sleeper;
+
+    @Autowired
+    public ConflictRetryAspect(ObjectProvider<MeterRegistry> meterRegistry) {
+        this(meterRegistry.getIfAvailable(SimpleMeterRegistry::new), Thread::sleep);
+    }
+
+    ConflictRetryAspect(MeterRegistry meterRegistry, Sleeper sleeper) {
+        this.meterRegistry = meterRegistry;
+        this.sleeper = sleeper;
+    }
+
+    @Around("@annotation(retryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnConflict retryOnConflict) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // The surrounding transaction is already doomed; only its owner can retry
+            return joinPoint.proceed();
+        }
+
+        String method = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        int maxAttempts = Math.max(1, retryOnConflict.maxAttempts());
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Object result = joinPoint.proceed();
+                meterRegistry.counter("hrs.conflict.calls", "method", method,
+                        "outcome", attempt == 1 ? "clean" : "recovered").increment();
+                return result;
+            } catch (Throwable e) {
+                if (!isConflict(e, retryOnConflict)) {
+                    throw e;
+                }
+                meterRegistry.counter("hrs.conflict.conflicts", "method", method).increment();
+
+                if (attempt >= maxAttempts) {
+                    meterRegistry.counter("hrs.conflict.calls", "method", method, "outcome", "exhausted").increment();
+                    log.warn("HRS {} still conflicting after {} attempts", method, attempt);
+                    throw e;
+                }
+
+                long delay = backoff(retryOnConflict, attempt);
+                log.debug("HRS {} lost an optimistic-lock race (attempt {}), retrying in {}ms", method, attempt, delay);
+                try {
+                    sleeper.sleep(delay);
+                } catch (InterruptedException interrupted) {
+                    // Shutting down or cancelled: keep the interrupt for the caller and report the conflict
+                    Thread.currentThread().interrupt();
+                    meterRegistry.counter("hrs.conflict.calls", "method", method, "outcome", "interrupted").increment();
+                    log.warn("HRS {} interrupted while backing off after attempt {}, not retrying", method, attempt);
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private boolean isConflict(Throwable e, RetryOnConflict retryOnConflict) {
+        for (Class<? extends Throwable> type : retryOnConflict.retryOn()) {
+            if (type.isInstance(e)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Full jitter: uniform in [0, min(max, base * 2^(attempt-1))], so competing writers spread out
+     */
+    static long backoff(RetryOnConflict retryOnConflict, int attempt) {
+        long cap = Math.min(retryOnConflict.maxBackoffMillis(),
+                retryOnConflict.backoffMillis() << Math.min(attempt - 1, 20));
+        return cap <= 0 ? 0 : ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+}
@@ -0,0 +1,45 @@
+package com.hrs.hotelbooking.shared.retry;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * HRS Retry On Conflict
+ * Re-runs a transactional service method when it loses an optimistic-lock race.
+ * Each attempt runs in a fresh transaction, so the method re-reads the current row and re-applies
+ * its change; attempts are spaced by exponential backoff with full jitter.
+ * Only retries at the outermost transaction boundary: inside an existing transaction the
+ * conflict is rethrown for the caller to handle
+ *
+ * @author arihants1
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RetryOnConflict {
+
+    /**
+     * Total attempts, including the first
+     */
+    int maxAttempts() default 3;
+
+    /**
+     * Backoff cap before the first retry; doubles per attempt, a random delay below the cap is used
+     */
+    long backoffMillis() default 25;
+
+    /**
+     * Upper bound for the backoff cap
+     */
+    long maxBackoffMillis() default 400;
+
+    /**
+     * Exceptions treated as conflicts
+     */
+    Class<? extends Throwable>[] retryOn() default {OptimisticLockingFailureException.class};
+}
@@ -0,0 +1,82 @@
+package com.hrs.hotelbooking.shared.timing;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * HRS Server-Timing Recorder
+ * Accumulates per-request time spent in Postgres, Redis, Elasticsearch and JSON serialization
+ * Bound to the request thread by ServerTimingFilter and rendered as a Server-Timing header
+ *
+ * @author arihants1
+ */
+public final class ServerTiming {
+
+    public static final String HEADER = "Server-Timing";
+
+    public static final String DATABASE = "db";
+    public static final String CACHE = "redis";
+    public static final String SEARCH = "es";
+    public static final String SERIALIZATION = "ser";
+    public static final String TOTAL = "total";
+
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos;
+    private final Map<String, Long> durations = new LinkedHashMap<>();
+
+    private ServerTiming(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    public static ServerTiming start() {
+        ServerTiming timing = new ServerTiming(System.nanoTime());
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Recorder of the current request, or null outside a timed request (schedulers, startup indexing)
+     */
+    public static ServerTiming current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Add time to a component of the current request; a no-op outside a timed request
+     */
+    public static void record(String metric, long nanos) {
+        ServerTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.add(metric, nanos);
+        }
+    }
+
+    public void add(String metric, long nanos) {
+        durations.merge(metric, nanos, Long::sum);
+    }
+
+    public long nanos(String metric) {
+        return durations.getOrDefault(metric, 0L);
+    }
+
+    /**
+     * Render as "db;dur=12.35, redis;dur=0.80, ser;dur=0.52, total;dur=25.01" (milliseconds)
+     */
+    public String toHeader() {
+        StringJoiner header = new StringJoiner(", ");
+        durations.forEach((metric, nanos) -> header.add(entry(metric, nanos)));
+        header.add(entry(TOTAL, System.nanoTime() - startNanos));
+        return header.toString();
+    }
+
+    private static String entry(String metric, long nanos) {
+        return metric + ";dur=" + String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,59 @@
+package com.hrs.hotelbooking.shared.timing;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.CacheManager;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * HRS Server-Timing Bean Post Processor
+ * Wraps the data access beans of a service so their time lands in the request's ServerTiming:
+ * DataSource as "db", CacheManager as "redis" and, where present, ElasticsearchOperations as "es"
+ *
+ * @author arihants1
+ */
+public class ServerTimingBeanPostProcessor implements BeanPostProcessor {
+
+    private static final String ELASTICSEARCH_OPERATIONS =
+            "org.springframework.data.elasticsearch.core.ElasticsearchOperations";
+
+    private final Class<?> elasticsearchOperations;
+
+    public ServerTimingBeanPostProcessor() {
+        ClassLoader classLoader = getClass().getClassLoader();
+        this.elasticsearchOperations = ClassUtils.isPresent(ELASTICSEARCH_OPERATIONS, classLoader)
+                ? ClassUtils.resolveClassName(ELASTICSEARCH_OPERATIONS, classLoader)
+                : null;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof TimedDataSource)) {
+            return new TimedDataSource(dataSource);
+        }
+        if (bean instanceof CacheManager cacheManager && !(bean instanceof TimedCacheManager)) {
+            return new TimedCacheManager(cacheManager);
+        }
+        if (elasticsearchOperations != null && elasticsearchOperations.isInstance(bean)) {
+            ProxyFactory proxyFactory = new ProxyFactory(bean);
+            proxyFactory.setProxyTargetClass(true);
+            proxyFactory.addAdvice(timed(ServerTiming.SEARCH));
+            return proxyFactory.getProxy(bean.getClass().getClassLoader());
+        }
+        return bean;
+    }
+
+    private static MethodInterceptor timed(String metric) {
+        return invocation -> {
+            long start = System.nanoTime();
+            try {
+                return invocation.proceed();
+            } finally {
+                ServerTiming.record(metric, System.nanoTime() - start);
+            }
+        };
+    }
+}
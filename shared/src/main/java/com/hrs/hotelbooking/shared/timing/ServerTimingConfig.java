@@ -0,0 +1,43 @@
+package com.hrs.hotelbooking.shared.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * HRS Server-Timing Configuration
+ * Emits a Server-Timing header (db, redis, es, ser, total) on every servlet-based HRS service
+ * Disable with hrs.server-timing.enabled=false
+ *
+ * @author arihants1
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "hrs.server-timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingConfig {
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter() {
+        FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(new ServerTimingFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    /**
+     * Replaces Boot's default JSON converter; uses the same ObjectMapper bean
+     */
+    @Bean
+    public ServerTimingJacksonConverter serverTimingJacksonConverter(ObjectMapper objectMapper) {
+        return new ServerTimingJacksonConverter(objectMapper);
+    }
+
+    @Bean
+    public static ServerTimingBeanPostProcessor serverTimingBeanPostProcessor() {
+        return new ServerTimingBeanPostProcessor();
+    }
+}
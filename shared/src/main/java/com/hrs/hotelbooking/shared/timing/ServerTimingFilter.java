@@ -0,0 +1,35 @@
+package com.hrs.hotelbooking.shared.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * HRS Server-Timing Filter
+ * Opens a ServerTiming recorder for each request and makes sure the header is sent
+ * JSON responses get the header from ServerTimingJacksonConverter, just before the body is written;
+ * anything else still uncommitted when the handler returns gets it here
+ *
+ * @author arihants1
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ServerTiming timing = ServerTiming.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (!response.isCommitted() && !response.containsHeader(ServerTiming.HEADER)) {
+                response.setHeader(ServerTiming.HEADER, timing.toHeader());
+            }
+            ServerTiming.end();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.hrs.hotelbooking.shared.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * HRS Server-Timing aware JSON converter
+ * Serializes into a buffer first so serialization time is measured on its own and the
+ * Server-Timing header can still be set before the response is committed
+ *
+ * @author arihants1
+ */
+public class ServerTimingJacksonConverter extends MappingJackson2HttpMessageConverter {
+
+    public ServerTimingJacksonConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        ServerTiming timing = ServerTiming.current();
+        if (timing == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        long start = System.nanoTime();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+        super.writeInternal(object, type, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return buffer;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        timing.add(ServerTiming.SERIALIZATION, System.nanoTime() - start);
+
+        outputMessage.getHeaders().set(ServerTiming.HEADER, timing.toHeader());
+        buffer.writeTo(outputMessage.getBody());
+    }
+}
@@ -0,0 +1,145 @@
+package com.hrs.hotelbooking.shared.timing;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * HRS Timed Cache Manager
+ * Adds Redis cache round trips to the current request's ServerTiming under "redis"
+ * Time spent in a cache-miss value loader is excluded, it is attributed to whatever the loader does
+ *
+ * @author arihants1
+ */
+public class TimedCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public TimedCacheManager(CacheManager delegate) {
+        this.delegate = delegate;
+    }
+
+    public CacheManager getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    @Nullable
+    public Cache getCache(String name) {
+        Cache cache = delegate.getCache(name);
+        if (cache == null) {
+            return null;
+        }
+        return caches.compute(name, (key, existing) ->
+                existing instanceof TimedCache timed && timed.delegate == cache ? existing : new TimedCache(cache));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    private static <T> T timed(Supplier<T> operation) {
+        long start = System.nanoTime();
+        try {
+            return operation.get();
+        } finally {
+            ServerTiming.record(ServerTiming.CACHE, System.nanoTime() - start);
+        }
+    }
+
+    private static void timedRun(Runnable operation) {
+        timed(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    private static final class TimedCache implements Cache {
+
+        private final Cache delegate;
+
+        private TimedCache(Cache delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return delegate.getNativeCache();
+        }
+
+        @Override
+        @Nullable
+        public ValueWrapper get(Object key) {
+            return timed(() -> delegate.get(key));
+        }
+
+        @Override
+        @Nullable
+        public <T> T get(Object key, @Nullable Class<T> type) {
+            return timed(() -> delegate.get(key, type));
+        }
+
+        @Override
+        @Nullable
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            long[] loaderNanos = new long[1];
+            long start = System.nanoTime();
+            try {
+                return delegate.get(key, () -> {
+                    long loaderStart = System.nanoTime();
+                    try {
+                        return valueLoader.call();
+                    } finally {
+                        loaderNanos[0] = System.nanoTime() - loaderStart;
+                    }
+                });
+            } finally {
+                ServerTiming.record(ServerTiming.CACHE, System.nanoTime() - start - loaderNanos[0]);
+            }
+        }
+
+        @Override
+        public void put(Object key, @Nullable Object value) {
+            timedRun(() -> delegate.put(key, value));
+        }
+
+        @Override
+        @Nullable
+        public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+            return timed(() -> delegate.putIfAbsent(key, value));
+        }
+
+        @Override
+        public void evict(Object key) {
+            timedRun(() -> delegate.evict(key));
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            return timed(() -> delegate.evictIfPresent(key));
+        }
+
+        @Override
+        public void clear() {
+            timedRun(delegate::clear);
+        }
+
+        @Override
+        public boolean invalidate() {
+            return timed(delegate::invalidate);
+        }
+    }
+}
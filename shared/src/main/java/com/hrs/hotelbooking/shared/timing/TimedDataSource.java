@@ -0,0 +1,100 @@
+package com.hrs.hotelbooking.shared.timing;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * HRS Timed DataSource
+ * Adds statement execution time to the current request's ServerTiming under "db"
+ * Extends DelegatingDataSource so pool metrics and health checks still unwrap to Hikari
+ *
+ * @author arihants1
+ */
+public class TimedDataSource extends DelegatingDataSource {
+
+    public TimedDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            return wrap(super.getConnection());
+        } finally {
+            ServerTiming.record(ServerTiming.DATABASE, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            return wrap(super.getConnection(username, password));
+        } finally {
+            ServerTiming.record(ServerTiming.DATABASE, System.nanoTime() - start);
+        }
+    }
+
+    private static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                TimedDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = TimedDataSource.invoke(target, method, args);
+
+            if (result instanceof Statement statement) {
+                Class<?> type = result instanceof CallableStatement ? CallableStatement.class
+                        : result instanceof PreparedStatement ? PreparedStatement.class
+                        : Statement.class;
+                return Proxy.newProxyInstance(TimedDataSource.class.getClassLoader(),
+                        new Class<?>[]{type}, new StatementHandler(statement, (Connection) proxy));
+            }
+            return result;
+        }
+    }
+
+    private record StatementHandler(Statement target, Connection connection) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("getConnection".equals(method.getName())) {
+                return connection;
+            }
+            if (!method.getName().startsWith("execute")) {
+                return TimedDataSource.invoke(target, method, args);
+            }
+
+            long start = System.nanoTime();
+            try {
+                return TimedDataSource.invoke(target, method, args);
+            } finally {
+                ServerTiming.record(ServerTiming.DATABASE, System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.hrs.hotelbooking.shared.benchmark;
+
+import com.hrs.hotelbooking.shared.money.Money;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+
+/**
+ * HRS Money Benchmark
+ * Runs the booking pricing arithmetic (discount, 10% tax, 5% service fee, total) once with the
+ * previous BigDecimal code and once with Money, and prints throughput and bytes allocated per quote
+ *
+ *   ./gradlew :shared:moneyBenchmark --args="5000000 5"
+ * Arguments: quotes per round, measured rounds (one warm-up round of each path runs first)
+ *
+ * @author arihants1
+ */
+public final class MoneyBenchmark {
+
+    private static final BigDecimal TAX_RATE = new BigDecimal("0.10");
+    private static final BigDecimal SERVICE_FEE_RATE = new BigDecimal("0.05");
+    private static final long TAX_RATE_BASIS_POINTS = 1_000;
+    private static final long SERVICE_FEE_RATE_BASIS_POINTS = 500;
+
+    /** Defeats dead-code elimination */
+    private static long sink;
+
+    private MoneyBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int quotes = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        System.out.printf("HRS money benchmark: %d quotes x %d rounds%n", quotes, rounds);
+
+        bigDecimalRound(quotes);
+        moneyRound(quotes);
+
+        for (int round = 1; round <= rounds; round++) {
+            report("BigDecimal", quotes, measure(() -> bigDecimalRound(quotes)));
+            report("Money", quotes, measure(() -> moneyRound(quotes)));
+        }
+        System.out.println("checksum " + sink);
+    }
+
+    private static void bigDecimalRound(int quotes) {
+        long checksum = 0;
+        for (int i = 0; i < quotes; i++) {
+            BigDecimal baseAmount = BigDecimal.valueOf(10_000L + i % 50_000, 2)
+                    .multiply(BigDecimal.valueOf(1 + i % 30));
+            BigDecimal discountAmount = BigDecimal.valueOf(i % 7 == 0 ? 1_500 : 0, 2);
+            if (discountAmount.compareTo(BigDecimal.ZERO) > 0) {
+                baseAmount = baseAmount.subtract(discountAmount);
+                if (baseAmount.compareTo(BigDecimal.ZERO) < 0) {
+                    baseAmount = BigDecimal.ZERO;
+                }
+            }
+            BigDecimal taxesAmount = baseAmount.multiply(TAX_RATE);
+            BigDecimal feesAmount = baseAmount.multiply(SERVICE_FEE_RATE);
+            BigDecimal totalAmount = baseAmount.add(taxesAmount).add(feesAmount);
+            checksum += totalAmount.unscaledValue().longValue();
+        }
+        sink += checksum;
+    }
+
+    private static void moneyRound(int quotes) {
+        long checksum = 0;
+        for (int i = 0; i < quotes; i++) {
+            Money baseAmount = Money.ofMinor(10_000L + i % 50_000).times(1 + i % 30);
+            Money discountAmount = Money.ofMinor(i % 7 == 0 ? 1_500 : 0);
+            if (discountAmount.isPositive()) {
+                baseAmount = baseAmount.minus(discountAmount).atLeastZero();
+            }
+            Money taxesAmount = baseAmount.timesBasisPoints(TAX_RATE_BASIS_POINTS);
+            Money feesAmount = baseAmount.timesBasisPoints(SERVICE_FEE_RATE_BASIS_POINTS);
+            Money totalAmount = baseAmount.plus(taxesAmount).plus(feesAmount);
+            checksum += totalAmount.getMinorUnits();
+        }
+        sink += checksum;
+    }
+
+    private static long[] measure(Runnable round) {
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        round.run();
+        long elapsed = System.nanoTime() - start;
+        return new long[]{elapsed, allocatedBytes() - allocatedBefore};
+    }
+
+    private static long allocatedBytes() {
+        // HotSpot only; reports -1 elsewhere
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean hotspot) {
+            return hotspot.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    private static void report(String mode, int quotes, long[] result) {
+        double seconds = result[0] / 1_000_000_000.0;
+        System.out.printf("%-10s %12.0f quotes/s  %7.1f ns/quote  %7.1f bytes/quote%n",
+                mode, quotes / seconds, (double) result[0] / quotes, (double) result[1] / quotes);
+    }
+}
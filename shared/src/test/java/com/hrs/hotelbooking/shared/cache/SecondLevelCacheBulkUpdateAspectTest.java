@@ -0,0 +1,84 @@
+package com.hrs.hotelbooking.shared.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SecondLevelCacheBulkUpdateAspectTest {
+
+    private SecondLevelCacheInvalidator invalidator;
+    private CachedEntityRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        invalidator = mock(SecondLevelCacheInvalidator.class);
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(mock(CachedEntityRepository.class));
+        factory.addInterface(CachedEntityRepository.class);
+        factory.addAspect(new SecondLevelCacheBulkUpdateAspect(invalidator));
+        repository = factory.getProxy();
+    }
+
+    @Test
+    void shouldEvictDomainTypeAfterModifyingQuery() {
+        // When
+        repository.deactivateAll();
+
+        // Then
+        verify(invalidator).onBulkUpdate(CachedEntity.class);
+    }
+
+    @Test
+    void shouldIgnoreReadQueries() {
+        // When
+        repository.countActive();
+
+        // Then
+        verifyNoInteractions(invalidator);
+    }
+
+    @Test
+    void shouldNotEvictWhenModifyingQueryFails() {
+        // Given: the update throws, so its transaction rolls back
+        AspectJProxyFactory factory = new AspectJProxyFactory(new FailingRepository());
+        factory.addInterface(CachedEntityRepository.class);
+        factory.addAspect(new SecondLevelCacheBulkUpdateAspect(invalidator));
+        CachedEntityRepository failing = factory.getProxy();
+
+        // When & Then
+        assertThrows(IllegalStateException.class, failing::deactivateAll);
+        verifyNoInteractions(invalidator);
+    }
+
+    static class CachedEntity {
+    }
+
+    interface CachedEntityRepository extends Repository<CachedEntity, Long> {
+
+        @Modifying
+        @Query("UPDATE CachedEntity e SET e.active = false")
+        int deactivateAll();
+
+        @Query("SELECT COUNT(e) FROM CachedEntity e WHERE e.active = true")
+        long countActive();
+    }
+
+    static class FailingRepository implements CachedEntityRepository {
+
+        @Override
+        public int deactivateAll() {
+            throw new IllegalStateException("deadlock detected");
+        }
+
+        @Override
+        public long countActive() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.hrs.hotelbooking.shared.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SecondLevelCacheInvalidatorTest {
+
+    private static final String CHANNEL = "hrs:l2:hotel";
+    private static final String HOTEL = "com.hrs.hotelbooking.hotel.entity.Hotel";
+
+    private SessionFactoryImplementor sessionFactory;
+    private StringRedisTemplate redisTemplate;
+    private Cache cache;
+    private EntityPersister persister;
+    private SimpleMeterRegistry meterRegistry;
+    private MappingMetamodelImplementor metamodel;
+    private SecondLevelCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = mock(SessionFactoryImplementor.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        cache = mock(Cache.class);
+        persister = mock(EntityPersister.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        metamodel = mock(MappingMetamodelImplementor.class);
+        Type idType = mock(Type.class);
+        doReturn(Long.class).when(idType).getReturnedClass();
+        when(persister.getIdentifierType()).thenReturn(idType);
+        when(persister.getEntityName()).thenReturn(HOTEL);
+        when(persister.canWriteToCache()).thenReturn(true);
+        when(metamodel.getEntityDescriptor(HOTEL)).thenReturn(persister);
+        when(sessionFactory.getMappingMetamodel()).thenReturn(metamodel);
+        when(sessionFactory.getCache()).thenReturn(cache);
+
+        invalidator = new SecondLevelCacheInvalidator(sessionFactory, redisTemplate, meterRegistry, CHANNEL);
+    }
+
+    @Test
+    void shouldEvictEntityAndQueryRegionsOnRemoteUpdate() {
+        // When
+        invalidator.onMessage(message("other-node|" + HOTEL + "|42"), null);
+
+        // Then
+        verify(cache).evictEntityData(HOTEL, 42L);
+        verify(cache).evictQueryRegions();
+        assertEquals(1.0, meterRegistry.get("hrs.cache.l2.invalidations").tag("direction", "received").counter().count());
+    }
+
+    @Test
+    void shouldOnlyEvictQueryRegionsOnRemoteInsert() {
+        // When
+        invalidator.onMessage(message("other-node|" + HOTEL + "|"), null);
+
+        // Then
+        verify(cache, never()).evictEntityData(anyString(), any());
+        verify(cache).evictQueryRegions();
+    }
+
+    @Test
+    void shouldEvictWholeRegionOnRemoteBulkUpdate() {
+        // When
+        invalidator.onMessage(message("other-node|" + HOTEL + "|*"), null);
+
+        // Then
+        verify(cache).evictEntityData(HOTEL);
+        verify(cache, never()).evictEntityData(anyString(), any());
+        verify(cache).evictQueryRegions();
+    }
+
+    @Test
+    void shouldEvictAndPublishWholeRegionAfterBulkUpdate() {
+        // Given
+        when(metamodel.findEntityDescriptor(String.class.getName())).thenReturn(persister);
+
+        // When: outside a transaction the eviction is immediate
+        invalidator.onBulkUpdate(String.class);
+
+        // Then
+        verify(cache).evictEntityData(HOTEL);
+        verify(cache).evictQueryRegions();
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), endsWith("|" + HOTEL + "|*"));
+    }
+
+    @Test
+    void shouldIgnoreBulkUpdatesOfUncachedEntities() {
+        // When
+        invalidator.onBulkUpdate(Integer.class);
+
+        // Then
+        verifyNoInteractions(cache, redisTemplate);
+    }
+
+    @Test
+    void shouldIgnoreItsOwnMessages() {
+        // Given
+        PostUpdateEvent event = mock(PostUpdateEvent.class);
+        when(event.getPersister()).thenReturn(persister);
+        when(event.getId()).thenReturn(7L);
+        invalidator.onPostUpdate(event);
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), published.capture());
+
+        // When
+        invalidator.onMessage(message(published.getValue()), null);
+
+        // Then
+        assertTrue(published.getValue().endsWith("|" + HOTEL + "|7"));
+        verifyNoInteractions(cache);
+        assertEquals(1.0, meterRegistry.get("hrs.cache.l2.invalidations").tag("direction", "sent").counter().count());
+    }
+
+    @Test
+    void shouldSkipUncachedEntitiesAndSurviveRedisFailures() {
+        // Given
+        PostUpdateEvent event = mock(PostUpdateEvent.class);
+        when(event.getPersister()).thenReturn(persister);
+        when(event.getId()).thenReturn(7L);
+        when(redisTemplate.convertAndSend(anyString(), any())).thenThrow(new IllegalStateException("Redis down"));
+
+        // When & Then
+        assertDoesNotThrow(() -> invalidator.onPostUpdate(event));
+        when(persister.canWriteToCache()).thenReturn(false);
+        invalidator.onPostUpdate(event);
+        verify(redisTemplate, times(1)).convertAndSend(anyString(), any());
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,146 @@
+package com.hrs.hotelbooking.shared.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DataSource replicaOne;
+    private DataSource replicaTwo;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        replicaOne = mock(DataSource.class);
+        replicaTwo = mock(DataSource.class);
+        routing = new ReplicaRoutingDataSource(mock(DataSource.class),
+                List.of(new ReplicaRoutingDataSource.Replica("replica-1", replicaOne),
+                        new ReplicaRoutingDataSource.Replica("replica-2", replicaTwo)),
+                2000, 1000, meterRegistry);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        ReadYourWrites.end();
+    }
+
+    @Test
+    void shouldSpreadReadOnlyTransactionsOverReplicasWithinLag() throws SQLException {
+        // Given
+        reportLag(replicaOne, 150);
+        reportLag(replicaTwo, 0);
+        routing.checkLag();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        Object first = routing.route();
+        Object second = routing.route();
+
+        // Then
+        assertNotEquals(first, second);
+        assertTrue(List.of("replica-1", "replica-2").containsAll(List.of(first, second)));
+        assertEquals(150.0, meterRegistry.get("hrs.datasource.replica.lag").tag("replica", "replica-1").gauge().value());
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenReplicasLagOrFail() throws SQLException {
+        // Given
+        reportLag(replicaOne, 5000);
+        when(replicaTwo.getConnection()).thenThrow(new SQLException("Connection refused"));
+        routing.checkLag();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        Object key = routing.route();
+
+        // Then
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, key);
+        assertEquals(-1.0, meterRegistry.get("hrs.datasource.replica.lag").tag("replica", "replica-2").gauge().value());
+        assertEquals(1.0, meterRegistry.get("hrs.datasource.routing").tag("reason", "no-replica").counter().count());
+    }
+
+    @Test
+    void shouldUseUncheckedReplicasOnlyAfterFirstLagCheck() {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When & Then
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.route());
+    }
+
+    @Test
+    void shouldReadFromPrimaryAfterCommittedWrite() throws SQLException {
+        // Given
+        reportLag(replicaOne, 0);
+        reportLag(replicaTwo, 0);
+        routing.checkLag();
+        List<Long> deadlines = new ArrayList<>();
+        ReadYourWrites.begin(0, deadlines::add);
+
+        // When: a read-write transaction uses the primary and commits
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.route());
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Then
+        assertEquals(1, synchronizations.size());
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.route());
+        assertEquals(1, deadlines.size());
+        assertTrue(deadlines.get(0) > System.currentTimeMillis() + 2000);
+        assertEquals(1.0, meterRegistry.get("hrs.datasource.routing").tag("reason", "read-your-writes").counter().count());
+    }
+
+    @Test
+    void shouldNotPinAfterRolledBackWrite() throws SQLException {
+        // Given
+        reportLag(replicaOne, 0);
+        reportLag(replicaTwo, 0);
+        routing.checkLag();
+
+        // When
+        routing.route();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Then
+        assertFalse(ReadYourWrites.isPinned());
+        assertNotEquals(ReplicaRoutingDataSource.PRIMARY, routing.route());
+    }
+
+    private static void reportLag(DataSource replica, long lagMillis) throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(replica.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(lagMillis);
+    }
+}
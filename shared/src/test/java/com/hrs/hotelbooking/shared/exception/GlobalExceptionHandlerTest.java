@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -150,6 +151,25 @@ class GlobalExceptionHandlerTest {
         }
     }
 
+    @Nested
+    @DisplayName("OptimisticLockingFailureException Handling Tests")
+    class OptimisticLockingFailureExceptionHandlingTests {
+
+        @Test
+        @DisplayName("Should map optimistic lock failure to CONFLICT instead of INTERNAL_SERVER_ERROR")
+        void shouldHandleOptimisticLockingFailureAndReturnConflictResponse() {
+            OptimisticLockingFailureException exception =
+                    new OptimisticLockingFailureException("Row was updated or deleted by another transaction");
+
+            ResponseEntity<ApiResponse<Object>> response = globalExceptionHandler.handleConcurrentModification(exception);
+
+            assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+            assertNotNull(response.getBody());
+            assertEquals("HRS_CONCURRENT_MODIFICATION", response.getBody().getErrorCode());
+            assertFalse(response.getBody().isSuccess());
+        }
+    }
+
     @Nested
     @DisplayName("MethodArgumentNotValidException Handling Tests")
     class MethodArgumentNotValidExceptionHandlingTests {
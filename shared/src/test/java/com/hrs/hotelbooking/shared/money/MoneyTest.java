@@ -0,0 +1,114 @@
+package com.hrs.hotelbooking.shared.money;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Money Tests")
+class MoneyTest {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Currency JPY = Currency.getInstance("JPY");
+
+    @Nested
+    @DisplayName("Arithmetic and rounding")
+    class Arithmetic {
+
+        @Test
+        @DisplayName("Should round BigDecimal input half up to the currency's minor unit")
+        void shouldRoundInputHalfUp() {
+            assertEquals(12_346L, Money.of(new BigDecimal("123.455")).getMinorUnits());
+            assertEquals(-12_346L, Money.of(new BigDecimal("-123.455")).getMinorUnits());
+            assertEquals(124L, Money.of(new BigDecimal("123.5"), JPY).getMinorUnits());
+        }
+
+        @Test
+        @DisplayName("Should round rate multiplications half away from zero")
+        void shouldRoundBasisPointsHalfUp() {
+            // 10% of 0.05 is 0.005
+            assertEquals(1L, Money.ofMinor(5).timesBasisPoints(1_000).getMinorUnits());
+            assertEquals(-1L, Money.ofMinor(-5).timesBasisPoints(1_000).getMinorUnits());
+            // 10% of 0.04 is 0.004
+            assertEquals(0L, Money.ofMinor(4).timesBasisPoints(1_000).getMinorUnits());
+            assertEquals(new BigDecimal("46.00"), Money.of(new BigDecimal("460.00")).timesBasisPoints(1_000).toBigDecimal());
+        }
+
+        @Test
+        @DisplayName("Should fall back to exact decimal math when a rate multiplication overflows")
+        void shouldHandleOverflowingRateMultiplication() {
+            Money large = Money.ofMinor(Long.MAX_VALUE / 2);
+
+            assertEquals(Long.MAX_VALUE / 4 + 1, large.times(1, 2).getMinorUnits());
+            assertEquals(Long.MAX_VALUE / 2, large.times(3, 3).getMinorUnits());
+        }
+
+        @Test
+        @DisplayName("Should add and subtract exactly and clamp at zero on request")
+        void shouldAddAndSubtractExactly() {
+            Money base = Money.of(new BigDecimal("100.10"));
+
+            assertEquals(new BigDecimal("100.30"), base.plus(Money.ofMinor(20)).toBigDecimal());
+            assertTrue(base.minus(Money.ofMinor(20_000)).isNegative());
+            assertTrue(base.minus(Money.ofMinor(20_000)).atLeastZero().isZero());
+            assertThrows(ArithmeticException.class, () -> Money.ofMinor(Long.MAX_VALUE).plus(Money.ofMinor(1)));
+        }
+
+        @Test
+        @DisplayName("Should refuse to mix currencies")
+        void shouldRefuseCurrencyMismatch() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> Money.ofMinor(100).plus(Money.ofMinor(100, EUR)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Converters")
+    class Converters {
+
+        private final ObjectMapper objectMapper = new ObjectMapper();
+
+        @Test
+        @DisplayName("Should round-trip through JSON with amount and currency")
+        void shouldRoundTripJson() throws Exception {
+            Money money = Money.of(new BigDecimal("199.99"), EUR);
+
+            String json = objectMapper.writeValueAsString(money);
+
+            assertEquals("{\"amount\":199.99,\"currency\":\"EUR\"}", json);
+            assertEquals(money, objectMapper.readValue(json, Money.class));
+        }
+
+        @Test
+        @DisplayName("Should read bare numbers as the default currency")
+        void shouldReadBareNumbers() throws Exception {
+            assertEquals(Money.ofMinor(29_999), objectMapper.readValue("299.99", Money.class));
+            assertEquals(Money.ofMinor(29_999), objectMapper.readValue("\"299.99\"", Money.class));
+        }
+
+        @Test
+        @DisplayName("Should reject unknown currency codes")
+        void shouldRejectUnknownCurrency() {
+            assertThrows(JsonMappingException.class,
+                    () -> objectMapper.readValue("{\"amount\":1,\"currency\":\"ZZZ\"}", Money.class));
+        }
+
+        @Test
+        @DisplayName("Should map to and from currency-less decimal columns")
+        void shouldConvertForJpa() {
+            MoneyAttributeConverter converter = new MoneyAttributeConverter();
+
+            assertEquals(new BigDecimal("12.30"), converter.convertToDatabaseColumn(Money.ofMinor(1_230)));
+            assertEquals(Money.ofMinor(1_230), converter.convertToEntityAttribute(new BigDecimal("12.3")));
+            assertNull(converter.convertToEntityAttribute(null));
+            assertThrows(IllegalArgumentException.class,
+                    () -> converter.convertToDatabaseColumn(Money.ofMinor(1_230, EUR)));
+        }
+    }
+}
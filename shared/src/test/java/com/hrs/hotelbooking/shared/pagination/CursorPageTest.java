@@ -0,0 +1,58 @@
+package com.hrs.hotelbooking.shared.pagination;
+
+import com.hrs.hotelbooking.shared.exception.BusinessValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Cursor Pagination Tests")
+class CursorPageTest {
+
+    private record Row(long id, LocalDateTime createdAt) {
+    }
+
+    @Test
+    @DisplayName("Should round-trip a cursor through its opaque token at microsecond precision")
+    void shouldRoundTripCursor() {
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2025, 6, 27, 5, 47, 4, 123_456_789), 42L);
+
+        PageCursor decoded = PageCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+        assertEquals(123_456_000, decoded.createdAt().getNano());
+        assertFalse(cursor.encode().contains("="));
+    }
+
+    @Test
+    @DisplayName("Should treat a missing cursor as the first page and reject garbage")
+    void shouldDecodeMissingAndRejectInvalidCursor() {
+        assertNull(PageCursor.decode(null));
+        assertNull(PageCursor.decode(" "));
+        assertThrows(BusinessValidationException.class, () -> PageCursor.decode("%%%"));
+        assertThrows(BusinessValidationException.class, () -> PageCursor.decode("djI6MTox"));
+    }
+
+    @Test
+    @DisplayName("Should use the extra row only to signal that another slice follows")
+    void shouldBuildSliceFromLimitPlusOneRows() {
+        LocalDateTime now = LocalDateTime.of(2025, 6, 27, 5, 47, 4);
+        List<Row> rows = List.of(new Row(3, now), new Row(2, now), new Row(1, now.minusSeconds(1)));
+
+        CursorPage<Long> page = CursorPage.of(rows, 2, Row::id, row -> new PageCursor(row.createdAt(), row.id()), null);
+        CursorPage<Long> last = CursorPage.of(rows.subList(2, 3), 2, Row::id,
+                row -> new PageCursor(row.createdAt(), row.id()), 3L);
+
+        assertEquals(List.of(3L, 2L), page.getContent());
+        assertTrue(page.isHasNext());
+        assertEquals(new PageCursor(now, 2), PageCursor.decode(page.getNextCursor()));
+        assertNull(page.getTotalElements());
+
+        assertFalse(last.isHasNext());
+        assertNull(last.getNextCursor());
+        assertEquals(3L, last.getTotalElements());
+    }
+}
@@ -0,0 +1,112 @@
+package com.hrs.hotelbooking.shared.retry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConflictRetryAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private List<Long> sleeps;
+    private ContendedService service;
+    private ContendedService target;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sleeps = new ArrayList<>();
+        target = new ContendedService();
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ConflictRetryAspect(meterRegistry, sleeps::add));
+        service = factory.getProxy();
+    }
+
+    @Test
+    void shouldRetryConflictsAndRecover() {
+        // Given
+        target.conflictsBeforeSuccess = 2;
+
+        // When
+        String result = service.update();
+
+        // Then
+        assertEquals("updated", result);
+        assertEquals(3, target.invocations);
+        assertEquals(2, sleeps.size());
+        assertTrue(sleeps.get(0) <= 25 && sleeps.get(1) <= 50);
+        assertEquals(2.0, meterRegistry.get("hrs.conflict.conflicts").counter().count());
+        assertEquals(1.0, meterRegistry.get("hrs.conflict.calls").tag("outcome", "recovered").counter().count());
+    }
+
+    @Test
+    void shouldGiveUpAfterMaxAttempts() {
+        // Given
+        target.conflictsBeforeSuccess = 10;
+
+        // When & Then
+        assertThrows(OptimisticLockingFailureException.class, service::update);
+        assertEquals(3, target.invocations);
+        assertEquals(1.0, meterRegistry.get("hrs.conflict.calls").tag("outcome", "exhausted").counter().count());
+    }
+
+    @Test
+    void shouldStopRetryingAndKeepInterrupt_WhenInterruptedDuringBackoff() {
+        // Given
+        target.conflictsBeforeSuccess = 10;
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ConflictRetryAspect(meterRegistry, millis -> {
+            throw new InterruptedException();
+        }));
+        ContendedService interrupted = factory.getProxy();
+
+        // When & Then
+        try {
+            assertThrows(OptimisticLockingFailureException.class, interrupted::update);
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+        assertEquals(1, target.invocations);
+        assertEquals(1.0, meterRegistry.get("hrs.conflict.calls").tag("outcome", "interrupted").counter().count());
+    }
+
+    @Test
+    void shouldNotRetryOtherFailures() {
+        // When & Then
+        assertThrows(IllegalStateException.class, service::fail);
+        assertEquals(1, target.invocations);
+        assertTrue(sleeps.isEmpty());
+    }
+
+    static class ContendedService {
+
+        int conflictsBeforeSuccess;
+        int invocations;
+
+        @RetryOnConflict
+        public String update() {
+            invocations++;
+            if (invocations <= conflictsBeforeSuccess) {
+                throw new ObjectOptimisticLockingFailureException("Booking", 1L);
+            }
+            return "updated";
+        }
+
+        @RetryOnConflict
+        public String fail() {
+            invocations++;
+            throw new IllegalStateException("not a conflict");
+        }
+    }
+}
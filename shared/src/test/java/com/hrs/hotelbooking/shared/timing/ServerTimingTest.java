@@ -0,0 +1,76 @@
+package com.hrs.hotelbooking.shared.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrs.hotelbooking.shared.response.ApiResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServerTimingTest {
+
+    @AfterEach
+    void tearDown() {
+        ServerTiming.end();
+    }
+
+    @Test
+    void shouldRenderAccumulatedComponentsAndTotal() {
+        // Given
+        ServerTiming timing = ServerTiming.start();
+
+        // When
+        ServerTiming.record(ServerTiming.DATABASE, 2_000_000);
+        ServerTiming.record(ServerTiming.DATABASE, 1_500_000);
+        ServerTiming.record(ServerTiming.CACHE, 250_000);
+
+        // Then
+        String header = timing.toHeader();
+        assertTrue(header.startsWith("db;dur=3.50, redis;dur=0.25, total;dur="), header);
+    }
+
+    @Test
+    void shouldIgnoreRecordingOutsideRequest() {
+        // When
+        ServerTiming.record(ServerTiming.DATABASE, 1_000_000);
+
+        // Then
+        assertNull(ServerTiming.current());
+    }
+
+    @Test
+    void shouldSetHeaderAndMeasureSerialization() throws Exception {
+        // Given
+        ServerTiming.start();
+        ServerTimingJacksonConverter converter = new ServerTimingJacksonConverter(new ObjectMapper().findAndRegisterModules());
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // When
+        converter.write(ApiResponse.success("HRS"), MediaType.APPLICATION_JSON, output);
+
+        // Then
+        assertTrue(output.getHeaders().getFirst(ServerTiming.HEADER).contains("ser;dur="));
+        assertTrue(output.getBodyAsString(StandardCharsets.UTF_8).contains("\"data\":\"HRS\""));
+    }
+
+    @Test
+    void shouldAttributeCacheTimeToRedis() {
+        // Given
+        ServerTiming timing = ServerTiming.start();
+        Cache cache = new TimedCacheManager(new ConcurrentMapCacheManager("hotels")).getCache("hotels");
+
+        // When
+        cache.put(1L, "HRS Grand");
+        cache.get(1L);
+
+        // Then
+        assertEquals("HRS Grand", cache.get(1L, String.class));
+        assertTrue(timing.nanos(ServerTiming.CACHE) > 0);
+    }
+}
@@ -0,0 +1,51 @@
+-- HRS migration for existing databases: archive the booking_keys rows of archived booking partitions
+-- Run once on databases converted with an earlier migrate-partition-bookings.sql, whose
+-- hrs_archive_booking_partitions left the keys of archived bookings in booking_keys for good.
+-- Assumes the default archive schema (hrs.booking.partitioning.archive-schema: hrs_archive).
+
+BEGIN;
+
+-- Detach every monthly partition that ends on or before cutoff and move it to archive_schema,
+-- where it stays queryable (or can be dumped and dropped); returns the archived partition names.
+-- The archived bookings' booking_keys rows move along to archive_schema.booking_keys, so the live
+-- table only holds the keys of live bookings
+CREATE OR REPLACE FUNCTION hrs_archive_booking_partitions(cutoff DATE, archive_schema TEXT)
+    RETURNS SETOF TEXT AS $$
+DECLARE
+    partition_name TEXT;
+BEGIN
+    EXECUTE format('CREATE SCHEMA IF NOT EXISTS %I', archive_schema);
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I.booking_keys (LIKE booking_keys INCLUDING ALL)', archive_schema);
+    FOR partition_name IN
+        SELECT c.relname
+        FROM pg_inherits i
+                 JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'bookings'::regclass
+          AND c.relname ~ '^bookings_p[0-9]{4}_[0-9]{2}$'
+          AND (to_date(substr(c.relname, 11), 'YYYY_MM') + INTERVAL '1 month')::date <= cutoff
+        ORDER BY c.relname
+        LOOP
+            EXECUTE format('ALTER TABLE bookings DETACH PARTITION %I', partition_name);
+            EXECUTE format('WITH archived AS (DELETE FROM booking_keys k USING %I b WHERE k.booking_id = b.id '
+                               || 'RETURNING k.*) INSERT INTO %I.booking_keys SELECT * FROM archived '
+                               || 'ON CONFLICT DO NOTHING', partition_name, archive_schema);
+            EXECUTE format('ALTER TABLE %I SET SCHEMA %I', partition_name, archive_schema);
+            RETURN NEXT partition_name;
+        END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Keys of bookings that were archived already: no live booking carries their id any more
+CREATE SCHEMA IF NOT EXISTS hrs_archive;
+CREATE TABLE IF NOT EXISTS hrs_archive.booking_keys (LIKE booking_keys INCLUDING ALL);
+
+WITH archived AS (
+    DELETE FROM booking_keys k
+    WHERE NOT EXISTS (SELECT 1 FROM bookings b WHERE b.id = k.booking_id AND b.check_in_date = k.check_in_date)
+    RETURNING k.*
+)
+INSERT INTO hrs_archive.booking_keys SELECT * FROM archived ON CONFLICT DO NOTHING;
+
+COMMIT;
+
+ANALYZE booking_keys;
@@ -0,0 +1,22 @@
+-- HRS migration for existing databases: booking intake queue
+-- Run once before deploying the booking service with asynchronous intake (POST /api/v1/bookings/async)
+
+-- Create booking intake queue table (asynchronous booking submission)
+CREATE TABLE IF NOT EXISTS booking_intake (
+                                              id BIGSERIAL PRIMARY KEY,
+                                              ticket_id VARCHAR(36) NOT NULL UNIQUE,
+                                              payload TEXT NOT NULL,
+                                              status VARCHAR(20) NOT NULL DEFAULT 'QUEUED',
+                                              callback_url VARCHAR(500),
+                                              attempts INTEGER NOT NULL DEFAULT 0,
+                                              booking_id BIGINT,
+                                              booking_reference VARCHAR(50),
+                                              error_message TEXT,
+                                              created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+                                              updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+                                              started_at TIMESTAMP WITH TIME ZONE,
+                                              completed_at TIMESTAMP WITH TIME ZONE
+);
+
+-- Create performance indexes for booking intake (workers scan QUEUED entries oldest first)
+CREATE INDEX IF NOT EXISTS idx_booking_intake_status ON booking_intake(status, id);
@@ -0,0 +1,23 @@
+-- HRS migration for existing databases: daily booking rollups
+-- Run once before deploying the booking-service version that records booking_daily_rollup.
+-- From the deployment on, every booking write is added to today's rows. Past days are filled by the
+-- backfill job: POST /api/v1/bookings/reports/rollups/backfill?from=YYYY-MM-DD (once, on one instance,
+-- after the deployment day has ended so that day is covered as well)
+
+CREATE TABLE IF NOT EXISTS booking_daily_rollup (
+                                                    day DATE NOT NULL,
+                                                    hotel_id BIGINT NOT NULL,
+                                                    status VARCHAR(50) NOT NULL,
+                                                    city VARCHAR(100),
+                                                    bookings INTEGER NOT NULL DEFAULT 0,
+                                                    room_nights INTEGER NOT NULL DEFAULT 0,
+                                                    gross_amount DECIMAL(14,2) NOT NULL DEFAULT 0,
+                                                    taxes_amount DECIMAL(14,2) NOT NULL DEFAULT 0,
+                                                    fees_amount DECIMAL(14,2) NOT NULL DEFAULT 0,
+                                                    PRIMARY KEY (day, hotel_id, status)
+);
+
+CREATE INDEX IF NOT EXISTS idx_booking_rollup_hotel_day ON booking_daily_rollup(hotel_id, day);
+CREATE INDEX IF NOT EXISTS idx_booking_rollup_city_day ON booking_daily_rollup(city, day);
+
+COMMENT ON TABLE booking_daily_rollup IS 'HRS Daily booking rollups - bookings, room-nights and amounts per day, hotel and status';
@@ -2,6 +2,7 @@ package com.hrs.hotelbooking.user.controller;
 
 import com.hrs.hotelbooking.user.service.UserService;
 import com.hrs.hotelbooking.shared.dto.UserDTO;
+import com.hrs.hotelbooking.shared.pagination.CursorPage;
 import com.hrs.hotelbooking.shared.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -125,6 +126,33 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(null, "User deleted successfully"));
     }
 
+    /**
+     * Get users with keyset (cursor) pagination
+     */
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll HRS users",
+            description = "Retrieve active users newest first with cursor pagination. Pass nextCursor back as cursor for the next page; "
+                    + "every page costs the same however deep it is")
+    public ResponseEntity<ApiResponse<CursorPage<UserDTO>>> scrollUsers(
+            @Parameter(description = "Cursor from the previous page (omit for the first page)")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Page size (1-50)")
+            @RequestParam(defaultValue = "20")
+            @Min(value = 1, message = "Page size must be at least 1")
+            @Max(value = 50, message = "Page size cannot exceed 50") int size,
+
+            @Parameter(description = "Include the total row count (costs an extra count query)")
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
+
+        log.info("Scrolling HRS users - size: {}, includeTotal: {}", size, includeTotal);
+
+        CursorPage<UserDTO> users = userService.scrollUsers(cursor, size, includeTotal);
+
+        return ResponseEntity.ok(ApiResponse.success(users,
+                String.format("Retrieved %d users", users.getContent().size())));
+    }
+
     /**
      * Search users by name
      */
@@ -3,10 +3,13 @@ package com.hrs.hotelbooking.user.impl;
 import com.hrs.hotelbooking.user.entity.User;
 import com.hrs.hotelbooking.user.mapper.UserMapper;
 import com.hrs.hotelbooking.user.repository.UserRepository;
+import com.hrs.hotelbooking.user.repository.UserSummary;
 import com.hrs.hotelbooking.user.service.UserService;
 import com.hrs.hotelbooking.shared.dto.UserDTO;
 import com.hrs.hotelbooking.shared.exception.ResourceNotFoundException;
 import com.hrs.hotelbooking.shared.exception.BusinessValidationException;
+import com.hrs.hotelbooking.shared.pagination.CursorPage;
+import com.hrs.hotelbooking.shared.pagination.PageCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -158,8 +161,7 @@ public class UserServiceImpl implements UserService {
             throw new BusinessValidationException("Search name cannot be empty");
         }
 
-        List<User> users = userRepository.findByNameContainingIgnoreCase(name);
-        List<UserDTO> result = userMapper.toDtoList(users);
+        List<UserDTO> result = userMapper.toSummaryDtoList(userRepository.findByNameContainingIgnoreCase(name));
 
         log.debug("Found {} HRS users matching name: {} ", result.size(), name);
 
@@ -174,14 +176,30 @@ public class UserServiceImpl implements UserService {
             throw new BusinessValidationException("Search email cannot be empty");
         }
 
-        List<User> users = userRepository.findByEmailContainingIgnoreCase(email);
-        List<UserDTO> result = userMapper.toDtoList(users);
+        List<UserDTO> result = userMapper.toSummaryDtoList(userRepository.findByEmailContainingIgnoreCase(email));
 
         log.debug("Found {} HRS users matching email pattern: {} ", result.size(), email);
 
         return result;
     }
 
+    @Override
+    public CursorPage<UserDTO> scrollUsers(String cursor, int size, boolean includeTotal) {
+        log.info("Scrolling HRS users by {} - size: {}, includeTotal: {}", CURRENT_USER, size, includeTotal);
+
+        validatePaginationParameters(0, size);
+
+        // One extra row tells whether another page follows, without a count
+        PageCursor after = PageCursor.decode(cursor);
+        List<UserSummary> users = after == null
+                ? userRepository.findByIsActiveTrueOrderByCreatedAtDescIdDesc(PageRequest.of(0, size + 1))
+                : userRepository.findActivePageAfter(after.createdAt(), after.id(), size + 1);
+
+        return CursorPage.of(users, size, userMapper::toSummaryDto,
+                user -> new PageCursor(user.getCreatedAt(), user.getId()),
+                includeTotal ? userRepository.countByIsActiveTrue() : null);
+    }
+
     @Override
     public Long getUserCount() {
         log.info("Fetching HRS user count by {}", CURRENT_USER);
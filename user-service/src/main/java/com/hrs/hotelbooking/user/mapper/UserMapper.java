@@ -1,6 +1,7 @@
 package com.hrs.hotelbooking.user.mapper;
 
 import com.hrs.hotelbooking.user.entity.User;
+import com.hrs.hotelbooking.user.repository.UserSummary;
 import com.hrs.hotelbooking.shared.dto.UserDTO;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -47,6 +48,40 @@ public class UserMapper {
         }
     }
 
+    /**
+     * Convert a user list row to UserDTO; the derived name and profile fields follow the entity's rules
+     */
+    public UserDTO toSummaryDto(UserSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+
+        return toDto(User.builder()
+                .id(summary.getId())
+                .firstName(summary.getFirstName())
+                .lastName(summary.getLastName())
+                .email(summary.getEmail())
+                .phone(summary.getPhone())
+                .isActive(summary.getIsActive())
+                .createdAt(summary.getCreatedAt())
+                .updatedAt(summary.getUpdatedAt())
+                .build());
+    }
+
+    /**
+     * Convert list of user list rows to UserDTO list
+     */
+    public List<UserDTO> toSummaryDtoList(List<UserSummary> summaries) {
+        if (summaries == null || summaries.isEmpty()) {
+            return List.of();
+        }
+
+        return summaries.stream()
+                .map(this::toSummaryDto)
+                .filter(dto -> dto != null)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Convert UserDTO to User entity
      */
@@ -8,18 +8,33 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * HRS User Repository - Essential Operations Only
  * Data access for user operations in the HRS booking system
+ * List and search views read {@link UserSummary} rows; only the detail endpoints load the User entity
  * 
  * @author arihants1*
  */
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    /**
+     * Select list for native summary queries; quoted aliases keep the projection's property names
+     */
+    String SUMMARY_COLUMNS = "id, first_name AS \"firstName\", last_name AS \"lastName\", email, phone, " +
+            "is_active AS \"isActive\", created_at AS \"createdAt\", updated_at AS \"updatedAt\"";
+
+    /**
+     * JPQL select list for summary queries
+     */
+    String SUMMARY_SELECT = "SELECT u.id AS id, u.firstName AS firstName, u.lastName AS lastName, " +
+            "u.email AS email, u.phone AS phone, u.isActive AS isActive, " +
+            "u.createdAt AS createdAt, u.updatedAt AS updatedAt ";
+
     /**
      * Find user by email (case insensitive)
      */
@@ -35,22 +50,36 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Page<User> findByIsActiveTrueOrderByCreatedAtDesc(Pageable pageable);
 
+    /**
+     * First keyset page of active users, newest first; a List result skips the count query
+     */
+    List<UserSummary> findByIsActiveTrueOrderByCreatedAtDescIdDesc(Pageable pageable);
+
+    /**
+     * Keyset page of active users after the cursor row (index seek on idx_user_created_id)
+     */
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM users WHERE is_active = true AND (created_at, id) < (:createdAt, :id) " +
+           "ORDER BY created_at DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<UserSummary> findActivePageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          @Param("limit") int limit);
+
     /**
      * Find users by name pattern (case insensitive)
      */
-    @Query("SELECT u FROM User u WHERE u.isActive = true AND " +
+    @Query(SUMMARY_SELECT + "FROM User u WHERE u.isActive = true AND " +
            "(LOWER(u.firstName) LIKE LOWER(CONCAT('%', :name, '%')) OR " +
            "LOWER(u.lastName) LIKE LOWER(CONCAT('%', :name, '%'))) " +
            "ORDER BY u.firstName ASC, u.lastName ASC")
-    List<User> findByNameContainingIgnoreCase(@Param("name") String name);
+    List<UserSummary> findByNameContainingIgnoreCase(@Param("name") String name);
 
     /**
      * Find users by email pattern (case insensitive)
      */
-    @Query("SELECT u FROM User u WHERE u.isActive = true AND " +
+    @Query(SUMMARY_SELECT + "FROM User u WHERE u.isActive = true AND " +
            "LOWER(u.email) LIKE LOWER(CONCAT('%', :email, '%')) " +
            "ORDER BY u.email ASC")
-    List<User> findByEmailContainingIgnoreCase(@Param("email") String email);
+    List<UserSummary> findByEmailContainingIgnoreCase(@Param("email") String email);
 
     /**
      * Count active users
@@ -0,0 +1,29 @@
+package com.hrs.hotelbooking.user.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * HRS User Summary Projection
+ * The columns of a user list or search row; audit columns are only read by the detail endpoint,
+ * which loads the full User entity
+ *
+ * @author arihants1
+ */
+public interface UserSummary {
+
+    Long getId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getEmail();
+
+    String getPhone();
+
+    Boolean getIsActive();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
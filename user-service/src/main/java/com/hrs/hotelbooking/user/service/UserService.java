@@ -1,6 +1,7 @@
 package com.hrs.hotelbooking.user.service;
 
 import com.hrs.hotelbooking.shared.dto.UserDTO;
+import com.hrs.hotelbooking.shared.pagination.CursorPage;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
@@ -38,6 +39,11 @@ public interface UserService {
      */
     void deleteUser(Long id);
 
+    /**
+     * Get active users with keyset pagination, newest first
+     */
+    CursorPage<UserDTO> scrollUsers(String cursor, int size, boolean includeTotal);
+
     /**
      * Search users by name
      */
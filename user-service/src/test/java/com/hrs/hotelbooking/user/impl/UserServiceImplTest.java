@@ -3,9 +3,12 @@ package com.hrs.hotelbooking.user.impl;
 import com.hrs.hotelbooking.shared.dto.UserDTO;
 import com.hrs.hotelbooking.shared.exception.BusinessValidationException;
 import com.hrs.hotelbooking.shared.exception.ResourceNotFoundException;
+import com.hrs.hotelbooking.shared.pagination.CursorPage;
+import com.hrs.hotelbooking.shared.pagination.PageCursor;
 import com.hrs.hotelbooking.user.entity.User;
 import com.hrs.hotelbooking.user.mapper.UserMapper;
 import com.hrs.hotelbooking.user.repository.UserRepository;
+import com.hrs.hotelbooking.user.repository.UserSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -19,6 +22,9 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -43,6 +49,8 @@ import static org.mockito.Mockito.*;
 @DisplayName("User Service Implementation Tests")
 class UserServiceImplTest {
 
+    private static final ProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
     @Mock
     private UserRepository userRepository;
 
@@ -516,11 +524,11 @@ class UserServiceImplTest {
         void shouldSearchUsersByNameSuccessfully() {
             // Given
             String searchName = "John";
-            List<User> users = Arrays.asList(validUser);
+            List<UserSummary> users = Arrays.asList(summaryOf(validUser));
             List<UserDTO> userDTOs = Arrays.asList(validUserDTO);
 
             given(userRepository.findByNameContainingIgnoreCase(searchName)).willReturn(users);
-            given(userMapper.toDtoList(users)).willReturn(userDTOs);
+            given(userMapper.toSummaryDtoList(users)).willReturn(userDTOs);
 
             // When
             List<UserDTO> result = userService.searchUsersByName(searchName);
@@ -530,7 +538,7 @@ class UserServiceImplTest {
             assertThat(result.get(0).getFirstName()).isEqualTo("John");
 
             verify(userRepository).findByNameContainingIgnoreCase(searchName);
-            verify(userMapper).toDtoList(users);
+            verify(userMapper).toSummaryDtoList(users);
         }
 
         @ParameterizedTest
@@ -549,11 +557,11 @@ class UserServiceImplTest {
         void shouldSearchUsersByEmailSuccessfully() {
             // Given
             String emailPattern = "john";
-            List<User> users = Arrays.asList(validUser);
+            List<UserSummary> users = Arrays.asList(summaryOf(validUser));
             List<UserDTO> userDTOs = Arrays.asList(validUserDTO);
 
             given(userRepository.findByEmailContainingIgnoreCase(emailPattern)).willReturn(users);
-            given(userMapper.toDtoList(users)).willReturn(userDTOs);
+            given(userMapper.toSummaryDtoList(users)).willReturn(userDTOs);
 
             // When
             List<UserDTO> result = userService.searchUsersByEmail(emailPattern);
@@ -563,7 +571,7 @@ class UserServiceImplTest {
             assertThat(result.get(0).getEmail()).contains("john");
 
             verify(userRepository).findByEmailContainingIgnoreCase(emailPattern);
-            verify(userMapper).toDtoList(users);
+            verify(userMapper).toSummaryDtoList(users);
         }
 
         @ParameterizedTest
@@ -583,7 +591,7 @@ class UserServiceImplTest {
             // Given
             String searchName = "NonExistent";
             given(userRepository.findByNameContainingIgnoreCase(searchName)).willReturn(Collections.emptyList());
-            given(userMapper.toDtoList(Collections.emptyList())).willReturn(Collections.emptyList());
+            given(userMapper.toSummaryDtoList(Collections.emptyList())).willReturn(Collections.emptyList());
 
             // When
             List<UserDTO> result = userService.searchUsersByName(searchName);
@@ -592,7 +600,7 @@ class UserServiceImplTest {
             assertThat(result).isEmpty();
 
             verify(userRepository).findByNameContainingIgnoreCase(searchName);
-            verify(userMapper).toDtoList(Collections.emptyList());
+            verify(userMapper).toSummaryDtoList(Collections.emptyList());
         }
     }
 
@@ -630,6 +638,62 @@ class UserServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("Scroll Users Tests")
+    class ScrollUsersTests {
+
+        @Test
+        @DisplayName("Should return first page with next cursor and skip count when total not requested")
+        void shouldReturnFirstPageWithoutCount() {
+            // Given
+            User older = User.builder().id(2L).createdAt(validUser.getCreatedAt().minusMinutes(1)).build();
+            User oldest = User.builder().id(3L).createdAt(validUser.getCreatedAt().minusMinutes(2)).build();
+            given(userRepository.findByIsActiveTrueOrderByCreatedAtDescIdDesc(any(Pageable.class)))
+                    .willReturn(List.of(summaryOf(validUser), summaryOf(older), summaryOf(oldest)));
+            given(userMapper.toSummaryDto(any(UserSummary.class))).willReturn(validUserDTO);
+
+            // When
+            CursorPage<UserDTO> result = userService.scrollUsers(null, 2, false);
+
+            // Then
+            assertThat(result.getContent()).hasSize(2);
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(result.getTotalElements()).isNull();
+            assertThat(PageCursor.decode(result.getNextCursor()))
+                    .isEqualTo(new PageCursor(older.getCreatedAt(), 2L));
+            verify(userRepository, never()).countByIsActiveTrue();
+        }
+
+        @Test
+        @DisplayName("Should seek past the cursor row and include total when requested")
+        void shouldSeekPastCursor() {
+            // Given
+            PageCursor cursor = new PageCursor(validUser.getCreatedAt(), 9L);
+            UserSummary userRow = summaryOf(validUser);
+            given(userRepository.findActivePageAfter(cursor.createdAt(), 9L, 21)).willReturn(List.of(userRow));
+            given(userRepository.countByIsActiveTrue()).willReturn(10L);
+            given(userMapper.toSummaryDto(userRow)).willReturn(validUserDTO);
+
+            // When
+            CursorPage<UserDTO> result = userService.scrollUsers(cursor.encode(), 20, true);
+
+            // Then
+            assertThat(result.getContent()).containsExactly(validUserDTO);
+            assertThat(result.isHasNext()).isFalse();
+            assertThat(result.getNextCursor()).isNull();
+            assertThat(result.getTotalElements()).isEqualTo(10L);
+        }
+
+        @Test
+        @DisplayName("Should reject tampered cursor")
+        void shouldRejectInvalidCursor() {
+            // When & Then
+            assertThatThrownBy(() -> userService.scrollUsers("not-a-cursor", 20, false))
+                    .isInstanceOf(BusinessValidationException.class)
+                    .hasMessage("Invalid page cursor");
+        }
+    }
+
     @Nested
     @DisplayName("Validation Tests")
     class ValidationTests {
@@ -691,4 +755,8 @@ class UserServiceImplTest {
             }
         }
     }
+
+    private static UserSummary summaryOf(User user) {
+        return PROJECTIONS.createProjection(UserSummary.class, user);
+    }
 }
@@ -2,6 +2,7 @@ package com.hrs.hotelbooking.user.mapper;
 
 import com.hrs.hotelbooking.shared.dto.UserDTO;
 import com.hrs.hotelbooking.user.entity.User;
+import com.hrs.hotelbooking.user.repository.UserSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -395,6 +397,28 @@ class UserMapperTest {
             assertThat(result.stream().map(UserDTO::getId))
                     .containsExactly(1L, 2L, 3L, 4L, 5L);
         }
+
+        @Test
+        @DisplayName("Should map summary rows with derived name and profile fields")
+        void shouldMapSummaryRowsWithDerivedFields() {
+            // Given
+            User nameless = User.builder().id(7L).email("guest@example.com").build();
+            List<UserSummary> rows = Arrays.asList(
+                    new SpelAwareProxyProjectionFactory().createProjection(UserSummary.class, validUser),
+                    new SpelAwareProxyProjectionFactory().createProjection(UserSummary.class, nameless));
+
+            // When
+            List<UserDTO> result = userMapper.toSummaryDtoList(rows);
+
+            // Then
+            assertThat(result).hasSize(2);
+            assertThat(result.get(0).getFullName()).isEqualTo(validUser.getFullName());
+            assertThat(result.get(0).getHasCompleteProfile()).isTrue();
+            assertThat(result.get(0).getCreatedAt()).isEqualTo(validUser.getCreatedAt());
+            assertThat(result.get(1).getDisplayName()).isEqualTo("User 7");
+            assertThat(result.get(1).getHasCompleteProfile()).isFalse();
+            assertThat(userMapper.toSummaryDtoList(null)).isEmpty();
+        }
     }
 
     @Nested